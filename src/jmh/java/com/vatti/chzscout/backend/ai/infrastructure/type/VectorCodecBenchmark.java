@@ -0,0 +1,77 @@
+package com.vatti.chzscout.backend.ai.infrastructure.type;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * pgvector 코덱 벤치마크.
+ *
+ * <p>임베딩 한 개를 기존 파서({@code substring} + {@code split(",")} + {@code Float.parseFloat})와 새 텍스트 파서,
+ * 바이너리 디코더로 읽는 시간과, 텍스트/바이너리로 쓰는 시간을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorCodecBenchmark {
+
+  @Param({"1536"})
+  private int dimensions;
+
+  private float[] vector;
+  private String text;
+  private byte[] binary;
+  private byte[] target;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    vector = new float[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      vector[i] = (float) random.nextGaussian() * 0.05f;
+    }
+    text = VectorCodec.formatText(vector);
+    binary = VectorCodec.toBinary(vector);
+    target = new byte[binary.length];
+  }
+
+  @Benchmark
+  public float[] parseLegacyText() {
+    String content = text.substring(1, text.length() - 1);
+    String[] parts = content.split(",");
+    float[] result = new float[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      result[i] = Float.parseFloat(parts[i].trim());
+    }
+    return result;
+  }
+
+  @Benchmark
+  public float[] parseText() {
+    return VectorCodec.parseText(text);
+  }
+
+  @Benchmark
+  public float[] readBinary() {
+    return VectorCodec.readBinary(binary, 0);
+  }
+
+  @Benchmark
+  public String formatText() {
+    return VectorCodec.formatText(vector);
+  }
+
+  @Benchmark
+  public byte[] writeBinary() {
+    VectorCodec.writeBinary(vector, target, 0);
+    return target;
+  }
+}
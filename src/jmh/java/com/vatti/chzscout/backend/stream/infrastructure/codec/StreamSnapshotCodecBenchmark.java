@@ -0,0 +1,88 @@
+package com.vatti.chzscout.backend.stream.infrastructure.codec;
+
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 스냅샷 코덱 벤치마크.
+ *
+ * <p>한 사이클 분량의 Enriched 방송 목록을 기존 {@link JsonMapper} 경로(JSON 코덱)와 바이너리 코덱(압축 on/off)으로 쓰고 읽는
+ * 시간을 비교합니다. payload 크기는 Trial이 끝날 때 출력합니다. 방송 절반은 AI 태그 없이 원본 태그를 그대로 쓴 경우입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamSnapshotCodecBenchmark {
+
+  @Param({"1000", "10000"})
+  private int streamCount;
+
+  @Param({"JSON", "BINARY", "BINARY_DEFLATE"})
+  private String codecName;
+
+  private StreamSnapshotCodec codec;
+  private List<EnrichedStreamDto> streams;
+  private byte[] payload;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    codec =
+        switch (codecName) {
+          case "JSON" -> new JsonStreamSnapshotCodec(JsonMapper.builder().build());
+          case "BINARY" -> new BinaryStreamSnapshotCodec(false);
+          default -> new BinaryStreamSnapshotCodec(true);
+        };
+    String[] categories = {"리그 오브 레전드", "마인크래프트", "talk", "발로란트", "음악"};
+    streams = new ArrayList<>(streamCount);
+    for (int i = 0; i < streamCount; i++) {
+      String category = categories[i % categories.length];
+      List<String> originalTags = List.of(category, "게임", "소통", "태그" + (i % 50));
+      List<String> enrichedTags =
+          i % 2 == 0
+              ? originalTags
+              : List.of(category, "게임", "소통", "태그" + (i % 50), "경쟁", "랭크", "키워드" + (i % 200));
+      streams.add(
+          new EnrichedStreamDto(
+              i,
+              "channel_" + Integer.toHexString(i * 7919),
+              "[" + i + "일차] 오늘도 랭크 올리는 방송 | 시청자 참여 환영",
+              "https://thumbnail.example.com/live" + i + ".jpg",
+              1000 + i,
+              "스트리머" + i,
+              category,
+              originalTags,
+              enrichedTags));
+    }
+    payload = codec.encode(streams);
+  }
+
+  @TearDown(Level.Trial)
+  public void printPayloadSize() {
+    System.out.printf(
+        "%n%s payload: %d bytes (%.1f bytes/stream)%n",
+        codecName, payload.length, (double) payload.length / streamCount);
+  }
+
+  @Benchmark
+  public byte[] encode() {
+    return codec.encode(streams);
+  }
+
+  @Benchmark
+  public List<EnrichedStreamDto> decode() {
+    return codec.decode(payload);
+  }
+}
@@ -0,0 +1,112 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 변경 감지 지문 벤치마크.
+ *
+ * <p>한 사이클 분량의 방송에 대해 이전 MD5 hex 해시 + HashMap 비교와 64비트 지문 + {@link FingerprintTable} 비교를
+ * 비교합니다. {@code -prof gc}로 실행하면 방송당 할당량도 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamFingerprintBenchmark {
+
+  @Param({"1000", "10000"})
+  private int streamCount;
+
+  private List<AllFieldLiveDto> streams;
+  private Map<String, String> previousHashes;
+  private FingerprintTable previousFingerprints;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    streams = new ArrayList<>(streamCount);
+    previousHashes = HashMap.newHashMap(streamCount);
+    previousFingerprints = new FingerprintTable(streamCount);
+    for (int i = 0; i < streamCount; i++) {
+      AllFieldLiveDto stream =
+          new AllFieldLiveDto(
+              i,
+              "[" + i + "일차] 오늘도 랭크 올리는 방송 | 시청자 참여 환영",
+              "https://thumbnail.example.com/live" + i + ".jpg",
+              1000 + i,
+              "2025-01-01T12:00:00",
+              false,
+              List.of("게임", "롤", "랭크", "소통", "태그" + (i % 50)),
+              "GAME",
+              "League_of_Legends",
+              "리그 오브 레전드",
+              "channel_" + Integer.toHexString(i * 7919),
+              "스트리머" + i,
+              "https://profile.example.com/channel" + i + ".jpg");
+      streams.add(stream);
+      // 10%는 지난 사이클과 내용이 다름
+      boolean changed = i % 10 == 0;
+      previousHashes.put(stream.channelId(), changed ? "stale" : legacyMd5Hex(stream));
+      long fingerprint = StreamFingerprint.of(stream);
+      previousFingerprints.put(stream.channelId(), changed ? ~fingerprint : fingerprint);
+    }
+  }
+
+  @Benchmark
+  public int md5HexHashMap() {
+    Map<String, String> currentHashes = new HashMap<>();
+    int changed = 0;
+    for (AllFieldLiveDto stream : streams) {
+      String hash = legacyMd5Hex(stream);
+      currentHashes.put(stream.channelId(), hash);
+      if (!hash.equals(previousHashes.get(stream.channelId()))) {
+        changed++;
+      }
+    }
+    return changed + currentHashes.size();
+  }
+
+  @Benchmark
+  public int fingerprintTable() {
+    FingerprintTable currentFingerprints = new FingerprintTable();
+    int changed = 0;
+    for (AllFieldLiveDto stream : streams) {
+      long fingerprint = StreamFingerprint.of(stream);
+      currentFingerprints.put(stream.channelId(), fingerprint);
+      if (previousFingerprints.getOrDefault(stream.channelId(), ~fingerprint) != fingerprint) {
+        changed++;
+      }
+    }
+    return changed + currentFingerprints.size();
+  }
+
+  /** 지문 도입 전 StreamChangeDetector의 해시 계산 (기준선). */
+  private static String legacyMd5Hex(AllFieldLiveDto stream) {
+    StringBuilder sb = new StringBuilder();
+    if (stream.liveCategoryValue() != null) {
+      sb.append(stream.liveCategoryValue());
+    }
+    sb.append("|");
+    if (stream.tags() != null) {
+      sb.append(String.join(",", stream.tags()));
+    }
+    sb.append("|");
+    if (stream.liveTitle() != null) {
+      sb.append(stream.liveTitle());
+    }
+    return DigestUtils.md5DigestAsHex(sb.toString().getBytes());
+  }
+}
@@ -2,9 +2,12 @@ package com.vatti.chzscout.backend.ai.application;
 
 import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
 import com.vatti.chzscout.backend.ai.infrastructure.EmbeddingClient;
+import com.vatti.chzscout.backend.ai.infrastructure.redis.EmbeddingCacheRedisStore;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +18,9 @@ import org.springframework.stereotype.Service;
  * 임베딩 생성 서비스.
  *
  * <p>방송 정보를 텍스트로 변환하고 임베딩 벡터를 생성합니다. Virtual Thread를 활용하여 배치 처리를 효율적으로 수행합니다.
+ *
+ * <p>임베딩 텍스트는 방송 정보만으로 결정되므로, API를 호출하기 전에 {@link EmbeddingCacheRedisStore}에서 같은 텍스트의 벡터를 먼저 찾고
+ * 없는 텍스트만 생성합니다.
  */
 @Service
 @Slf4j
@@ -23,6 +29,7 @@ public class EmbeddingService {
 
   private final EmbeddingClient embeddingClient;
   private final ExecutorService aiExecutor;
+  private final EmbeddingCacheRedisStore embeddingCache;
 
   /** 배치 처리 시 한 번에 처리할 방송 수. OpenAI API 제한 고려 (최대 2048개). */
   private static final int BATCH_CHUNK_SIZE = 100;
@@ -35,7 +42,11 @@ public class EmbeddingService {
    */
   public StreamEmbedding createEmbedding(AllFieldLiveDto stream) {
     String embeddingText = toEmbeddingText(stream);
-    float[] embedding = embeddingClient.embed(embeddingText);
+    float[] embedding = embeddingCache.findAll(List.of(embeddingText)).get(embeddingText);
+    if (embedding == null) {
+      embedding = embeddingClient.embed(embeddingText);
+      embeddingCache.saveAll(List.of(embeddingText), List.of(embedding));
+    }
 
     return StreamEmbedding.create(stream.channelId(), embeddingText, embedding);
   }
@@ -67,7 +78,12 @@ public class EmbeddingService {
     List<StreamEmbedding> allResults =
         futures.stream().map(CompletableFuture::join).flatMap(List::stream).toList();
 
-    log.info("배치 임베딩 생성 완료 - {}개 결과", allResults.size());
+    log.info(
+        "배치 임베딩 생성 완료 - {}개 결과 (캐시 누적 적중 {}, 미스 {}, 적중률 {}%)",
+        allResults.size(),
+        embeddingCache.hits(),
+        embeddingCache.misses(),
+        Math.round(embeddingCache.hitRate() * 1000) / 10.0);
     return allResults;
   }
 
@@ -86,15 +102,27 @@ public class EmbeddingService {
   private List<StreamEmbedding> processChunkSafely(List<AllFieldLiveDto> chunk) {
     try {
       List<String> texts = chunk.stream().map(this::toEmbeddingText).toList();
-      List<float[]> embeddings = embeddingClient.embedBatch(texts);
+
+      // 캐시에 없는 텍스트만 (중복 없이) API로 생성
+      Map<String, float[]> embeddings = new HashMap<>(embeddingCache.findAll(texts));
+      List<String> missed =
+          texts.stream().filter(text -> !embeddings.containsKey(text)).distinct().toList();
+      if (!missed.isEmpty()) {
+        List<float[]> created = embeddingClient.embedBatch(missed);
+        for (int i = 0; i < missed.size(); i++) {
+          embeddings.put(missed.get(i), created.get(i));
+        }
+        embeddingCache.saveAll(missed, created);
+      }
 
       List<StreamEmbedding> results = new ArrayList<>();
       for (int i = 0; i < chunk.size(); i++) {
         AllFieldLiveDto stream = chunk.get(i);
-        results.add(StreamEmbedding.create(stream.channelId(), texts.get(i), embeddings.get(i)));
+        String text = texts.get(i);
+        results.add(StreamEmbedding.create(stream.channelId(), text, embeddings.get(text)));
       }
 
-      log.debug("청크 처리 완료 - {}개 방송", chunk.size());
+      log.debug("청크 처리 완료 - {}개 방송, API 생성 {}개", chunk.size(), missed.size());
       return results;
     } catch (Exception e) {
       log.error("청크 처리 실패 ({}개 방송): {}", chunk.size(), e.getMessage());
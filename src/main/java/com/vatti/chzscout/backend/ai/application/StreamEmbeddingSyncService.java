@@ -1,63 +1,96 @@
 package com.vatti.chzscout.backend.ai.application;
 
 import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
-import com.vatti.chzscout.backend.ai.infrastructure.StreamEmbeddingRepository;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 방송 임베딩 동기화 서비스.
  *
- * <p>변경된 방송의 임베딩만 삭제 후 재생성하는 단순한 전략을 사용합니다.
+ * <p>임베딩 텍스트(제목, 카테고리, 태그)가 바뀐 방송만 대상이며, 시청자 수나 성인 여부만 바뀐 방송은 다시 만들지 않습니다.
+ *
+ * <p>두 단계로 동기화합니다. 먼저 트랜잭션 밖에서 임베딩 API를 호출해 새 임베딩을 모두 만든 뒤, {@link StreamEmbeddingWriter}의 짧은
+ * 트랜잭션에서 upsert와 종료 방송 삭제를 반영합니다. 생성에 실패한 방송은 기존 임베딩을 그대로 두고 다음 동기화에서 다시 시도합니다.
+ * 대상은 생성 전에 재시도 대기에 올려 두고 반영이 끝난 뒤에만 빼므로, 생성이나 반영 중 예외가 나도 다음 동기화에서 다시 만듭니다.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class StreamEmbeddingSyncService {
 
+  /** 임베딩을 다시 만들어야 하는 변경 종류. */
+  public static final int SUBSCRIBED_CHANGES =
+      StreamChangeKind.NEW.bit() | StreamChangeKind.CONTENT;
+
   private final EmbeddingService embeddingService;
-  private final StreamEmbeddingRepository streamEmbeddingRepository;
+  private final StreamEmbeddingWriter streamEmbeddingWriter;
+
+  /** 임베딩 생성에 실패해 다음 동기화에서 다시 만들 방송 (채널 ID → 마지막으로 받은 방송 정보). */
+  private final Map<String, AllFieldLiveDto> pendingRetries = new ConcurrentHashMap<>();
 
   /**
    * 변경된 방송의 임베딩을 동기화합니다.
    *
-   * <p>1. 변경된 채널의 기존 임베딩 삭제
+   * <p>1. 변경된 방송과 재시도 대기 방송의 임베딩 생성 (트랜잭션 밖)
    *
-   * <p>2. 새 임베딩 생성 및 저장
+   * <p>2. 생성한 임베딩 upsert 및 종료 방송 임베딩 삭제 (짧은 쓰기 트랜잭션)
    *
    * @param changedStreams 신규 또는 변경된 방송 목록
    * @param changedChannelIds 변경된 채널 ID 목록
+   * @param endedChannelIds 종료된 채널 ID 목록
    */
-  @Transactional
   public void syncEmbeddings(
       List<AllFieldLiveDto> changedStreams,
       Set<String> changedChannelIds,
       Set<String> endedChannelIds) {
-    if (changedChannelIds.isEmpty() && endedChannelIds.isEmpty()) {
+    endedChannelIds.forEach(pendingRetries::remove);
+    if (changedChannelIds.isEmpty() && endedChannelIds.isEmpty() && pendingRetries.isEmpty()) {
       log.debug("변경/종료된 방송 없음, 동기화 스킵");
       return;
     }
 
-    log.info("임베딩 동기화 시작 - 변경: {}개, 종료: {}개", changedChannelIds.size(), endedChannelIds.size());
+    log.info(
+        "임베딩 동기화 시작 - 변경: {}개, 종료: {}개, 재시도: {}개",
+        changedChannelIds.size(),
+        endedChannelIds.size(),
+        pendingRetries.size());
 
-    // 1. 변경 + 종료 채널의 임베딩 삭제 (한 번에 처리)
-    Set<String> allDeleteIds = new HashSet<>(changedChannelIds);
-    allDeleteIds.addAll(endedChannelIds);
-    if (!allDeleteIds.isEmpty()) {
-      streamEmbeddingRepository.deleteByChannelIdIn(List.copyOf(allDeleteIds));
-      log.debug("임베딩 삭제 완료 - {}개", allDeleteIds.size());
-    }
+    // 1. 새 임베딩 생성 (이번에 다시 변경된 방송은 최신 정보로 대체)
+    Map<String, AllFieldLiveDto> targets = new LinkedHashMap<>(pendingRetries);
+    changedStreams.forEach(stream -> targets.put(stream.channelId(), stream));
+    pendingRetries.putAll(targets);
+    List<StreamEmbedding> newEmbeddings =
+        embeddingService.createEmbeddingsBatch(List.copyOf(targets.values()));
 
-    // 2. 새 임베딩 생성 및 저장
-    List<StreamEmbedding> newEmbeddings = embeddingService.createEmbeddingsBatch(changedStreams);
-    streamEmbeddingRepository.saveAll(newEmbeddings);
+    // 2. 생성된 임베딩 반영 후, 반영된 방송만 재시도 대기에서 뺌 (그 사이 다시 변경된 방송은 남김)
+    streamEmbeddingWriter.apply(newEmbeddings, endedChannelIds);
 
+    Set<String> embedded = new HashSet<>();
+    newEmbeddings.forEach(embedding -> embedded.add(embedding.getChannelId()));
+    targets.forEach(
+        (channelId, stream) -> {
+          if (embedded.contains(channelId)) {
+            pendingRetries.remove(channelId, stream);
+          }
+        });
+
+    if (embedded.size() < targets.size()) {
+      log.warn("임베딩 생성 실패 {}개, 다음 동기화에서 재시도", targets.size() - embedded.size());
+    }
     log.info("임베딩 동기화 완료 - {}개 저장", newEmbeddings.size());
   }
+
+  /** 다음 동기화에서 다시 만들 방송 수. */
+  public int pendingRetryCount() {
+    return pendingRetries.size();
+  }
 }
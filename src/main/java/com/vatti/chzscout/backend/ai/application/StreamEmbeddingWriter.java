@@ -0,0 +1,43 @@
+package com.vatti.chzscout.backend.ai.application;
+
+import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
+import com.vatti.chzscout.backend.ai.infrastructure.StreamEmbeddingBulkRepository;
+import com.vatti.chzscout.backend.ai.infrastructure.StreamEmbeddingRepository;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 방송 임베딩 쓰기 단계.
+ *
+ * <p>미리 만들어 둔 임베딩을 짧은 트랜잭션 하나로 반영합니다. 임베딩 API 호출은 이 트랜잭션 밖({@link StreamEmbeddingSyncService})에서
+ * 끝나므로 커넥션은 DB 쓰기 동안만 잡습니다. 저장은 JPA 대신 {@link StreamEmbeddingBulkRepository}로 한 번에 upsert합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamEmbeddingWriter {
+
+  private final StreamEmbeddingRepository streamEmbeddingRepository;
+  private final StreamEmbeddingBulkRepository streamEmbeddingBulkRepository;
+
+  /**
+   * 임베딩을 upsert하고 종료된 채널의 임베딩을 삭제합니다.
+   *
+   * @param embeddings 저장할 임베딩 (같은 채널 ID가 있으면 덮어씀)
+   * @param endedChannelIds 종료된 채널 ID 목록
+   */
+  @Transactional
+  public void apply(List<StreamEmbedding> embeddings, Collection<String> endedChannelIds) {
+    if (!endedChannelIds.isEmpty()) {
+      streamEmbeddingRepository.deleteByChannelIdIn(List.copyOf(endedChannelIds));
+    }
+    if (!embeddings.isEmpty()) {
+      streamEmbeddingBulkRepository.upsertAll(embeddings);
+    }
+    log.debug("임베딩 반영 완료 - 저장 {}개, 삭제 {}개", embeddings.size(), endedChannelIds.size());
+  }
+}
@@ -6,7 +6,7 @@ import com.vatti.chzscout.backend.ai.infrastructure.EmbeddingClient;
 import com.vatti.chzscout.backend.ai.infrastructure.StreamEmbeddingRepository;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
 import com.vatti.chzscout.backend.stream.domain.Stream;
-import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshotCache;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -27,7 +27,7 @@ public class VectorRecommendService implements VectorRecommendUseCase {
 
   private final StreamEmbeddingRepository streamEmbeddingRepository;
   private final EmbeddingClient embeddingClient;
-  private final StreamRedisStore streamRedisStore;
+  private final StreamSnapshotCache streamSnapshotCache;
 
   private static final int DEFAULT_LIMIT = 5;
 
@@ -59,9 +59,10 @@ public class VectorRecommendService implements VectorRecommendUseCase {
         similarEmbeddings.stream().map(StreamEmbeddingWithSimilarity::getChannelId).toList();
 
     Map<String, EnrichedStreamDto> streamMap =
-        streamRedisStore.findEnrichedStreams().stream()
-            .filter(s -> channelIds.contains(s.channelId()))
-            .collect(Collectors.toMap(EnrichedStreamDto::channelId, Function.identity()));
+        streamSnapshotCache.findEnrichedStreams(channelIds).stream()
+            .collect(
+                Collectors.toMap(
+                    EnrichedStreamDto::channelId, Function.identity(), (first, second) -> first));
 
     // 4. 유사도 순서 유지하며 Stream 반환
     List<Stream> results =
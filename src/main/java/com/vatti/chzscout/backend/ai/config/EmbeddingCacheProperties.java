@@ -0,0 +1,29 @@
+package com.vatti.chzscout.backend.ai.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 임베딩 캐시 프로퍼티.
+ *
+ * <p>application.yml의 embedding.cache 설정을 바인딩합니다. 같은 임베딩 텍스트는 ttl 동안 OpenAI API를 다시 호출하지 않습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "embedding.cache")
+@Validated
+@Getter
+@Setter
+public class EmbeddingCacheProperties {
+
+  /** 임베딩 캐시 사용 여부. */
+  private boolean enabled = true;
+
+  /** 마지막 조회 이후 캐시를 유지할 기간. 조회될 때마다 다시 연장됩니다. */
+  @NotNull(message = "임베딩 캐시 TTL은 필수입니다")
+  private Duration ttl = Duration.ofDays(7);
+}
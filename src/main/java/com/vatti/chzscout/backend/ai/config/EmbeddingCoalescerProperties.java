@@ -0,0 +1,39 @@
+package com.vatti.chzscout.backend.ai.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 임베딩 요청 묶음 프로퍼티.
+ *
+ * <p>application.yml의 embedding.coalescer 설정을 바인딩합니다. 동시에 들어온 단건 임베딩 요청을 linger 동안 모아 한 번의 배치 호출로
+ * 보냅니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "embedding.coalescer")
+@Validated
+@Getter
+@Setter
+public class EmbeddingCoalescerProperties {
+
+  /** 요청 묶음 사용 여부. 끄면 요청마다 바로 API를 호출합니다. */
+  private boolean enabled = true;
+
+  /** 첫 요청 이후 다른 요청을 기다리는 시간. */
+  @NotNull(message = "임베딩 요청 대기 시간은 필수입니다")
+  private Duration linger = Duration.ofMillis(5);
+
+  /** 한 번에 보낼 최대 텍스트 수. 차면 linger를 기다리지 않고 바로 보냅니다. */
+  @Min(value = 1, message = "임베딩 묶음 크기는 1 이상이어야 합니다")
+  private int maxBatchSize = 64;
+
+  /** 요청한 쪽이 결과를 기다리는 최대 시간. */
+  @NotNull(message = "임베딩 요청 제한 시간은 필수입니다")
+  private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,48 @@
+package com.vatti.chzscout.backend.ai.config;
+
+import com.vatti.chzscout.backend.ai.infrastructure.type.VectorBinaryTransferDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL Hikari 풀이 {@link VectorBinaryTransferDataSource}로 물리 연결을 만들도록 바꿉니다.
+ *
+ * <p>풀이 시작되기 전(첫 연결 요청 전)에 적용되며, H2 등 PostgreSQL이 아닌 URL이나 DataSource를 직접 지정한 풀은 그대로 둡니다.
+ */
+@Slf4j
+@Component
+public class PgVectorDataSourcePostProcessor implements BeanPostProcessor {
+
+  private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof HikariDataSource hikari
+        && hikari.getDataSource() == null
+        && hikari.getJdbcUrl() != null
+        && hikari.getJdbcUrl().startsWith(POSTGRES_URL_PREFIX)) {
+      hikari.setDataSource(dataSource(hikari));
+      log.debug("pgvector 바이너리 전송 DataSource 적용 - {}", beanName);
+    }
+    return bean;
+  }
+
+  private static VectorBinaryTransferDataSource dataSource(HikariDataSource hikari) {
+    VectorBinaryTransferDataSource dataSource = new VectorBinaryTransferDataSource();
+    dataSource.setURL(hikari.getJdbcUrl());
+    // Hikari는 직접 만든 DataSource에만 data-source-properties를 적용하므로 옮겨 줌
+    Properties properties = hikari.getDataSourceProperties();
+    for (String name : properties.stringPropertyNames()) {
+      try {
+        dataSource.setProperty(name, properties.getProperty(name));
+      } catch (SQLException e) {
+        throw new IllegalStateException("지원하지 않는 PostgreSQL 연결 속성: " + name, e);
+      }
+    }
+    return dataSource;
+  }
+}
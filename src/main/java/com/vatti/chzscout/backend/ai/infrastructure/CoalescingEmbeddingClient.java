@@ -0,0 +1,177 @@
+package com.vatti.chzscout.backend.ai.infrastructure;
+
+import com.vatti.chzscout.backend.ai.config.EmbeddingCoalescerProperties;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단건 임베딩 요청을 묶어 보내는 클라이언트.
+ *
+ * <p>동시에 들어온 {@link #embed(String)} 요청을 모아 {@link EmbeddingClient#embedBatch(List)} 한 번으로 보내고, 결과를
+ * 요청마다 돌려줍니다. 비어 있는 묶음에 처음 들어온 요청이 묶음을 맡아 linger 동안(또는 max-batch-size가 찰 때까지) 기다린 뒤 AI
+ * Executor에서 API를 호출하고, 묶음을 맡은 요청을 포함한 모든 요청은 timeout까지만 결과를 기다립니다. 같은 묶음의 같은 텍스트는 한 번만
+ * 보내고 같은 벡터를 공유합니다.
+ *
+ * <p>배치 요청({@link #embedBatch(List)})은 묶지 않고 그대로 보냅니다.
+ */
+@Slf4j
+@Primary
+@Component
+public class CoalescingEmbeddingClient implements EmbeddingClient {
+
+  private final EmbeddingClient delegate;
+  private final EmbeddingCoalescerProperties properties;
+  private final ExecutorService aiExecutor;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition sealed = lock.newCondition();
+  private Batch open;
+
+  public CoalescingEmbeddingClient(
+      @Qualifier("openAiEmbeddingClientImpl") EmbeddingClient delegate,
+      EmbeddingCoalescerProperties properties,
+      @Qualifier("aiExecutor") ExecutorService aiExecutor) {
+    this.delegate = delegate;
+    this.properties = properties;
+    this.aiExecutor = aiExecutor;
+  }
+
+  @Override
+  public float[] embed(String text) {
+    if (!properties.isEnabled()) {
+      return delegate.embed(text);
+    }
+
+    Batch batch;
+    CompletableFuture<float[]> result;
+    boolean owner;
+    lock.lock();
+    try {
+      owner = open == null;
+      if (owner) {
+        open = new Batch();
+      }
+      batch = open;
+      result = batch.add(text);
+      if (batch.size() >= properties.getMaxBatchSize()) {
+        seal(batch);
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (owner) {
+      awaitAndSeal(batch);
+      dispatch(batch);
+    }
+    return await(result);
+  }
+
+  @Override
+  public List<float[]> embedBatch(List<String> texts) {
+    return delegate.embedBatch(texts);
+  }
+
+  /** 묶음을 맡은 요청이 linger 동안 또는 묶음이 찰 때까지 기다린 뒤 닫습니다. */
+  private void awaitAndSeal(Batch batch) {
+    lock.lock();
+    try {
+      long remaining = properties.getLinger().toNanos();
+      while (open == batch && remaining > 0) {
+        remaining = sealed.awaitNanos(remaining);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (open == batch) {
+        seal(batch);
+      }
+      lock.unlock();
+    }
+  }
+
+  /** 잠금을 잡은 상태에서 호출합니다. */
+  private void seal(Batch batch) {
+    if (open == batch) {
+      open = null;
+      sealed.signalAll();
+    }
+  }
+
+  /** 묶음을 AI Executor에서 보냅니다. 보내지 못하면 묶음의 모든 요청을 실패로 끝냅니다. */
+  private void dispatch(Batch batch) {
+    try {
+      aiExecutor.execute(() -> send(batch));
+    } catch (RejectedExecutionException e) {
+      batch.futures.values().forEach(future -> future.completeExceptionally(e));
+    }
+  }
+
+  private void send(Batch batch) {
+    List<String> texts = new ArrayList<>(batch.futures.keySet());
+    try {
+      List<float[]> vectors =
+          texts.size() == 1 ? List.of(delegate.embed(texts.get(0))) : delegate.embedBatch(texts);
+      if (vectors.size() != texts.size()) {
+        throw new IllegalStateException(
+            "Embedding count mismatch: requested " + texts.size() + ", got " + vectors.size());
+      }
+      for (int i = 0; i < texts.size(); i++) {
+        batch.futures.get(texts.get(i)).complete(vectors.get(i));
+      }
+      log.debug("임베딩 요청 묶음 전송 - 요청 {}개, 텍스트 {}개", batch.requests, texts.size());
+    } catch (Throwable e) {
+      // Error여도 묶음의 다른 요청이 timeout까지 기다리지 않도록 먼저 모두 실패로 끝냄
+      batch.futures.values().forEach(future -> future.completeExceptionally(e));
+      if (e instanceof Error error) {
+        throw error;
+      }
+    }
+  }
+
+  private float[] await(CompletableFuture<float[]> result) {
+    try {
+      return result.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException("임베딩 요청 시간 초과 (" + properties.getTimeout() + ")", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("임베딩 요청 대기 중 인터럽트", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("임베딩 생성 실패", e.getCause());
+    }
+  }
+
+  /** 함께 보낼 텍스트와 결과 future. 같은 텍스트는 future를 공유합니다. */
+  private static final class Batch {
+
+    private final Map<String, CompletableFuture<float[]>> futures = new LinkedHashMap<>();
+    private int requests;
+
+    private CompletableFuture<float[]> add(String text) {
+      requests++;
+      return futures.computeIfAbsent(text, key -> new CompletableFuture<>());
+    }
+
+    private int size() {
+      return futures.size();
+    }
+  }
+}
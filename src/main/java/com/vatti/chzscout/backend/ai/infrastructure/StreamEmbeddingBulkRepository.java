@@ -0,0 +1,21 @@
+package com.vatti.chzscout.backend.ai.infrastructure;
+
+import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
+import java.util.List;
+
+/**
+ * 방송 임베딩 대량 저장소.
+ *
+ * <p>JPA {@code saveAll}은 임베딩마다 조회와 INSERT/UPDATE를 따로 보내므로, 콜드 스타트처럼 수천 개를 한 번에 저장할 때는 이 저장소를
+ * 사용합니다.
+ */
+public interface StreamEmbeddingBulkRepository {
+
+  /**
+   * 임베딩을 채널 ID 기준으로 upsert합니다. 같은 채널 ID가 여러 번 있으면 마지막 것을 저장합니다.
+   *
+   * @param embeddings 저장할 임베딩 목록
+   * @return 저장한 행 수
+   */
+  int upsertAll(List<StreamEmbedding> embeddings);
+}
@@ -0,0 +1,212 @@
+package com.vatti.chzscout.backend.ai.infrastructure;
+
+import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
+import com.vatti.chzscout.backend.ai.infrastructure.type.PgVector;
+import com.vatti.chzscout.backend.ai.infrastructure.type.VectorCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC 기반 방송 임베딩 대량 저장소.
+ *
+ * <p>{@value #COPY_THRESHOLD}개 미만은 여러 행을 묶은 {@code INSERT ... ON CONFLICT} 문을 JDBC 배치로 보냅니다. 그
+ * 이상은 임시 테이블에 바이너리 {@code COPY}로 넣은 뒤 {@code INSERT ... SELECT ... ON CONFLICT} 한 번으로 합칩니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StreamEmbeddingBulkRepositoryImpl implements StreamEmbeddingBulkRepository {
+
+  /** 한 INSERT 문에 묶는 행 수. 파라미터 수 제한(32767)보다 충분히 작게 잡습니다. */
+  static final int ROWS_PER_STATEMENT = 100;
+
+  /** 이 수 이상이면 COPY 경로를 사용합니다. */
+  static final int COPY_THRESHOLD = 1000;
+
+  private static final String COLUMNS = "channel_id, embedding_text, embedding, updated_at";
+
+  private static final String ON_CONFLICT =
+      " ON CONFLICT (channel_id) DO UPDATE SET "
+          + "embedding_text = EXCLUDED.embedding_text, "
+          + "embedding = EXCLUDED.embedding, "
+          + "updated_at = EXCLUDED.updated_at";
+
+  private static final String STAGING_TABLE = "stream_embedding_staging";
+
+  /** 바이너리 COPY 헤더: 시그니처, 플래그, 헤더 확장 길이. */
+  private static final byte[] COPY_SIGNATURE = {
+    'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0
+  };
+
+  /** PostgreSQL timestamp의 기준 시각. */
+  private static final LocalDateTime POSTGRES_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional
+  public int upsertAll(List<StreamEmbedding> embeddings) {
+    List<StreamEmbedding> rows = distinctByChannelId(embeddings);
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    if (rows.size() >= COPY_THRESHOLD) {
+      return copyAndMerge(rows);
+    }
+    return batchInsert(rows);
+  }
+
+  /** 여러 행 INSERT 문을 JDBC 배치로 보냅니다. 마지막 남는 행은 행 수에 맞춘 문으로 따로 보냅니다. */
+  private int batchInsert(List<StreamEmbedding> rows) {
+    int fullStatements = rows.size() / ROWS_PER_STATEMENT;
+    int remainder = rows.size() % ROWS_PER_STATEMENT;
+
+    if (fullStatements > 0) {
+      List<List<StreamEmbedding>> chunks = new ArrayList<>(fullStatements);
+      for (int i = 0; i < fullStatements; i++) {
+        chunks.add(rows.subList(i * ROWS_PER_STATEMENT, (i + 1) * ROWS_PER_STATEMENT));
+      }
+      jdbcTemplate.batchUpdate(
+          insertSql(ROWS_PER_STATEMENT), chunks, chunks.size(), this::bindRows);
+    }
+    if (remainder > 0) {
+      List<StreamEmbedding> tail = rows.subList(rows.size() - remainder, rows.size());
+      jdbcTemplate.update(insertSql(remainder), ps -> bindRows(ps, tail));
+    }
+    log.debug("임베딩 배치 upsert 완료 - {}개", rows.size());
+    return rows.size();
+  }
+
+  private void bindRows(PreparedStatement ps, List<StreamEmbedding> rows) throws SQLException {
+    int index = 1;
+    for (StreamEmbedding row : rows) {
+      ps.setString(index++, row.getChannelId());
+      ps.setString(index++, row.getEmbeddingText());
+      ps.setObject(index++, new PgVector(row.getEmbedding()), Types.OTHER);
+      ps.setTimestamp(index++, Timestamp.valueOf(row.getUpdatedAt()));
+    }
+  }
+
+  private static String insertSql(int rowCount) {
+    StringJoiner values = new StringJoiner(", ");
+    for (int i = 0; i < rowCount; i++) {
+      values.add("(?, ?, ?, ?)");
+    }
+    return "INSERT INTO stream_embedding (" + COLUMNS + ") VALUES " + values + ON_CONFLICT;
+  }
+
+  /** 트랜잭션 범위 임시 테이블에 바이너리 COPY로 넣은 뒤 본 테이블로 합칩니다. */
+  private int copyAndMerge(List<StreamEmbedding> rows) {
+    Integer merged =
+        jdbcTemplate.execute(
+            (ConnectionCallback<Integer>)
+                connection -> {
+                  try (Statement statement = connection.createStatement()) {
+                    statement.execute(
+                        "CREATE TEMP TABLE IF NOT EXISTS "
+                            + STAGING_TABLE
+                            + " (LIKE stream_embedding INCLUDING DEFAULTS) ON COMMIT DELETE ROWS");
+                    statement.execute("TRUNCATE " + STAGING_TABLE);
+                  }
+                  copyIn(connection, rows);
+                  try (Statement statement = connection.createStatement()) {
+                    return statement.executeUpdate(
+                        "INSERT INTO stream_embedding ("
+                            + COLUMNS
+                            + ") SELECT "
+                            + COLUMNS
+                            + " FROM "
+                            + STAGING_TABLE
+                            + ON_CONFLICT);
+                  }
+                });
+    log.debug("임베딩 COPY upsert 완료 - {}개", rows.size());
+    return merged == null ? 0 : merged;
+  }
+
+  private void copyIn(Connection connection, List<StreamEmbedding> rows) throws SQLException {
+    CopyIn copy =
+        connection
+            .unwrap(PGConnection.class)
+            .getCopyAPI()
+            .copyIn("COPY " + STAGING_TABLE + " (" + COLUMNS + ") FROM STDIN (FORMAT BINARY)");
+    try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+      DataOutputStream out = new DataOutputStream(buffer);
+      out.write(COPY_SIGNATURE);
+      out.writeInt(0);
+      out.writeInt(0);
+      for (StreamEmbedding row : rows) {
+        writeRow(out, row);
+        if (buffer.size() >= 32 * 1024) {
+          copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+          buffer.reset();
+        }
+      }
+      out.writeShort(-1);
+      copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+      copy.endCopy();
+    } catch (IOException | SQLException e) {
+      if (copy.isActive()) {
+        copy.cancelCopy();
+      }
+      throw e instanceof SQLException sqlException
+          ? sqlException
+          : new SQLException("임베딩 COPY 데이터 작성 실패", e);
+    }
+  }
+
+  /** 한 행을 바이너리 COPY 형식으로 씁니다. 필드마다 바이트 길이 뒤에 값이 옵니다. */
+  private static void writeRow(DataOutputStream out, StreamEmbedding row) throws IOException {
+    out.writeShort(4);
+
+    byte[] channelId = row.getChannelId().getBytes(StandardCharsets.UTF_8);
+    out.writeInt(channelId.length);
+    out.write(channelId);
+
+    byte[] text = row.getEmbeddingText().getBytes(StandardCharsets.UTF_8);
+    out.writeInt(text.length);
+    out.write(text);
+
+    // pgvector 바이너리 형식: 차원(int16), 예약(int16), float4 값들
+    byte[] vector = VectorCodec.toBinary(row.getEmbedding());
+    out.writeInt(vector.length);
+    out.write(vector);
+
+    // timestamp 바이너리 형식: 2000-01-01 기준 마이크로초(int64)
+    out.writeInt(Long.BYTES);
+    out.writeLong(ChronoUnit.MICROS.between(POSTGRES_EPOCH, row.getUpdatedAt()));
+  }
+
+  /** 같은 채널이 한 문에 두 번 나오면 ON CONFLICT가 실패하므로 마지막 것만 남깁니다. */
+  private static List<StreamEmbedding> distinctByChannelId(List<StreamEmbedding> embeddings) {
+    Map<String, StreamEmbedding> latest = new LinkedHashMap<>();
+    for (StreamEmbedding embedding : embeddings) {
+      latest.put(embedding.getChannelId(), embedding);
+    }
+    return List.copyOf(latest.values());
+  }
+}
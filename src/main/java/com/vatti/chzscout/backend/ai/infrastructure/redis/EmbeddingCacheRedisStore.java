@@ -0,0 +1,186 @@
+package com.vatti.chzscout.backend.ai.infrastructure.redis;
+
+import com.vatti.chzscout.backend.ai.config.EmbeddingCacheProperties;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 임베딩 텍스트 → 벡터 캐시.
+ *
+ * <p>키는 {@code embedding:cache:{모델}:{차원}:{텍스트 SHA-256}}이므로 같은 텍스트는 채널이 달라도, 방송이 끝났다 다시 켜져도 같은 벡터를
+ * 재사용하고, 모델이나 차원을 바꾸면 이전 벡터를 읽지 않습니다. 값은 float 배열을 리틀 엔디언 바이트로 그대로 저장합니다.
+ *
+ * <p>조회할 때 GETEX로 TTL을 다시 연장하므로, ttl 동안 한 번도 쓰이지 않은 텍스트부터 만료됩니다 (근사 LRU). 캐시 오류는 임베딩 생성을 막지 않도록
+ * 미스로 처리합니다. 적중/미스 수는 누적하여 {@link #hitRate()}로 노출합니다.
+ */
+@Slf4j
+@Repository
+public class EmbeddingCacheRedisStore {
+
+  private static final String KEY_PREFIX = "embedding:cache:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final EmbeddingCacheProperties properties;
+  private final String keyPrefix;
+  private final int dimensions;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public EmbeddingCacheRedisStore(
+      StringRedisTemplate redisTemplate,
+      EmbeddingCacheProperties properties,
+      @Value("${embedding.model}") String model,
+      @Value("${embedding.dimensions}") int dimensions) {
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.keyPrefix = KEY_PREFIX + model + ":" + dimensions + ":";
+    this.dimensions = dimensions;
+  }
+
+  /**
+   * 캐시된 벡터를 조회하고, 적중한 항목의 TTL을 연장합니다.
+   *
+   * @param texts 임베딩 텍스트 목록
+   * @return 텍스트 → 벡터 (적중한 텍스트만)
+   */
+  public Map<String, float[]> findAll(Collection<String> texts) {
+    if (!properties.isEnabled() || texts.isEmpty()) {
+      return Map.of();
+    }
+    List<String> distinct = texts.stream().distinct().toList();
+    List<byte[]> keys = distinct.stream().map(this::keyOf).toList();
+    Expiration expiration = Expiration.from(properties.getTtl());
+
+    List<Object> values;
+    try {
+      values =
+          redisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  connection -> {
+                    for (byte[] key : keys) {
+                      connection.stringCommands().getEx(key, expiration);
+                    }
+                    return null;
+                  },
+              RedisSerializer.byteArray());
+    } catch (DataAccessException e) {
+      log.warn("임베딩 캐시 조회 실패, 전부 새로 생성 - {}개: {}", distinct.size(), e.getMessage());
+      misses.add(distinct.size());
+      return Map.of();
+    }
+
+    Map<String, float[]> found = new HashMap<>();
+    for (int i = 0; i < distinct.size(); i++) {
+      float[] vector = i < values.size() ? decode(values.get(i)) : null;
+      if (vector != null) {
+        found.put(distinct.get(i), vector);
+      }
+    }
+    hits.add(found.size());
+    misses.add(distinct.size() - found.size());
+    return found;
+  }
+
+  /**
+   * 새로 생성한 벡터를 저장합니다.
+   *
+   * @param texts 임베딩 텍스트 목록
+   * @param vectors texts와 같은 순서의 벡터
+   */
+  public void saveAll(List<String> texts, List<float[]> vectors) {
+    if (!properties.isEnabled() || texts.isEmpty()) {
+      return;
+    }
+    List<byte[]> keys = new ArrayList<>(texts.size());
+    List<byte[]> values = new ArrayList<>(texts.size());
+    for (int i = 0; i < texts.size(); i++) {
+      float[] vector = vectors.get(i);
+      if (vector != null && vector.length == dimensions) {
+        keys.add(keyOf(texts.get(i)));
+        values.add(encode(vector));
+      }
+    }
+    Expiration expiration = Expiration.from(properties.getTtl());
+
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                for (int i = 0; i < keys.size(); i++) {
+                  connection
+                      .stringCommands()
+                      .set(keys.get(i), values.get(i), expiration, SetOption.upsert());
+                }
+                return null;
+              });
+    } catch (DataAccessException e) {
+      log.warn("임베딩 캐시 저장 실패 - {}개: {}", keys.size(), e.getMessage());
+    }
+  }
+
+  /** 누적 적중 수. */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /** 누적 미스 수. */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /** 누적 적중률 (0~1), 조회한 적이 없으면 0. */
+  public double hitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  private byte[] keyOf(String text) {
+    return (keyPrefix + sha256(text)).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String sha256(String text) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static byte[] encode(float[] vector) {
+    ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+    buffer.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().put(vector);
+    return buffer.array();
+  }
+
+  /** 차원이 맞지 않는 값은 미스로 봅니다. */
+  private float[] decode(Object value) {
+    if (!(value instanceof byte[] bytes) || bytes.length != dimensions * Float.BYTES) {
+      return null;
+    }
+    float[] vector = new float[dimensions];
+    ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+    return vector;
+  }
+}
@@ -0,0 +1,94 @@
+package com.vatti.chzscout.backend.ai.infrastructure.type;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Oid;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+/**
+ * PostgreSQL 드라이버에 넘기는 pgvector 파라미터.
+ *
+ * <p>연결에 vector 타입의 바이너리 전송이 켜져 있으면 드라이버가 {@link #toBytes(byte[], int)}로 float 바이트를 그대로 보내고,
+ * 아니면 {@link #getValue()}의 텍스트 형식으로 보냅니다. 텍스트는 필요할 때만 만듭니다.
+ */
+public class PgVector extends PGobject implements PGBinaryObject {
+
+  public static final String TYPE_NAME = "vector";
+
+  private float[] vector;
+
+  public PgVector() {
+    setType(TYPE_NAME);
+  }
+
+  public PgVector(float[] vector) {
+    this();
+    this.vector = vector;
+  }
+
+  /**
+   * 연결에 vector 타입의 바이너리 송수신을 켭니다. PostgreSQL 연결이 아니거나 vector 타입이 없으면 아무것도 하지 않습니다.
+   *
+   * <p>물리 연결마다 한 번, 쿼리를 실행하기 전에 호출합니다 ({@link VectorBinaryTransferDataSource}). 수신은 이후에 준비되는
+   * 쿼리부터 적용됩니다.
+   *
+   * @param connection JDBC 연결 (커넥션 풀 프록시 포함)
+   * @return 바이너리 전송을 켰으면 true
+   */
+  public static boolean enableBinaryTransfer(Connection connection) throws SQLException {
+    if (!connection.isWrapperFor(BaseConnection.class)) {
+      return false;
+    }
+    BaseConnection pgConnection = connection.unwrap(BaseConnection.class);
+    int oid = pgConnection.getTypeInfo().getPGType(TYPE_NAME);
+    if (oid == Oid.UNSPECIFIED) {
+      return false;
+    }
+    QueryExecutor executor = pgConnection.getQueryExecutor();
+    if (!executor.useBinaryForSend(oid)) {
+      executor.addBinarySendOid(oid);
+    }
+    if (!executor.useBinaryForReceive(oid)) {
+      executor.addBinaryReceiveOid(oid);
+    }
+    return true;
+  }
+
+  /** 담고 있는 벡터. */
+  public float[] toArray() {
+    return vector;
+  }
+
+  @Override
+  public boolean isNull() {
+    return vector == null;
+  }
+
+  @Override
+  public String getValue() {
+    return vector == null ? null : VectorCodec.formatText(vector);
+  }
+
+  @Override
+  public void setValue(String value) throws SQLException {
+    vector = value == null ? null : VectorCodec.parseText(value);
+  }
+
+  @Override
+  public int lengthInBytes() {
+    return vector == null ? 0 : VectorCodec.binaryLength(vector.length);
+  }
+
+  @Override
+  public void toBytes(byte[] bytes, int offset) {
+    VectorCodec.writeBinary(vector, bytes, offset);
+  }
+
+  @Override
+  public void setByteValue(byte[] value, int offset) throws SQLException {
+    vector = VectorCodec.readBinary(value, offset);
+  }
+}
@@ -0,0 +1,25 @@
+package com.vatti.chzscout.backend.ai.infrastructure.type;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.ds.PGSimpleDataSource;
+
+/**
+ * 새 물리 연결을 만들 때마다 vector 타입의 바이너리 송수신을 켜는 PostgreSQL DataSource.
+ *
+ * <p>커넥션 풀 아래에 두면 연결마다 한 번만 설정되고, 조회·저장 경로에서는 연결 상태를 건드리지 않습니다.
+ */
+public class VectorBinaryTransferDataSource extends PGSimpleDataSource {
+
+  @Override
+  public Connection getConnection(String user, String password) throws SQLException {
+    Connection connection = super.getConnection(user, password);
+    try {
+      PgVector.enableBinaryTransfer(connection);
+    } catch (SQLException e) {
+      connection.close();
+      throw e;
+    }
+    return connection;
+  }
+}
@@ -0,0 +1,122 @@
+package com.vatti.chzscout.backend.ai.infrastructure.type;
+
+import java.nio.ByteBuffer;
+
+/**
+ * pgvector 값 인코딩/디코딩.
+ *
+ * <p>바이너리 형식은 pgvector의 send/recv 형식(차원 int16, 예약 int16, float4 값들, 모두 빅 엔디언)이며, 값을 10진 문자열로 바꾸지
+ * 않고 float 바이트를 그대로 옮깁니다. 텍스트 형식({@code [1.0,2.0,3.0]})은 바이너리 전송을 쓸 수 없는 드라이버나 연결을 위한 대체
+ * 경로입니다.
+ */
+public final class VectorCodec {
+
+  /** 바이너리 형식의 헤더 크기 (차원 + 예약). */
+  static final int HEADER_BYTES = 4;
+
+  private VectorCodec() {}
+
+  /** 바이너리 형식의 바이트 수. */
+  public static int binaryLength(int dimensions) {
+    return HEADER_BYTES + dimensions * Float.BYTES;
+  }
+
+  /**
+   * 벡터를 바이너리 형식으로 씁니다.
+   *
+   * @param vector float 배열
+   * @param target 쓸 배열 ({@link #binaryLength(int)} 이상 남아 있어야 함)
+   * @param offset 쓰기 시작 위치
+   */
+  public static void writeBinary(float[] vector, byte[] target, int offset) {
+    ByteBuffer buffer = ByteBuffer.wrap(target, offset, binaryLength(vector.length));
+    buffer.putShort((short) vector.length).putShort((short) 0);
+    buffer.asFloatBuffer().put(vector);
+  }
+
+  /** 벡터를 바이너리 형식의 새 배열로 씁니다. */
+  public static byte[] toBinary(float[] vector) {
+    byte[] bytes = new byte[binaryLength(vector.length)];
+    writeBinary(vector, bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * 바이너리 형식을 읽습니다.
+   *
+   * @param bytes 바이너리 값
+   * @param offset 읽기 시작 위치
+   * @return float 배열
+   */
+  public static float[] readBinary(byte[] bytes, int offset) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, bytes.length - offset);
+    int dimensions = Short.toUnsignedInt(buffer.getShort());
+    buffer.getShort();
+    if (buffer.remaining() < dimensions * Float.BYTES) {
+      throw new IllegalArgumentException(
+          "Truncated vector: " + dimensions + " dimensions, " + buffer.remaining() + " bytes");
+    }
+    float[] vector = new float[dimensions];
+    buffer.asFloatBuffer().get(vector);
+    return vector;
+  }
+
+  /**
+   * 드라이버가 돌려준 값이 바이너리 형식인지 판별합니다.
+   *
+   * <p>텍스트 형식은 항상 {@code [}로 시작하고, 바이너리 형식은 헤더의 차원과 전체 길이가 맞아야 합니다.
+   */
+  public static boolean isBinary(byte[] bytes) {
+    if (bytes.length < HEADER_BYTES || bytes[0] == '[') {
+      return false;
+    }
+    int dimensions = ((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF);
+    return bytes.length == binaryLength(dimensions);
+  }
+
+  /**
+   * float[]를 pgvector 문자열로 변환.
+   *
+   * @param vector float 배열
+   * @return "[1.0,2.0,3.0]" 형식
+   */
+  public static String formatText(float[] vector) {
+    StringBuilder sb = new StringBuilder(vector.length * 12 + 2).append('[');
+    for (int i = 0; i < vector.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(vector[i]);
+    }
+    return sb.append(']').toString();
+  }
+
+  /**
+   * pgvector 문자열을 float[]로 파싱. 정규식 분할 없이 쉼표 위치를 직접 찾습니다.
+   *
+   * @param text "[1.0,2.0,3.0]" 형식
+   * @return float 배열
+   */
+  public static float[] parseText(String text) {
+    int end = text.length() - 1;
+    if (end <= 1) {
+      return new float[0];
+    }
+
+    int dimensions = 1;
+    for (int i = 1; i < end; i++) {
+      if (text.charAt(i) == ',') {
+        dimensions++;
+      }
+    }
+
+    float[] vector = new float[dimensions];
+    int start = 1;
+    for (int i = 0; i < dimensions; i++) {
+      int comma = i == dimensions - 1 ? end : text.indexOf(',', start);
+      vector[i] = Float.parseFloat(text.substring(start, comma).trim());
+      start = comma + 1;
+    }
+    return vector;
+  }
+}
@@ -1,6 +1,7 @@
 package com.vatti.chzscout.backend.ai.infrastructure.type;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -8,11 +9,16 @@ import java.sql.Types;
 import java.util.Arrays;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.usertype.UserType;
+import org.postgresql.PGStatement;
+import org.postgresql.jdbc.PgResultSet;
 
 /**
  * pgvector의 vector 타입을 float[]로 매핑하는 커스텀 Hibernate UserType.
  *
- * <p>PostgreSQL의 vector 타입과 Java의 float[] 사이 변환을 처리합니다.
+ * <p>PostgreSQL의 vector 타입과 Java의 float[] 사이 변환을 처리합니다. PostgreSQL 연결에서는 pgvector 바이너리 형식으로 주고받아
+ * 벡터마다 수천 번의 float ↔ 10진 문자열 변환을 피하고, 그 밖의 드라이버에서는 텍스트 형식을 사용합니다 ({@link VectorCodec}).
+ * 바이너리 전송은 물리 연결을 만들 때 {@link VectorBinaryTransferDataSource}가 켜며, 켜지지 않은 연결에서는 드라이버가 텍스트로
+ * 주고받습니다.
  *
  * <p>사용법: 엔티티에 @TypeRegistration(basicClass = float[].class, userType = VectorType.class) 추가
  */
@@ -42,11 +48,21 @@ public class VectorType implements UserType<float[]> {
   public float[] nullSafeGet(
       ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
       throws SQLException {
-    String value = rs.getString(position);
-    if (value == null || rs.wasNull()) {
+    if (!rs.isWrapperFor(PgResultSet.class)) {
+      String value = rs.getString(position);
+      if (value == null || rs.wasNull()) {
+        return null;
+      }
+      return VectorCodec.parseText(value);
+    }
+    // 바이너리로 받은 값은 float 바이트 그대로, 텍스트로 받은 값은 문자열로 파싱
+    byte[] raw = rs.getBytes(position);
+    if (raw == null) {
       return null;
     }
-    return parseVector(value);
+    return VectorCodec.isBinary(raw)
+        ? VectorCodec.readBinary(raw, 0)
+        : VectorCodec.parseText(new String(raw, StandardCharsets.UTF_8));
   }
 
   @Override
@@ -55,8 +71,10 @@ public class VectorType implements UserType<float[]> {
       throws SQLException {
     if (value == null) {
       st.setNull(index, Types.OTHER);
+    } else if (st.isWrapperFor(PGStatement.class)) {
+      st.setObject(index, new PgVector(value), Types.OTHER);
     } else {
-      st.setObject(index, formatVector(value), Types.OTHER);
+      st.setObject(index, VectorCodec.formatText(value), Types.OTHER);
     }
   }
 
@@ -82,42 +100,4 @@ public class VectorType implements UserType<float[]> {
   public float[] assemble(Serializable cached, Object owner) {
     return deepCopy((float[]) cached);
   }
-
-  /**
-   * pgvector 문자열을 float[]로 파싱.
-   *
-   * @param vectorString "[1.0,2.0,3.0]" 형식
-   * @return float 배열
-   */
-  private float[] parseVector(String vectorString) {
-    String content = vectorString.substring(1, vectorString.length() - 1);
-    if (content.isEmpty()) {
-      return new float[0];
-    }
-
-    String[] parts = content.split(",");
-    float[] result = new float[parts.length];
-    for (int i = 0; i < parts.length; i++) {
-      result[i] = Float.parseFloat(parts[i].trim());
-    }
-    return result;
-  }
-
-  /**
-   * float[]를 pgvector 문자열로 변환.
-   *
-   * @param vector float 배열
-   * @return "[1.0,2.0,3.0]" 형식
-   */
-  private String formatVector(float[] vector) {
-    StringBuilder sb = new StringBuilder("[");
-    for (int i = 0; i < vector.length; i++) {
-      if (i > 0) {
-        sb.append(",");
-      }
-      sb.append(vector[i]);
-    }
-    sb.append("]");
-    return sb.toString();
-  }
 }
@@ -4,6 +4,8 @@ import com.vatti.chzscout.backend.ai.application.AiChatService;
 import com.vatti.chzscout.backend.ai.application.VectorRecommendService;
 import com.vatti.chzscout.backend.ai.domain.dto.UserMessageAnalysisResult;
 import com.vatti.chzscout.backend.ai.domain.event.AiMessageResponseReceivedEvent;
+import com.vatti.chzscout.backend.stream.application.usecase.RisingStreamUseCase;
+import com.vatti.chzscout.backend.stream.domain.RisingStream;
 import com.vatti.chzscout.backend.stream.domain.Stream;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,10 +27,12 @@ public class MessageListener extends ListenerAdapter {
   private static final int MIN_LENGTH = 2;
   private static final int MAX_LENGTH = 500;
   private static final int RECOMMENDED_NUM = 5;
+  private static final String RISING_COMMAND = "!급상승";
 
   private final ApplicationEventPublisher eventPublisher;
   private final AiChatService aiChatService;
   private final VectorRecommendService vectorRecommendService;
+  private final RisingStreamUseCase risingStreamUseCase;
 
   @Override
   public void onMessageReceived(MessageReceivedEvent event) {
@@ -57,6 +61,12 @@ public class MessageListener extends ListenerAdapter {
       return;
     }
 
+    // 미리 계산한 급상승 순위는 GPT 없이 바로 응답
+    if (RISING_COMMAND.equals(content)) {
+      replyRisingStreams(channel, startTime);
+      return;
+    }
+
     // 1. GPT로 메시지 의도 분석
     try {
       UserMessageAnalysisResult analysis = aiChatService.analyzeUserMessage(content);
@@ -119,6 +129,32 @@ public class MessageListener extends ListenerAdapter {
     }
   }
 
+  /** 시청자 수가 빠르게 늘고 있는 방송을 응답합니다. */
+  private void replyRisingStreams(MessageChannelUnion channel, long startTime) {
+    try {
+      List<RisingStream> rising = risingStreamUseCase.findRising(RECOMMENDED_NUM);
+      if (rising.isEmpty()) {
+        publishResponse(channel, "지금은 시청자가 빠르게 늘고 있는 방송이 없어요. 잠시 후 다시 확인해보세요! 📈");
+        logElapsedTime(startTime, "급상승 결과 없음");
+        return;
+      }
+      String message =
+          rising.stream()
+              .map(
+                  stream ->
+                      String.format(
+                          "📈 +%d명 (분당 %.1f명) https://chzzk.naver.com/live/%s",
+                          stream.viewerDelta(), stream.velocity(), stream.stream().channelId()))
+              .collect(Collectors.joining("\n"));
+      publishResponse(channel, message);
+      logElapsedTime(startTime, "급상승 조회");
+    } catch (Exception e) {
+      log.error("급상승 조회 중 오류 발생: {}", e.getMessage(), e);
+      publishResponse(channel, "죄송해요, 지금은 응답을 드리기 어려워요. 잠시 후 다시 시도해주세요! 🙏");
+      logElapsedTime(startTime, "급상승 오류");
+    }
+  }
+
   /** 게임/카테고리 키워드 반복 횟수 (임베딩 가중치 부여용) */
   private static final int KEYWORD_WEIGHT_MULTIPLIER = 5;
 
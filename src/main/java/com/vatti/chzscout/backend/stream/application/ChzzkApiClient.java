@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 
 @Service
@@ -22,14 +24,22 @@ public class ChzzkApiClient {
   @Value("${chzzk.api.client-secret}")
   private String apiClientSecret;
 
+  private static final ResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
+
   private final RestClient restClient;
+  private final ChzzkLiveResponseDecoder liveResponseDecoder;
 
   /** 현재 진행 중인 생방송 목록을 조회한다 (첫 페이지). */
   public ChzzkLiveResponse getChzzkLive() {
     return getChzzkLive(null);
   }
 
-  /** 현재 진행 중인 생방송 목록을 조회한다 (커서 기반 페이지네이션). */
+  /**
+   * 현재 진행 중인 생방송 목록을 조회한다 (커서 기반 페이지네이션).
+   *
+   * <p>응답 본문은 {@link ChzzkLiveResponseDecoder}로 스트림에서 바로 디코딩한다. 오류 상태 코드는 {@code retrieve()}와 같은
+   * 예외로 변환한다.
+   */
   public ChzzkLiveResponse getChzzkLive(String next) {
     String baseUri = apiBaseUrl + "/open/v1/lives";
 
@@ -44,6 +54,12 @@ public class ChzzkApiClient {
             .header("Client-Secret", apiClientSecret)
             .accept(MediaType.APPLICATION_JSON);
 
-    return requestSpec.retrieve().body(ChzzkLiveResponse.class);
+    return requestSpec.exchange(
+        (request, response) -> {
+          if (ERROR_HANDLER.hasError(response)) {
+            ERROR_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+          }
+          return liveResponseDecoder.decode(response.getBody());
+        });
   }
 }
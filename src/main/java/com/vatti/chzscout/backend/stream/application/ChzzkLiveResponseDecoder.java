@@ -0,0 +1,203 @@
+package com.vatti.chzscout.backend.stream.application;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.ChzzkLiveResponse;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 치지직 생방송 목록 응답의 토큰 단위 디코더.
+ *
+ * <p>응답 전체를 트리나 레코드로 바인딩하지 않고 토큰을 따라가며 방송을 하나씩 만듭니다. 사용하지 않는 필드(openDate, categoryType,
+ * liveCategory, channelImageUrl)는 문자열로 만들지 않고 건너뛰며, 카테고리와 태그는 {@link StringInternPool}로 인터닝하여 페이지마다
+ * 반복되는 문자열 할당을 줄입니다.
+ */
+@Component
+public class ChzzkLiveResponseDecoder {
+
+  private final JsonMapper jsonMapper;
+  private final StringInternPool internPool;
+
+  public ChzzkLiveResponseDecoder(JsonMapper jsonMapper, StringInternPool internPool) {
+    this.jsonMapper = jsonMapper;
+    this.internPool = internPool;
+  }
+
+  /**
+   * 응답 본문을 디코딩합니다.
+   *
+   * @param body 응답 본문 스트림
+   * @return 생방송 목록 응답, 본문이 비어 있으면 null
+   */
+  public ChzzkLiveResponse decode(InputStream body) {
+    try (JsonParser parser = jsonMapper.createParser(body)) {
+      JsonToken first = parser.nextToken();
+      if (first == null) {
+        return null;
+      }
+      expect(parser, JsonToken.START_OBJECT);
+
+      Integer code = null;
+      String message = null;
+      ChzzkLiveResponse.Page page = null;
+      List<AllFieldLiveDto> data = null;
+
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        JsonToken value = parser.nextToken();
+        switch (name) {
+          case "code" -> code = value == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+          case "message" -> message = readString(parser);
+          case "content" -> {
+            if (value == JsonToken.START_OBJECT) {
+              data = new ArrayList<>();
+              page = readContent(parser, data::add);
+            } else {
+              parser.skipChildren();
+            }
+          }
+          default -> parser.skipChildren();
+        }
+      }
+
+      ChzzkLiveResponse.Content content =
+          data != null ? new ChzzkLiveResponse.Content(data, page) : null;
+      return new ChzzkLiveResponse(code, message, content);
+    }
+  }
+
+  /** content 객체를 읽어 방송을 소비자에게 넘기고 페이지 정보를 반환합니다. */
+  private ChzzkLiveResponse.Page readContent(
+      JsonParser parser, Consumer<AllFieldLiveDto> liveConsumer) {
+    ChzzkLiveResponse.Page page = null;
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      String name = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (name) {
+        case "data" -> {
+          if (value == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+              liveConsumer.accept(readLive(parser));
+            }
+          } else {
+            parser.skipChildren();
+          }
+        }
+        case "page" -> {
+          if (value == JsonToken.START_OBJECT) {
+            page = readPage(parser);
+          } else {
+            parser.skipChildren();
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    return page;
+  }
+
+  private ChzzkLiveResponse.Page readPage(JsonParser parser) {
+    String next = null;
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if ("next".equals(name)) {
+        next = readString(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return new ChzzkLiveResponse.Page(next);
+  }
+
+  private AllFieldLiveDto readLive(JsonParser parser) {
+    Integer liveId = null;
+    String liveTitle = null;
+    String liveThumbnailImageUrl = null;
+    Integer concurrentUserCount = null;
+    Boolean adult = null;
+    List<String> tags = null;
+    String liveCategoryValue = null;
+    String channelId = null;
+    String channelName = null;
+
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      String name = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (name) {
+        case "liveId" -> liveId = value == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+        case "liveTitle" -> liveTitle = readString(parser);
+        case "liveThumbnailImageUrl" -> liveThumbnailImageUrl = readString(parser);
+        case "concurrentUserCount" ->
+            concurrentUserCount = value == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+        case "adult" -> adult = value == JsonToken.VALUE_NULL ? null : parser.getBooleanValue();
+        case "tags" -> tags = readInternedList(parser);
+        case "liveCategoryValue" -> liveCategoryValue = readInterned(parser);
+        case "channelId" -> channelId = readString(parser);
+        case "channelName" -> channelName = readString(parser);
+        default -> parser.skipChildren(); // 사용하지 않는 필드는 값을 만들지 않음
+      }
+    }
+
+    return new AllFieldLiveDto(
+        liveId,
+        liveTitle,
+        liveThumbnailImageUrl,
+        concurrentUserCount,
+        null,
+        adult,
+        tags,
+        null,
+        null,
+        liveCategoryValue,
+        channelId,
+        channelName,
+        null);
+  }
+
+  private List<String> readInternedList(JsonParser parser) {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+    List<String> values = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      String value = readInterned(parser);
+      if (value != null) {
+        values.add(value);
+      }
+    }
+    return values;
+  }
+
+  private String readInterned(JsonParser parser) {
+    if (parser.currentToken() != JsonToken.VALUE_STRING) {
+      parser.skipChildren();
+      return null;
+    }
+    return internPool.intern(
+        parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength());
+  }
+
+  private static String readString(JsonParser parser) {
+    if (parser.currentToken() != JsonToken.VALUE_STRING) {
+      parser.skipChildren();
+      return null;
+    }
+    return parser.getString();
+  }
+
+  private static void expect(JsonParser parser, JsonToken expected) {
+    if (parser.currentToken() != expected) {
+      throw new StreamReadException(
+          parser, "Expected " + expected + " but was " + parser.currentToken());
+    }
+  }
+}
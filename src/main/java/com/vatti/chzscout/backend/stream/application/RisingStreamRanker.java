@@ -0,0 +1,178 @@
+package com.vatti.chzscout.backend.stream.application;
+
+import com.vatti.chzscout.backend.stream.domain.ViewerSeries;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시청자 수가 빠르게 늘고 있는 방송의 순위.
+ *
+ * <p>채널마다 최근 window개 표본의 시청자 증가 속도(분당)와 그 앞 구간 대비 가속도를 계산하고, 속도를 평소 시청자 수의 제곱근으로 나눈 점수로
+ * 정렬합니다. 큰 방송의 절대 증가량과 작은 방송의 증가율 중 한쪽만 상위를 차지하지 않게 하기 위함입니다.
+ *
+ * <p>점수 순으로 정렬된 집합을 계속 유지하며, 갱신 사이클마다 표본이 새로 들어온 채널만 빼고 다시 넣습니다. 전체 방송을 매번 다시 정렬하지 않고 채널당
+ * O(log n)으로 갱신하며, 상위 K개 조회는 앞에서 K개만 읽습니다. 동시에 읽고 쓸 수 있도록 메서드를 동기화합니다.
+ */
+public class RisingStreamRanker {
+
+  private static final Comparator<RisingScore> BY_SCORE =
+      Comparator.comparingDouble(RisingScore::score)
+          .reversed()
+          .thenComparing(RisingScore::channelId);
+
+  private final int window;
+  private final int minViewers;
+  private final Map<String, RisingScore> scores = new HashMap<>();
+  private final TreeSet<RisingScore> ranking = new TreeSet<>(BY_SCORE);
+
+  /**
+   * @param window 속도를 계산할 표본 간격
+   * @param minViewers 이보다 시청자가 적은 방송은 순위에 넣지 않음
+   */
+  public RisingStreamRanker(int window, int minViewers) {
+    if (window < 1) {
+      throw new IllegalArgumentException("Window must be positive: " + window);
+    }
+    this.window = window;
+    this.minViewers = minViewers;
+  }
+
+  /**
+   * 표본이 새로 들어온 채널의 점수를 다시 계산합니다. 더 이상 상승 중이 아닌 채널은 순위에서 뺍니다.
+   *
+   * @param updated 갱신된 채널의 이력
+   */
+  public synchronized void update(Collection<ViewerSeries> updated) {
+    for (ViewerSeries series : updated) {
+      RisingScore previous = scores.remove(series.channelId());
+      if (previous != null) {
+        ranking.remove(previous);
+      }
+      RisingScore score = score(series);
+      if (score != null) {
+        scores.put(score.channelId(), score);
+        ranking.add(score);
+      }
+    }
+  }
+
+  /**
+   * 마지막 표본이 기준 시각보다 오래된 (종료된) 채널을 순위에서 뺍니다.
+   *
+   * @param epochSecond 기준 시각
+   * @return 뺀 채널 수
+   */
+  public synchronized int evictOlderThan(long epochSecond) {
+    int evicted = 0;
+    Iterator<RisingScore> iterator = scores.values().iterator();
+    while (iterator.hasNext()) {
+      RisingScore score = iterator.next();
+      if (score.sampledAt() < epochSecond) {
+        iterator.remove();
+        ranking.remove(score);
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * 점수가 높은 순으로 상위 방송을 반환합니다.
+   *
+   * @param limit 최대 개수
+   * @return 점수 내림차순 목록
+   */
+  public synchronized List<RisingScore> top(int limit) {
+    List<RisingScore> top = new ArrayList<>(Math.min(limit, ranking.size()));
+    for (RisingScore score : ranking) {
+      if (top.size() >= limit) {
+        break;
+      }
+      top.add(score);
+    }
+    return top;
+  }
+
+  /** 순위를 모두 비웁니다. */
+  public synchronized void clear() {
+    scores.clear();
+    ranking.clear();
+  }
+
+  /** 순위에 있는 채널 수. */
+  public synchronized int size() {
+    return ranking.size();
+  }
+
+  /**
+   * 한 채널의 상승 점수를 계산합니다.
+   *
+   * @return 점수, 표본이 부족하거나 시청자가 늘지 않았으면 null
+   */
+  RisingScore score(ViewerSeries series) {
+    int last = series.size() - 1;
+    if (last < 1 || series.latest() < minViewers) {
+      return null;
+    }
+    int span = Math.min(window, last);
+    long elapsed = series.elapsedSeconds(span);
+    int delta = series.delta(span);
+    if (elapsed <= 0 || delta <= 0) {
+      return null;
+    }
+    double velocity = delta * 60.0 / elapsed;
+
+    // 앞 구간의 속도와 비교한 가속도 (분당 시청자 / 분), 앞 구간이 없으면 0
+    double acceleration = 0;
+    int previousLast = last - span;
+    int previousSpan = Math.min(span, previousLast);
+    if (previousSpan > 0) {
+      long previousElapsed =
+          series.sampledAt(previousLast) - series.sampledAt(previousLast - previousSpan);
+      if (previousElapsed > 0) {
+        double previousVelocity =
+            (series.viewersAt(previousLast) - series.viewersAt(previousLast - previousSpan))
+                * 60.0
+                / previousElapsed;
+        double minutesBetween = (elapsed + previousElapsed) / 2.0 / 60.0;
+        acceleration = (velocity - previousVelocity) / minutesBetween;
+      }
+    }
+
+    double base = Math.max(series.movingAverage(span + 1), Math.max(minViewers, 1));
+    return new RisingScore(
+        series.channelId(),
+        series.latest(),
+        delta,
+        velocity,
+        acceleration,
+        velocity / Math.sqrt(base),
+        series.latestAt());
+  }
+
+  /**
+   * 채널의 상승 점수.
+   *
+   * @param channelId 채널 ID
+   * @param viewers 최근 시청자 수
+   * @param viewerDelta 비교 구간 동안 늘어난 시청자 수
+   * @param velocity 분당 시청자 증가 수
+   * @param acceleration 분당 증가 수의 변화량 (분당)
+   * @param score 정렬 점수
+   * @param sampledAt 최근 표본 시각 (epoch 초)
+   */
+  public record RisingScore(
+      String channelId,
+      int viewers,
+      int viewerDelta,
+      double velocity,
+      double acceleration,
+      double score,
+      long sampledAt) {}
+}
@@ -1,51 +1,213 @@
 package com.vatti.chzscout.backend.stream.application;
 
+import com.vatti.chzscout.backend.stream.config.ChzzkFetchProperties;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.domain.ChzzkLiveResponse;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-/** 치지직 API에서 생방송 목록을 가져오는 서비스. */
+/**
+ * 치지직 API에서 생방송 목록을 가져오는 서비스.
+ *
+ * <p>페치 스레드(Virtual Thread)가 커서를 따라 다음 페이지를 요청하는 동안 호출 스레드는 이미 받은 페이지를 처리합니다. 수집 범위는 {@link
+ * ChzzkFetchProperties}의 페이지 수, 방송 수, 시간 예산으로 제한됩니다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class StreamCacheService {
 
-  private static final int MAX_PAGES = 10;
-
   private final ChzzkApiClient chzzkApiClient;
+  private final ChzzkFetchProperties fetchProperties;
+  private final ExecutorService chzzkFetchExecutor;
 
-  /** 치지직 API에서 생방송 목록을 가져옵니다 (최대 10페이지). */
+  /**
+   * 치지직 API에서 생방송 목록을 가져옵니다.
+   *
+   * <p>모든 페이지를 하나의 리스트로 모아 반환합니다. 페이지 단위로 처리할 수 있다면 {@link #fetchLiveStreams(Consumer)}를
+   * 사용합니다.
+   *
+   * @return 수집 예산 안에서 받은 생방송 목록
+   */
   public List<AllFieldLiveDto> fetchLiveStreams() {
     List<AllFieldLiveDto> allStreams = new ArrayList<>();
-    String nextCursor = null;
-
-    for (int page = 0; page < MAX_PAGES; page++) {
-      ChzzkLiveResponse response = chzzkApiClient.getChzzkLive(nextCursor);
-      log.info(
-          "API Response - page {}: data={}, page={}",
-          page + 1,
-          response != null && response.data() != null ? response.data().size() : "null",
-          response != null && response.page() != null ? response.page().next() : "null");
-
-      if (response == null || response.data() == null || response.data().isEmpty()) {
-        log.warn("Empty or null response at page {}, stopping pagination", page + 1);
-        break;
+    fetchLiveStreams(allStreams::addAll);
+    return allStreams;
+  }
+
+  /**
+   * 치지직 API에서 생방송 목록을 페이지 단위로 받아 소비자에게 넘깁니다.
+   *
+   * <p>소비자는 호출 스레드에서 페이지 순서대로 호출되며, 그동안 페치 스레드는 다음 페이지를 받아 둡니다. 시간 예산을 넘기거나 인터럽트되면 그때까지
+   * 받은 페이지만 넘기고 {@link FetchResult#complete()}를 false로 돌려줍니다. 페치 중 예외나 오류가 발생하면 호출 스레드로 전파합니다.
+   *
+   * @param pageConsumer 페이지별 방송 목록을 처리할 소비자
+   * @return 소비자에게 넘긴 방송 수와 끝까지 받았는지 여부
+   */
+  public FetchResult fetchLiveStreams(Consumer<List<AllFieldLiveDto>> pageConsumer) {
+    return fetchLiveStreams(fetchProperties.getMaxPages(), pageConsumer);
+  }
+
+  /**
+   * 앞쪽 페이지만 받아 소비자에게 넘깁니다.
+   *
+   * <p>목록은 시청자 수 순으로 정렬되어 있으므로 앞쪽 페이지만으로 상위 방송을 자주 갱신할 수 있습니다. 페이지 수는 설정된 최대 페이지 수를 넘지
+   * 않으며, 한도에서 멈췄는데 다음 페이지가 남아 있으면 끝까지 받지 못한 것으로 돌려줍니다.
+   *
+   * @param maxPages 요청할 최대 페이지 수
+   * @param pageConsumer 페이지별 방송 목록을 처리할 소비자
+   * @return 소비자에게 넘긴 방송 수와 끝까지 받았는지 여부
+   */
+  public FetchResult fetchLiveStreams(
+      int maxPages, Consumer<List<AllFieldLiveDto>> pageConsumer) {
+    int pageLimit = Math.min(maxPages, fetchProperties.getMaxPages());
+    long deadline = System.nanoTime() + fetchProperties.getTimeBudget().toNanos();
+    BlockingQueue<FetchedPage> pages = new ArrayBlockingQueue<>(fetchProperties.getPrefetchPages());
+    Future<?> fetcher = chzzkFetchExecutor.submit(() -> fetchPages(pages, pageLimit, deadline));
+
+    int consumed = 0;
+    boolean complete = false;
+    try {
+      while (true) {
+        FetchedPage page = pages.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (page == null) {
+          log.warn("Fetch time budget exceeded, returning {} streams", consumed);
+          break;
+        }
+        if (page.error() instanceof Error error) {
+          throw error;
+        }
+        if (page.error() instanceof RuntimeException error) {
+          throw error;
+        }
+        if (page.error() != null) {
+          throw new IllegalStateException("Live stream fetch failed", page.error());
+        }
+        if (page == FetchedPage.END) {
+          complete = true;
+          break;
+        }
+        if (page == FetchedPage.TRUNCATED) {
+          log.warn("Fetch budget reached before the last page, returning {} streams", consumed);
+          break;
+        }
+        List<AllFieldLiveDto> data = withinItemLimit(page.data(), consumed);
+        if (!data.isEmpty()) {
+          pageConsumer.accept(data);
+          consumed += data.size();
+        }
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while fetching live streams, returning {} streams", consumed);
+    } finally {
+      fetcher.cancel(true);
+    }
+
+    log.info("Fetched {} live streams from API{}", consumed, complete ? "" : " (truncated)");
+    return new FetchResult(consumed, complete);
+  }
+
+  /**
+   * 커서를 따라 페이지를 요청하여 큐에 넣습니다.
+   *
+   * <p>다음 커서를 꺼낸 직후 페이지를 넘기므로, 소비자가 페이지를 처리하는 동안 다음 요청이 진행됩니다. 마지막 페이지까지 받으면
+   * {@link FetchedPage#END}, 페이지·방송 수·시간 예산 때문에 다음 커서를 남기고 멈추면 {@link FetchedPage#TRUNCATED}를 넣습니다.
+   */
+  private void fetchPages(BlockingQueue<FetchedPage> pages, int pageLimit, long deadline) {
+    try {
+      String nextCursor = null;
+      int fetchedItems = 0;
+      boolean exhausted = false;
+
+      for (int page = 1; page <= pageLimit; page++) {
+        if (System.nanoTime() - deadline >= 0) {
+          log.warn("Fetch time budget exhausted before page {}, stopping pagination", page);
+          pages.put(FetchedPage.TRUNCATED);
+          return;
+        }
+
+        ChzzkLiveResponse response = chzzkApiClient.getChzzkLive(nextCursor);
+        log.info(
+            "API Response - page {}: data={}, page={}",
+            page,
+            response != null && response.data() != null ? response.data().size() : "null",
+            response != null && response.page() != null ? response.page().next() : "null");
+
+        if (response == null || response.data() == null || response.data().isEmpty()) {
+          log.warn("Empty or null response at page {}, stopping pagination", page);
+          exhausted = true;
+          break;
+        }
 
-      allStreams.addAll(response.data());
+        nextCursor = response.page() != null ? response.page().next() : null;
+        pages.put(new FetchedPage(response.data(), null));
+        fetchedItems += response.data().size();
 
-      nextCursor = response.page() != null ? response.page().next() : null;
-      if (nextCursor == null || nextCursor.isEmpty()) {
-        log.info("No more pages, stopping at page {}", page + 1);
-        break;
+        if (nextCursor == null || nextCursor.isEmpty()) {
+          log.info("No more pages, stopping at page {}", page);
+          exhausted = true;
+          break;
+        }
+        if (isItemLimitReached(fetchedItems)) {
+          log.info("Item budget {} reached, stopping at page {}", fetchedItems, page);
+          break;
+        }
       }
+      pages.put(exhausted ? FetchedPage.END : FetchedPage.TRUNCATED);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Throwable e) {
+      // Error도 실패 페이지로 넘겨야 호출 스레드가 시간 예산까지 기다리지 않고 실패를 받음
+      publishFailure(pages, e);
     }
+  }
 
-    log.info("Fetched {} live streams from API", allStreams.size());
-    return allStreams;
+  private void publishFailure(BlockingQueue<FetchedPage> pages, Throwable error) {
+    try {
+      pages.put(new FetchedPage(List.of(), error));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
   }
+
+  private boolean isItemLimitReached(int fetchedItems) {
+    return fetchProperties.getMaxItems() > 0 && fetchedItems >= fetchProperties.getMaxItems();
+  }
+
+  /** 방송 수 예산을 넘는 부분을 잘라냅니다. */
+  private List<AllFieldLiveDto> withinItemLimit(List<AllFieldLiveDto> data, int collected) {
+    int maxItems = fetchProperties.getMaxItems();
+    if (maxItems <= 0 || collected + data.size() <= maxItems) {
+      return data;
+    }
+    return data.subList(0, Math.max(0, maxItems - collected));
+  }
+
+  /** 페치 스레드가 소비자에게 넘기는 페이지. error가 있으면 수집 실패를 의미합니다. */
+  private record FetchedPage(List<AllFieldLiveDto> data, Throwable error) {
+
+    /** 더 이상 페이지가 없음을 알리는 표식. */
+    private static final FetchedPage END = new FetchedPage(List.of(), null);
+
+    /** 예산이 끝나 남은 페이지를 받지 못했음을 알리는 표식. */
+    private static final FetchedPage TRUNCATED = new FetchedPage(List.of(), null);
+  }
+
+  /**
+   * 페이지 단위 수집 결과.
+   *
+   * @param fetched 소비자에게 넘긴 방송 수
+   * @param complete 마지막 페이지까지 받았으면 true, 페이지·방송 수·시간 예산이나 인터럽트로 다음 페이지를 남기고 멈췄으면 false
+   */
+  public record FetchResult(int fetched, boolean complete) {}
 }
@@ -0,0 +1,84 @@
+package com.vatti.chzscout.backend.stream.application;
+
+/**
+ * 크기가 제한된 문자열 인터닝 사전.
+ *
+ * <p>파서의 문자 버퍼를 그대로 받아 이미 등록된 문자열이면 새 String을 만들지 않고 기존 인스턴스를 반환합니다. 카테고리, 태그처럼 종류는 적고 반복이 많은
+ * 값에 사용하며, 갱신 사이클 사이에 재사용됩니다. 용량이 차면 더 이상 등록하지 않고 새 String을 반환합니다.
+ */
+public class StringInternPool {
+
+  /** 이보다 긴 문자열은 반복될 가능성이 낮으므로 등록하지 않습니다. */
+  static final int MAX_INTERN_LENGTH = 64;
+
+  private final int capacity;
+  private final String[] table;
+  private final int mask;
+  private int size;
+
+  /**
+   * @param capacity 등록할 수 있는 최대 문자열 수
+   */
+  public StringInternPool(int capacity) {
+    this.capacity = capacity;
+    int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+    this.table = new String[tableSize];
+    this.mask = tableSize - 1;
+  }
+
+  /**
+   * 문자 버퍼 구간에 해당하는 문자열을 반환합니다.
+   *
+   * @param chars 문자 버퍼
+   * @param offset 시작 위치
+   * @param length 길이
+   * @return 등록된 인스턴스, 없으면 새 String
+   */
+  public synchronized String intern(char[] chars, int offset, int length) {
+    if (length > MAX_INTERN_LENGTH) {
+      return new String(chars, offset, length);
+    }
+
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+
+    int slot = spread(hash) & mask;
+    String candidate;
+    while ((candidate = table[slot]) != null) {
+      if (candidate.hashCode() == hash && contentEquals(candidate, chars, offset, length)) {
+        return candidate;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    String value = new String(chars, offset, length);
+    if (size < capacity) {
+      table[slot] = value;
+      size++;
+    }
+    return value;
+  }
+
+  /** 등록된 문자열 수. */
+  public synchronized int size() {
+    return size;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean contentEquals(String candidate, char[] chars, int offset, int length) {
+    if (candidate.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (candidate.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,107 @@
+package com.vatti.chzscout.backend.stream.application.service;
+
+import com.vatti.chzscout.backend.stream.application.RisingStreamRanker;
+import com.vatti.chzscout.backend.stream.application.RisingStreamRanker.RisingScore;
+import com.vatti.chzscout.backend.stream.application.usecase.RisingStreamUseCase;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.RisingStream;
+import com.vatti.chzscout.backend.stream.domain.Stream;
+import com.vatti.chzscout.backend.stream.domain.event.StreamLeadershipLostEvent;
+import com.vatti.chzscout.backend.stream.infrastructure.history.ViewerHistoryStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshot;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshotCache;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 급상승 방송 서비스.
+ *
+ * <p>갱신을 실행하는 노드는 사이클마다 표본이 들어온 채널만 {@link RisingStreamRanker}에 반영해 두고, 조회는 상위 K개를 읽기만 합니다. 갱신을
+ * 실행하지 않는 노드는 스냅샷 버전마다 한 번 전체 이력으로 순위를 만들어 재사용합니다 (이력 저장소가 Redis일 때만 이력이 보임). 방송 정보는 고정한
+ * 스냅샷에서 읽으며, 그 사이 종료되어 스냅샷에 없는 방송은 제외합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RisingStreamService implements RisingStreamUseCase {
+
+  static final int MAX_LIMIT = 50;
+
+  // 최근 3개 표본 (전체 수집 주기 기준 약 6~30분) 구간의 증가 속도
+  private static final int WINDOW = 3;
+  private static final int MIN_VIEWERS = 30;
+
+  private final ViewerHistoryStore viewerHistoryStore;
+  private final StreamSnapshotCache streamSnapshotCache;
+
+  private final RisingStreamRanker ranker = new RisingStreamRanker(WINDOW, MIN_VIEWERS);
+  private volatile boolean fed;
+
+  /**
+   * 갱신 사이클에서 표본을 남긴 채널의 점수를 갱신합니다.
+   *
+   * @param sampledAt 표본 시각
+   * @param channelIds 표본을 남긴 채널
+   * @param fullCycle true면 이번 사이클에 받지 못한 채널을 종료로 보고 순위에서 뺌
+   */
+  public void onViewersRecorded(
+      Instant sampledAt, Collection<String> channelIds, boolean fullCycle) {
+    ranker.update(viewerHistoryStore.find(channelIds));
+    if (fullCycle) {
+      ranker.evictOlderThan(sampledAt.getEpochSecond());
+    }
+    fed = true;
+    log.debug("급상승 순위 갱신 - {}개 채널 반영, 순위 {}개", channelIds.size(), ranker.size());
+  }
+
+  /** 리더 자격을 잃으면 더 이상 표본이 들어오지 않으므로 순위를 비우고 전체 이력 기반 순위로 돌아갑니다. */
+  @EventListener(StreamLeadershipLostEvent.class)
+  public void onLeadershipLost() {
+    fed = false;
+    ranker.clear();
+    log.info("리더 상실 - 급상승 순위를 전체 이력 기준으로 전환");
+  }
+
+  @Override
+  public List<RisingStream> findRising(int limit) {
+    int effectiveLimit = Math.clamp(limit, 1, MAX_LIMIT);
+    StreamSnapshot snapshot = streamSnapshotCache.pin();
+    RisingStreamRanker source =
+        fed ? ranker : snapshot.derive(new RankingKey(), this::rankFromHistory);
+
+    List<RisingScore> top = source.top(effectiveLimit);
+    Map<String, EnrichedStreamDto> streams = new HashMap<>();
+    for (EnrichedStreamDto stream :
+        snapshot.findEnrichedStreams(top.stream().map(RisingScore::channelId).toList())) {
+      streams.putIfAbsent(stream.channelId(), stream);
+    }
+
+    List<RisingStream> rising = new ArrayList<>(top.size());
+    for (RisingScore score : top) {
+      EnrichedStreamDto stream = streams.get(score.channelId());
+      if (stream != null) {
+        rising.add(
+            new RisingStream(
+                Stream.from(stream), score.viewerDelta(), score.velocity(), score.acceleration()));
+      }
+    }
+    return rising;
+  }
+
+  private RisingStreamRanker rankFromHistory() {
+    RisingStreamRanker follower = new RisingStreamRanker(WINDOW, MIN_VIEWERS);
+    follower.update(viewerHistoryStore.findAll());
+    return follower;
+  }
+
+  /** 스냅샷에 저장하는 전체 이력 기반 순위의 키. */
+  private record RankingKey() {}
+}
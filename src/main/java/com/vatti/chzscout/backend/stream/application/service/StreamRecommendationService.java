@@ -1,9 +1,11 @@
 package com.vatti.chzscout.backend.stream.application.service;
 
 import com.vatti.chzscout.backend.stream.application.usecase.RecommendStreamUseCase;
-import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
 import com.vatti.chzscout.backend.stream.domain.Stream;
-import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.SearchableStream;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshot;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshotCache;
+import com.vatti.chzscout.backend.tag.domain.TagDictionary;
 import java.util.*;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,13 @@ import org.springframework.stereotype.Service;
 /**
  * 방송 추천 서비스.
  *
- * <p>의미 태그를 기반으로 Redis에 캐싱된 방송과 매칭하여 추천합니다.
+ * <p>의미 태그를 기반으로 Redis에 캐싱된 방송과 매칭하여 추천합니다. 점수는 모든 방송의 제목과 태그만 읽어 계산하고, 추천할 상위 방송만 전체 정보를
+ * 조회합니다. 요청마다 스냅샷을 하나로 고정하므로 점수를 매긴 방송과 반환하는 방송이 같은 버전이며, 같은 버전에서 같은 태그로 다시 요청하면 이전
+ * 결과를 재사용합니다.
+ *
+ * <p>방송 태그는 스냅샷 버전마다 그 스냅샷의 태그만 담은 {@link TagDictionary}를 만들어 정수 ID 배열로 바꿔 두고, 검색 태그마다 사전의
+ * 바이그램 색인으로 검색어를 포함하는 태그 ID 집합을 한 번 구한 뒤 방송별로는 ID가 집합에 있는지만 확인합니다. 사전은 스냅샷과 함께 버려지므로
+ * 지금 방송 중인 태그 수 이상으로 커지지 않습니다.
  *
  * <p>가중치 스코어링:
  *
@@ -28,7 +36,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StreamRecommendationService implements RecommendStreamUseCase {
 
-  private final StreamRedisStore streamRedisStore;
+  private final StreamSnapshotCache streamSnapshotCache;
 
   private static final int MAX_RECOMMENDATIONS = 5;
 
@@ -41,11 +49,30 @@ public class StreamRecommendationService implements RecommendStreamUseCase {
   public List<Stream> recommend(List<String> searchTags) {
     log.debug("방송 추천 요청 - tags: {}", searchTags);
 
-    List<EnrichedStreamDto> liveStreams = streamRedisStore.findEnrichedStreams();
+    StreamSnapshot snapshot = streamSnapshotCache.pin();
+    return snapshot.derive(
+        new RecommendationKey(new ArrayList<>(searchTags)), () -> recommend(snapshot, searchTags));
+  }
+
+  private List<Stream> recommend(StreamSnapshot snapshot, List<String> searchTags) {
+    List<SearchableStream> liveStreams = snapshot.searchable();
+    EncodedTags encodedTags = snapshot.derive(new EncodedTagsKey(), () -> encode(liveStreams));
+
+    List<BitSet> matchingTagIds = new ArrayList<>(searchTags.size());
+    for (String tag : searchTags) {
+      matchingTagIds.add(encodedTags.dictionary().idsContaining(tag));
+    }
 
     List<ScoredStream> scoredStreams = new ArrayList<>();
-    for (EnrichedStreamDto stream : liveStreams) {
-      int score = calculateMatchScore(stream, searchTags);
+    for (int i = 0; i < liveStreams.size(); i++) {
+      SearchableStream stream = liveStreams.get(i);
+      int score =
+          calculateMatchScore(
+              stream,
+              encodedTags.originalTagIds()[i],
+              encodedTags.enrichedTagIds()[i],
+              searchTags,
+              matchingTagIds);
       if (score > 0) {
         scoredStreams.add(new ScoredStream(stream, score));
       }
@@ -55,13 +82,18 @@ public class StreamRecommendationService implements RecommendStreamUseCase {
     scoredStreams.sort((a, b) -> b.score - a.score);
 
     int limit = Math.min(MAX_RECOMMENDATIONS, scoredStreams.size());
+    List<String> channelIds =
+        scoredStreams.subList(0, limit).stream().map(sc -> sc.stream.channelId()).toList();
     List<Stream> results =
-        scoredStreams.subList(0, limit).stream().map(sc -> Stream.from(sc.stream)).toList();
+        channelIds.isEmpty()
+            ? List.of()
+            : snapshot.findEnrichedStreams(channelIds).stream().map(Stream::from).toList();
 
     log.debug(
-        "추천 결과 - {}개 방송 (상위 점수: {})",
+        "추천 결과 - {}개 방송 (상위 점수: {}, 스냅샷 버전 {})",
         results.size(),
-        scoredStreams.isEmpty() ? 0 : scoredStreams.get(0).score);
+        scoredStreams.isEmpty() ? 0 : scoredStreams.get(0).score,
+        snapshot.version());
     return results;
   }
 
@@ -70,19 +102,23 @@ public class StreamRecommendationService implements RecommendStreamUseCase {
    *
    * <p>우선순위: 제목 > 원본 태그 > AI 태그
    */
-  private int calculateMatchScore(EnrichedStreamDto stream, List<String> searchTags) {
+  private int calculateMatchScore(
+      SearchableStream stream,
+      int[] originalTagIds,
+      int[] enrichedTagIds,
+      List<String> searchTags,
+      List<BitSet> matchingTagIds) {
     int score = 0;
-    Set<String> originalTagSet = new HashSet<>(stream.originalTags());
-    Set<String> enrichedTagSet = new HashSet<>(stream.enrichedTags());
 
-    for (String tag : searchTags) {
-      if (containsIgnoreCase(stream.liveTitle(), tag)) {
+    for (int i = 0; i < searchTags.size(); i++) {
+      BitSet matching = matchingTagIds.get(i);
+      if (containsIgnoreCase(stream.liveTitle(), searchTags.get(i))) {
         // 1순위: 제목에 직접 포함
         score += TITLE_MATCH_WEIGHT;
-      } else if (containsIgnoreCase(originalTagSet, tag)) {
+      } else if (containsAny(originalTagIds, matching)) {
         // 2순위: 원본 태그에 포함
         score += ORIGINAL_TAG_WEIGHT;
-      } else if (containsIgnoreCase(enrichedTagSet, tag)) {
+      } else if (containsAny(enrichedTagIds, matching)) {
         // 3순위: AI 태그에만 포함
         score += AI_TAG_WEIGHT;
       }
@@ -97,16 +133,41 @@ public class StreamRecommendationService implements RecommendStreamUseCase {
     return text.toLowerCase().contains(search.toLowerCase());
   }
 
-  /** 대소문자 무시 Set 포함 검사 */
-  private boolean containsIgnoreCase(Set<String> tags, String search) {
-    if (tags == null || search == null) return false;
-    String lowerSearch = search.toLowerCase();
-    return tags.stream().anyMatch(tag -> tag.toLowerCase().contains(lowerSearch));
+  /** 태그 ID 중 하나라도 검색어를 포함하는 태그인지 검사 */
+  private boolean containsAny(int[] tagIds, BitSet matching) {
+    for (int tagId : tagIds) {
+      if (matching.get(tagId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 스냅샷의 모든 방송 태그로 사전을 만들고 방송별 ID 배열로 바꿉니다. */
+  private EncodedTags encode(List<SearchableStream> liveStreams) {
+    TagDictionary tagDictionary = new TagDictionary();
+    int[][] originalTagIds = new int[liveStreams.size()][];
+    int[][] enrichedTagIds = new int[liveStreams.size()][];
+    for (int i = 0; i < liveStreams.size(); i++) {
+      originalTagIds[i] = tagDictionary.encode(liveStreams.get(i).originalTags());
+      enrichedTagIds[i] = tagDictionary.encode(liveStreams.get(i).enrichedTags());
+    }
+    return new EncodedTags(tagDictionary, originalTagIds, enrichedTagIds);
   }
 
+  /** 스냅샷에 저장하는 추천 결과의 키. */
+  private record RecommendationKey(List<String> searchTags) {}
+
+  /** 스냅샷에 저장하는 방송 태그 ID 배열의 키. */
+  private record EncodedTagsKey() {}
+
+  /** 스냅샷 전용 사전과, 방송 순서대로 원본 태그와 AI 태그의 ID 배열. */
+  private record EncodedTags(
+      TagDictionary dictionary, int[][] originalTagIds, int[][] enrichedTagIds) {}
+
   @AllArgsConstructor
   private static class ScoredStream {
-    EnrichedStreamDto stream;
+    SearchableStream stream;
     int score;
   }
 }
@@ -0,0 +1,20 @@
+package com.vatti.chzscout.backend.stream.application.usecase;
+
+import com.vatti.chzscout.backend.stream.domain.RisingStream;
+import java.util.List;
+
+/**
+ * 급상승 방송 UseCase.
+ *
+ * <p>갱신 사이클마다 남긴 시청자 수 이력으로 미리 계산한 순위를 조회합니다.
+ */
+public interface RisingStreamUseCase {
+
+  /**
+   * 시청자 수가 빠르게 늘고 있는 방송을 조회합니다.
+   *
+   * @param limit 최대 개수
+   * @return 상승 점수 내림차순 방송 목록
+   */
+  List<RisingStream> findRising(int limit);
+}
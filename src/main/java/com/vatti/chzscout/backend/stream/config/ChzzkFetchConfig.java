@@ -0,0 +1,37 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import com.vatti.chzscout.backend.stream.application.StringInternPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 치지직 생방송 목록 수집 설정. */
+@Configuration
+public class ChzzkFetchConfig {
+
+  /**
+   * 페이지 수집 전용 Virtual Thread Executor.
+   *
+   * <p>커서 요청은 응답 대기 시간이 대부분이므로 Virtual Thread에서 실행하고, 호출 스레드는 받은 페이지를 처리합니다.
+   *
+   * @return Virtual Thread 기반 ExecutorService
+   */
+  @Bean(name = "chzzkFetchExecutor", destroyMethod = "shutdown")
+  public ExecutorService chzzkFetchExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  /**
+   * 카테고리·태그 문자열 인터닝 사전.
+   *
+   * <p>응답 디코더와 Redis 방송 저장소가 함께 사용하므로, API에서 받은 태그와 Redis에서 다시 읽은 태그가 같은 인스턴스를 공유합니다.
+   *
+   * @param fetchProperties 사전 크기({@code chzzk.fetch.intern-capacity})
+   * @return 갱신 사이클 사이에 유지되는 인터닝 사전
+   */
+  @Bean
+  public StringInternPool stringInternPool(ChzzkFetchProperties fetchProperties) {
+    return new StringInternPool(fetchProperties.getInternCapacity());
+  }
+}
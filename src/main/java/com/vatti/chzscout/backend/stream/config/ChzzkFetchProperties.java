@@ -0,0 +1,43 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 치지직 생방송 목록 수집 예산 프로퍼티.
+ *
+ * <p>application.yml의 chzzk.fetch 설정을 바인딩합니다. 페이지 수, 방송 수, 소요 시간 중 먼저 도달한 예산에서 수집을 멈춥니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "chzzk.fetch")
+@Validated
+@Getter
+@Setter
+public class ChzzkFetchProperties {
+
+  /** 한 번의 수집에서 요청할 최대 페이지 수. */
+  @Min(value = 1, message = "최대 페이지 수는 1 이상이어야 합니다")
+  private int maxPages = 10;
+
+  /** 한 번의 수집에서 모을 최대 방송 수 (0이면 제한 없음). */
+  @Min(value = 0, message = "최대 방송 수는 0 이상이어야 합니다")
+  private int maxItems = 0;
+
+  /** 한 번의 수집에 허용되는 최대 소요 시간. 초과하면 그때까지 받은 페이지만 반환합니다. */
+  @NotNull(message = "수집 시간 예산은 필수입니다")
+  private Duration timeBudget = Duration.ofSeconds(30);
+
+  /** 페치 스레드가 소비자보다 앞서 받아둘 수 있는 최대 페이지 수. */
+  @Min(value = 1, message = "선행 페이지 수는 1 이상이어야 합니다")
+  private int prefetchPages = 2;
+
+  /** 응답 디코딩과 Redis 조회에서 카테고리와 태그를 인터닝할 최대 문자열 수 (갱신 사이클 사이에 유지). */
+  @Min(value = 1, message = "인터닝 사전 크기는 1 이상이어야 합니다")
+  private int internCapacity = 8192;
+}
@@ -0,0 +1,30 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamFingerprint;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 방송 변경 감지 프로퍼티.
+ *
+ * <p>application.yml의 stream.change 설정을 바인딩합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stream.change")
+@Validated
+@Getter
+@Setter
+public class StreamChangeProperties {
+
+  /**
+   * 제목 유사도 기준 (0~1). 이전 제목과 이 값 이상 비슷하면 제목 변경으로 보지 않습니다. 숫자, 이모지, 문장부호만 바뀐 제목은 항상 같은 제목으로 봅니다.
+   */
+  @DecimalMin(value = "0.0", message = "제목 유사도 기준은 0 이상이어야 합니다")
+  @DecimalMax(value = "1.0", message = "제목 유사도 기준은 1 이하여야 합니다")
+  private double titleSimilarity = StreamFingerprint.DEFAULT_TITLE_SIMILARITY;
+}
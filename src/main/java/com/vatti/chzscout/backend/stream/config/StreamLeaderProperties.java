@@ -0,0 +1,33 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 생방송 갱신 리더 선출 프로퍼티.
+ *
+ * <p>application.yml의 stream.leader 설정을 바인딩합니다. 여러 인스턴스 중 Redis 리스를 가진 노드만 수집과 임베딩 동기화를 실행합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stream.leader")
+@Validated
+@Getter
+@Setter
+public class StreamLeaderProperties {
+
+  /** 리더 선출 사용 여부. 끄면 모든 노드가 리더로 동작합니다 (단일 인스턴스용). */
+  private boolean enabled = true;
+
+  /** 리스 유효 시간. 리더가 이 시간 동안 갱신하지 못하면 다른 노드가 넘겨받습니다. */
+  @NotNull(message = "리스 유효 시간은 필수입니다")
+  private Duration leaseTtl = Duration.ofSeconds(30);
+
+  /** 리스 갱신 및 획득 시도 주기. 리스 유효 시간보다 충분히 짧아야 합니다. */
+  @NotNull(message = "리스 갱신 주기는 필수입니다")
+  private Duration renewInterval = Duration.ofSeconds(10);
+}
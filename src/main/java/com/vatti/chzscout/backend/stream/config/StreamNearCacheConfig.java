@@ -0,0 +1,37 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshotCache;
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/** 방송 스냅샷 로컬 캐시 설정. */
+@Configuration
+@ConditionalOnProperty(prefix = "stream.near-cache", name = "enabled", matchIfMissing = true)
+public class StreamNearCacheConfig {
+
+  /**
+   * 스냅샷 버전 알림 구독 컨테이너.
+   *
+   * <p>리더가 방송 목록을 쓰면 Lua 스크립트가 새 버전을 발행하고, 모든 노드의 로컬 캐시가 이 알림으로 스냅샷을 다시 읽습니다.
+   *
+   * @return 스냅샷 채널을 구독하는 리스너 컨테이너
+   */
+  @Bean
+  public RedisMessageListenerContainer streamSnapshotListenerContainer(
+      RedisConnectionFactory connectionFactory, StreamSnapshotCache streamSnapshotCache) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        (message, pattern) ->
+            streamSnapshotCache.onVersionPublished(
+                Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))),
+        new ChannelTopic(StreamRedisStore.SNAPSHOT_CHANNEL));
+    return container;
+  }
+}
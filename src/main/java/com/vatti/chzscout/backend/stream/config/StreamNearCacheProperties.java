@@ -0,0 +1,30 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 방송 스냅샷 로컬 캐시 프로퍼티.
+ *
+ * <p>application.yml의 stream.near-cache 설정을 바인딩합니다. 추천 조회는 JVM에 올려 둔 스냅샷을 읽고, 스냅샷 버전이 바뀌면 Redis
+ * pub/sub 알림으로 다시 읽습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stream.near-cache")
+@Validated
+@Getter
+@Setter
+public class StreamNearCacheProperties {
+
+  /** 로컬 캐시 사용 여부. 끄면 매 조회마다 Redis에서 읽습니다. */
+  private boolean enabled = true;
+
+  /** 이 시간이 지나면 알림을 놓쳤을 경우를 대비해 Redis의 스냅샷 버전을 다시 확인합니다. */
+  @NotNull(message = "스냅샷 최대 지연 시간은 필수입니다")
+  private Duration maxStaleness = Duration.ofSeconds(30);
+}
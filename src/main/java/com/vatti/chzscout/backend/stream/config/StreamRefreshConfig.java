@@ -0,0 +1,23 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** 생방송 캐시 갱신 설정. */
+@Configuration
+public class StreamRefreshConfig {
+
+  /**
+   * 갱신 단계 실행용 Virtual Thread Executor.
+   *
+   * <p>태그 DB 저장, Redis 저장, 임베딩 API 호출처럼 대기 시간이 대부분인 단계를 동시에 실행합니다.
+   *
+   * @return Virtual Thread 기반 ExecutorService
+   */
+  @Bean(name = "streamRefreshExecutor", destroyMethod = "shutdown")
+  public ExecutorService streamRefreshExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+}
@@ -0,0 +1,60 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 생방송 캐시 갱신 주기 프로퍼티.
+ *
+ * <p>application.yml의 stream.refresh 설정을 바인딩합니다. 전체 수집은 직전 갱신의 변경량(신규 + 변경 + 종료)이 많을수록 최소 주기에, 적을수록
+ * 최대 주기에 가까워집니다. 그 사이에 앞쪽 페이지만 짧은 주기로 부분 갱신합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stream.refresh")
+@Validated
+@Getter
+@Setter
+public class StreamRefreshProperties {
+
+  /** 첫 갱신 이후 변경량을 알기 전까지 사용할 주기. 갱신 실패 시에도 직전 주기를 유지합니다. */
+  @NotNull(message = "초기 갱신 주기는 필수입니다")
+  private Duration initialInterval = Duration.ofMinutes(10);
+
+  /** 변경이 많을 때의 최소 갱신 주기. */
+  @NotNull(message = "최소 갱신 주기는 필수입니다")
+  private Duration minInterval = Duration.ofMinutes(2);
+
+  /** 변경이 없을 때의 최대 갱신 주기. 지터를 더해도 캐시 TTL(15분)보다 짧아야 합니다. */
+  @NotNull(message = "최대 갱신 주기는 필수입니다")
+  private Duration maxInterval = Duration.ofMinutes(12);
+
+  /** 이 값 이상 변경되면 최소 주기로 갱신합니다. */
+  @Min(value = 1, message = "변경량 기준값은 1 이상이어야 합니다")
+  private int highChurnThreshold = 200;
+
+  /** 변경량 지수 평활 계수 (1이면 직전 갱신만 반영). */
+  @DecimalMin(value = "0.0", inclusive = false, message = "평활 계수는 0보다 커야 합니다")
+  @DecimalMax(value = "1.0", message = "평활 계수는 1 이하여야 합니다")
+  private double smoothing = 0.5;
+
+  /** 주기에 더하거나 뺄 무작위 비율 (여러 노드의 동시 호출 방지). */
+  @DecimalMin(value = "0.0", message = "지터 비율은 0 이상이어야 합니다")
+  @DecimalMax(value = "0.5", message = "지터 비율은 0.5 이하여야 합니다")
+  private double jitterRatio = 0.1;
+
+  /** 부분 갱신에서 요청할 앞쪽 페이지 수 (0이면 부분 갱신 안 함). */
+  @Min(value = 0, message = "부분 갱신 페이지 수는 0 이상이어야 합니다")
+  private int lightPages = 2;
+
+  /** 부분 갱신 주기. */
+  @NotNull(message = "부분 갱신 주기는 필수입니다")
+  private Duration lightInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,50 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 생방송 로컬 스냅샷 프로퍼티.
+ *
+ * <p>application.yml의 stream.snapshot 설정을 바인딩합니다. 전체 수집이 성공할 때마다 방송 목록과 해시를 로컬 파일에 남기고, 재시작
+ * 시 Redis가 비어 있으면 이 파일로 먼저 복원합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stream.snapshot")
+@Validated
+@Getter
+@Setter
+public class StreamSnapshotProperties {
+
+  /** 로컬 스냅샷 사용 여부. */
+  private boolean enabled = true;
+
+  /** 스냅샷 파일 경로. */
+  @NotBlank(message = "스냅샷 파일 경로는 필수입니다")
+  private String path = "data/stream-snapshot.bin";
+
+  /** 이보다 오래된 스냅샷은 복원하지 않습니다. */
+  @NotNull(message = "스냅샷 최대 보관 시간은 필수입니다")
+  private Duration maxAge = Duration.ofMinutes(30);
+
+  /** 방송 목록 직렬화 형식. 읽을 때는 형식을 판별하므로 바꿔도 이전 스냅샷을 복원합니다. */
+  @NotNull(message = "스냅샷 코덱은 필수입니다")
+  private Codec codec = Codec.BINARY;
+
+  /** 바이너리 코덱의 본문 Deflate 압축 여부. */
+  private boolean compression = true;
+
+  /** 스냅샷 코덱 종류. */
+  public enum Codec {
+    /** 문자열 사전을 쓰는 길이 접두 바이너리. */
+    BINARY,
+    /** 파일을 직접 열어 볼 수 있는 디버깅용 JSON. */
+    JSON
+  }
+}
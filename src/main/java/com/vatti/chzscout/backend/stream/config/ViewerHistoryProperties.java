@@ -0,0 +1,46 @@
+package com.vatti.chzscout.backend.stream.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 시청자 수 이력 프로퍼티.
+ *
+ * <p>application.yml의 stream.viewer-history 설정을 바인딩합니다. 갱신 사이클마다 방송의 시청자 수를 채널별 최근 samples개까지
+ * 남깁니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "stream.viewer-history")
+@Validated
+@Getter
+@Setter
+public class ViewerHistoryProperties {
+
+  /** 시청자 수 이력 사용 여부. */
+  private boolean enabled = true;
+
+  /** 이력 저장 위치. MEMORY는 리더 선출을 끈 단일 인스턴스에서만 사용할 수 있습니다. */
+  @NotNull(message = "시청자 수 이력 저장 위치는 필수입니다")
+  private Backend backend = Backend.REDIS;
+
+  /** 채널마다 남길 표본 수. */
+  @Min(value = 2, message = "시청자 수 표본은 2개 이상이어야 합니다")
+  private int samples = 30;
+
+  /** 메모리 저장소에 이력을 남길 최대 채널 수. 넘으면 새 채널은 남기지 않습니다. */
+  @Min(value = 1, message = "시청자 수 이력 채널 수는 1 이상이어야 합니다")
+  private int maxChannels = 20000;
+
+  /** 이력 저장 위치 종류. */
+  public enum Backend {
+    /** 수집하는 리더 노드의 JVM 메모리. 다른 노드는 조회할 수 없습니다. */
+    MEMORY,
+    /** 모든 노드가 조회할 수 있는 Redis 해시 (채널마다 표본을 이어 붙인 바이너리). */
+    REDIS
+  }
+}
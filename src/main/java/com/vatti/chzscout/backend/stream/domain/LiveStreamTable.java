@@ -0,0 +1,228 @@
+package com.vatti.chzscout.backend.stream.domain;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * 한 갱신 사이클에 수집한 방송의 열 단위 표.
+ *
+ * <p>방송마다 {@link EnrichedStreamDto}와 태그 리스트, 시청자 수 Integer를 만들어 두는 대신 필드별 배열에 담습니다. 카테고리와 태그는 표 안의
+ * 사전 번호(int)로, 방송별 태그는 하나의 int 배열과 시작 위치 배열로 저장합니다. {@link #asEnrichedStreams()}는 복사본이 아니라 이
+ * 배열을 읽는 뷰이며, 행을 읽을 때만 레코드를 만들고 태그 리스트도 배열을 그대로 읽습니다.
+ *
+ * <p>수집 중에는 한 스레드가 {@link #add(AllFieldLiveDto)}로 채우고, 다 채운 뒤에는 여러 스레드가 읽기만 합니다.
+ */
+public class LiveStreamTable {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int NULL_ID = -1;
+  private static final int NULL_VIEWERS = Integer.MIN_VALUE;
+
+  private final List<String> dictionary = new ArrayList<>();
+  private final Map<String, Integer> dictionaryIds = new HashMap<>();
+
+  private int size;
+  private int[] liveIds;
+  private String[] channelIds;
+  private String[] liveTitles;
+  private String[] thumbnailUrls;
+  private int[] viewers;
+  private String[] channelNames;
+  private int[] categoryIds;
+  // 행 i의 태그는 tagIds[tagOffsets[i], tagOffsets[i + 1])
+  private int[] tagOffsets;
+  private int[] tagIds;
+  private int tagCount;
+
+  private final List<EnrichedStreamDto> enrichedView = new EnrichedStreamView();
+
+  public LiveStreamTable() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize 예상 방송 수 (재할당 없이 담을 수 있는 수)
+   */
+  public LiveStreamTable(int expectedSize) {
+    int capacity = Math.max(expectedSize, MIN_CAPACITY);
+    liveIds = new int[capacity];
+    channelIds = new String[capacity];
+    liveTitles = new String[capacity];
+    thumbnailUrls = new String[capacity];
+    viewers = new int[capacity];
+    channelNames = new String[capacity];
+    categoryIds = new int[capacity];
+    tagOffsets = new int[capacity + 1];
+    tagIds = new int[capacity * 4];
+  }
+
+  /**
+   * 방송을 한 행으로 추가합니다. 태그는 {@link EnrichedStreamDto#fromWithoutAi}와 같이 카테고리(비어 있지 않으면)와 원본 태그 순입니다.
+   *
+   * @param stream 치지직 API 원본 데이터
+   */
+  public void add(AllFieldLiveDto stream) {
+    if (size == liveIds.length) {
+      grow(size * 2);
+    }
+    int row = size;
+    Integer liveId = stream.liveId();
+    Integer viewerCount = stream.concurrentUserCount();
+    String category = stream.liveCategoryValue();
+    liveIds[row] = liveId != null ? liveId : 0;
+    channelIds[row] = stream.channelId();
+    liveTitles[row] = stream.liveTitle();
+    thumbnailUrls[row] = stream.liveThumbnailImageUrl();
+    viewers[row] = viewerCount != null ? viewerCount : NULL_VIEWERS;
+    channelNames[row] = stream.channelName();
+    categoryIds[row] = idOf(category);
+
+    if (category != null && !category.isBlank()) {
+      addTag(categoryIds[row]);
+    }
+    if (stream.tags() != null) {
+      for (String tag : stream.tags()) {
+        addTag(idOf(tag));
+      }
+    }
+    tagOffsets[row + 1] = tagCount;
+    size++;
+  }
+
+  /** 방송 수. */
+  public int size() {
+    return size;
+  }
+
+  /** 사전에 등록된 카테고리와 태그 종류 수. */
+  public int dictionarySize() {
+    return dictionary.size();
+  }
+
+  public String channelId(int row) {
+    return channelIds[checkRow(row)];
+  }
+
+  /** 시청자 수, 없으면 null. */
+  public Integer concurrentUserCount(int row) {
+    int count = viewers[checkRow(row)];
+    return count != NULL_VIEWERS ? count : null;
+  }
+
+  /**
+   * 행을 EnrichedStreamDto로 읽습니다. AI 태그가 없으므로 enrichedTags는 originalTags와 같은 리스트입니다.
+   *
+   * @param row 행 번호
+   * @return 문자열은 공유하고 태그 리스트는 표를 읽는 뷰인 레코드
+   */
+  public EnrichedStreamDto enrichedStream(int row) {
+    checkRow(row);
+    List<String> tags = new TagView(tagOffsets[row], tagOffsets[row + 1]);
+    return new EnrichedStreamDto(
+        liveIds[row],
+        channelIds[row],
+        liveTitles[row],
+        thumbnailUrls[row],
+        concurrentUserCount(row),
+        channelNames[row],
+        valueOf(categoryIds[row]),
+        tags,
+        tags);
+  }
+
+  /**
+   * 모든 행을 저장 순서대로 읽는 목록 뷰.
+   *
+   * @return 표에 행이 추가되면 함께 늘어나는 읽기 전용 목록
+   */
+  public List<EnrichedStreamDto> asEnrichedStreams() {
+    return enrichedView;
+  }
+
+  private void addTag(int id) {
+    if (tagCount == tagIds.length) {
+      tagIds = Arrays.copyOf(tagIds, tagCount * 2);
+    }
+    tagIds[tagCount++] = id;
+  }
+
+  private int idOf(String value) {
+    if (value == null) {
+      return NULL_ID;
+    }
+    Integer id = dictionaryIds.get(value);
+    if (id == null) {
+      id = dictionary.size();
+      dictionary.add(value);
+      dictionaryIds.put(value, id);
+    }
+    return id;
+  }
+
+  private String valueOf(int id) {
+    return id != NULL_ID ? dictionary.get(id) : null;
+  }
+
+  private int checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+    }
+    return row;
+  }
+
+  private void grow(int capacity) {
+    liveIds = Arrays.copyOf(liveIds, capacity);
+    channelIds = Arrays.copyOf(channelIds, capacity);
+    liveTitles = Arrays.copyOf(liveTitles, capacity);
+    thumbnailUrls = Arrays.copyOf(thumbnailUrls, capacity);
+    viewers = Arrays.copyOf(viewers, capacity);
+    channelNames = Arrays.copyOf(channelNames, capacity);
+    categoryIds = Arrays.copyOf(categoryIds, capacity);
+    tagOffsets = Arrays.copyOf(tagOffsets, capacity + 1);
+  }
+
+  /** 표의 행을 읽는 목록 뷰. */
+  private final class EnrichedStreamView extends AbstractList<EnrichedStreamDto>
+      implements RandomAccess {
+
+    @Override
+    public EnrichedStreamDto get(int index) {
+      return enrichedStream(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /** 한 행의 태그 구간을 읽는 목록 뷰. */
+  private final class TagView extends AbstractList<String> implements RandomAccess {
+
+    private final int from;
+    private final int to;
+
+    private TagView(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public String get(int index) {
+      if (index < 0 || index >= to - from) {
+        throw new IndexOutOfBoundsException("Tag " + index + " out of " + (to - from));
+      }
+      return valueOf(tagIds[from + index]);
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
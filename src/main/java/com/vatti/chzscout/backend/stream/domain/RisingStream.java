@@ -0,0 +1,11 @@
+package com.vatti.chzscout.backend.stream.domain;
+
+/**
+ * 시청자 수가 빠르게 늘고 있는 방송.
+ *
+ * @param stream 방송 정보
+ * @param viewerDelta 최근 비교 구간 동안 늘어난 시청자 수
+ * @param velocity 분당 시청자 증가 수
+ * @param acceleration 분당 증가 수의 변화량 (분당), 양수면 점점 빠르게 늘고 있음
+ */
+public record RisingStream(Stream stream, int viewerDelta, double velocity, double acceleration) {}
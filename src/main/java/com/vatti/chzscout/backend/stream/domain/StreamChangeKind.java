@@ -0,0 +1,53 @@
+package com.vatti.chzscout.backend.stream.domain;
+
+/**
+ * 방송 변경 종류.
+ *
+ * <p>변경 감지 결과는 방송마다 이 종류들의 비트마스크({@link #bit()}의 합)를 가집니다. 후속 작업은 자신에게 필요한 종류만 구독하여, 예를 들어 시청자 수
+ * 구간만 바뀐 방송으로는 임베딩을 다시 만들거나 알림을 평가하지 않습니다.
+ */
+public enum StreamChangeKind {
+
+  /** 이전 사이클에 없던 방송. */
+  NEW,
+  /** 의미 있는 제목 변경 (숫자, 이모지, 문장부호만 바뀐 경우나 유사도 기준 이상인 경우 제외). */
+  TITLE,
+  /** 기존 태그 변경. */
+  TAGS,
+  /** 카테고리 변경. */
+  CATEGORY,
+  /** 성인 방송 여부 변경. */
+  ADULT,
+  /** 시청자 수 구간 변경. */
+  VIEWER_BUCKET;
+
+  /** 제목, 태그, 카테고리 변경 (임베딩 텍스트가 바뀌는 변경). */
+  public static final int CONTENT = mask(TITLE, TAGS, CATEGORY);
+
+  /** 모든 종류. 종류를 알 수 없는 변경에 사용합니다. */
+  public static final int ALL = (1 << values().length) - 1;
+
+  /** 이 종류의 비트. */
+  public int bit() {
+    return 1 << ordinal();
+  }
+
+  /** 이 종류가 마스크에 포함되는지 확인합니다. */
+  public boolean in(int mask) {
+    return (mask & bit()) != 0;
+  }
+
+  /**
+   * 종류들의 비트마스크.
+   *
+   * @param kinds 변경 종류
+   * @return 비트 합
+   */
+  public static int mask(StreamChangeKind... kinds) {
+    int mask = 0;
+    for (StreamChangeKind kind : kinds) {
+      mask |= kind.bit();
+    }
+    return mask;
+  }
+}
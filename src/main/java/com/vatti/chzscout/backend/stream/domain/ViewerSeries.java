@@ -0,0 +1,103 @@
+package com.vatti.chzscout.backend.stream.domain;
+
+/**
+ * 한 채널의 시청자 수 표본.
+ *
+ * <p>수집 사이클마다 남긴 시청자 수를 오래된 순으로 담습니다. 표본 간격은 갱신 주기에 따라 달라지므로 추세는 표본 수가 아니라 {@link
+ * #elapsedSeconds(int)}로 나눠 비교합니다. 배열은 복사하여 받으므로 불변입니다.
+ */
+public final class ViewerSeries {
+
+  private final String channelId;
+  private final long[] sampledAt;
+  private final int[] viewers;
+
+  /**
+   * @param channelId 채널 ID
+   * @param sampledAt 표본 시각 (epoch 초, 오래된 순)
+   * @param viewers 표본 시각의 시청자 수
+   */
+  public ViewerSeries(String channelId, long[] sampledAt, int[] viewers) {
+    if (sampledAt.length != viewers.length || viewers.length == 0) {
+      throw new IllegalArgumentException("Series needs the same non-zero number of samples");
+    }
+    this.channelId = channelId;
+    this.sampledAt = sampledAt.clone();
+    this.viewers = viewers.clone();
+  }
+
+  public String channelId() {
+    return channelId;
+  }
+
+  /** 표본 수. */
+  public int size() {
+    return viewers.length;
+  }
+
+  /** 가장 최근 시청자 수. */
+  public int latest() {
+    return viewers[viewers.length - 1];
+  }
+
+  /** 가장 최근 표본 시각 (epoch 초). */
+  public long latestAt() {
+    return sampledAt[sampledAt.length - 1];
+  }
+
+  /** i번째 표본의 시청자 수 (0이 가장 오래됨). */
+  public int viewersAt(int index) {
+    return viewers[index];
+  }
+
+  /** i번째 표본 시각 (epoch 초, 0이 가장 오래됨). */
+  public long sampledAt(int index) {
+    return sampledAt[index];
+  }
+
+  /**
+   * 최근 window개 표본 전보다 늘어난 시청자 수를 계산합니다. 표본이 부족하면 가장 오래된 표본과 비교합니다.
+   *
+   * @param window 비교할 표본 간격 (1 이상)
+   * @return 최근 값 - 비교 표본 값
+   */
+  public int delta(int window) {
+    return latest() - viewers[baseIndex(window)];
+  }
+
+  /**
+   * {@link #delta(int)}의 두 표본 사이 시간.
+   *
+   * @param window 비교할 표본 간격 (1 이상)
+   * @return 경과 초, 표본이 하나뿐이면 0
+   */
+  public long elapsedSeconds(int window) {
+    return latestAt() - sampledAt[baseIndex(window)];
+  }
+
+  /**
+   * 최근 window개 표본의 평균 시청자 수. 표본이 부족하면 있는 표본만 평균합니다.
+   *
+   * @param window 평균할 표본 수 (1 이상)
+   * @return 이동 평균
+   */
+  public double movingAverage(int window) {
+    int from = Math.max(0, viewers.length - requirePositive(window));
+    long sum = 0;
+    for (int i = from; i < viewers.length; i++) {
+      sum += viewers[i];
+    }
+    return (double) sum / (viewers.length - from);
+  }
+
+  private int baseIndex(int window) {
+    return Math.max(0, viewers.length - 1 - requirePositive(window));
+  }
+
+  private static int requirePositive(int window) {
+    if (window < 1) {
+      throw new IllegalArgumentException("Window must be positive: " + window);
+    }
+    return window;
+  }
+}
@@ -0,0 +1,10 @@
+package com.vatti.chzscout.backend.stream.domain.event;
+
+/**
+ * 생방송 갱신 리더 획득 이벤트.
+ *
+ * <p>이 노드가 Redis 리스를 새로 획득했을 때 발행되며, 스케줄러가 대기 중인 갱신을 바로 실행하도록 합니다.
+ *
+ * @param fencingToken 획득한 리스의 펜싱 토큰
+ */
+public record StreamLeadershipAcquiredEvent(long fencingToken) {}
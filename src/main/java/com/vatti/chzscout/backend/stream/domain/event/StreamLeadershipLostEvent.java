@@ -0,0 +1,10 @@
+package com.vatti.chzscout.backend.stream.domain.event;
+
+/**
+ * 생방송 갱신 리더 상실 이벤트.
+ *
+ * <p>이 노드가 가지고 있던 Redis 리스를 다른 노드에 넘겼거나 갱신하지 못해 만료되었을 때 발행되며, 리더 노드에서만 채우던 상태를 비우도록 합니다.
+ *
+ * @param fencingToken 잃은 리스의 펜싱 토큰
+ */
+public record StreamLeadershipLostEvent(long fencingToken) {}
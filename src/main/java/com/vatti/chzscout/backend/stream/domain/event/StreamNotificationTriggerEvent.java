@@ -1,12 +1,51 @@
 package com.vatti.chzscout.backend.stream.domain.event;
 
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * 스트림 알림 트리거 이벤트.
  *
- * <p>스트림 캐시 갱신 완료 후 발행되며, memberTag와 현재 방송 태그를 대조하여 매칭되는 유저에게 알림을 발송하는 작업을 트리거합니다.
+ * <p>스트림 캐시 갱신 완료 후 발행되며, memberTag와 현재 방송 태그를 대조하여 매칭되는 유저에게 알림을 발송하는 작업을 트리거합니다. 리스너는 {@link
+ * #changedChannelIds(int)}로 필요한 변경 종류만 골라 사용합니다.
  *
- * @param changedChannelIds 신규 또는 변경된 방송의 channelId 집합
+ * @param changeMasks 신규 또는 변경된 방송의 channelId → {@link StreamChangeKind} 비트마스크
  */
-public record StreamNotificationTriggerEvent(Set<String> changedChannelIds) {}
+public record StreamNotificationTriggerEvent(Map<String, Integer> changeMasks) {
+
+  /** 바뀐 종류를 모르는 방송으로 이벤트를 만듭니다. 모든 종류가 바뀐 것으로 봅니다. */
+  public StreamNotificationTriggerEvent(Set<String> changedChannelIds) {
+    this(allKinds(changedChannelIds));
+  }
+
+  /** 신규 또는 변경된 모든 channelId. */
+  public Set<String> changedChannelIds() {
+    return changeMasks.keySet();
+  }
+
+  /**
+   * 구독한 종류 중 하나라도 해당하는 channelId를 반환합니다.
+   *
+   * @param kinds {@link StreamChangeKind} 비트마스크
+   * @return 해당하는 channelId
+   */
+  public Set<String> changedChannelIds(int kinds) {
+    Set<String> ids = new HashSet<>();
+    changeMasks.forEach(
+        (channelId, mask) -> {
+          if ((mask & kinds) != 0) {
+            ids.add(channelId);
+          }
+        });
+    return ids;
+  }
+
+  private static Map<String, Integer> allKinds(Set<String> channelIds) {
+    Map<String, Integer> masks = new HashMap<>();
+    channelIds.forEach(channelId -> masks.put(channelId, StreamChangeKind.ALL));
+    return masks;
+  }
+}
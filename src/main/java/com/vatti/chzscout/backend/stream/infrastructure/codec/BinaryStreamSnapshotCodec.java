@@ -0,0 +1,315 @@
+package com.vatti.chzscout.backend.stream.infrastructure.codec;
+
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * EnrichedStreamDto 목록의 바이너리 코덱.
+ *
+ * <p>필드 이름 없이 정해진 순서로 길이 접두 값을 쓰고, 카테고리와 태그는 본문 앞의 문자열 사전 번호로 씁니다. enrichedTags가
+ * originalTags와 같거나 originalTags로 시작하면 겹치는 부분은 다시 쓰지 않으며, 읽을 때 같은 목록은 인스턴스 하나를 공유합니다.
+ *
+ * <p>구조: magic(2), version(1), flags(1), 본문. 본문은 사전 크기, (문자열) 반복, 방송 수, 방송 반복이고 압축을 켜면 본문 전체를
+ * Deflate로 압축합니다. 정수는 varint로, null이 될 수 있는 값은 0을 null로 두고 1을 더해 씁니다.
+ */
+public class BinaryStreamSnapshotCodec implements StreamSnapshotCodec {
+
+  static final int MAGIC = 0x4353; // "CS"
+  static final int VERSION = 1;
+  private static final int HEADER_BYTES = 4;
+  private static final int FLAG_DEFLATE = 1;
+  private static final int BUFFER_BYTES = 8192;
+
+  private static final int TAGS_NULL = 0;
+  private static final int TAGS_LIST = 1;
+  private static final int TAGS_SAME = 2;
+  private static final int TAGS_EXTENDS = 3;
+
+  private final boolean compress;
+
+  /**
+   * @param compress 본문을 Deflate로 압축할지 여부
+   */
+  public BinaryStreamSnapshotCodec(boolean compress) {
+    this.compress = compress;
+  }
+
+  @Override
+  public byte[] encode(List<EnrichedStreamDto> streams) {
+    Map<String, Integer> dictionary = new HashMap<>();
+    List<String> entries = new ArrayList<>();
+    for (EnrichedStreamDto stream : streams) {
+      intern(dictionary, entries, stream.liveCategoryValue());
+      internAll(dictionary, entries, stream.originalTags());
+      internAll(dictionary, entries, stream.enrichedTags());
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_BYTES + streams.size() * 128);
+    bytes.write(MAGIC >>> 8);
+    bytes.write(MAGIC & 0xff);
+    bytes.write(VERSION);
+    bytes.write(compress ? FLAG_DEFLATE : 0);
+    Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+    try (DataOutputStream out =
+        new DataOutputStream(
+            compress ? new DeflaterOutputStream(bytes, deflater, BUFFER_BYTES) : bytes)) {
+      writeVarLong(out, entries.size());
+      for (String entry : entries) {
+        writeString(out, entry);
+      }
+      writeVarLong(out, streams.size());
+      for (EnrichedStreamDto stream : streams) {
+        writeStream(out, stream, dictionary);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode stream snapshot", e);
+    } finally {
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public List<EnrichedStreamDto> decode(byte[] payload) {
+    if (!canDecode(payload)) {
+      throw new IllegalArgumentException("Not a binary stream snapshot");
+    }
+    int version = payload[2] & 0xff;
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary stream snapshot version " + version);
+    }
+
+    boolean deflated = (payload[3] & FLAG_DEFLATE) != 0;
+    InputStream body =
+        new ByteArrayInputStream(payload, HEADER_BYTES, payload.length - HEADER_BYTES);
+    Inflater inflater = deflated ? new Inflater() : null;
+    try (DataInputStream in =
+        new DataInputStream(
+            deflated ? new InflaterInputStream(body, inflater, BUFFER_BYTES) : body)) {
+      String[] dictionary = new String[readCount(in)];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = readString(in);
+      }
+      int streamCount = readCount(in);
+      List<EnrichedStreamDto> streams = new ArrayList<>(streamCount);
+      for (int i = 0; i < streamCount; i++) {
+        streams.add(readStream(in, dictionary));
+      }
+      return streams;
+    } catch (EOFException e) {
+      throw new IllegalArgumentException("Truncated binary stream snapshot", e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed binary stream snapshot", e);
+    } finally {
+      if (inflater != null) {
+        inflater.end();
+      }
+    }
+  }
+
+  @Override
+  public boolean canDecode(byte[] payload) {
+    return payload.length >= HEADER_BYTES
+        && (payload[0] & 0xff) == MAGIC >>> 8
+        && (payload[1] & 0xff) == (MAGIC & 0xff);
+  }
+
+  private static void writeStream(
+      DataOutputStream out, EnrichedStreamDto stream, Map<String, Integer> dictionary)
+      throws IOException {
+    writeVarLong(out, zigZag(stream.liveId()));
+    writeString(out, stream.channelId());
+    writeString(out, stream.liveTitle());
+    writeString(out, stream.liveThumbnailImageUrl());
+    Integer viewers = stream.concurrentUserCount();
+    writeVarLong(out, viewers == null ? 0 : zigZag(viewers) + 1);
+    writeString(out, stream.channelName());
+    writeVarLong(out, dictionary.get(stream.liveCategoryValue()));
+
+    List<String> original = stream.originalTags();
+    List<String> enriched = stream.enrichedTags();
+    writeTags(out, original, 0, dictionary);
+    if (enriched == null) {
+      out.writeByte(TAGS_NULL);
+    } else if (enriched.equals(original)) {
+      out.writeByte(TAGS_SAME);
+    } else if (original != null
+        && !original.isEmpty()
+        && enriched.size() > original.size()
+        && enriched.subList(0, original.size()).equals(original)) {
+      out.writeByte(TAGS_EXTENDS);
+      writeTags(out, enriched, original.size(), dictionary);
+    } else {
+      out.writeByte(TAGS_LIST);
+      writeTags(out, enriched, 0, dictionary);
+    }
+  }
+
+  private static EnrichedStreamDto readStream(DataInputStream in, String[] dictionary)
+      throws IOException {
+    int liveId = (int) unZigZag(readVarLong(in));
+    String channelId = readString(in);
+    String liveTitle = readString(in);
+    String thumbnailUrl = readString(in);
+    long viewers = readVarLong(in);
+    String channelName = readString(in);
+    String category = lookup(dictionary, readVarLong(in));
+
+    List<String> original = readTags(in, dictionary, List.of());
+    List<String> enriched =
+        switch (in.readUnsignedByte()) {
+          case TAGS_NULL -> null;
+          case TAGS_LIST -> readTags(in, dictionary, List.of());
+          case TAGS_SAME -> original;
+          case TAGS_EXTENDS -> readTags(in, dictionary, original);
+          default -> throw new IOException("Unknown enriched tag encoding");
+        };
+    return new EnrichedStreamDto(
+        liveId,
+        channelId,
+        liveTitle,
+        thumbnailUrl,
+        viewers == 0 ? null : (int) unZigZag(viewers - 1),
+        channelName,
+        category,
+        original,
+        enriched);
+  }
+
+  /** from 이후의 태그를 (개수 + 1, 사전 번호 반복)으로 씁니다. null 목록은 0입니다. */
+  private static void writeTags(
+      DataOutputStream out, List<String> tags, int from, Map<String, Integer> dictionary)
+      throws IOException {
+    if (tags == null) {
+      writeVarLong(out, 0);
+      return;
+    }
+    writeVarLong(out, tags.size() - from + 1);
+    for (int i = from; i < tags.size(); i++) {
+      writeVarLong(out, dictionary.get(tags.get(i)));
+    }
+  }
+
+  /** prefix 뒤에 이어 붙인 태그 목록을 읽습니다. */
+  private static List<String> readTags(
+      DataInputStream in, String[] dictionary, List<String> prefix) throws IOException {
+    long count = readVarLong(in);
+    if (count == 0) {
+      return null;
+    }
+    if (count - 1 > Integer.MAX_VALUE - prefix.size()) {
+      throw new IOException("Invalid tag count " + count);
+    }
+    String[] tags = new String[prefix.size() + (int) (count - 1)];
+    for (int i = 0; i < prefix.size(); i++) {
+      tags[i] = prefix.get(i);
+    }
+    for (int i = prefix.size(); i < tags.length; i++) {
+      tags[i] = lookup(dictionary, readVarLong(in));
+    }
+    return Collections.unmodifiableList(Arrays.asList(tags));
+  }
+
+  private static void intern(Map<String, Integer> dictionary, List<String> entries, String value) {
+    if (!dictionary.containsKey(value)) {
+      dictionary.put(value, entries.size());
+      entries.add(value);
+    }
+  }
+
+  private static void internAll(
+      Map<String, Integer> dictionary, List<String> entries, List<String> values) {
+    if (values != null) {
+      for (String value : values) {
+        intern(dictionary, entries, value);
+      }
+    }
+  }
+
+  private static String lookup(String[] dictionary, long index) throws IOException {
+    if (index < 0 || index >= dictionary.length) {
+      throw new IOException("Dictionary index out of range: " + index);
+    }
+    return dictionary[(int) index];
+  }
+
+  /** (UTF-8 길이 + 1, 바이트)로 씁니다. null은 0입니다. */
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      writeVarLong(out, 0);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(out, bytes.length + 1L);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    long length = readVarLong(in);
+    if (length == 0) {
+      return null;
+    }
+    if (length - 1 > Integer.MAX_VALUE) {
+      throw new IOException("Invalid string length " + length);
+    }
+    byte[] bytes = new byte[(int) (length - 1)];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int readCount(DataInputStream in) throws IOException {
+    long count = readVarLong(in);
+    if (count > Integer.MAX_VALUE) {
+      throw new IOException("Invalid count " + count);
+    }
+    return (int) count;
+  }
+
+  private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7fL) != 0) {
+      out.writeByte((int) (value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,41 @@
+package com.vatti.chzscout.backend.stream.infrastructure.codec;
+
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * EnrichedStreamDto 목록의 JSON 코덱.
+ *
+ * <p>바이너리 코덱보다 크고 느리지만 스냅샷 파일을 직접 열어 볼 수 있어 디버깅용으로 사용합니다.
+ */
+@RequiredArgsConstructor
+public class JsonStreamSnapshotCodec implements StreamSnapshotCodec {
+
+  private static final TypeReference<List<EnrichedStreamDto>> STREAM_LIST =
+      new TypeReference<>() {};
+
+  private final JsonMapper jsonMapper;
+
+  @Override
+  public byte[] encode(List<EnrichedStreamDto> streams) {
+    return jsonMapper.writeValueAsBytes(streams);
+  }
+
+  @Override
+  public List<EnrichedStreamDto> decode(byte[] payload) {
+    try {
+      return jsonMapper.readValue(payload, STREAM_LIST);
+    } catch (JacksonException e) {
+      throw new IllegalArgumentException("Malformed JSON stream snapshot", e);
+    }
+  }
+
+  @Override
+  public boolean canDecode(byte[] payload) {
+    return payload.length > 0 && payload[0] == '[';
+  }
+}
@@ -0,0 +1,38 @@
+package com.vatti.chzscout.backend.stream.infrastructure.codec;
+
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import java.util.List;
+
+/**
+ * Enriched 방송 목록 스냅샷 코덱.
+ *
+ * <p>스냅샷을 저장할 때는 설정한 코덱 하나로 쓰고, 읽을 때는 {@link #canDecode}로 payload의 형식을 판별하므로 코덱을 바꿔도
+ * 이전에 쓴 스냅샷을 그대로 읽을 수 있습니다.
+ */
+public interface StreamSnapshotCodec {
+
+  /**
+   * 방송 목록을 직렬화합니다.
+   *
+   * @param streams Enriched 방송 목록
+   * @return 직렬화된 payload
+   */
+  byte[] encode(List<EnrichedStreamDto> streams);
+
+  /**
+   * payload를 방송 목록으로 복원합니다.
+   *
+   * @param payload {@link #encode}로 만든 payload
+   * @return 저장 순서의 Enriched 방송 목록
+   * @throws IllegalArgumentException 이 코덱의 형식이 아니거나 payload가 손상되었을 때
+   */
+  List<EnrichedStreamDto> decode(byte[] payload);
+
+  /**
+   * payload가 이 코덱의 형식인지 확인합니다.
+   *
+   * @param payload 직렬화된 payload
+   * @return 이 코덱으로 읽을 수 있으면 true
+   */
+  boolean canDecode(byte[] payload);
+}
@@ -0,0 +1,214 @@
+package com.vatti.chzscout.backend.stream.infrastructure.file;
+
+import com.vatti.chzscout.backend.stream.config.StreamSnapshotProperties;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.infrastructure.codec.BinaryStreamSnapshotCodec;
+import com.vatti.chzscout.backend.stream.infrastructure.codec.JsonStreamSnapshotCodec;
+import com.vatti.chzscout.backend.stream.infrastructure.codec.StreamSnapshotCodec;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.FingerprintTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 생방송 캐시의 로컬 스냅샷 파일.
+ *
+ * <p>전체 수집이 성공할 때마다 Enriched 방송 목록과 변경 감지 지문을 파일 하나에 남기고, 재시작 시 이 파일을 메모리 매핑으로 읽어 Redis가 비어 있어도
+ * 첫 수집이 끝나기 전부터 추천을 제공할 수 있게 합니다. 방송 목록은 Redis 저장 형식과 무관하게 설정한 {@link StreamSnapshotCodec}으로
+ * 담고, 복원 시 채널 해시로 풀어 씁니다.
+ *
+ * <p>파일 구조 (big-endian): magic, version, 저장 시각(epoch ms), 방송 수, 지문 수, payload 길이, payload,
+ * (channelId 길이, channelId, 64비트 지문) 반복, CRC32. 형식이 다른 이전 버전 파일은 무시합니다. 임시 파일에 쓴 뒤 원자적으로
+ * 교체하므로 쓰는 도중 종료되어도 이전 파일이 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamSnapshotFile {
+
+  static final int MAGIC = 0x43485a53; // "CHZS"
+  static final int VERSION = 4; // 2: 64비트 지문, 3: 필드별 지문, 4: 코덱 payload
+  private static final int HEADER_BYTES = Integer.BYTES * 5 + Long.BYTES;
+  private static final int CHECKSUM_BYTES = Long.BYTES;
+
+  private final StreamSnapshotProperties snapshotProperties;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * 방송 목록과 지문을 스냅샷 파일로 저장합니다.
+   *
+   * @param streams Enriched 방송 목록
+   * @param fingerprints channelId → 변경 감지 지문
+   * @throws UncheckedIOException 파일 쓰기 실패 시
+   */
+  public void save(List<EnrichedStreamDto> streams, FingerprintTable fingerprints) {
+    if (!snapshotProperties.isEnabled()) {
+      return;
+    }
+
+    byte[] payload = encoder().encode(streams);
+    byte[][] channelIds = new byte[fingerprints.size()][];
+    long[] values = new long[fingerprints.size()];
+    int[] next = {0};
+    int[] entryBytes = {0};
+    fingerprints.forEach(
+        (channelId, fingerprint) -> {
+          byte[] id = channelId.getBytes(StandardCharsets.UTF_8);
+          channelIds[next[0]] = id;
+          values[next[0]++] = fingerprint;
+          entryBytes[0] += Short.BYTES + id.length + Long.BYTES;
+        });
+    int size = HEADER_BYTES + payload.length + entryBytes[0] + CHECKSUM_BYTES;
+
+    Path target = Path.of(snapshotProperties.getPath());
+    Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    try {
+      if (target.getParent() != null) {
+        Files.createDirectories(target.getParent());
+      }
+      try (FileChannel channel =
+          FileChannel.open(
+              temp,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE)) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer
+            .putInt(MAGIC)
+            .putInt(VERSION)
+            .putLong(System.currentTimeMillis())
+            .putInt(streams.size())
+            .putInt(channelIds.length)
+            .putInt(payload.length)
+            .put(payload);
+        for (int i = 0; i < channelIds.length; i++) {
+          buffer.putShort((short) channelIds[i].length).put(channelIds[i]).putLong(values[i]);
+        }
+        buffer.putLong(checksum(buffer, buffer.position()));
+        buffer.force();
+      }
+      Files.move(
+          temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write stream snapshot " + target, e);
+    }
+    log.debug(
+        "로컬 스냅샷 저장 - 방송 {}개, 지문 {}개, {}바이트 ({})",
+        streams.size(),
+        channelIds.length,
+        size,
+        snapshotProperties.getCodec());
+  }
+
+  /**
+   * 스냅샷 파일을 읽습니다.
+   *
+   * @return 유효한 스냅샷, 파일이 없거나 손상되었거나 최대 보관 시간이 지났으면 empty
+   */
+  public Optional<LocalStreamSnapshot> load() {
+    Path path = Path.of(snapshotProperties.getPath());
+    if (!snapshotProperties.isEnabled() || !Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_BYTES + CHECKSUM_BYTES || size > Integer.MAX_VALUE) {
+        log.warn("Ignoring stream snapshot {} with unexpected size {}", path, size);
+        return Optional.empty();
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      int checksumOffset = (int) size - CHECKSUM_BYTES;
+      if (buffer.getLong(checksumOffset) != checksum(buffer, checksumOffset)) {
+        log.warn("Ignoring corrupted stream snapshot {}", path);
+        return Optional.empty();
+      }
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        log.warn("Ignoring stream snapshot {} with unknown format", path);
+        return Optional.empty();
+      }
+
+      Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+      if (!Instant.now().isBefore(savedAt.plus(snapshotProperties.getMaxAge()))) {
+        log.info("Ignoring stream snapshot saved at {}, older than max age", savedAt);
+        return Optional.empty();
+      }
+
+      int streamCount = buffer.getInt();
+      int fingerprintCount = buffer.getInt();
+      byte[] payload = new byte[buffer.getInt()];
+      buffer.get(payload);
+      FingerprintTable fingerprints = new FingerprintTable(fingerprintCount);
+      for (int i = 0; i < fingerprintCount; i++) {
+        String channelId = readString(buffer, Short.toUnsignedInt(buffer.getShort()));
+        fingerprints.put(channelId, buffer.getLong());
+      }
+      List<EnrichedStreamDto> streams = decode(payload);
+      if (streams.size() != streamCount) {
+        log.warn("Ignoring stream snapshot {} with mismatched stream count", path);
+        return Optional.empty();
+      }
+      return Optional.of(new LocalStreamSnapshot(savedAt, streams, fingerprints));
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+      log.warn("Failed to read stream snapshot {}", path, e);
+      return Optional.empty();
+    }
+  }
+
+  private StreamSnapshotCodec encoder() {
+    return switch (snapshotProperties.getCodec()) {
+      case BINARY -> new BinaryStreamSnapshotCodec(snapshotProperties.isCompression());
+      case JSON -> new JsonStreamSnapshotCodec(jsonMapper);
+    };
+  }
+
+  /** 저장할 때의 코덱 설정과 무관하게 payload의 형식을 판별하여 읽습니다. */
+  private List<EnrichedStreamDto> decode(byte[] payload) {
+    for (StreamSnapshotCodec codec :
+        List.of(new BinaryStreamSnapshotCodec(false), new JsonStreamSnapshotCodec(jsonMapper))) {
+      if (codec.canDecode(payload)) {
+        return codec.decode(payload);
+      }
+    }
+    throw new IllegalArgumentException("Unknown stream snapshot payload");
+  }
+
+  private static String readString(ByteBuffer buffer, int length) {
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static long checksum(ByteBuffer buffer, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(buffer.duplicate().position(0).limit(length));
+    return crc.getValue();
+  }
+
+  /**
+   * 로컬 스냅샷.
+   *
+   * @param savedAt 저장 시각
+   * @param streams 저장 순서의 Enriched 방송 목록
+   * @param fingerprints channelId → 변경 감지 지문
+   */
+  public record LocalStreamSnapshot(
+      Instant savedAt, List<EnrichedStreamDto> streams, FingerprintTable fingerprints) {}
+}
@@ -0,0 +1,311 @@
+package com.vatti.chzscout.backend.stream.infrastructure.history;
+
+import com.vatti.chzscout.backend.stream.config.StreamLeaderProperties;
+import com.vatti.chzscout.backend.stream.config.ViewerHistoryProperties;
+import com.vatti.chzscout.backend.stream.config.ViewerHistoryProperties.Backend;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.ViewerSeries;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채널별 시청자 수 이력 저장소.
+ *
+ * <p>리더 노드의 갱신 사이클이 방송마다 시청자 수 표본을 하나씩 남기고, 채널마다 최근 {@code samples}개만 유지합니다. 전체 수집에서 받지 못한
+ * 채널은 종료된 것으로 보고 비웁니다.
+ *
+ * <ul>
+ *   <li>MEMORY: {@link ViewerRingTable}에 남깁니다. 채널 수까지 제한되어 메모리가 고정되지만 리더 노드에서만 조회되므로, 리더
+ *       선출이 켜져 있으면 시작하지 않습니다.
+ *   <li>REDIS: {@value #HISTORY_KEY} 해시에 채널마다 (epoch 초 4바이트, 시청자 수 4바이트) 표본을 이어 붙여 남깁니다. 모든 노드가
+ *       조회할 수 있고, 종료 채널 정리와 키 TTL로 크기가 제한됩니다.
+ * </ul>
+ */
+@Slf4j
+@Repository
+public class ViewerHistoryStore {
+
+  static final String HISTORY_KEY = "stream:viewers";
+  private static final byte[] HISTORY_KEY_BYTES = HISTORY_KEY.getBytes(StandardCharsets.UTF_8);
+  private static final int SAMPLE_BYTES = 8;
+
+  /** 갱신이 멈추면 이력도 방송 스냅샷과 함께 만료되게 합니다. */
+  private static final Duration HISTORY_TTL = Duration.ofMinutes(15);
+
+  /**
+   * 표본을 이어 붙이고 최근 표본만 남깁니다. 마지막 표본과 시각이 같으면 교체합니다.
+   *
+   * <p>KEYS: 이력 해시. ARGV: 최대 바이트 수, TTL(ms), channelId1, 표본1, ...
+   */
+  private static final RedisScript<Long> APPEND_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local max = tonumber(ARGV[1])
+          for i = 3, #ARGV, 2 do
+            local sample = ARGV[i + 1]
+            local samples = redis.call('HGET', KEYS[1], ARGV[i])
+            if samples then
+              if string.sub(samples, -8, -5) == string.sub(sample, 1, 4) then
+                samples = string.sub(samples, 1, -9)
+              end
+              samples = samples .. sample
+              if #samples > max then
+                samples = string.sub(samples, -max)
+              end
+            else
+              samples = sample
+            end
+            redis.call('HSET', KEYS[1], ARGV[i], samples)
+          end
+          redis.call('PEXPIRE', KEYS[1], ARGV[2])
+          return (#ARGV - 2) / 2
+          """,
+          Long.class);
+
+  /**
+   * 마지막 표본이 기준 시각보다 오래된 채널을 지웁니다.
+   *
+   * <p>KEYS: 이력 해시. ARGV: 기준 epoch 초
+   */
+  private static final RedisScript<Long> EVICT_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local cutoff = tonumber(ARGV[1])
+          local entries = redis.call('HGETALL', KEYS[1])
+          local evicted = 0
+          for i = 1, #entries, 2 do
+            local b1, b2, b3, b4 = string.byte(entries[i + 1], -8, -5)
+            if ((b1 * 256 + b2) * 256 + b3) * 256 + b4 < cutoff then
+              redis.call('HDEL', KEYS[1], entries[i])
+              evicted = evicted + 1
+            end
+          end
+          return evicted
+          """,
+          Long.class);
+
+  /** 표본은 바이트 그대로, 나머지 인자는 UTF-8 문자열로 넘깁니다. */
+  private static final RedisSerializer<Object> SCRIPT_ARGS_SERIALIZER =
+      new RedisSerializer<>() {
+        @Override
+        public byte[] serialize(Object value) {
+          return value instanceof byte[] bytes
+              ? bytes
+              : value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+          return bytes;
+        }
+      };
+
+  private final StringRedisTemplate redisTemplate;
+  private final ViewerHistoryProperties properties;
+  private final ViewerRingTable table;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * @throws IllegalStateException MEMORY 저장소와 리더 선출을 함께 켠 경우 (리더가 아닌 노드는 이력을 볼 수 없음)
+   */
+  public ViewerHistoryStore(
+      StringRedisTemplate redisTemplate,
+      ViewerHistoryProperties properties,
+      StreamLeaderProperties leaderProperties) {
+    boolean memory = properties.isEnabled() && properties.getBackend() == Backend.MEMORY;
+    if (memory && leaderProperties.isEnabled()) {
+      throw new IllegalStateException(
+          "stream.viewer-history.backend=memory requires stream.leader.enabled=false");
+    }
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.table =
+        memory ? new ViewerRingTable(properties.getMaxChannels(), properties.getSamples()) : null;
+  }
+
+  /**
+   * 방송마다 시청자 수 표본을 남깁니다.
+   *
+   * @param sampledAt 표본 시각 (한 사이클의 방송은 같은 시각)
+   * @param streams 수집한 방송 목록
+   */
+  public void record(Instant sampledAt, List<EnrichedStreamDto> streams) {
+    if (!properties.isEnabled() || streams.isEmpty()) {
+      return;
+    }
+    long epochSecond = sampledAt.getEpochSecond();
+    if (table == null) {
+      appendToRedis(epochSecond, streams);
+      return;
+    }
+    int dropped = 0;
+    lock.writeLock().lock();
+    try {
+      for (EnrichedStreamDto stream : streams) {
+        if (!table.append(stream.channelId(), epochSecond, viewersOf(stream))) {
+          dropped++;
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    if (dropped > 0) {
+      log.warn("시청자 수 이력 채널 수 초과 - {}개 채널 표본 제외", dropped);
+    }
+  }
+
+  /**
+   * 기준 시각 이후 표본이 없는 채널의 이력을 지웁니다. 전체 수집이 끝난 뒤 그 사이클의 표본 시각으로 호출합니다.
+   *
+   * @param sampledAt 기준 시각
+   * @return 지운 채널 수
+   */
+  public int evictUnseenSince(Instant sampledAt) {
+    if (!properties.isEnabled()) {
+      return 0;
+    }
+    long epochSecond = sampledAt.getEpochSecond();
+    if (table == null) {
+      Long evicted =
+          redisTemplate.execute(
+              EVICT_SCRIPT, List.of(HISTORY_KEY), String.valueOf(epochSecond));
+      return evicted != null ? evicted.intValue() : 0;
+    }
+    lock.writeLock().lock();
+    try {
+      return table.evictOlderThan(epochSecond);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 지정한 채널의 이력을 조회합니다.
+   *
+   * @param channelIds 조회할 channelId
+   * @return channelIds 순서의 이력, 이력이 없는 채널은 제외
+   */
+  public List<ViewerSeries> find(Collection<String> channelIds) {
+    if (!properties.isEnabled() || channelIds.isEmpty()) {
+      return List.of();
+    }
+    List<ViewerSeries> found = new ArrayList<>(channelIds.size());
+    if (table == null) {
+      byte[][] fields = new byte[channelIds.size()][];
+      int i = 0;
+      for (String channelId : channelIds) {
+        fields[i++] = channelId.getBytes(StandardCharsets.UTF_8);
+      }
+      List<byte[]> values =
+          redisTemplate.execute(
+              (RedisCallback<List<byte[]>>)
+                  connection -> connection.hashCommands().hMGet(HISTORY_KEY_BYTES, fields));
+      i = 0;
+      for (String channelId : channelIds) {
+        byte[] packed = values != null ? values.get(i++) : null;
+        if (packed != null && packed.length >= SAMPLE_BYTES) {
+          found.add(unpack(channelId, packed));
+        }
+      }
+      return found;
+    }
+    lock.readLock().lock();
+    try {
+      for (String channelId : channelIds) {
+        ViewerSeries series = table.get(channelId);
+        if (series != null) {
+          found.add(series);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return found;
+  }
+
+  /**
+   * 모든 채널의 이력을 조회합니다.
+   *
+   * @return 채널별 이력, 순서는 정해져 있지 않음
+   */
+  public List<ViewerSeries> findAll() {
+    if (!properties.isEnabled()) {
+      return List.of();
+    }
+    if (table == null) {
+      Map<byte[], byte[]> entries =
+          redisTemplate.execute(
+              (RedisCallback<Map<byte[], byte[]>>)
+                  connection -> connection.hashCommands().hGetAll(HISTORY_KEY_BYTES));
+      if (entries == null) {
+        return List.of();
+      }
+      List<ViewerSeries> all = new ArrayList<>(entries.size());
+      entries.forEach(
+          (channelId, packed) -> {
+            if (packed.length >= SAMPLE_BYTES) {
+              all.add(unpack(new String(channelId, StandardCharsets.UTF_8), packed));
+            }
+          });
+      return all;
+    }
+    lock.readLock().lock();
+    try {
+      return table.all();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void appendToRedis(long epochSecond, List<EnrichedStreamDto> streams) {
+    List<Object> args = new ArrayList<>(streams.size() * 2 + 2);
+    args.add(String.valueOf(properties.getSamples() * SAMPLE_BYTES));
+    args.add(String.valueOf(HISTORY_TTL.toMillis()));
+    for (EnrichedStreamDto stream : streams) {
+      args.add(stream.channelId());
+      args.add(
+          ByteBuffer.allocate(SAMPLE_BYTES)
+              .putInt((int) epochSecond) // 부호 없는 32비트 (2106년까지)
+              .putInt(viewersOf(stream))
+              .array());
+    }
+    redisTemplate.execute(
+        APPEND_SCRIPT,
+        SCRIPT_ARGS_SERIALIZER,
+        RedisSerializer.string(),
+        List.of(HISTORY_KEY),
+        args.toArray());
+  }
+
+  private static ViewerSeries unpack(String channelId, byte[] packed) {
+    ByteBuffer buffer = ByteBuffer.wrap(packed);
+    int count = packed.length / SAMPLE_BYTES;
+    long[] sampledAt = new long[count];
+    int[] viewers = new int[count];
+    for (int i = 0; i < count; i++) {
+      sampledAt[i] = Integer.toUnsignedLong(buffer.getInt());
+      viewers[i] = buffer.getInt();
+    }
+    return new ViewerSeries(channelId, sampledAt, viewers);
+  }
+
+  private static int viewersOf(EnrichedStreamDto stream) {
+    Integer viewers = stream.concurrentUserCount();
+    return viewers != null ? viewers : 0;
+  }
+}
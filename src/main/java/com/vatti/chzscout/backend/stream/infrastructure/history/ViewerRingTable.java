@@ -0,0 +1,149 @@
+package com.vatti.chzscout.backend.stream.infrastructure.history;
+
+import com.vatti.chzscout.backend.stream.domain.ViewerSeries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채널별 시청자 수 링 버퍼 테이블.
+ *
+ * <p>채널마다 표본 samplesPerChannel개 크기의 슬롯을 primitive 배열 하나에 미리 잡아 두고, 가득 차면 가장 오래된 표본부터 덮어씁니다. 채널
+ * 수도 maxChannels로 제한하므로 방송이 얼마나 생기고 사라지든 메모리는 처음 할당한 크기를 넘지 않습니다. 종료된 채널의 슬롯은 {@link
+ * #evictOlderThan(long)}으로 비워 재사용합니다. 단일 스레드로 사용합니다.
+ */
+public class ViewerRingTable {
+
+  private final int maxChannels;
+  private final int samplesPerChannel;
+  // 슬롯 s의 표본은 [s * samplesPerChannel, (s + 1) * samplesPerChannel) 구간
+  private final int[] viewers;
+  private final long[] sampledAt;
+  private final int[] heads; // 다음에 쓸 위치
+  private final int[] counts;
+  private final String[] channelIds;
+  private final Map<String, Integer> slots;
+  private final int[] freeSlots;
+  private int freeCount;
+
+  /**
+   * @param maxChannels 표본을 남길 수 있는 최대 채널 수
+   * @param samplesPerChannel 채널마다 남길 표본 수
+   */
+  public ViewerRingTable(int maxChannels, int samplesPerChannel) {
+    if (maxChannels < 1 || samplesPerChannel < 1) {
+      throw new IllegalArgumentException("Table size must be positive");
+    }
+    this.maxChannels = maxChannels;
+    this.samplesPerChannel = samplesPerChannel;
+    int total = Math.multiplyExact(maxChannels, samplesPerChannel);
+    this.viewers = new int[total];
+    this.sampledAt = new long[total];
+    this.heads = new int[maxChannels];
+    this.counts = new int[maxChannels];
+    this.channelIds = new String[maxChannels];
+    this.slots = new HashMap<>(maxChannels * 2);
+    this.freeSlots = new int[maxChannels];
+    for (int i = 0; i < maxChannels; i++) {
+      freeSlots[i] = maxChannels - 1 - i; // 앞 슬롯부터 사용
+    }
+    this.freeCount = maxChannels;
+  }
+
+  /**
+   * 표본을 추가합니다. 마지막 표본과 시각이 같으면 (같은 사이클에 두 번 받은 방송) 교체합니다.
+   *
+   * @param channelId 채널 ID
+   * @param epochSecond 표본 시각
+   * @param viewerCount 시청자 수
+   * @return 추가했으면 true, 새 채널인데 테이블이 가득 찼으면 false
+   */
+  public boolean append(String channelId, long epochSecond, int viewerCount) {
+    Integer slot = slots.get(channelId);
+    if (slot == null) {
+      if (freeCount == 0) {
+        return false;
+      }
+      slot = freeSlots[--freeCount];
+      slots.put(channelId, slot);
+      channelIds[slot] = channelId;
+    }
+    if (counts[slot] > 0 && sampledAt[lastIndex(slot)] == epochSecond) {
+      viewers[lastIndex(slot)] = viewerCount;
+      return true;
+    }
+    int base = slot * samplesPerChannel;
+    viewers[base + heads[slot]] = viewerCount;
+    sampledAt[base + heads[slot]] = epochSecond;
+    heads[slot] = (heads[slot] + 1) % samplesPerChannel;
+    counts[slot] = Math.min(counts[slot] + 1, samplesPerChannel);
+    return true;
+  }
+
+  /**
+   * 마지막 표본이 기준 시각보다 오래된 채널을 비웁니다.
+   *
+   * @param epochSecond 기준 시각
+   * @return 비운 채널 수
+   */
+  public int evictOlderThan(long epochSecond) {
+    int evicted = 0;
+    for (int slot = 0; slot < maxChannels; slot++) {
+      if (channelIds[slot] != null && sampledAt[lastIndex(slot)] < epochSecond) {
+        slots.remove(channelIds[slot]);
+        channelIds[slot] = null;
+        heads[slot] = 0;
+        counts[slot] = 0;
+        freeSlots[freeCount++] = slot;
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * 채널의 표본을 조회합니다.
+   *
+   * @return 오래된 순의 표본, 없으면 null
+   */
+  public ViewerSeries get(String channelId) {
+    Integer slot = slots.get(channelId);
+    return slot != null ? series(slot) : null;
+  }
+
+  /** 모든 채널의 표본. 순서는 정해져 있지 않습니다. */
+  public List<ViewerSeries> all() {
+    List<ViewerSeries> all = new ArrayList<>(slots.size());
+    for (int slot = 0; slot < maxChannels; slot++) {
+      if (channelIds[slot] != null) {
+        all.add(series(slot));
+      }
+    }
+    return all;
+  }
+
+  /** 표본이 있는 채널 수. */
+  public int size() {
+    return slots.size();
+  }
+
+  /** 슬롯의 마지막 표본 위치. */
+  private int lastIndex(int slot) {
+    return slot * samplesPerChannel + (heads[slot] + samplesPerChannel - 1) % samplesPerChannel;
+  }
+
+  private ViewerSeries series(int slot) {
+    int count = counts[slot];
+    int base = slot * samplesPerChannel;
+    int oldest = (heads[slot] + samplesPerChannel - count) % samplesPerChannel;
+    long[] times = new long[count];
+    int[] values = new int[count];
+    for (int i = 0; i < count; i++) {
+      int index = base + (oldest + i) % samplesPerChannel;
+      times[i] = sampledAt[index];
+      values[i] = viewers[index];
+    }
+    return new ViewerSeries(channelIds[slot], times, values);
+  }
+}
@@ -0,0 +1,159 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+/**
+ * channelId → 지문 테이블.
+ *
+ * <p>{@link StreamFingerprint#ofChannelId(String)}의 64비트 키로 슬롯을 찾는 선형 탐사 오픈 어드레싱 맵입니다. 키와
+ * 지문을 primitive 배열에 두어 항목마다 Entry나 Long을 만들지 않습니다. 64비트 키가 같아도 channelId를 비교하므로 충돌에도
+ * 정확합니다. 단일 스레드로 사용합니다.
+ */
+public class FingerprintTable {
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private long[] fingerprints;
+  private String[] channelIds;
+  private int size;
+
+  public FingerprintTable() {
+    this(MIN_CAPACITY / 2);
+  }
+
+  /**
+   * @param expectedSize 예상 항목 수 (재할당 없이 담을 수 있는 수)
+   */
+  public FingerprintTable(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  /**
+   * 지문을 저장합니다. 이미 있으면 교체합니다.
+   *
+   * @param channelId 채널 ID
+   * @param fingerprint 지문
+   */
+  public void put(String channelId, long fingerprint) {
+    if ((size + 1) * 2 > channelIds.length) {
+      rehash(channelIds.length * 2);
+    }
+    long key = StreamFingerprint.ofChannelId(channelId);
+    int slot = slotOf(key, channelId);
+    if (channelIds[slot] == null) {
+      keys[slot] = key;
+      channelIds[slot] = channelId;
+      size++;
+    }
+    fingerprints[slot] = fingerprint;
+  }
+
+  /** channelId가 있는지 확인합니다. */
+  public boolean containsKey(String channelId) {
+    return channelIds[slotOf(StreamFingerprint.ofChannelId(channelId), channelId)] != null;
+  }
+
+  /**
+   * 지문을 조회합니다.
+   *
+   * @return 저장된 지문, 없으면 defaultValue
+   */
+  public long getOrDefault(String channelId, long defaultValue) {
+    int slot = slotOf(StreamFingerprint.ofChannelId(channelId), channelId);
+    return channelIds[slot] != null ? fingerprints[slot] : defaultValue;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** 모든 항목을 순회합니다. 순서는 정해져 있지 않습니다. */
+  public void forEach(EntryConsumer consumer) {
+    for (int slot = 0; slot < channelIds.length; slot++) {
+      if (channelIds[slot] != null) {
+        consumer.accept(channelIds[slot], fingerprints[slot]);
+      }
+    }
+  }
+
+  /** 테이블 항목 소비자. */
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(String channelId, long fingerprint);
+  }
+
+  private int slotOf(long key, String channelId) {
+    int mask = channelIds.length - 1;
+    int slot = (int) key & mask;
+    while (channelIds[slot] != null
+        && (keys[slot] != key || !channelIds[slot].equals(channelId))) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    long[] oldFingerprints = fingerprints;
+    String[] oldChannelIds = channelIds;
+    allocate(capacity);
+    for (int i = 0; i < oldChannelIds.length; i++) {
+      if (oldChannelIds[i] != null) {
+        int slot = slotOf(oldKeys[i], oldChannelIds[i]);
+        keys[slot] = oldKeys[i];
+        fingerprints[slot] = oldFingerprints[i];
+        channelIds[slot] = oldChannelIds[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    fingerprints = new long[capacity];
+    channelIds = new String[capacity];
+  }
+
+  private static int capacityFor(int expectedSize) {
+    // 적재율 0.5 이하 유지
+    int capacity = Integer.highestOneBit(Math.max(expectedSize * 2, MIN_CAPACITY) - 1) << 1;
+    return Math.max(capacity, MIN_CAPACITY);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("FingerprintTable{");
+    forEach(
+        (channelId, fingerprint) ->
+            sb.append(channelId).append('=').append(Long.toHexString(fingerprint)).append(", "));
+    return sb.append("size=").append(size).append('}').toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof FingerprintTable other) || other.size != size) {
+      return false;
+    }
+    for (int slot = 0; slot < channelIds.length; slot++) {
+      if (channelIds[slot] != null
+          && (!other.containsKey(channelIds[slot])
+              || other.getOrDefault(channelIds[slot], ~fingerprints[slot]) != fingerprints[slot])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    long hash = 0;
+    for (int slot = 0; slot < channelIds.length; slot++) {
+      if (channelIds[slot] != null) {
+        hash += keys[slot] ^ fingerprints[slot];
+      }
+    }
+    return Long.hashCode(hash);
+  }
+}
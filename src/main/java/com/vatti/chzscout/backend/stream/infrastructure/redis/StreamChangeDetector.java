@@ -0,0 +1,198 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.StreamChangeResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 페이지 단위 변경 감지기.
+ *
+ * <p>페이지가 도착할 때마다 {@link StreamFingerprint 지문}을 계산하고 {@link PageClassifier}로 이전 지문과
+ * 비교합니다. {@link StreamRedisStore}는 이전 지문을 가져오지 않고 Redis 안에서 비교하는 분류기를 사용하며, 이전 {@link
+ * FingerprintTable}로 만든 감지기는 JVM 안에서 비교합니다. 지문이 달라진 방송은 바뀐 필드를 {@link StreamChangeKind}
+ * 비트마스크로 기록하고, 의미 있는 변경이 없으면(비슷한 제목 수정 등) 변경으로 보지 않습니다. 한 번의 갱신 사이클에서 단일 스레드로 사용합니다.
+ */
+public class StreamChangeDetector {
+
+  static final int UNCHANGED = 0;
+  static final int NEW = 1;
+  static final int CHANGED = 2;
+
+  /** 페이지의 현재 지문을 이전 사이클의 지문과 비교하는 방식. */
+  @FunctionalInterface
+  public interface PageClassifier {
+
+    /**
+     * 페이지의 방송을 분류합니다.
+     *
+     * @param channelIds 페이지의 channelId
+     * @param fingerprints channelIds와 같은 순서의 현재 지문
+     * @param previousFingerprints 같은 순서로 {@code CHANGED}인 방송의 이전 지문을 채울 배열
+     * @return 같은 순서의 분류 ({@code UNCHANGED}, {@code NEW}, {@code CHANGED})
+     */
+    int[] classify(List<String> channelIds, long[] fingerprints, long[] previousFingerprints);
+  }
+
+  private final PageClassifier classifier;
+  private final double titleSimilarity;
+  private final FingerprintTable previousFingerprints; // JVM 비교일 때만 사용 (종료 방송 계산용)
+  private final FingerprintTable currentFingerprints = new FingerprintTable();
+  private final Map<String, Integer> changeMasks = new HashMap<>();
+  // 제목 변경을 무시해 분류기에 보낸 현재 지문 대신 저장할 지문
+  private final Map<String, Long> retainedFingerprints = new HashMap<>();
+
+  /** 이전 지문 테이블과 JVM 안에서 비교하는 감지기를 만듭니다. */
+  public StreamChangeDetector(FingerprintTable previousFingerprints) {
+    this(previousFingerprints, StreamFingerprint.DEFAULT_TITLE_SIMILARITY);
+  }
+
+  /**
+   * 이전 지문 테이블과 JVM 안에서 비교하는 감지기를 만듭니다.
+   *
+   * @param previousFingerprints 이전 사이클의 지문
+   * @param titleSimilarity 제목 유사도 기준, 이 값 이상 비슷한 제목 수정은 변경으로 보지 않음
+   */
+  public StreamChangeDetector(FingerprintTable previousFingerprints, double titleSimilarity) {
+    this.classifier =
+        (channelIds, fingerprints, previous) ->
+            classifyLocally(previousFingerprints, channelIds, fingerprints, previous);
+    this.titleSimilarity = titleSimilarity;
+    this.previousFingerprints = previousFingerprints;
+  }
+
+  /** 외부 분류기로 비교하는 감지기를 만듭니다. 종료 방송은 분류기 쪽에서 계산해 {@link #result(Set)}로 넘깁니다. */
+  StreamChangeDetector(PageClassifier classifier, double titleSimilarity) {
+    this.classifier = classifier;
+    this.titleSimilarity = titleSimilarity;
+    this.previousFingerprints = null;
+  }
+
+  /**
+   * 한 페이지의 방송을 이전 지문과 비교합니다.
+   *
+   * <p>중복 channelId가 있을 경우 마지막 값을 사용합니다 (업스트림 API 중복 응답 대비).
+   *
+   * @param page 방송 목록 페이지
+   * @return 이 페이지에서 신규이거나 한 종류 이상 바뀐 channelId
+   */
+  public Set<String> accept(List<AllFieldLiveDto> page) {
+    Set<String> pageChangedIds = new HashSet<>();
+    if (page.isEmpty()) {
+      return pageChangedIds;
+    }
+
+    List<String> channelIds = new ArrayList<>(page.size());
+    long[] fingerprints = new long[page.size()];
+    for (int i = 0; i < fingerprints.length; i++) {
+      AllFieldLiveDto stream = page.get(i);
+      channelIds.add(stream.channelId());
+      fingerprints[i] = StreamFingerprint.of(stream);
+    }
+    long[] previous = new long[fingerprints.length];
+    int[] kinds = classifier.classify(channelIds, fingerprints, previous);
+
+    for (int i = 0; i < fingerprints.length; i++) {
+      String channelId = channelIds.get(i);
+
+      int mask =
+          switch (kinds[i]) {
+            case NEW -> StreamChangeKind.NEW.bit(); // 아예 신규 방송
+            case CHANGED -> StreamFingerprint.diff(previous[i], fingerprints[i], titleSimilarity);
+            default -> 0;
+          };
+      long retained =
+          kinds[i] == CHANGED
+              ? StreamFingerprint.retained(previous[i], fingerprints[i], mask)
+              : fingerprints[i];
+      currentFingerprints.put(channelId, retained);
+      retainedFingerprints.remove(channelId);
+      if (retained != fingerprints[i]) {
+        retainedFingerprints.put(channelId, retained);
+      }
+      changeMasks.remove(channelId);
+      pageChangedIds.remove(channelId);
+      if (mask != 0) {
+        changeMasks.put(channelId, mask);
+        pageChangedIds.add(channelId);
+      }
+    }
+    return pageChangedIds;
+  }
+
+  /** 지금까지 받은 방송의 지문 (다음 사이클 비교용, 무시한 제목 변경은 이전 제목 비트 유지). */
+  public FingerprintTable currentFingerprints() {
+    return currentFingerprints;
+  }
+
+  /**
+   * 지금까지 받은 페이지 기준의 변경 감지 결과 (신규, 변경됨, 종료됨).
+   *
+   * @throws IllegalStateException 이전 지문 테이블 없이 만든 감지기인 경우
+   */
+  public StreamChangeResult result() {
+    if (previousFingerprints == null) {
+      throw new IllegalStateException("Ended streams are computed by the page classifier");
+    }
+    Set<String> endedStreams = new HashSet<>();
+    previousFingerprints.forEach(
+        (channelId, fingerprint) -> {
+          if (!currentFingerprints.containsKey(channelId)) {
+            endedStreams.add(channelId);
+          }
+        });
+    return result(endedStreams);
+  }
+
+  /** 분류기 쪽에서 계산한 종료 방송으로 변경 감지 결과를 만듭니다. */
+  StreamChangeResult result(Set<String> endedStreams) {
+    Set<String> newStreams = new HashSet<>();
+    Set<String> changedStreams = new HashSet<>();
+    changeMasks.forEach(
+        (channelId, mask) ->
+            (StreamChangeKind.NEW.in(mask) ? newStreams : changedStreams).add(channelId));
+    return new StreamChangeResult(
+        newStreams, changedStreams, endedStreams, new HashMap<>(changeMasks));
+  }
+
+  PageClassifier classifier() {
+    return classifier;
+  }
+
+  /** 분류기에 보낸 현재 지문 대신 저장해야 하는 지문 (이전 제목 비트를 유지한 방송). */
+  Map<String, Long> retainedFingerprints() {
+    return retainedFingerprints;
+  }
+
+  /**
+   * 앞쪽 페이지만 받은 경우의 변경 감지 결과 (신규, 변경됨).
+   *
+   * <p>받지 않은 페이지의 방송은 종료 여부를 알 수 없으므로 종료 목록은 항상 비어 있습니다.
+   */
+  public StreamChangeResult partialResult() {
+    return result(new HashSet<>());
+  }
+
+  private static int[] classifyLocally(
+      FingerprintTable previousFingerprints,
+      List<String> channelIds,
+      long[] fingerprints,
+      long[] previous) {
+    int[] kinds = new int[fingerprints.length];
+    for (int i = 0; i < kinds.length; i++) {
+      String channelId = channelIds.get(i);
+      if (!previousFingerprints.containsKey(channelId)) {
+        kinds[i] = NEW;
+        continue;
+      }
+      previous[i] = previousFingerprints.getOrDefault(channelId, fingerprints[i]);
+      kinds[i] = previous[i] != fingerprints[i] ? CHANGED : UNCHANGED;
+    }
+    return kinds;
+  }
+}
@@ -0,0 +1,249 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import java.util.List;
+
+/**
+ * 변경 감지용 64비트 방송 지문.
+ *
+ * <p>필드별 해시를 한 long에 나누어 담아, 이전 지문과 비교하면 어떤 필드가 바뀌었는지 {@link StreamChangeKind} 비트마스크로 알 수 있습니다.
+ * 문자는 중간 문자열이나 바이트 배열 없이 바로 섞습니다 (FNV-1a + MurmurHash3 fmix64). 같은 입력이면 JVM과 무관하게 같은 값을 반환하므로
+ * Redis와 로컬 스냅샷에 저장해 다음 사이클과 비교합니다.
+ *
+ * <pre>
+ * 63        40 39      20 19        6  5    4      0
+ * [제목 24비트][태그 20비트][카테고리 14비트][성인][시청자 구간]
+ * </pre>
+ *
+ * <p>제목은 글자만 남기고(숫자, 이모지, 문장부호, 공백 제거) 소문자로 바꾼 뒤 글자 2-gram의 SimHash로 담으므로 "37일차" 같은 카운터나 이모지만
+ * 바뀐 제목은 같은 값이 되고, 조금만 고친 제목은 가까운 값이 됩니다. 태그와 카테고리는 잘린 해시라 드물게 충돌할 수 있으며, 이 경우 그 변경은 다음
+ * 변경 때 반영됩니다.
+ */
+public final class StreamFingerprint {
+
+  /** 지문을 바이너리로 저장할 때의 길이. */
+  public static final int BYTES = Long.BYTES;
+
+  /** 기본 제목 유사도 기준. 이 값 이상 비슷한 제목 변경은 무시합니다. */
+  public static final double DEFAULT_TITLE_SIMILARITY = 0.85;
+
+  static final int TITLE_BITS = 24;
+  private static final int TAGS_BITS = 20;
+  private static final int CATEGORY_BITS = 14;
+  private static final int VIEWER_BUCKET_BITS = 5;
+
+  private static final int TITLE_SHIFT = 64 - TITLE_BITS;
+  private static final int TAGS_SHIFT = TITLE_SHIFT - TAGS_BITS;
+  private static final int CATEGORY_SHIFT = TAGS_SHIFT - CATEGORY_BITS;
+  private static final int ADULT_SHIFT = VIEWER_BUCKET_BITS;
+
+  private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long PRIME = 0x100000001b3L;
+  // 필드 경계와 null을 빈 문자열과 구분하기 위한 표식 (char 범위 밖의 값)
+  private static final long FIELD_END = 0x1_0000L;
+  private static final long NULL_FIELD = 0x1_0001L;
+
+  private StreamFingerprint() {}
+
+  /**
+   * 방송의 지문을 계산합니다.
+   *
+   * @param stream 방송
+   * @return 제목, 기존 태그, 카테고리, 성인 여부, 시청자 구간을 담은 64비트 지문
+   */
+  public static long of(AllFieldLiveDto stream) {
+    long tagsHash = OFFSET_BASIS;
+    List<String> tags = stream.tags();
+    if (tags == null) {
+      tagsHash = step(tagsHash, NULL_FIELD);
+    } else {
+      for (int i = 0; i < tags.size(); i++) {
+        tagsHash = mix(tagsHash, tags.get(i));
+      }
+      tagsHash = step(tagsHash, FIELD_END);
+    }
+    long categoryHash = mix(OFFSET_BASIS, stream.liveCategoryValue());
+
+    return field(titleSimHash(stream.liveTitle()), TITLE_BITS, TITLE_SHIFT)
+        | field(fmix64(tagsHash), TAGS_BITS, TAGS_SHIFT)
+        | field(fmix64(categoryHash), CATEGORY_BITS, CATEGORY_SHIFT)
+        | (Boolean.TRUE.equals(stream.adult()) ? 1L << ADULT_SHIFT : 0L)
+        | viewerBucket(stream.concurrentUserCount());
+  }
+
+  /**
+   * 두 지문 사이에 바뀐 필드를 계산합니다.
+   *
+   * @param previous 이전 지문
+   * @param current 현재 지문
+   * @param titleSimilarity 제목 유사도 기준 (0~1), 이 값 이상 비슷하면 제목 변경으로 보지 않음
+   * @return {@link StreamChangeKind} 비트마스크, 의미 있는 변경이 없으면 0
+   */
+  public static int diff(long previous, long current, double titleSimilarity) {
+    long changed = previous ^ current;
+    int mask = 0;
+    if (titleSimilarity(previous, current) < titleSimilarity) {
+      mask |= StreamChangeKind.TITLE.bit();
+    }
+    if (field(changed >>> TAGS_SHIFT, TAGS_BITS, 0) != 0) {
+      mask |= StreamChangeKind.TAGS.bit();
+    }
+    if (field(changed >>> CATEGORY_SHIFT, CATEGORY_BITS, 0) != 0) {
+      mask |= StreamChangeKind.CATEGORY.bit();
+    }
+    if ((changed >>> ADULT_SHIFT & 1) != 0) {
+      mask |= StreamChangeKind.ADULT.bit();
+    }
+    if (field(changed, VIEWER_BUCKET_BITS, 0) != 0) {
+      mask |= StreamChangeKind.VIEWER_BUCKET.bit();
+    }
+    return mask;
+  }
+
+  /**
+   * 다음 사이클과 비교할 지문을 정합니다.
+   *
+   * <p>제목 변경을 무시했으면 이전 제목 비트를 그대로 둡니다. 그래야 비슷한 수정이 여러 사이클에 걸쳐 쌓여도 마지막으로 반영한 제목과 비교되어, 기준이
+   * 조금씩 밀려 큰 변경을 놓치지 않습니다.
+   *
+   * @param previous 이전 지문
+   * @param current 현재 지문
+   * @param changeMask {@link #diff}의 결과
+   * @return 저장할 지문
+   */
+  public static long retained(long previous, long current, int changeMask) {
+    if (StreamChangeKind.TITLE.in(changeMask)) {
+      return current;
+    }
+    long titleMask = -1L << TITLE_SHIFT;
+    return current & ~titleMask | previous & titleMask;
+  }
+
+  /** 두 지문의 제목 SimHash 유사도 (같은 비트 비율, 0~1). */
+  static double titleSimilarity(long previous, long current) {
+    int distance = Long.bitCount((previous ^ current) >>> TITLE_SHIFT);
+    return 1.0 - (double) distance / TITLE_BITS;
+  }
+
+  /**
+   * 시청자 수 구간. 1, 3, 10, 30, 100, ... 경계마다 1씩 올라갑니다.
+   *
+   * @param viewers 동시 시청자 수
+   * @return 0 ~ 31
+   */
+  static int viewerBucket(Integer viewers) {
+    if (viewers == null || viewers < 1) {
+      return 0;
+    }
+    int bucket = 1;
+    long bound = 3;
+    while (viewers >= bound && bucket < (1 << VIEWER_BUCKET_BITS) - 1) {
+      bucket++;
+      bound = bucket % 2 == 0 ? bound / 3 * 10 : bound * 3;
+    }
+    return bucket;
+  }
+
+  /**
+   * channelId의 64비트 키. {@link FingerprintTable}의 슬롯 계산에 사용합니다.
+   *
+   * @param channelId 채널 ID
+   * @return 64비트 해시
+   */
+  public static long ofChannelId(String channelId) {
+    return fmix64(mix(OFFSET_BASIS, channelId));
+  }
+
+  /** 지문을 big-endian 8바이트로 변환합니다. */
+  public static byte[] toBytes(long fingerprint) {
+    byte[] bytes = new byte[BYTES];
+    for (int i = BYTES - 1; i >= 0; i--) {
+      bytes[i] = (byte) fingerprint;
+      fingerprint >>>= 8;
+    }
+    return bytes;
+  }
+
+  /**
+   * big-endian 8바이트를 지문으로 변환합니다.
+   *
+   * @throws IllegalArgumentException 길이가 8바이트가 아닌 경우 (이전 형식의 해시)
+   */
+  public static long fromBytes(byte[] bytes) {
+    if (bytes.length != BYTES) {
+      throw new IllegalArgumentException("Fingerprint must be " + BYTES + " bytes");
+    }
+    long fingerprint = 0;
+    for (byte b : bytes) {
+      fingerprint = fingerprint << 8 | (b & 0xff);
+    }
+    return fingerprint;
+  }
+
+  /** 글자만 남긴 소문자 제목의 2-gram SimHash. 글자가 없으면 0. */
+  private static long titleSimHash(String title) {
+    if (title == null) {
+      return 0;
+    }
+    int[] weights = new int[TITLE_BITS];
+    int shingles = 0;
+    char previous = 0;
+    for (int i = 0; i < title.length(); i++) {
+      char c = title.charAt(i);
+      if (!Character.isLetter(c)) { // 숫자, 이모지(서로게이트), 문장부호, 공백
+        continue;
+      }
+      c = Character.toLowerCase(c);
+      if (previous != 0) {
+        addShingle(weights, fmix64((long) previous << 16 | c));
+        shingles++;
+      }
+      previous = c;
+    }
+    if (shingles == 0 && previous != 0) { // 한 글자 제목
+      addShingle(weights, fmix64(previous));
+    }
+
+    long simHash = 0;
+    for (int bit = 0; bit < TITLE_BITS; bit++) {
+      if (weights[bit] > 0) {
+        simHash |= 1L << bit;
+      }
+    }
+    return simHash;
+  }
+
+  private static void addShingle(int[] weights, long hash) {
+    for (int bit = 0; bit < TITLE_BITS; bit++) {
+      weights[bit] += (hash >>> bit & 1) != 0 ? 1 : -1;
+    }
+  }
+
+  private static long field(long value, int bits, int shift) {
+    return (value & ((1L << bits) - 1)) << shift;
+  }
+
+  private static long mix(long hash, String value) {
+    if (value == null) {
+      return step(hash, NULL_FIELD);
+    }
+    for (int i = 0; i < value.length(); i++) {
+      hash = step(hash, value.charAt(i));
+    }
+    return step(hash, FIELD_END);
+  }
+
+  private static long step(long hash, long unit) {
+    return (hash ^ unit) * PRIME;
+  }
+
+  private static long fmix64(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
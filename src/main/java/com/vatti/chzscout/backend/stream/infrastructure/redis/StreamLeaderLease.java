@@ -0,0 +1,177 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import com.vatti.chzscout.backend.stream.config.StreamLeaderProperties;
+import com.vatti.chzscout.backend.stream.domain.event.StreamLeadershipAcquiredEvent;
+import com.vatti.chzscout.backend.stream.domain.event.StreamLeadershipLostEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 리스 기반 생방송 갱신 리더 선출.
+ *
+ * <p>리스를 가진 노드만 수집 파이프라인을 실행합니다. 리스를 새로 획득할 때마다 증가하는 펜싱 토큰을 발급하고, {@link StreamRedisStore}는
+ * 이 토큰이 최신일 때만 쓰기를 반영하여 리스가 만료된 이전 리더의 늦은 쓰기를 막습니다. 리더가 갱신하지 못하면 리스 만료 후 다른 노드가 넘겨받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamLeaderLease {
+
+  static final String LEASE_KEY = "stream:leader";
+  static final String FENCE_KEY = "stream:leader:fence";
+
+  /** 토큰: 리스 획득 또는 갱신 성공, -1: 다른 노드가 보유 중. */
+  private static final RedisScript<Long> ACQUIRE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local owner = redis.call('HGET', KEYS[1], 'owner')
+          if owner == ARGV[1] then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return tonumber(redis.call('HGET', KEYS[1], 'token'))
+          end
+          if owner then
+            return -1
+          end
+          local token = redis.call('INCR', KEYS[2])
+          redis.call('HSET', KEYS[1], 'owner', ARGV[1], 'token', token)
+          redis.call('PEXPIRE', KEYS[1], ARGV[2])
+          return token
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('HGET', KEYS[1], 'owner') == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final StreamLeaderProperties leaderProperties;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskScheduler taskScheduler;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private volatile long fencingToken = -1;
+  private volatile long leaseDeadlineNanos;
+  private volatile boolean leading;
+
+  /** 애플리케이션 시작 후 리스 갱신 및 획득 시도를 주기적으로 실행합니다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startHeartbeat() {
+    if (!leaderProperties.isEnabled()) {
+      log.info("Leader election disabled, this node runs the refresh pipeline");
+      return;
+    }
+    taskScheduler.scheduleWithFixedDelay(this::tryAcquire, leaderProperties.getRenewInterval());
+  }
+
+  /**
+   * 리스를 획득하거나 이미 보유 중이면 갱신합니다.
+   *
+   * <p>새로 획득한 경우 {@link StreamLeadershipAcquiredEvent}를, 리더였다가 리스를 잃은 경우 {@link
+   * StreamLeadershipLostEvent}를 발행합니다. Redis 오류 시 로컬 리스 만료 시각까지만 리더로 간주합니다.
+   *
+   * @return 이 노드가 리더이면 true
+   */
+  public synchronized boolean tryAcquire() {
+    if (!leaderProperties.isEnabled()) {
+      return true;
+    }
+
+    long requestedAt = System.nanoTime();
+    Long token;
+    try {
+      token =
+          redisTemplate.execute(
+              ACQUIRE_SCRIPT,
+              List.of(LEASE_KEY, FENCE_KEY),
+              nodeId,
+              String.valueOf(leaderProperties.getLeaseTtl().toMillis()));
+    } catch (RuntimeException e) {
+      log.warn("Failed to renew leader lease", e);
+      if (!isLeader()) {
+        stepDown();
+      }
+      return isLeader();
+    }
+
+    if (token == null || token < 0) {
+      if (fencingToken > 0 && isLeader()) {
+        log.warn("Leader lease lost (token {})", fencingToken);
+      }
+      leaseDeadlineNanos = requestedAt;
+      stepDown();
+      return false;
+    }
+
+    boolean acquired = token != fencingToken || !leading;
+    fencingToken = token;
+    // 요청 전 시각 기준으로 계산하여 Redis 쪽 만료보다 먼저 리더 자격을 내려놓음
+    leaseDeadlineNanos = requestedAt + leaderProperties.getLeaseTtl().toNanos();
+    leading = true;
+    if (acquired) {
+      log.info("Leader lease acquired (node {}, token {})", nodeId, token);
+      eventPublisher.publishEvent(new StreamLeadershipAcquiredEvent(token));
+    }
+    return true;
+  }
+
+  /**
+   * 이 노드가 현재 리더인지 확인합니다.
+   *
+   * @return 리더 선출을 끈 경우 항상 true
+   */
+  public boolean isLeader() {
+    if (!leaderProperties.isEnabled()) {
+      return true;
+    }
+    return fencingToken > 0 && System.nanoTime() - leaseDeadlineNanos < 0;
+  }
+
+  /**
+   * 쓰기에 사용할 펜싱 토큰.
+   *
+   * @return 리더 선출을 끈 경우 0, 리스를 획득한 적이 없으면 -1, 그 외에는 마지막으로 획득한 토큰
+   */
+  public long fencingToken() {
+    return leaderProperties.isEnabled() ? fencingToken : 0;
+  }
+
+  /** 리더였다면 리더 상실 이벤트를 한 번만 발행합니다. */
+  private void stepDown() {
+    if (leading) {
+      leading = false;
+      eventPublisher.publishEvent(new StreamLeadershipLostEvent(fencingToken));
+    }
+  }
+
+  /** 종료 시 리스를 반납하여 다른 노드가 바로 넘겨받도록 합니다. */
+  @PreDestroy
+  public void release() {
+    if (!leaderProperties.isEnabled() || fencingToken < 0) {
+      return;
+    }
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+      leaseDeadlineNanos = System.nanoTime();
+      log.info("Leader lease released (node {})", nodeId);
+    } catch (RuntimeException e) {
+      log.warn("Failed to release leader lease", e);
+    }
+  }
+}
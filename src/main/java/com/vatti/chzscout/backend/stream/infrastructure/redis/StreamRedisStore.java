@@ -1,158 +1,1064 @@
 package com.vatti.chzscout.backend.stream.infrastructure.redis;
 
+import com.vatti.chzscout.backend.stream.application.StringInternPool;
+import com.vatti.chzscout.backend.stream.config.StreamChangeProperties;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.DigestUtils;
-import tools.jackson.core.type.TypeReference;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
  * 방송 정보 Redis 저장소.
  *
- * <p>Enriched 방송 목록 캐싱 및 변경 감지 기능을 제공합니다.
+ * <p>Enriched 방송 캐싱 및 변경 감지 기능을 제공합니다. 쓰기는 {@link StreamLeaderLease}의 펜싱 토큰이 최신일 때만 Lua 스크립트로
+ * 원자적으로 반영합니다. 변경 감지 해시는 {@link StreamFingerprint} 지문을 8바이트 바이너리 값으로 저장합니다.
+ *
+ * <p>교체와 병합 모두 다음 세대의 키 공간({@code stream:v{n}:})에 쓴 뒤 세대 포인터({@code stream:generation})를 같은 스크립트
+ * 안에서 바꿔 게시하며, 게시된 세대는 다시 고치지 않습니다. 세대 안에는 수집 순서의 멤버 ZSET, 시청자 수, 카테고리별 시청자 수 ZSET 인덱스와
+ * 채널마다 읽을 해시의 세대를 담은 {@code revisions} 해시가 있습니다. 채널 해시({@code channel:{channelId}})는 쓴 세대의 키 공간에
+ * 두고 이후 세대가 함께 가리키므로, 앞쪽 페이지만 받은 병합은 멤버와 인덱스만 복사하고 받은 채널의 해시만 새로 씁니다. 받지 않은 채널의 해시는
+ * 마지막으로 쓴 교체나 병합의 TTL을 따릅니다.
+ *
+ * <p>조회는 요청마다 포인터를 한 번 읽고 그 세대의 키만 읽으므로, 도중에 교체나 병합이 게시되어도 두 세대가 섞여 보이지 않습니다. 이전 세대와 더
+ * 이상 가리키지 않는 채널 해시는 바로 지우지 않고 {@link #RETIRED_VERSION_TTL} 뒤에 만료되게 하여 이미 세대를 정한 조회가 끝까지 읽을 수
+ * 있게 합니다. 조회는 필요한 채널의 해시만 파이프라인 HMGET으로 읽으므로 비용이 전체 방송 수가 아니라 결과 수에 비례합니다.
+ *
+ * <p>교체와 병합마다 스냅샷 버전({@code stream:version})을 올려 {@link #SNAPSHOT_CHANNEL}로 발행하여 {@link
+ * StreamSnapshotCache}가 다시 읽게 합니다.
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class StreamRedisStore {
 
-  private static final String ENRICHED_STREAMS_KEY = "stream:enriched";
+  /** 스냅샷 버전 발행 채널. 메시지는 새 버전 번호입니다. */
+  public static final String SNAPSHOT_CHANNEL = "stream:snapshot";
+
+  // 키 이름은 Lua 스크립트(CHANNEL_FUNCTIONS)와 같아야 함
+  private static final String VERSION_KEY = "stream:version";
+  private static final String GENERATION_KEY = "stream:generation";
+  private static final String GENERATION_KEY_PREFIX = "stream:v";
+  // 세대 키 공간(stream:v{n}:) 안의 키
+  private static final String MEMBERS_KEY = "members";
+  private static final String VIEWERS_INDEX_KEY = "index:viewers";
+  private static final String REVISIONS_KEY = "revisions";
+  private static final String CATEGORY_INDEX_KEY_PREFIX = "index:category:";
+  private static final String CHANNEL_KEY_PREFIX = "channel:";
   private static final String STREAM_HASHES_KEY = "stream:hashes";
+  private static final String STAGING_HASHES_KEY_PREFIX = "stream:hashes:staging:";
   private static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
 
+  /** 새 세대를 게시한 뒤 이전 세대를 남겨 두는 시간. 이미 이전 세대를 정한 조회가 이 안에 끝나야 합니다. */
+  static final Duration RETIRED_VERSION_TTL = Duration.ofMinutes(1);
+
+  /** 채널 해시의 필드 순서. 스크립트 인자와 HMGET 결과가 이 순서를 따릅니다. */
+  private static final String[] CHANNEL_FIELDS = {
+    "liveId",
+    "channelId",
+    "liveTitle",
+    "liveThumbnailImageUrl",
+    "concurrentUserCount",
+    "channelName",
+    "liveCategoryValue",
+    "originalTags",
+    "enrichedTags"
+  };
+
+  private static final byte[][] CHANNEL_FIELD_BYTES = toBytes(CHANNEL_FIELDS);
+  private static final byte[][] SEARCH_FIELD_BYTES =
+      toBytes(new String[] {"channelId", "liveTitle", "originalTags", "enrichedTags"});
+
+  /** null 필드 표식. UTF-8 문자열에 나올 수 없는 바이트라 빈 문자열과 구분됩니다. */
+  private static final byte[] NULL_VALUE = {(byte) 0xC0};
+
+  /**
+   * 세대별 채널 해시와 인덱스를 다루는 공통 Lua 함수. prefix는 {@code stream:v{n}:}입니다.
+   *
+   * <p>채널 해시는 쓴 세대의 키 공간({@code stream:v{r}:channel:{channelId}})에 한 번 쓰면 고치지 않고, 각 세대의 {@code
+   * revisions} 해시가 채널마다 읽을 해시의 세대 r을 가리킵니다. 병합은 이전 세대의 멤버, 인덱스, revisions만 다음 세대로 복사하고 받은 채널의
+   * 해시만 새로 쓰므로, 받지 않은 채널의 해시는 두 세대가 함께 읽습니다.
+   *
+   * <p>putChannels의 인자(ARGV[first]부터): 필드 수 n, 필드 이름 n개, 이후 방송마다 channelId, 시청자 수, 카테고리(없으면 빈 문자열),
+   * 필드 값 n개. 값이 null 표식인 필드는 저장하지 않습니다. 카테고리 인덱스 이름은 세대 만료를 위해 {@code categories} SET에 모읍니다.
+   * 병합이면 카테고리가 바뀐 채널을 복사한 이전 카테고리 인덱스에서 뺍니다.
+   */
+  private static final String CHANNEL_FUNCTIONS =
+      """
+      local NULL = '\\192'
+
+      local function generationPrefix(generation)
+        return 'stream:v' .. generation .. ':'
+      end
+
+      -- 세대 포인터가 없던 이전 형식은 버전 번호가 곧 세대
+      local function currentGeneration(versionKey, generationKey)
+        return tonumber(redis.call('GET', generationKey) or redis.call('GET', versionKey) or '0')
+      end
+
+      -- revisions가 없던 이전 형식은 모든 채널 해시가 그 세대에 있음
+      local function revisionsOf(generation)
+        local prefix = generationPrefix(generation)
+        local revisions = redis.call('HGETALL', prefix .. 'revisions')
+        if #revisions == 0 then
+          for _, id in ipairs(redis.call('ZRANGE', prefix .. 'members', 0, -1)) do
+            revisions[#revisions + 1] = id
+            revisions[#revisions + 1] = tostring(generation)
+          end
+        end
+        return revisions
+      end
+
+      local function indexChannel(prefix, id, score, category)
+        redis.call('ZADD', prefix .. 'index:viewers', score, id)
+        if category ~= '' then
+          redis.call('ZADD', prefix .. 'index:category:' .. category, score, id)
+          redis.call('SADD', prefix .. 'categories', category)
+        end
+      end
+
+      -- 채널 해시는 복사하지 않고 멤버, 인덱스, revisions만 다음 세대로 복사
+      local function copyGeneration(generation, next)
+        local from, to = generationPrefix(generation), generationPrefix(next)
+        redis.call('ZUNIONSTORE', to .. 'members', 1, from .. 'members')
+        redis.call('ZUNIONSTORE', to .. 'index:viewers', 1, from .. 'index:viewers')
+        redis.call('SUNIONSTORE', to .. 'categories', from .. 'categories')
+        for _, category in ipairs(redis.call('SMEMBERS', from .. 'categories')) do
+          local suffix = 'index:category:' .. category
+          redis.call('ZUNIONSTORE', to .. suffix, 1, from .. suffix)
+        end
+        local revisions = revisionsOf(generation)
+        for i = 1, #revisions, 1000 do
+          redis.call('HSET', to .. 'revisions', unpack(revisions, i, math.min(i + 999, #revisions)))
+        end
+      end
+
+      local function putChannels(generation, first, ttl, merge)
+        local prefix = generationPrefix(generation)
+        local n = tonumber(ARGV[first])
+        local fields = {}
+        for j = 1, n do
+          fields[j] = ARGV[first + j]
+        end
+        local ids = {}
+        for i = first + n + 1, #ARGV, n + 3 do
+          local id, score, category = ARGV[i], ARGV[i + 1], ARGV[i + 2]
+          local key = prefix .. 'channel:' .. id
+          if merge then
+            local revision = redis.call('HGET', prefix .. 'revisions', id)
+            local previousKey = revision and generationPrefix(revision) .. 'channel:' .. id
+            local previous = previousKey
+              and redis.call('HGET', previousKey, 'liveCategoryValue')
+            if previous and previous ~= category then
+              redis.call('ZREM', prefix .. 'index:category:' .. previous, id)
+            end
+          end
+          local values = {}
+          for j = 1, n do
+            if ARGV[i + 2 + j] ~= NULL then
+              values[#values + 1] = fields[j]
+              values[#values + 1] = ARGV[i + 2 + j]
+            end
+          end
+          redis.call('DEL', key)
+          if #values > 0 then
+            redis.call('HSET', key, unpack(values))
+            redis.call('PEXPIRE', key, ttl)
+          end
+          redis.call('HSET', prefix .. 'revisions', id, generation)
+          indexChannel(prefix, id, score, category)
+          ids[#ids + 1] = id
+        end
+        return ids
+      end
+
+      local function generationKeys(prefix)
+        local keys = {
+          prefix .. 'members', prefix .. 'index:viewers', prefix .. 'categories',
+          prefix .. 'revisions'
+        }
+        for _, category in ipairs(redis.call('SMEMBERS', prefix .. 'categories')) do
+          keys[#keys + 1] = prefix .. 'index:category:' .. category
+        end
+        return keys
+      end
+
+      -- 이전 세대의 키와, 다음 세대가 더 이상 가리키지 않는 채널 해시만 유지 시간 뒤에 만료
+      local function retireGeneration(generation, next, grace)
+        local keys = generationKeys(generationPrefix(generation))
+        local nextRevisions = generationPrefix(next) .. 'revisions'
+        local revisions = revisionsOf(generation)
+        for i = 1, #revisions, 2 do
+          local id, revision = revisions[i], revisions[i + 1]
+          if redis.call('HGET', nextRevisions, id) ~= revision then
+            keys[#keys + 1] = generationPrefix(revision) .. 'channel:' .. id
+          end
+        end
+        for _, key in ipairs(keys) do
+          local ttl = redis.call('PTTL', key)
+          if ttl == -1 or ttl > tonumber(grace) then
+            redis.call('PEXPIRE', key, grace)
+          end
+        end
+      end
+
+      local function expireGenerationKeys(prefix, ttl)
+        for _, key in ipairs(generationKeys(prefix)) do
+          if redis.call('EXISTS', key) == 1 then
+            redis.call('PEXPIRE', key, ttl)
+          end
+        end
+      end
+
+      -- 교체는 받은 순서대로, 병합은 받은 채널을 복사한 멤버보다 앞 순번으로 둔 뒤 포인터를 바꿔 게시
+      local function publishGeneration(
+          versionKey, generationKey, generation, ids, ttl, grace, merge)
+        local prefix = generationPrefix(generation)
+        local base = 1
+        if merge then
+          local head = redis.call('ZRANGE', prefix .. 'members', 0, 0, 'WITHSCORES')
+          base = (tonumber(head[2]) or 1) - #ids
+        end
+        for position, id in ipairs(ids) do
+          redis.call('ZADD', prefix .. 'members', base + position - 1, id)
+        end
+        expireGenerationKeys(prefix, ttl)
+        redis.call('SET', generationKey, generation)
+        redis.call('PUBLISH', 'stream:snapshot', redis.call('INCR', versionKey))
+        retireGeneration(generation - 1, generation, grace)
+        return redis.call('ZCARD', prefix .. 'members')
+      end
+      """;
+
+  /**
+   * KEYS: 스냅샷 버전, 세대, 펜싱 토큰. ARGV: 펜싱 토큰, TTL(ms), 이전 세대 유지 시간(ms), 교체 여부, putChannels 인자
+   *
+   * <p>어느 쪽이든 다음 세대의 키 공간에 쓴 뒤 포인터를 바꿔 게시하므로, 게시된 세대는 바뀌지 않습니다. 교체 여부가 '1'이면 받은 방송만으로 다음
+   * 세대를 구성하고, 목록에 없는 채널은 새 세대에 없으므로 따로 지우지 않습니다. '0'이면 현재 세대를 복사한 뒤 받은 채널만 고치고 멤버 순서의
+   * 앞으로 옮깁니다. 현재 세대가 없으면 교체와 같이 씁니다. 버전을 올려 발행하고 저장된 방송 수를 반환합니다.
+   */
+  private static final RedisScript<Long> SAVE_CHANNELS_SCRIPT =
+      new DefaultRedisScript<>(
+          CHANNEL_FUNCTIONS
+              + """
+              if ARGV[1] ~= '0' and redis.call('GET', KEYS[3]) ~= ARGV[1] then
+                return false
+              end
+              local generation = currentGeneration(KEYS[1], KEYS[2])
+              local merge = ARGV[4] == '0'
+                and redis.call('EXISTS', generationPrefix(generation) .. 'members') == 1
+              if merge then
+                copyGeneration(generation, generation + 1)
+              end
+              local ids = putChannels(generation + 1, 5, ARGV[2], merge)
+              return publishGeneration(
+                KEYS[1], KEYS[2], generation + 1, ids, ARGV[2], ARGV[3], merge)
+              """,
+          Long.class);
+
+  /** 스크립트 인자 직렬화. 문자열은 UTF-8로, 지문(byte[])은 그대로 보냅니다. */
+  private static final RedisSerializer<Object> SCRIPT_ARGS_SERIALIZER =
+      new RedisSerializer<>() {
+        @Override
+        public byte[] serialize(Object value) {
+          return value instanceof byte[] bytes
+              ? bytes
+              : value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+          return bytes;
+        }
+      };
+
+  /**
+   * KEYS: 해시, 스테이징 해시, 펜싱 토큰. ARGV: 펜싱 토큰, TTL(ms), channelId1, 지문1, ...
+   *
+   * <p>페이지의 현재 지문을 이전 지문과 비교해 분류(0: 변경 없음, 1: 신규, 달라졌으면 이전 지문)를 반환하고 스테이징 해시에 모읍니다. 어떤
+   * 필드가 바뀌었는지는 이전 지문으로 JVM에서 계산합니다. 이전 지문은 사이클이 끝날 때까지 바꾸지 않습니다.
+   */
+  private static final RedisScript<List<Object>> STAGE_PAGE_SCRIPT =
+      listScript(
+          """
+          if ARGV[1] ~= '0' and redis.call('GET', KEYS[3]) ~= ARGV[1] then
+            return false
+          end
+          local kinds = {}
+          for i = 3, #ARGV, 2 do
+            local previous = redis.call('HGET', KEYS[1], ARGV[i])
+            if not previous then
+              kinds[#kinds + 1] = 1
+            elseif previous ~= ARGV[i + 1] then
+              kinds[#kinds + 1] = previous
+            else
+              kinds[#kinds + 1] = 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+          end
+          redis.call('PEXPIRE', KEYS[2], ARGV[2])
+          return kinds
+          """);
+
+  /**
+   * KEYS: 해시, 스테이징 해시, 펜싱 토큰. ARGV: 펜싱 토큰, TTL(ms), 전체 수집 여부('1'이면 스테이징에 없는 방송을 종료로 삭제),
+   * channelId1, 지문1, ... (스테이징한 지문 대신 저장할 지문)
+   *
+   * <p>제목 변경을 무시한 방송은 이전 제목 비트를 유지한 지문으로 스테이징 값을 바꿉니다. 스테이징 해시에서 값이 달라진 항목만 해시에 반영하고
+   * 종료된 channelId 목록을 반환합니다. 한 스크립트로 실행되므로 해시가 비어 보이는 순간이 없습니다.
+   */
+  private static final RedisScript<List<String>> COMMIT_STAGED_SCRIPT =
+      listScript(
+          """
+          if ARGV[1] ~= '0' and redis.call('GET', KEYS[3]) ~= ARGV[1] then
+            return false
+          end
+          for i = 4, #ARGV, 2 do
+            redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+          end
+          local staged = redis.call('HGETALL', KEYS[2])
+          local seen = {}
+          for i = 1, #staged, 2 do
+            seen[staged[i]] = true
+            if redis.call('HGET', KEYS[1], staged[i]) ~= staged[i + 1] then
+              redis.call('HSET', KEYS[1], staged[i], staged[i + 1])
+            end
+          end
+          local ended = {}
+          if ARGV[3] == '1' then
+            for _, id in ipairs(redis.call('HKEYS', KEYS[1])) do
+              if not seen[id] then
+                ended[#ended + 1] = id
+              end
+            end
+            for i = 1, #ended, 1000 do
+              redis.call('HDEL', KEYS[1], unpack(ended, i, math.min(i + 999, #ended)))
+            end
+          end
+          redis.call('DEL', KEYS[2])
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+          end
+          return ended
+          """);
+
+  /**
+   * KEYS: 스냅샷 버전, 해시, 세대. ARGV: TTL(ms), 이전 세대 유지 시간(ms), 지문 수 m, channelId1, 지문1, ... (m쌍),
+   * putChannels 인자
+   *
+   * <p>현재 세대에 방송이 없을 때만 다음 세대로 복원하고, 해시도 없을 때만 함께 복원합니다. 이미 값이 있으면 리더가 쓴 최신 값이므로 펜싱 없이도
+   * 덮어쓰지 않습니다.
+   */
+  private static final RedisScript<Long> RESTORE_IF_ABSENT_SCRIPT =
+      new DefaultRedisScript<>(
+          CHANNEL_FUNCTIONS
+              + """
+              local generation = currentGeneration(KEYS[1], KEYS[3])
+              if redis.call('EXISTS', generationPrefix(generation) .. 'members') == 1 then
+                return 0
+              end
+              local pairsEnd = 3 + tonumber(ARGV[3]) * 2
+              if pairsEnd > 3 and redis.call('EXISTS', KEYS[2]) == 0 then
+                local i = 4
+                while i <= pairsEnd do
+                  local last = math.min(i + 999, pairsEnd)
+                  redis.call('HSET', KEYS[2], unpack(ARGV, i, last))
+                  i = last + 1
+                end
+                redis.call('PEXPIRE', KEYS[2], ARGV[1])
+              end
+              local ids = putChannels(generation + 1, pairsEnd + 1, ARGV[1], false)
+              publishGeneration(KEYS[1], KEYS[3], generation + 1, ids, ARGV[1], ARGV[2], false)
+              return 1
+              """,
+          Long.class);
+
   private final StringRedisTemplate redisTemplate;
   private final JsonMapper jsonMapper;
+  private final StreamLeaderLease leaderLease;
+  private final StreamChangeProperties changeProperties;
+  private final StringInternPool stringInternPool;
 
   /**
-   * AI 태그가 추가된 방송 목록을 Redis에 저장합니다.
+   * AI 태그가 추가된 방송 목록을 Redis에 저장합니다. 목록에 없는 채널은 해시와 인덱스에서 지웁니다.
    *
    * @param streams EnrichedStreamDto 목록
    */
   public void saveEnrichedStreams(List<EnrichedStreamDto> streams) {
-    String json = jsonMapper.writeValueAsString(streams);
-    redisTemplate.opsForValue().set(ENRICHED_STREAMS_KEY, json, DEFAULT_TTL);
+    saveChannels(streams, true);
     log.debug("Enriched 방송 {}개 저장", streams.size());
   }
 
   /**
-   * Redis에서 Enriched 방송 목록을 조회합니다.
+   * 일부 페이지의 방송을 기존 목록에 병합하여 저장합니다.
+   *
+   * <p>받은 방송을 앞에 두고, 기존 목록에서 받지 않은 방송은 순서대로 뒤에 유지합니다. 받지 않은 방송을 종료로 보지 않으며, 다음 세대에는 현재
+   * 세대의 멤버와 인덱스만 복사하고 받은 방송의 해시만 새로 씁니다.
+   *
+   * @param seenStreams 이번에 받은 방송 목록
+   * @return 병합 후 저장된 방송 수
+   */
+  public int mergeEnrichedStreams(List<EnrichedStreamDto> seenStreams) {
+    return saveChannels(seenStreams, false);
+  }
+
+  /**
+   * 현재 게시된 스냅샷 버전을 조회합니다. 교체와 병합마다 1씩 올라가며 만료되지 않습니다.
+   *
+   * @return 스냅샷 버전, 한 번도 쓰지 않았으면 0
+   */
+  public long currentVersion() {
+    String version = redisTemplate.opsForValue().get(VERSION_KEY);
+    return version != null ? Long.parseLong(version) : 0;
+  }
+
+  /**
+   * 현재 게시된 버전과 그 세대의 전체 방송 목록을 함께 조회합니다.
    *
-   * @return EnrichedStreamDto 목록 (없으면 빈 리스트)
+   * @return 버전 번호와 방송 목록
+   * @see #findPublishedSnapshot(PublishedSnapshot)
+   */
+  public PublishedSnapshot findPublishedSnapshot() {
+    return findPublishedSnapshot(null);
+  }
+
+  /**
+   * 현재 게시된 버전과 그 세대의 전체 방송 목록을 함께 조회합니다.
+   *
+   * <p>버전과 세대를 한 번에 읽고 게시된 세대는 바뀌지 않으므로, 목록은 정확히 그 버전의 내용입니다. 이전에 읽은 스냅샷을 주면 같은 세대의 해시를
+   * 가리키는 채널은 그 방송을 그대로 쓰고, 병합이나 교체로 새로 쓴 채널의 해시만 읽습니다.
+   *
+   * @param previous 이전에 읽은 스냅샷, 없으면 null
+   * @return 버전 번호와 방송 목록
+   */
+  public PublishedSnapshot findPublishedSnapshot(PublishedSnapshot previous) {
+    List<String> pointers =
+        redisTemplate.opsForValue().multiGet(List.of(VERSION_KEY, GENERATION_KEY));
+    String version = pointers != null ? pointers.get(0) : null;
+    String generation = pointers != null ? pointers.get(1) : null;
+    long published =
+        generation != null ? Long.parseLong(generation) : legacyGeneration(version);
+    String prefix = generationPrefix(published);
+    List<Object> layout =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  connection.zSetCommands().zRange(bytes(prefix + MEMBERS_KEY), 0, -1);
+                  connection.hashCommands().hGetAll(bytes(prefix + REVISIONS_KEY));
+                  return null;
+                });
+    @SuppressWarnings("unchecked")
+    Collection<String> members = (Collection<String>) layout.get(0);
+    @SuppressWarnings("unchecked")
+    Map<String, String> storedRevisions = (Map<String, String>) layout.get(1);
+
+    Map<String, EnrichedStreamDto> previousStreams = new HashMap<>();
+    Map<String, Long> previousRevisions = Map.of();
+    if (previous != null) {
+      previous.streams().forEach(stream -> previousStreams.put(stream.channelId(), stream));
+      previousRevisions = previous.revisions();
+    }
+
+    // 이전 스냅샷과 같은 세대의 해시를 가리키는 채널은 다시 읽지 않음
+    Map<String, Long> revisions = new HashMap<>(members.size() * 2);
+    EnrichedStreamDto[] slots = new EnrichedStreamDto[members.size()];
+    List<Integer> fetchSlots = new ArrayList<>();
+    List<String> fetchKeys = new ArrayList<>();
+    int slot = 0;
+    for (String channelId : members) {
+      long revision = revisionOf(storedRevisions.get(channelId), published);
+      revisions.put(channelId, revision);
+      Long previousRevision = previousRevisions.get(channelId);
+      EnrichedStreamDto reusable =
+          previousRevision != null && previousRevision == revision
+              ? previousStreams.get(channelId)
+              : null;
+      if (reusable != null) {
+        slots[slot] = reusable;
+      } else {
+        fetchSlots.add(slot);
+        fetchKeys.add(channelKey(revision, channelId));
+      }
+      slot++;
+    }
+    List<List<?>> rows = readChannels(fetchKeys, CHANNEL_FIELD_BYTES);
+    for (int i = 0; i < rows.size(); i++) {
+      if (rows.get(i).get(1) != null) { // channelId가 없으면 해시가 없는 채널
+        slots[fetchSlots.get(i)] = decodeChannel(rows.get(i));
+      }
+    }
+    List<EnrichedStreamDto> streams = new ArrayList<>(slots.length);
+    for (EnrichedStreamDto stream : slots) {
+      if (stream != null) {
+        streams.add(stream);
+      }
+    }
+    return new PublishedSnapshot(
+        version != null ? Long.parseLong(version) : 0, streams, revisions);
+  }
+
+  /**
+   * Redis에서 전체 Enriched 방송 목록을 조회합니다.
+   *
+   * @return 저장 순서의 EnrichedStreamDto 목록 (없으면 빈 리스트)
    */
   public List<EnrichedStreamDto> findEnrichedStreams() {
-    String json = redisTemplate.opsForValue().get(ENRICHED_STREAMS_KEY);
-    if (json == null) {
-      return List.of();
+    return findAll(currentGeneration());
+  }
+
+  /**
+   * 지정한 채널의 Enriched 방송을 조회합니다.
+   *
+   * @param channelIds 조회할 channelId
+   * @return channelIds 순서의 EnrichedStreamDto 목록, 캐시에 없는 채널은 제외
+   */
+  public List<EnrichedStreamDto> findEnrichedStreams(Collection<String> channelIds) {
+    if (channelIds.isEmpty()) {
+      return List.of(); // 세대도 읽지 않음
     }
-    return jsonMapper.readValue(json, new TypeReference<>() {});
+    return findChannels(currentGeneration(), channelIds);
+  }
+
+  /**
+   * 시청자 수가 많은 순으로 방송을 조회합니다.
+   *
+   * @param limit 최대 개수
+   * @return 시청자 수 내림차순 EnrichedStreamDto 목록
+   */
+  public List<EnrichedStreamDto> findTopStreams(int limit) {
+    long generation = currentGeneration();
+    return findChannels(
+        generation, zsetRange(generation, VIEWERS_INDEX_KEY, 0, limit - 1, true));
+  }
+
+  /**
+   * 카테고리 안에서 시청자 수가 많은 순으로 방송을 조회합니다.
+   *
+   * @param category 카테고리 (예: "마인크래프트")
+   * @param limit 최대 개수
+   * @return 시청자 수 내림차순 EnrichedStreamDto 목록
+   */
+  public List<EnrichedStreamDto> findTopStreamsInCategory(String category, int limit) {
+    long generation = currentGeneration();
+    return findChannels(
+        generation,
+        zsetRange(generation, CATEGORY_INDEX_KEY_PREFIX + category, 0, limit - 1, true));
+  }
+
+  /**
+   * 태그 매칭에 필요한 필드(제목, 원본 태그, 전체 태그)만 전체 방송에 대해 조회합니다.
+   *
+   * <p>모든 방송의 점수를 매겨야 하는 태그 추천에서 썸네일, 채널명 등 나머지 필드를 읽지 않기 위해 사용합니다.
+   *
+   * @return 저장 순서의 검색용 방송 목록
+   */
+  public List<SearchableStream> findSearchableStreams() {
+    long generation = currentGeneration();
+    List<String> channelKeys =
+        channelKeys(generation, zsetRange(generation, MEMBERS_KEY, 0, -1, false));
+    List<SearchableStream> streams = new ArrayList<>();
+    for (List<?> row : readChannels(channelKeys, SEARCH_FIELD_BYTES)) {
+      if (row.get(0) != null) {
+        streams.add(
+            new SearchableStream(
+                (String) row.get(0),
+                (String) row.get(1),
+                readTags(row.get(2)),
+                readTags(row.get(3))));
+      }
+    }
+    return streams;
+  }
+
+  /**
+   * 비어 있는 캐시를 로컬 스냅샷으로 복원합니다.
+   *
+   * <p>재시작 직후 Redis가 비어 있어도 첫 수집이 끝나기 전부터 추천을 제공하기 위해 사용합니다. 해시도 함께 복원하여 다음 수집에서 모든 방송을 신규로 보고
+   * 임베딩을 다시 만들지 않게 합니다.
+   *
+   * @param streams Enriched 방송 목록
+   * @param fingerprints channelId → 변경 감지 지문
+   * @return 복원했으면 true, 이미 캐시가 있으면 false
+   */
+  public boolean restoreIfAbsent(List<EnrichedStreamDto> streams, FingerprintTable fingerprints) {
+    List<Object> args = new ArrayList<>();
+    args.add(String.valueOf(DEFAULT_TTL.toMillis()));
+    args.add(String.valueOf(RETIRED_VERSION_TTL.toMillis()));
+    args.add(String.valueOf(fingerprints.size()));
+    fingerprints.forEach(
+        (channelId, fingerprint) -> {
+          args.add(channelId);
+          args.add(StreamFingerprint.toBytes(fingerprint));
+        });
+    appendChannels(args, streams);
+    Long restored =
+        execute(
+            RESTORE_IF_ABSENT_SCRIPT,
+            RedisSerializer.string(),
+            List.of(VERSION_KEY, STREAM_HASHES_KEY, GENERATION_KEY),
+            args.toArray());
+    return restored != null && restored == 1;
   }
 
   /**
    * 신규 또는 변경된 방송을 감지합니다.
    *
-   * <p>originalTags를 해시화하여 이전 해시와 비교합니다.
+   * <p>카테고리, 기존 태그, 제목의 지문을 이전 지문과 비교합니다.
    *
    * @param currentStreams 현재 방송 목록
    * @return 변경 감지 결과 (신규, 변경됨, 종료됨)
    */
   public StreamChangeResult detectChanges(List<AllFieldLiveDto> currentStreams) {
-    // 현재 방송들의 해시 계산 (originalTags 기준)
-    // 중복 channelId가 있을 경우 마지막 값을 사용 (업스트림 API 중복 응답 대비)
-    Map<String, String> currentHashes =
-        currentStreams.stream()
-            .collect(
-                Collectors.toMap(
-                    AllFieldLiveDto::channelId,
-                    this::computeOriginalTagsHash,
-                    (existing, replacement) -> replacement));
-
-    // 이전 해시 조회
-    Map<Object, Object> previousHashEntries = redisTemplate.opsForHash().entries(STREAM_HASHES_KEY);
-    Map<String, String> previousHashes =
-        previousHashEntries.entrySet().stream()
-            .collect(Collectors.toMap(e -> (String) e.getKey(), e -> (String) e.getValue()));
-
-    // 변경 감지
-    Set<String> newStreams = new HashSet<>();
-    Set<String> changedStreams = new HashSet<>();
-
-    for (var entry : currentHashes.entrySet()) {
-      String channelId = entry.getKey();
-      String currentHash = entry.getValue();
-      String previousHash = previousHashes.get(channelId);
-
-      if (previousHash == null) { // 아예 신규 방송
-        newStreams.add(channelId);
-      } else if (!currentHash.equals(previousHash)) { // 변경된 방송
-        changedStreams.add(channelId);
-      }
-    }
+    StreamChangeDetector detector = openChangeDetection();
+    detector.accept(currentStreams);
+    return completeChangeDetection(detector);
+  }
 
-    // 종료된 방송
-    Set<String> endedStreams = new HashSet<>(previousHashes.keySet());
-    endedStreams.removeAll(currentHashes.keySet());
+  /**
+   * 페이지 단위 변경 감지를 시작합니다.
+   *
+   * <p>이전 지문을 가져오지 않고, 페이지마다 channelId와 현재 지문만 보내 Redis 안에서 비교합니다. 현재 지문은 펜싱 토큰별 스테이징 해시에 모았다가
+   * 완료 시 한 번에 반영합니다.
+   *
+   * @return Redis에서 비교하는 변경 감지기
+   */
+  public StreamChangeDetector openChangeDetection() {
+    long token = leaderLease.fencingToken();
+    String stagingKey = STAGING_HASHES_KEY_PREFIX + token;
+    redisTemplate.delete(stagingKey); // 실패한 이전 사이클이 남긴 스테이징 제거
+    return new StreamChangeDetector(
+        new StagedPageClassifier(stagingKey, token), changeProperties.getTitleSimilarity());
+  }
 
-    // 현재 해시 저장 (다음 비교를 위해)
-    saveCurrentHashes(currentHashes);
+  /**
+   * 변경 감지를 마무리하고 달라진 해시만 반영합니다. 스테이징에 없는 방송은 종료로 보고 삭제합니다.
+   *
+   * @param detector 모든 페이지를 받은 변경 감지기
+   * @return 변경 감지 결과 (신규, 변경됨, 종료됨)
+   */
+  public StreamChangeResult completeChangeDetection(StreamChangeDetector detector) {
+    StreamChangeResult result = detector.result(commitStaged(detector, true));
 
     log.info(
         "변경 감지 완료 - 신규: {}개, 변경: {}개, 종료: {}개",
-        newStreams.size(),
-        changedStreams.size(),
-        endedStreams.size());
+        result.newStreams().size(),
+        result.changedStreams().size(),
+        result.endedStreams().size());
+
+    return result;
+  }
+
+  /**
+   * 앞쪽 페이지만 받은 변경 감지를 마무리하고 받은 방송의 해시만 병합합니다.
+   *
+   * <p>받지 않은 방송의 해시는 그대로 두어 다음 전체 수집에서 종료 여부를 판단합니다.
+   *
+   * @param detector 일부 페이지를 받은 변경 감지기
+   * @return 변경 감지 결과 (신규, 변경됨, 종료 없음)
+   */
+  public StreamChangeResult completePartialChangeDetection(StreamChangeDetector detector) {
+    commitStaged(detector, false);
+    StreamChangeResult result = detector.partialResult();
+
+    log.info(
+        "부분 변경 감지 완료 - 신규: {}개, 변경: {}개",
+        result.newStreams().size(),
+        result.changedStreams().size());
+
+    return result;
+  }
+
+  /**
+   * 스테이징 해시를 해시에 반영합니다.
+   *
+   * @param replace true면 스테이징에 없는 방송을 종료로 삭제, false면 병합만
+   * @return 종료된 channelId
+   */
+  private Set<String> commitStaged(StreamChangeDetector detector, boolean replace) {
+    if (!(detector.classifier() instanceof StagedPageClassifier staged)) {
+      throw new IllegalArgumentException("Detector was not opened by this store");
+    }
+    List<Object> args = new ArrayList<>();
+    args.add(replace ? "1" : "0");
+    detector
+        .retainedFingerprints()
+        .forEach(
+            (channelId, fingerprint) -> {
+              args.add(channelId);
+              args.add(StreamFingerprint.toBytes(fingerprint));
+            });
+    List<String> ended =
+        executeFenced(
+            COMMIT_STAGED_SCRIPT,
+            List.of(STREAM_HASHES_KEY, staged.stagingKey(), StreamLeaderLease.FENCE_KEY),
+            staged.token(),
+            RedisSerializer.string(),
+            args.toArray());
+    return new HashSet<>(ended);
+  }
 
-    return new StreamChangeResult(newStreams, changedStreams, endedStreams);
+  /**
+   * 방송을 채널 해시와 인덱스에 쓰고 새 버전을 게시합니다.
+   *
+   * @param replace true면 받은 방송만으로 새 세대 구성, false면 현재 세대를 복사하고 받은 방송만 병합
+   * @return 저장 후 방송 수
+   */
+  private int saveChannels(List<EnrichedStreamDto> streams, boolean replace) {
+    List<Object> args = new ArrayList<>();
+    args.add(String.valueOf(RETIRED_VERSION_TTL.toMillis()));
+    args.add(replace ? "1" : "0");
+    appendChannels(args, streams);
+    Long count =
+        executeFenced(
+            SAVE_CHANNELS_SCRIPT,
+            List.of(VERSION_KEY, GENERATION_KEY, StreamLeaderLease.FENCE_KEY),
+            leaderLease.fencingToken(),
+            RedisSerializer.string(),
+            args.toArray());
+    return count.intValue();
+  }
+
+  /** putChannels 스크립트 인자(필드 수, 필드 이름, 방송별 channelId, 시청자 수, 카테고리, 필드 값)를 붙입니다. */
+  private void appendChannels(List<Object> args, List<EnrichedStreamDto> streams) {
+    args.add(String.valueOf(CHANNEL_FIELDS.length));
+    args.addAll(List.of(CHANNEL_FIELDS));
+    for (EnrichedStreamDto stream : streams) {
+      Integer viewers = stream.concurrentUserCount();
+      String category = stream.liveCategoryValue();
+      args.add(stream.channelId());
+      args.add(String.valueOf(viewers != null ? viewers : 0));
+      args.add(category != null && !category.isBlank() ? category : "");
+
+      args.add(String.valueOf(stream.liveId()));
+      args.add(valueOrNull(stream.channelId()));
+      args.add(valueOrNull(stream.liveTitle()));
+      args.add(valueOrNull(stream.liveThumbnailImageUrl()));
+      args.add(valueOrNull(viewers));
+      args.add(valueOrNull(stream.channelName()));
+      args.add(valueOrNull(category));
+      args.add(tagsOrNull(stream.originalTags()));
+      args.add(tagsOrNull(stream.enrichedTags()));
+    }
   }
 
-  private void saveCurrentHashes(Map<String, String> currentHashes) {
-    redisTemplate.delete(STREAM_HASHES_KEY);
-    if (!currentHashes.isEmpty()) {
-      redisTemplate.opsForHash().putAll(STREAM_HASHES_KEY, currentHashes);
-      redisTemplate.expire(STREAM_HASHES_KEY, DEFAULT_TTL);
+  /** 현재 세대. 세대 포인터가 없던 이전 형식이면 버전 번호가 곧 세대입니다. */
+  private long currentGeneration() {
+    String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+    return generation != null
+        ? Long.parseLong(generation)
+        : legacyGeneration(redisTemplate.opsForValue().get(VERSION_KEY));
+  }
+
+  private static long legacyGeneration(String version) {
+    return version != null ? Long.parseLong(version) : 0;
+  }
+
+  /** 한 세대의 전체 방송을 저장 순서대로 읽습니다. */
+  private List<EnrichedStreamDto> findAll(long generation) {
+    return findChannels(generation, zsetRange(generation, MEMBERS_KEY, 0, -1, false));
+  }
+
+  /** 한 세대에서 지정한 채널을 읽습니다. 해시가 없는 채널은 제외합니다. */
+  private List<EnrichedStreamDto> findChannels(long generation, Collection<String> channelIds) {
+    List<EnrichedStreamDto> streams = new ArrayList<>(channelIds.size());
+    for (List<?> row : readChannels(channelKeys(generation, channelIds), CHANNEL_FIELD_BYTES)) {
+      if (row.get(1) != null) { // channelId가 없으면 해시가 없는 채널
+        streams.add(decodeChannel(row));
+      }
+    }
+    return streams;
+  }
+
+  /** CHANNEL_FIELDS 순서의 HMGET 결과를 방송으로 변환합니다. */
+  private EnrichedStreamDto decodeChannel(List<?> row) {
+    String liveId = (String) row.get(0);
+    String viewers = (String) row.get(4);
+    return new EnrichedStreamDto(
+        liveId != null ? Integer.parseInt(liveId) : 0,
+        (String) row.get(1),
+        (String) row.get(2),
+        (String) row.get(3),
+        viewers != null ? Integer.valueOf(viewers) : null,
+        (String) row.get(5),
+        (String) row.get(6),
+        readTags(row.get(7)),
+        readTags(row.get(8)));
+  }
+
+  private Object tagsOrNull(List<String> tags) {
+    return tags != null ? jsonMapper.writeValueAsString(tags) : NULL_VALUE;
+  }
+
+  /**
+   * 태그 JSON 배열을 바인딩 없이 토큰 단위로 읽습니다.
+   *
+   * <p>태그는 응답 디코더와 함께 쓰는 {@link StringInternPool}로 인터닝하여 전체 목록을 읽을 때 방송마다 같은 태그 문자열을 새로 만들지 않습니다.
+   */
+  private List<String> readTags(Object json) {
+    if (json == null) {
+      return null;
+    }
+    try (JsonParser parser = jsonMapper.createParser((String) json)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new StreamReadException(
+            parser, "Expected tag array but was " + parser.currentToken());
+      }
+      List<String> tags = new ArrayList<>();
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token == JsonToken.VALUE_NULL) {
+          tags.add(null);
+        } else if (token == JsonToken.VALUE_STRING) {
+          tags.add(
+              stringInternPool.intern(
+                  parser.getStringCharacters(),
+                  parser.getStringOffset(),
+                  parser.getStringLength()));
+        } else {
+          throw new StreamReadException(parser, "Expected tag string but was " + token);
+        }
+      }
+      return tags;
+    }
+  }
+
+  /**
+   * 한 세대에서 채널마다 읽을 해시의 키를 구합니다.
+   *
+   * @return channelIds 순서의 채널 해시 키
+   */
+  private List<String> channelKeys(long generation, Collection<String> channelIds) {
+    if (channelIds.isEmpty()) {
+      return List.of();
+    }
+    List<Object> revisions =
+        redisTemplate
+            .opsForHash()
+            .multiGet(generationPrefix(generation) + REVISIONS_KEY, List.copyOf(channelIds));
+    List<String> keys = new ArrayList<>(channelIds.size());
+    int i = 0;
+    for (String channelId : channelIds) {
+      keys.add(channelKey(revisionOf((String) revisions.get(i++), generation), channelId));
     }
+    return keys;
+  }
+
+  /** revisions 해시의 값. 없으면(revisions 도입 전 세대) 해시가 그 세대에 있습니다. */
+  private static long revisionOf(String revision, long generation) {
+    return revision != null ? Long.parseLong(revision) : generation;
+  }
+
+  private static String channelKey(long revision, String channelId) {
+    return generationPrefix(revision) + CHANNEL_KEY_PREFIX + channelId;
   }
 
   /**
-   * originalTags 기준으로 해시를 계산합니다.
+   * 채널 해시의 필드를 한 번의 파이프라인으로 HMGET합니다.
    *
-   * <p>카테고리 + 기존 태그만 사용하여 AI 태그 변경과 무관하게 비교합니다.
+   * @return channelKeys 순서의 필드 값 목록, 해시가 없는 채널은 모든 값이 null
    */
-  private String computeOriginalTagsHash(AllFieldLiveDto stream) {
-    StringBuilder sb = new StringBuilder();
+  private List<List<?>> readChannels(List<String> channelKeys, byte[][] fields) {
+    if (channelKeys.isEmpty()) {
+      return List.of();
+    }
+    List<Object> rows =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (String channelKey : channelKeys) {
+                    connection.hashCommands().hMGet(bytes(channelKey), fields);
+                  }
+                  return null;
+                });
+    List<List<?>> result = new ArrayList<>(rows.size());
+    for (Object row : rows) {
+      result.add((List<?>) row);
+    }
+    return result;
+  }
+
+  private Set<String> zsetRange(
+      long generation, String suffix, long start, long end, boolean reverse) {
+    String key = generationPrefix(generation) + suffix;
+    Set<String> members =
+        reverse
+            ? redisTemplate.opsForZSet().reverseRange(key, start, end)
+            : redisTemplate.opsForZSet().range(key, start, end);
+    return members != null ? members : Set.of();
+  }
+
+  private static String generationPrefix(long generation) {
+    return GENERATION_KEY_PREFIX + generation + ":";
+  }
 
-    // 카테고리
-    if (stream.liveCategoryValue() != null) {
-      sb.append(stream.liveCategoryValue());
+  private static byte[] bytes(String key) {
+    return key.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Object valueOrNull(Object value) {
+    return value != null ? value.toString() : NULL_VALUE;
+  }
+
+  private static byte[][] toBytes(String[] values) {
+    byte[][] bytes = new byte[values.length][];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = values[i].getBytes(StandardCharsets.UTF_8);
+    }
+    return bytes;
+  }
+
+  /** 페이지 지문을 Redis에서 이전 지문과 비교하고 스테이징 해시에 모으는 분류기. */
+  private final class StagedPageClassifier implements StreamChangeDetector.PageClassifier {
+
+    private final String stagingKey;
+    private final long token;
+
+    private StagedPageClassifier(String stagingKey, long token) {
+      this.stagingKey = stagingKey;
+      this.token = token;
     }
-    sb.append("|");
 
-    // 기존 태그
-    if (stream.tags() != null) {
-      sb.append(String.join(",", stream.tags()));
+    String stagingKey() {
+      return stagingKey;
     }
-    sb.append("|");
 
-    // 제목도 포함 (제목 변경 시 태그 재추출 필요)
-    if (stream.liveTitle() != null) {
-      sb.append(stream.liveTitle());
+    long token() {
+      return token;
     }
 
-    return DigestUtils.md5DigestAsHex(sb.toString().getBytes());
+    @Override
+    public int[] classify(
+        List<String> channelIds, long[] fingerprints, long[] previousFingerprints) {
+      Object[] pairs = new Object[fingerprints.length * 2];
+      for (int i = 0; i < fingerprints.length; i++) {
+        pairs[i * 2] = channelIds.get(i);
+        pairs[i * 2 + 1] = StreamFingerprint.toBytes(fingerprints[i]);
+      }
+      List<Object> kinds =
+          executeFenced(
+              STAGE_PAGE_SCRIPT,
+              List.of(STREAM_HASHES_KEY, stagingKey, StreamLeaderLease.FENCE_KEY),
+              token,
+              SCRIPT_ARGS_SERIALIZER,
+              pairs);
+
+      int[] result = new int[kinds.size()];
+      for (int i = 0; i < result.length; i++) {
+        if (kinds.get(i) instanceof byte[] previous) {
+          result[i] = StreamChangeDetector.CHANGED;
+          // 형식이 다른 이전 값(지문 도입 전 해시)은 모든 필드가 바뀐 것으로 봄
+          previousFingerprints[i] =
+              previous.length == StreamFingerprint.BYTES
+                  ? StreamFingerprint.fromBytes(previous)
+                  : ~fingerprints[i];
+        } else {
+          result[i] = ((Long) kinds.get(i)).intValue();
+        }
+      }
+      return result;
+    }
   }
 
-  /** 변경 감지 결과. */
+  /**
+   * 펜싱 토큰과 TTL을 앞에 붙여 스크립트를 실행합니다. 마지막 키는 펜싱 토큰 키입니다.
+   *
+   * @param resultSerializer 결과의 문자열 값을 읽는 방식
+   * @throws IllegalStateException 더 최신 토큰이 발급되어 스크립트가 거부된 경우 (nil 반환)
+   */
+  private <T> T executeFenced(
+      RedisScript<T> script,
+      List<String> keys,
+      long token,
+      RedisSerializer<?> resultSerializer,
+      Object... values) {
+    Object[] args = new Object[values.length + 2];
+    args[0] = String.valueOf(token);
+    args[1] = String.valueOf(DEFAULT_TTL.toMillis());
+    System.arraycopy(values, 0, args, 2, values.length);
+
+    T result = execute(script, resultSerializer, keys, args);
+    if (result == null) {
+      throw new IllegalStateException(
+          "Write to " + keys.getFirst() + " rejected, fencing token " + token + " is stale");
+    }
+    return result;
+  }
+
+  /** 바이너리 지문 인자를 그대로 보내도록 스크립트를 실행합니다. */
+  @SuppressWarnings("unchecked")
+  private <T> T execute(
+      RedisScript<T> script,
+      RedisSerializer<?> resultSerializer,
+      List<String> keys,
+      Object... args) {
+    return redisTemplate.execute(
+        script, SCRIPT_ARGS_SERIALIZER, (RedisSerializer<T>) resultSerializer, keys, args);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> RedisScript<List<T>> listScript(String source) {
+    return new DefaultRedisScript<>(source, (Class) List.class);
+  }
+
+  /**
+   * 한 버전에서 읽은 방송 목록.
+   *
+   * @param version 스냅샷 버전, 한 번도 쓰지 않았으면 0
+   * @param streams 저장 순서의 EnrichedStreamDto 목록
+   * @param revisions channelId → 읽은 해시를 쓴 세대 (다음 조회에서 바뀌지 않은 방송을 재사용하는 기준)
+   */
+  public record PublishedSnapshot(
+      long version, List<EnrichedStreamDto> streams, Map<String, Long> revisions) {}
+
+  /**
+   * 태그 매칭용 방송 필드.
+   *
+   * @param channelId 채널 ID
+   * @param liveTitle 방송 제목
+   * @param originalTags 원본 태그 (카테고리 + 기존 태그)
+   * @param enrichedTags 전체 태그
+   */
+  public record SearchableStream(
+      String channelId, String liveTitle, List<String> originalTags, List<String> enrichedTags) {}
+
+  /**
+   * 변경 감지 결과.
+   *
+   * @param newStreams 신규 방송
+   * @param changedStreams 한 종류 이상 바뀐 방송
+   * @param endedStreams 종료된 방송
+   * @param changeMasks 신규 + 변경된 방송의 {@link StreamChangeKind} 비트마스크
+   */
   public record StreamChangeResult(
-      Set<String> newStreams, Set<String> changedStreams, Set<String> endedStreams) {
+      Set<String> newStreams,
+      Set<String> changedStreams,
+      Set<String> endedStreams,
+      Map<String, Integer> changeMasks) {
+
+    /** 바뀐 종류를 모르는 결과를 만듭니다. 변경된 방송은 내용({@link StreamChangeKind#CONTENT})이 바뀐 것으로 봅니다. */
+    public StreamChangeResult(
+        Set<String> newStreams, Set<String> changedStreams, Set<String> endedStreams) {
+      this(newStreams, changedStreams, endedStreams, masksOf(newStreams, changedStreams));
+    }
 
     /** 신규 또는 변경된 방송이 있는지 확인합니다. */
     public boolean hasChanges() {
@@ -165,5 +1071,30 @@ public class StreamRedisStore {
       all.addAll(changedStreams);
       return all;
     }
+
+    /**
+     * 구독한 종류 중 하나라도 해당하는 channelId를 반환합니다.
+     *
+     * @param kinds {@link StreamChangeKind} 비트마스크 (신규 방송을 받으려면 {@link StreamChangeKind#NEW} 포함)
+     * @return 해당하는 신규 또는 변경된 channelId
+     */
+    public Set<String> changedIds(int kinds) {
+      Set<String> ids = new HashSet<>();
+      changeMasks.forEach(
+          (channelId, mask) -> {
+            if ((mask & kinds) != 0) {
+              ids.add(channelId);
+            }
+          });
+      return ids;
+    }
+
+    private static Map<String, Integer> masksOf(
+        Set<String> newStreams, Set<String> changedStreams) {
+      Map<String, Integer> masks = new HashMap<>();
+      changedStreams.forEach(channelId -> masks.put(channelId, StreamChangeKind.CONTENT));
+      newStreams.forEach(channelId -> masks.put(channelId, StreamChangeKind.NEW.bit()));
+      return masks;
+    }
   }
 }
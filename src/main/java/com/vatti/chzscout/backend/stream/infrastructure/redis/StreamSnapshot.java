@@ -0,0 +1,124 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.SearchableStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 한 스냅샷 버전의 불변 방송 목록.
+ *
+ * <p>요청은 {@link StreamSnapshotCache#pin()}으로 스냅샷을 한 번 정하고 끝까지 같은 스냅샷을 읽습니다. 같은 버전 안에서는 방송 목록이
+ * 바뀌지 않으므로 추천 결과처럼 방송 목록에서 계산한 값을 {@link #derive}로 이 스냅샷에 저장해 재사용할 수 있고, 새 버전으로 교체되면 함께
+ * 버려집니다.
+ */
+public final class StreamSnapshot {
+
+  /** 버전마다 저장하는 파생 값의 최대 개수. 넘으면 저장하지 않고 계산만 합니다. */
+  static final int MAX_DERIVED_ENTRIES = 1024;
+
+  private final long version;
+  private final List<EnrichedStreamDto> streams;
+  private final Map<String, EnrichedStreamDto> byChannelId;
+  private final List<SearchableStream> searchable;
+  private final Map<Object, Object> derived = new ConcurrentHashMap<>();
+
+  private StreamSnapshot(
+      long version,
+      List<EnrichedStreamDto> streams,
+      Map<String, EnrichedStreamDto> byChannelId,
+      List<SearchableStream> searchable) {
+    this.version = version;
+    this.streams = streams;
+    this.byChannelId = byChannelId;
+    this.searchable = searchable;
+  }
+
+  /**
+   * 방송 목록으로 스냅샷을 만듭니다.
+   *
+   * @param version 스냅샷 버전
+   * @param streams 저장 순서의 EnrichedStreamDto 목록
+   * @return 불변 스냅샷
+   */
+  public static StreamSnapshot of(long version, List<EnrichedStreamDto> streams) {
+    Map<String, EnrichedStreamDto> byChannelId = new HashMap<>(streams.size() * 2);
+    List<SearchableStream> searchable = new ArrayList<>(streams.size());
+    for (EnrichedStreamDto stream : streams) {
+      byChannelId.putIfAbsent(stream.channelId(), stream);
+      searchable.add(
+          new SearchableStream(
+              stream.channelId(),
+              stream.liveTitle(),
+              stream.originalTags(),
+              stream.enrichedTags()));
+    }
+    return new StreamSnapshot(
+        version, List.copyOf(streams), Map.copyOf(byChannelId), List.copyOf(searchable));
+  }
+
+  /** 스냅샷 버전. 읽기 전이면 -1입니다. */
+  public long version() {
+    return version;
+  }
+
+  /** 저장 순서의 전체 방송 목록. */
+  public List<EnrichedStreamDto> streams() {
+    return streams;
+  }
+
+  /** 저장 순서의 태그 매칭용 방송 필드. */
+  public List<SearchableStream> searchable() {
+    return searchable;
+  }
+
+  /**
+   * 지정한 채널의 방송을 조회합니다.
+   *
+   * @param channelIds 조회할 channelId
+   * @return channelIds 순서의 EnrichedStreamDto 목록, 이 스냅샷에 없는 채널은 제외
+   */
+  public List<EnrichedStreamDto> findEnrichedStreams(Collection<String> channelIds) {
+    List<EnrichedStreamDto> found = new ArrayList<>(channelIds.size());
+    for (String channelId : channelIds) {
+      EnrichedStreamDto stream = byChannelId.get(channelId);
+      if (stream != null) {
+        found.add(stream);
+      }
+    }
+    return found;
+  }
+
+  /** channelId로 방송을 찾습니다. 없으면 null입니다. */
+  EnrichedStreamDto get(String channelId) {
+    return byChannelId.get(channelId);
+  }
+
+  /**
+   * 이 스냅샷에서 계산한 값을 재사용합니다. 처음이면 계산하여 저장합니다.
+   *
+   * <p>값은 방송 목록과 key에만 의존해야 하며, 여러 요청이 공유하므로 불변이어야 합니다. 동시에 처음 요청되면 중복 계산될 수 있습니다.
+   *
+   * @param key equals/hashCode를 구현한 값 종류 + 입력 (예: record)
+   * @param compute 값을 계산하는 함수
+   * @return 저장된 값 또는 새로 계산한 값
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T derive(Object key, Supplier<T> compute) {
+    Object cached = derived.get(key);
+    if (cached != null) {
+      return (T) cached;
+    }
+    T value = compute.get();
+    if (value != null && derived.size() < MAX_DERIVED_ENTRIES) {
+      Object previous = derived.putIfAbsent(key, value);
+      return previous != null ? (T) previous : value;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,202 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import com.vatti.chzscout.backend.stream.config.StreamNearCacheProperties;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.event.StreamCacheRefreshedEvent;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.PublishedSnapshot;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방송 스냅샷의 JVM 로컬 캐시.
+ *
+ * <p>{@link StreamRedisStore}에 게시된 한 버전의 방송 목록을 {@link StreamSnapshot}으로 올려 두고, 조회는 volatile 참조
+ * 하나를 읽어 락 없이 처리합니다. 리더 노드는 {@link StreamCacheRefreshedEvent}에서, 다른 노드는 {@link
+ * StreamRedisStore#SNAPSHOT_CHANNEL} 알림에서 새 버전을 읽어 통째로 교체하며, 이전 스냅샷에서 리비전이 바뀌지 않은 방송은
+ * 다시 읽지 않습니다. 알림을 놓치더라도 {@code maxStaleness}마다 Redis의 버전을 확인하므로 그 이상 오래된 스냅샷을 반환하지
+ * 않습니다.
+ *
+ * <p>여러 번 읽는 요청은 {@link #pin()}으로 스냅샷을 한 번 정해 같은 버전만 읽습니다. 스냅샷에 없는 channelId를 받는 {@link
+ * #findEnrichedStreams(Collection)}는 캐시가 갱신되기 전의 신규 방송일 수 있으므로 Redis의 최신 버전에서 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamSnapshotCache {
+
+  private static final Loaded NOT_LOADED =
+      new Loaded(StreamSnapshot.of(-1, List.of()), null, 0);
+
+  private final StreamRedisStore streamRedisStore;
+  private final StreamNearCacheProperties nearCacheProperties;
+
+  private volatile Loaded loaded = NOT_LOADED;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder fallbacks = new LongAdder();
+  private final LongAdder reloads = new LongAdder();
+
+  /**
+   * 현재 스냅샷을 정합니다. 요청 안에서 여러 번 읽을 때 이 스냅샷만 읽으면 도중에 교체되어도 두 버전이 섞이지 않습니다.
+   *
+   * @return 현재 스냅샷, 비활성화되어 있으면 Redis에서 새로 읽은 스냅샷
+   */
+  public StreamSnapshot pin() {
+    if (!nearCacheProperties.isEnabled()) {
+      PublishedSnapshot published = streamRedisStore.findPublishedSnapshot(null);
+      return StreamSnapshot.of(published.version(), published.streams());
+    }
+    return current();
+  }
+
+  /**
+   * 전체 Enriched 방송 목록을 조회합니다.
+   *
+   * @return 저장 순서의 불변 EnrichedStreamDto 목록
+   */
+  public List<EnrichedStreamDto> findEnrichedStreams() {
+    if (!nearCacheProperties.isEnabled()) {
+      return streamRedisStore.findEnrichedStreams();
+    }
+    return current().streams();
+  }
+
+  /**
+   * 지정한 채널의 Enriched 방송을 조회합니다. 스냅샷에 없는 채널만 Redis에서 읽습니다.
+   *
+   * @param channelIds 조회할 channelId
+   * @return channelIds 순서의 EnrichedStreamDto 목록, 어디에도 없는 채널은 제외
+   */
+  public List<EnrichedStreamDto> findEnrichedStreams(Collection<String> channelIds) {
+    if (!nearCacheProperties.isEnabled()) {
+      return streamRedisStore.findEnrichedStreams(channelIds);
+    }
+    StreamSnapshot snapshot = current();
+    List<String> missingIds = new ArrayList<>();
+    for (String channelId : channelIds) {
+      if (snapshot.get(channelId) == null) {
+        missingIds.add(channelId);
+      }
+    }
+    if (missingIds.isEmpty()) {
+      return snapshot.findEnrichedStreams(channelIds);
+    }
+
+    fallbacks.increment();
+    Map<String, EnrichedStreamDto> fetched = new HashMap<>();
+    for (EnrichedStreamDto stream : streamRedisStore.findEnrichedStreams(missingIds)) {
+      fetched.put(stream.channelId(), stream);
+    }
+    List<EnrichedStreamDto> streams = new ArrayList<>(channelIds.size());
+    for (String channelId : channelIds) {
+      EnrichedStreamDto stream = snapshot.get(channelId);
+      if (stream == null) {
+        stream = fetched.get(channelId);
+      }
+      if (stream != null) {
+        streams.add(stream);
+      }
+    }
+    return streams;
+  }
+
+  /** 리더 노드의 갱신이 끝나면 새 스냅샷을 읽습니다. */
+  @EventListener(StreamCacheRefreshedEvent.class)
+  public void onStreamCacheRefreshed() {
+    if (nearCacheProperties.isEnabled()) {
+      refresh(null);
+    }
+  }
+
+  /**
+   * 다른 노드가 발행한 스냅샷 버전 알림을 처리합니다. 이미 같거나 더 새로운 버전을 가지고 있으면 무시합니다.
+   *
+   * @param version 발행된 스냅샷 버전
+   */
+  public void onVersionPublished(long version) {
+    if (nearCacheProperties.isEnabled() && version > loaded.snapshot().version()) {
+      refreshTo(version);
+    }
+  }
+
+  /** 캐시 적중 통계. */
+  public NearCacheStats stats() {
+    return new NearCacheStats(
+        loaded.snapshot().version(), hits.sum(), misses.sum(), fallbacks.sum(), reloads.sum());
+  }
+
+  /** 스냅샷을 반환합니다. 아직 읽지 않았거나 확인한 지 오래됐으면 먼저 Redis의 버전을 확인합니다. */
+  private StreamSnapshot current() {
+    Loaded current = loaded;
+    if (current != NOT_LOADED
+        && System.nanoTime() - current.verifiedAtNanos()
+            < nearCacheProperties.getMaxStaleness().toNanos()) {
+      hits.increment();
+      return current.snapshot();
+    }
+    misses.increment();
+    return refresh(current);
+  }
+
+  /** 락을 기다리는 동안 다른 스레드가 그 버전 이상을 읽었으면 다시 확인하지 않습니다. */
+  private synchronized void refreshTo(long version) {
+    if (loaded.snapshot().version() < version) {
+      refresh(null);
+    }
+  }
+
+  /**
+   * Redis의 스냅샷 버전을 확인하고, 바뀌었으면 그 버전의 방송 목록을 읽어 교체합니다.
+   *
+   * @param seen 호출한 스레드가 오래됐다고 본 스냅샷. 락을 기다리는 동안 다른 스레드가 이를 교체하거나 다시 확인했으면 그 결과를 그대로
+   *     돌려주므로, 동시에 오래된 스냅샷을 본 요청들이 버전을 한 번씩 확인하지 않습니다. null이면 항상 확인합니다.
+   */
+  private synchronized StreamSnapshot refresh(Loaded seen) {
+    Loaded current = loaded;
+    if (seen != null && current != seen) {
+      return current.snapshot();
+    }
+    if (current != NOT_LOADED
+        && streamRedisStore.currentVersion() == current.snapshot().version()) {
+      loaded = new Loaded(current.snapshot(), current.published(), System.nanoTime());
+      return current.snapshot();
+    }
+
+    // 이전 스냅샷을 넘겨 병합으로 바뀐 방송의 해시만 다시 읽음
+    PublishedSnapshot published = streamRedisStore.findPublishedSnapshot(current.published());
+    StreamSnapshot snapshot = StreamSnapshot.of(published.version(), published.streams());
+    loaded = new Loaded(snapshot, published, System.nanoTime());
+    reloads.increment();
+    log.info(
+        "방송 스냅샷 캐시 교체 - version {}, {}개 방송 (hit {}, miss {})",
+        snapshot.version(),
+        snapshot.streams().size(),
+        hits.sum(),
+        misses.sum());
+    return snapshot;
+  }
+
+  /**
+   * 캐시 적중 통계.
+   *
+   * @param version 현재 스냅샷 버전, 읽기 전이면 -1
+   * @param hits 확인한 지 오래되지 않은 스냅샷으로 응답한 조회 수
+   * @param misses 먼저 Redis의 버전을 확인하거나 스냅샷을 읽어야 했던 조회 수
+   * @param fallbacks 스냅샷에 없는 channelId가 있어 Redis에서 읽은 조회 수
+   * @param reloads 스냅샷을 다시 읽은 횟수
+   */
+  public record NearCacheStats(
+      long version, long hits, long misses, long fallbacks, long reloads) {}
+
+  /** 올려 둔 스냅샷, 그 스냅샷을 읽은 결과(읽기 전이면 null), 버전을 마지막으로 확인한 시각. */
+  private record Loaded(
+      StreamSnapshot snapshot, PublishedSnapshot published, long verifiedAtNanos) {}
+}
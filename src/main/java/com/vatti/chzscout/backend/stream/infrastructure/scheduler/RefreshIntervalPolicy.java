@@ -0,0 +1,69 @@
+package com.vatti.chzscout.backend.stream.infrastructure.scheduler;
+
+import com.vatti.chzscout.backend.stream.config.StreamRefreshProperties;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.StreamChangeResult;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경량 기반 갱신 주기 정책.
+ *
+ * <p>갱신마다 신규 + 변경 + 종료 방송 수를 지수 평활하여, 기준값 대비 비율만큼 최대 주기에서 최소 주기 쪽으로 줄입니다. 프라임 타임에는 짧게, 새벽에는
+ * 길게 갱신하여 API 호출과 임베딩 호출을 변경량에 맞춥니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshIntervalPolicy {
+
+  private final StreamRefreshProperties refreshProperties;
+
+  private double smoothedChurn = -1;
+  private Duration lastInterval;
+
+  /**
+   * 직전 갱신 결과로 다음 갱신까지의 주기를 계산합니다.
+   *
+   * @param changeResult 직전 갱신의 변경 감지 결과, 갱신이 실패했으면 null
+   * @return 지터가 적용된 다음 갱신 주기
+   */
+  public synchronized Duration nextInterval(StreamChangeResult changeResult) {
+    if (changeResult != null) {
+      lastInterval = intervalFor(smooth(churnOf(changeResult)));
+    } else if (lastInterval == null) {
+      lastInterval = refreshProperties.getInitialInterval();
+    }
+    return withJitter(lastInterval);
+  }
+
+  /** 신규 + 내용 변경 + 종료 방송 수. 시청자 수 구간만 바뀐 방송은 세지 않습니다. */
+  private static int churnOf(StreamChangeResult changeResult) {
+    return changeResult.changedIds(StreamChangeKind.NEW.bit() | StreamChangeKind.CONTENT).size()
+        + changeResult.endedStreams().size();
+  }
+
+  private double smooth(int churn) {
+    double alpha = refreshProperties.getSmoothing();
+    smoothedChurn = smoothedChurn < 0 ? churn : alpha * churn + (1 - alpha) * smoothedChurn;
+    return smoothedChurn;
+  }
+
+  /** 변경량 비율만큼 최대 주기에서 최소 주기 쪽으로 선형 보간합니다. */
+  private Duration intervalFor(double churn) {
+    long minMillis = refreshProperties.getMinInterval().toMillis();
+    long maxMillis = Math.max(minMillis, refreshProperties.getMaxInterval().toMillis());
+    double ratio = Math.min(1.0, churn / refreshProperties.getHighChurnThreshold());
+    return Duration.ofMillis(Math.round(maxMillis - (maxMillis - minMillis) * ratio));
+  }
+
+  private Duration withJitter(Duration interval) {
+    double jitterRatio = refreshProperties.getJitterRatio();
+    if (jitterRatio <= 0) {
+      return interval;
+    }
+    double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+    return Duration.ofMillis(Math.round(interval.toMillis() * factor));
+  }
+}
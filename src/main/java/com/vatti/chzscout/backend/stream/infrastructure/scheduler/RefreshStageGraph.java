@@ -0,0 +1,150 @@
+package com.vatti.chzscout.backend.stream.infrastructure.scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 갱신 사이클을 구성하는 단계의 의존 그래프.
+ *
+ * <p>각 단계는 선행 단계가 모두 성공하면 바로 실행되므로, 서로 의존하지 않는 단계는 동시에 진행되고 사이클 시간은 가장 긴 의존 경로의 길이가 됩니다. 한
+ * 단계가 실패하면 그 단계에 의존하는 단계만 건너뛰고 나머지는 계속 진행합니다. 단계마다 소요 시간과 처리 건수를 {@link StageResult}로 남깁니다.
+ */
+@Slf4j
+public class RefreshStageGraph {
+
+  private final Executor executor;
+  private final List<Stage<?>> stages = new ArrayList<>();
+
+  public RefreshStageGraph(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * 단계를 추가합니다. 선행 단계가 모두 성공하면 executor에서 실행됩니다.
+   *
+   * @param name 단계 이름 (로그용)
+   * @param body 단계 본문, 반환값은 후행 단계에서 {@link Stage#get()}으로 사용
+   * @param itemCounter 반환값에서 처리 건수를 계산하는 함수
+   * @param requires 선행 단계
+   * @return 추가된 단계
+   */
+  public <T> Stage<T> stage(
+      String name, Supplier<T> body, ToIntFunction<? super T> itemCounter, Stage<?>... requires) {
+    CompletableFuture<?>[] dependencies = new CompletableFuture<?>[requires.length];
+    for (int i = 0; i < requires.length; i++) {
+      dependencies[i] = requires[i].future;
+    }
+
+    Stage<T> stage = new Stage<>(name);
+    stage.future =
+        CompletableFuture.allOf(dependencies)
+            .thenApplyAsync(ignored -> stage.execute(body, itemCounter), executor);
+    stages.add(stage);
+    return stage;
+  }
+
+  /**
+   * 모든 단계가 끝날 때까지 기다립니다.
+   *
+   * @return 추가한 순서대로의 단계 결과, 선행 단계 실패로 실행되지 않은 단계는 SKIPPED
+   */
+  public List<StageResult> await() {
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[stages.size()];
+    for (int i = 0; i < stages.size(); i++) {
+      // 실패한 단계도 끝난 것으로 보고 나머지 단계를 기다림
+      futures[i] = stages.get(i).future.exceptionally(e -> null);
+    }
+    CompletableFuture.allOf(futures).join();
+
+    List<StageResult> results = new ArrayList<>(stages.size());
+    for (Stage<?> stage : stages) {
+      StageResult result = stage.result;
+      results.add(result != null ? result : StageResult.skipped(stage.name));
+    }
+    return results;
+  }
+
+  /** 그래프의 한 단계. */
+  public static final class Stage<T> {
+
+    private final String name;
+    private CompletableFuture<T> future;
+    private volatile StageResult result;
+
+    private Stage(String name) {
+      this.name = name;
+    }
+
+    /**
+     * 단계의 반환값. 후행 단계 본문에서는 이미 완료된 값을 바로 반환합니다.
+     *
+     * @throws java.util.concurrent.CompletionException 단계가 실패했거나 건너뛴 경우
+     */
+    public T get() {
+      return future.join();
+    }
+
+    /** 단계가 성공했는지 확인합니다. 완료 전이면 false. */
+    public boolean succeeded() {
+      StageResult current = result;
+      return current != null && current.status() == StageStatus.SUCCEEDED;
+    }
+
+    private T execute(Supplier<T> body, ToIntFunction<? super T> itemCounter) {
+      long startedAt = System.nanoTime();
+      try {
+        T value = body.get();
+        int itemCount = itemCounter.applyAsInt(value);
+        result = new StageResult(name, StageStatus.SUCCEEDED, elapsedSince(startedAt), itemCount);
+        return value;
+      } catch (Throwable e) {
+        // Error도 실패로 남겨야 건너뛴 단계와 구분됨
+        result = new StageResult(name, StageStatus.FAILED, elapsedSince(startedAt), 0);
+        log.error("Refresh stage {} failed", name, e);
+        throw e;
+      }
+    }
+  }
+
+  /** 단계 실행 상태. */
+  public enum StageStatus {
+    SUCCEEDED,
+    FAILED,
+    SKIPPED
+  }
+
+  /**
+   * 단계 실행 결과.
+   *
+   * @param name 단계 이름
+   * @param status 실행 상태
+   * @param duration 소요 시간, 건너뛴 단계는 0
+   * @param itemCount 처리 건수, 실패하거나 건너뛴 단계는 0
+   */
+  public record StageResult(String name, StageStatus status, Duration duration, int itemCount) {
+
+    static StageResult skipped(String name) {
+      return new StageResult(name, StageStatus.SKIPPED, Duration.ZERO, 0);
+    }
+
+    /** 직접 측정한 단계(그래프 밖에서 실행한 단계)의 성공 결과. */
+    public static StageResult succeeded(String name, long startedAtNanos, int itemCount) {
+      return new StageResult(name, StageStatus.SUCCEEDED, elapsedSince(startedAtNanos), itemCount);
+    }
+
+    @Override
+    public String toString() {
+      return name + "=" + status + "(" + duration.toMillis() + "ms, " + itemCount + "건)";
+    }
+  }
+
+  private static Duration elapsedSince(long startedAtNanos) {
+    return Duration.ofNanos(System.nanoTime() - startedAtNanos);
+  }
+}
@@ -2,24 +2,49 @@ package com.vatti.chzscout.backend.stream.infrastructure.scheduler;
 
 import com.vatti.chzscout.backend.ai.application.StreamEmbeddingSyncService;
 import com.vatti.chzscout.backend.stream.application.StreamCacheService;
+import com.vatti.chzscout.backend.stream.application.service.RisingStreamService;
+import com.vatti.chzscout.backend.stream.config.StreamRefreshProperties;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.LiveStreamTable;
 import com.vatti.chzscout.backend.stream.domain.event.StreamCacheRefreshedEvent;
+import com.vatti.chzscout.backend.stream.domain.event.StreamLeadershipAcquiredEvent;
 import com.vatti.chzscout.backend.stream.domain.event.StreamNotificationTriggerEvent;
+import com.vatti.chzscout.backend.stream.infrastructure.file.StreamSnapshotFile;
+import com.vatti.chzscout.backend.stream.infrastructure.history.ViewerHistoryStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamChangeDetector;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamLeaderLease;
 import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.stream.infrastructure.scheduler.RefreshStageGraph.Stage;
+import com.vatti.chzscout.backend.stream.infrastructure.scheduler.RefreshStageGraph.StageResult;
 import com.vatti.chzscout.backend.tag.application.usecase.TagUseCase;
+import com.vatti.chzscout.backend.tag.domain.TagUsageCounter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
-/** 생방송 캐시를 주기적으로 갱신하는 스케줄러. */
+/**
+ * 생방송 캐시를 주기적으로 갱신하는 스케줄러.
+ *
+ * <p>고정 주기 대신 갱신이 끝날 때마다 {@link RefreshIntervalPolicy}가 변경량으로 계산한 주기 뒤에 다음 전체 수집을 예약합니다. 그 사이에는
+ * 시청자가 많은 앞쪽 페이지만 짧은 주기로 부분 갱신합니다. 두 갱신은 같은 해시와 스냅샷을 쓰므로 동시에 실행하지 않습니다.
+ *
+ * <p>여러 인스턴스로 운영할 때는 {@link StreamLeaderLease}를 가진 노드만 갱신을 실행하고, 나머지 노드는 Redis에 게시된 스냅샷을 읽기만 합니다.
+ */
 @Component
 @Profile("!test")
 @Slf4j
@@ -31,69 +56,343 @@ public class StreamCacheScheduler {
   private final ApplicationEventPublisher eventPublisher;
   private final StreamRedisStore streamRedisStore;
   private final StreamEmbeddingSyncService streamEmbeddingSyncService;
+  private final RefreshIntervalPolicy refreshIntervalPolicy;
+  private final StreamRefreshProperties refreshProperties;
+  private final TaskScheduler taskScheduler;
+  private final StreamLeaderLease leaderLease;
+  private final Executor streamRefreshExecutor;
+  private final StreamSnapshotFile streamSnapshotFile;
+  private final ViewerHistoryStore viewerHistoryStore;
+  private final RisingStreamService risingStreamService;
 
-  /** 애플리케이션 시작 시 즉시 캐시 초기화. 알림은 발송하지 않음. */
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private volatile ScheduledFuture<?> nextRefresh;
+
+  /** 애플리케이션 시작 시 로컬 스냅샷으로 빈 캐시를 먼저 복원한 뒤 즉시 캐시 초기화. 알림은 발송하지 않음. */
   @EventListener(ApplicationReadyEvent.class)
   public void onApplicationReady() {
-    log.info("Application ready, initializing live streams cache");
-    refreshLiveStreamsCache(false);
+    restoreLocalSnapshot();
+    if (leaderLease.tryAcquire()) {
+      log.info("Application ready, initializing live streams cache");
+      scheduleNext(refreshLiveStreamsCache(false));
+    } else {
+      log.info("Application ready as follower, serving the published snapshot");
+      scheduleNext(null);
+    }
+    scheduleLightRefresh();
   }
 
-  /** 10분마다 치지직 API를 호출하여 생방송 목록 캐시 갱신. */
-  @Scheduled(fixedRate = 600_000, initialDelay = 600_000)
+  /** 치지직 API를 호출하여 생방송 목록 캐시를 갱신하고 다음 갱신을 예약. 리더가 아니면 예약만 합니다. */
   public void scheduledRefresh() {
-    refreshLiveStreamsCache(true);
+    if (!leaderLease.isLeader()) {
+      log.debug("Not the leader, skipping scheduled refresh");
+      scheduleNext(null);
+      return;
+    }
+    scheduleNext(refreshLiveStreamsCache(true));
+  }
+
+  /** Redis가 비어 있으면 마지막으로 성공한 전체 수집의 로컬 스냅샷을 올려 첫 수집 전에도 조회할 수 있게 합니다. */
+  private void restoreLocalSnapshot() {
+    try {
+      streamSnapshotFile
+          .load()
+          .ifPresent(
+              snapshot -> {
+                if (streamRedisStore.restoreIfAbsent(
+                    snapshot.streams(), snapshot.fingerprints())) {
+                  log.info(
+                      "로컬 스냅샷 복원 - {}개 방송 ({} 저장)",
+                      snapshot.streams().size(),
+                      snapshot.savedAt());
+                }
+              });
+    } catch (Exception e) {
+      log.warn("Failed to restore local stream snapshot", e);
+    }
+  }
+
+  /** 리더를 새로 넘겨받으면 대기 중인 전체 수집을 바로 실행합니다. */
+  @EventListener(StreamLeadershipAcquiredEvent.class)
+  public void onLeadershipAcquired() {
+    ScheduledFuture<?> pending = nextRefresh;
+    // 이미 실행 중인 갱신은 그대로 두어 예약 체인이 둘로 갈라지지 않게 함
+    if (pending != null && pending.getDelay(TimeUnit.NANOSECONDS) > 0 && pending.cancel(false)) {
+      log.info("Leadership acquired, running full refresh now");
+      nextRefresh = taskScheduler.schedule(this::scheduledRefresh, Instant.now());
+    }
+  }
+
+  /**
+   * 앞쪽 페이지만 받아 캐시를 부분 갱신합니다.
+   *
+   * <p>받지 않은 방송은 종료로 보지 않고 기존 스냅샷에 그대로 둡니다. 태그 사용량은 전체 수집에서만 저장합니다 (중복 집계 방지). 전체 수집이 진행 중이면
+   * 건너뜁니다.
+   */
+  public void lightRefresh() {
+    if (!leaderLease.isLeader()) {
+      return;
+    }
+    if (!refreshLock.tryLock()) {
+      log.debug("Full refresh in progress, skipping light refresh");
+      return;
+    }
+    try {
+      StreamChangeDetector changeDetector = streamRedisStore.openChangeDetection();
+      LiveStreamTable liveStreams = new LiveStreamTable();
+      List<EnrichedStreamDto> enrichedStreams = liveStreams.asEnrichedStreams();
+      List<AllFieldLiveDto> changedStreams = new ArrayList<>();
+
+      int fetched =
+          streamCacheService
+              .fetchLiveStreams(
+                  refreshProperties.getLightPages(),
+                  page -> collectPage(page, changeDetector, liveStreams, changedStreams))
+              .fetched();
+      if (fetched == 0) {
+        log.warn("No streams fetched, skipping light refresh");
+        return;
+      }
+
+      StreamRedisStore.StreamChangeResult streamChangeResult =
+          streamRedisStore.completePartialChangeDetection(changeDetector);
+      Set<String> embeddingIds =
+          streamChangeResult.changedIds(StreamEmbeddingSyncService.SUBSCRIBED_CHANGES);
+      changedStreams.removeIf(stream -> !embeddingIds.contains(stream.channelId()));
+      streamEmbeddingSyncService.syncEmbeddings(changedStreams, embeddingIds, Set.of());
+
+      int total = streamRedisStore.mergeEnrichedStreams(enrichedStreams);
+      log.info("부분 갱신 완료 - {}개 방송 병합, 전체 {}개", enrichedStreams.size(), total);
+
+      publishNotification(streamChangeResult);
+      Instant sampledAt = Instant.now();
+      viewerHistoryStore.record(sampledAt, enrichedStreams);
+      risingStreamService.onViewersRecorded(sampledAt, channelIdsOf(liveStreams), false);
+    } catch (Exception e) {
+      log.error("Failed to light-refresh live streams cache", e);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  private void scheduleLightRefresh() {
+    if (refreshProperties.getLightPages() <= 0) {
+      return;
+    }
+    Duration interval = refreshProperties.getLightInterval();
+    taskScheduler.scheduleWithFixedDelay(
+        this::lightRefresh, Instant.now().plus(interval), interval);
+    log.info(
+        "부분 갱신 예약 - 앞쪽 {}페이지, {}초 주기", refreshProperties.getLightPages(), interval.toSeconds());
+  }
+
+  /**
+   * 직전 갱신의 변경량으로 다음 갱신을 예약합니다.
+   *
+   * @param changeResult 직전 갱신의 변경 감지 결과, 갱신이 실패했으면 null
+   */
+  private void scheduleNext(StreamRedisStore.StreamChangeResult changeResult) {
+    Duration interval = refreshIntervalPolicy.nextInterval(changeResult);
+    nextRefresh = taskScheduler.schedule(this::scheduledRefresh, Instant.now().plus(interval));
+    log.info("다음 캐시 갱신 예약 - {}초 후", interval.toSeconds());
   }
 
   /**
    * 생방송 목록 캐시를 갱신합니다.
    *
+   * <p>페이지가 도착할 때마다 태그 집계, 지문 비교, 저장용 변환을 진행하고, 마지막 페이지를 받은 뒤의 후속 작업은 {@link RefreshStageGraph}로
+   * 실행합니다. 태그 저장과 스냅샷 저장은 변경 감지나 임베딩을 기다리지 않으며, 한 단계가 실패해도 그 단계에 의존하지 않는 단계는 계속 진행합니다.
+   *
+   * <pre>
+   * fetch ─┬─ tags ─────────────┬─ refreshed
+   *        ├─ snapshot ─────────┤
+   *        ├─ viewerHistory     │
+   *        └─ changes ─┬────────┼─ notify
+   *                    │        └─ localSnapshot
+   *                    └─ embeddings
+   * </pre>
+   *
    * @param sendNotification true면 알림 이벤트 발행, false면 캐시 갱신만 수행
+   * @return 변경 감지 결과, 수집된 방송이 없거나 변경 감지가 실패했으면 null
    */
-  private void refreshLiveStreamsCache(boolean sendNotification) {
+  private StreamRedisStore.StreamChangeResult refreshLiveStreamsCache(boolean sendNotification) {
     log.info("Starting scheduled live streams cache refresh");
+    refreshLock.lock();
     try {
-      // 1. 치지직 API에서 생방송 목록 가져오기
-      List<AllFieldLiveDto> streams = streamCacheService.fetchLiveStreams();
-      log.info("Fetched {} live streams from API", streams.size());
+      // 1. 치지직 API에서 페이지 단위로 받아 태그 집계 및 변경 감지
+      long fetchStartedAt = System.nanoTime();
+      Instant sampledAt = Instant.now();
+      TagUsageCounter tagUsage = new TagUsageCounter();
+      StreamChangeDetector changeDetector = streamRedisStore.openChangeDetection();
+      LiveStreamTable liveStreams = new LiveStreamTable();
+      List<EnrichedStreamDto> enrichedStreams = liveStreams.asEnrichedStreams();
+      List<AllFieldLiveDto> changedStreams = new ArrayList<>();
+
+      StreamCacheService.FetchResult fetchResult =
+          streamCacheService.fetchLiveStreams(
+              page -> {
+                tagUsage.addAll(page);
+                collectPage(page, changeDetector, liveStreams, changedStreams);
+              });
+      int fetched = fetchResult.fetched();
+      // 중간에 멈춘 수집은 받지 못한 방송을 종료로 볼 수 없으므로 부분 갱신처럼 병합만 함
+      boolean complete = fetchResult.complete();
+      if (!complete) {
+        log.warn("Full fetch truncated at {} streams, committing as a merge", fetched);
+      }
 
-      if (streams.isEmpty()) {
+      if (fetched == 0) {
         log.warn("No streams fetched, skipping cache refresh");
-        return;
+        return null;
       }
+      StageResult fetchStage = StageResult.succeeded("fetch", fetchStartedAt, fetched);
+
+      RefreshStageGraph graph = new RefreshStageGraph(streamRefreshExecutor);
 
       // 2. 태그 DB 저장 (자동완성용)
-      tagUseCase.extractAndSaveTag(streams);
+      Stage<TagUsageCounter> tags =
+          graph.stage(
+              "tags",
+              () -> {
+                tagUseCase.saveTagUsage(tagUsage);
+                return tagUsage;
+              },
+              counter -> counter.tagCounts().size());
 
-      // 3. 변경 감지
-      StreamRedisStore.StreamChangeResult streamChangeResult =
-          streamRedisStore.detectChanges(streams);
-      Set<String> changedIds = streamChangeResult.getAllChangedIds();
-      Set<String> endedChannelIds = streamChangeResult.endedStreams();
-      List<AllFieldLiveDto> changedStreams =
-          streams.stream().filter(stream -> changedIds.contains(stream.channelId())).toList();
-      streamEmbeddingSyncService.syncEmbeddings(changedStreams, changedIds, endedChannelIds);
-      // [기존 AI 태그 추출 로직 - 벡터 임베딩으로 대체]
-      // Map<String, EnrichedStreamDto> existingMap = getExistingEnrichedMap();
-      // Map<String, EnrichedStreamDto> newEnrichedMap = extractAiTagsForChanged(streams,
-      // changedIds);
-      // List<EnrichedStreamDto> finalEnriched =
-      //     buildFinalEnrichedList(streams, changedIds, existingMap, newEnrichedMap);
-
-      // 4. Redis 저장 (AI 태그 없이 원본 데이터로 저장)
-      List<EnrichedStreamDto> enrichedStreams =
-          streams.stream().map(EnrichedStreamDto::fromWithoutAi).toList();
-      streamRedisStore.saveEnrichedStreams(enrichedStreams);
-      log.info("Redis에 {}개 방송 저장 완료", enrichedStreams.size());
-
-      eventPublisher.publishEvent(new StreamCacheRefreshedEvent());
-
-      if (sendNotification && !changedIds.isEmpty()) {
-        eventPublisher.publishEvent(new StreamNotificationTriggerEvent(changedIds));
-        log.info("알림 이벤트 발행 - {}개 변경된 방송", changedIds.size());
+      // 3. Redis 저장 (AI 태그 없이 원본 데이터로 저장)
+      Stage<Integer> snapshot =
+          graph.stage(
+              "snapshot",
+              () -> {
+                if (complete) {
+                  streamRedisStore.saveEnrichedStreams(enrichedStreams);
+                } else {
+                  streamRedisStore.mergeEnrichedStreams(enrichedStreams);
+                }
+                return enrichedStreams.size();
+              },
+              Integer::intValue);
+
+      // 4. 변경 감지 완료 (종료 방송은 전체 페이지를 받은 뒤 확정) 후 임베딩 동기화
+      Stage<StreamRedisStore.StreamChangeResult> changes =
+          graph.stage(
+              "changes",
+              () ->
+                  complete
+                      ? streamRedisStore.completeChangeDetection(changeDetector)
+                      : streamRedisStore.completePartialChangeDetection(changeDetector),
+              result -> result.getAllChangedIds().size() + result.endedStreams().size());
+      graph.stage(
+          "embeddings",
+          () -> {
+            StreamRedisStore.StreamChangeResult changeResult = changes.get();
+            Set<String> embeddingIds =
+                changeResult.changedIds(StreamEmbeddingSyncService.SUBSCRIBED_CHANGES);
+            // 임베딩 텍스트가 그대로인 변경(시청자 수 등)과 중복 channelId로 뒤 페이지에서 분류가 바뀐 방송 제외
+            changedStreams.removeIf(stream -> !embeddingIds.contains(stream.channelId()));
+            streamEmbeddingSyncService.syncEmbeddings(
+                changedStreams, embeddingIds, changeResult.endedStreams());
+            return changedStreams.size();
+          },
+          Integer::intValue,
+          changes);
+
+      // 5. 시청자 수 이력과 급상승 순위 (끝까지 받은 수집에서만 받지 못한 채널을 종료로 보고 정리)
+      graph.stage(
+          "viewerHistory",
+          () -> {
+            viewerHistoryStore.record(sampledAt, enrichedStreams);
+            if (complete) {
+              viewerHistoryStore.evictUnseenSince(sampledAt);
+            }
+            risingStreamService.onViewersRecorded(
+                sampledAt, channelIdsOf(liveStreams), complete);
+            return enrichedStreams.size();
+          },
+          Integer::intValue);
+
+      // 6. 다음 재시작에 바로 올릴 로컬 스냅샷 (Redis에 반영된 목록과 지문, 끝까지 받은 수집만)
+      if (complete) {
+        graph.stage(
+            "localSnapshot",
+            () -> {
+              streamSnapshotFile.save(enrichedStreams, changeDetector.currentFingerprints());
+              return enrichedStreams.size();
+            },
+            Integer::intValue,
+            snapshot,
+            changes);
       }
+
+      // 7. 이벤트 발행: 자동완성 캐시는 태그와 스냅샷, 알림은 스냅샷과 변경 감지 결과가 필요
+      graph.stage(
+          "refreshed",
+          () -> {
+            eventPublisher.publishEvent(new StreamCacheRefreshedEvent());
+            return 1;
+          },
+          Integer::intValue,
+          tags,
+          snapshot);
+      if (sendNotification) {
+        graph.stage(
+            "notify",
+            () -> publishNotification(changes.get()),
+            Integer::intValue,
+            snapshot,
+            changes);
+      }
+
+      List<StageResult> stageResults = new ArrayList<>();
+      stageResults.add(fetchStage);
+      stageResults.addAll(graph.await());
+      log.info(
+          "캐시 갱신 완료 - 총 {}ms, {}",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fetchStartedAt),
+          stageResults);
+      return changes.succeeded() ? changes.get() : null;
     } catch (Exception e) {
       log.error("Failed to refresh live streams cache", e);
+      return null;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /**
+   * 신규 또는 변경된 방송이 있으면 변경 종류와 함께 알림 이벤트를 발행합니다. 리스너가 필요한 종류만 골라 평가합니다.
+   *
+   * @return 이벤트에 담은 방송 수
+   */
+  private int publishNotification(StreamRedisStore.StreamChangeResult changeResult) {
+    if (!changeResult.hasChanges()) {
+      return 0;
+    }
+    eventPublisher.publishEvent(new StreamNotificationTriggerEvent(changeResult.changeMasks()));
+    log.info("알림 이벤트 발행 - {}개 변경된 방송", changeResult.changeMasks().size());
+    return changeResult.changeMasks().size();
+  }
+
+  private static List<String> channelIdsOf(LiveStreamTable streams) {
+    List<String> channelIds = new ArrayList<>(streams.size());
+    for (int row = 0; row < streams.size(); row++) {
+      channelIds.add(streams.channelId(row));
+    }
+    return channelIds;
+  }
+
+  /** 페이지의 지문을 비교하고 방송 표와 변경된 방송 목록에 담습니다. */
+  private static void collectPage(
+      List<AllFieldLiveDto> page,
+      StreamChangeDetector changeDetector,
+      LiveStreamTable liveStreams,
+      List<AllFieldLiveDto> changedStreams) {
+    Set<String> pageChangedIds = changeDetector.accept(page);
+    for (AllFieldLiveDto stream : page) {
+      liveStreams.add(stream);
+      if (pageChangedIds.contains(stream.channelId())) {
+        changedStreams.add(stream);
+      }
     }
   }
 }
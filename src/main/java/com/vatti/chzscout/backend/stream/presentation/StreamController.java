@@ -0,0 +1,35 @@
+package com.vatti.chzscout.backend.stream.presentation;
+
+import com.vatti.chzscout.backend.common.response.ApiResponse;
+import com.vatti.chzscout.backend.stream.application.usecase.RisingStreamUseCase;
+import com.vatti.chzscout.backend.stream.domain.RisingStream;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 방송 API 컨트롤러.
+ *
+ * <p>로그인 없이 조회할 수 있는 공개 API입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/streams")
+public class StreamController {
+
+  private final RisingStreamUseCase risingStreamUseCase;
+
+  /**
+   * 시청자 수가 빠르게 늘고 있는 방송을 조회합니다.
+   *
+   * @param limit 최대 개수 (1~50)
+   * @return 상승 점수 내림차순 방송 목록
+   */
+  @GetMapping("/rising")
+  public ApiResponse<List<RisingStream>> getRising(@RequestParam(defaultValue = "10") int limit) {
+    return ApiResponse.success(risingStreamUseCase.findRising(limit));
+  }
+}
@@ -5,6 +5,7 @@ import static java.util.stream.Collectors.toMap;
 
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.tag.application.usecase.TagUseCase;
+import com.vatti.chzscout.backend.tag.domain.TagUsageCounter;
 import com.vatti.chzscout.backend.tag.domain.dto.TagAutocompleteResponse;
 import com.vatti.chzscout.backend.tag.domain.entity.Tag;
 import com.vatti.chzscout.backend.tag.domain.entity.TagType;
@@ -14,7 +15,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,23 +32,19 @@ public class TagService implements TagUseCase {
   @Override
   public void extractAndSaveTag(List<AllFieldLiveDto> streams) {
     // 1. 스트림 목록에서 태그 및 카테고리 별 등장 횟수 집계
-    Map<String, Long> tagCountMap =
-        streams.stream()
-            .flatMap(stream -> stream.tags().stream())
-            .filter(tag -> tag != null && !tag.isBlank())
-            .collect(Collectors.groupingBy(identity(), Collectors.counting()));
-
-    Map<String, Long> categoryCountMap =
-        streams.stream()
-            .map(AllFieldLiveDto::liveCategoryValue)
-            .filter(category -> category != null && !category.isBlank())
-            .collect(Collectors.groupingBy(identity(), Collectors.counting()));
+    saveTagUsage(TagUsageCounter.of(streams));
+  }
+
+  @Override
+  public void saveTagUsage(TagUsageCounter tagUsage) {
+    Map<String, Long> tagCountMap = tagUsage.tagCounts();
+    Map<String, Long> categoryCountMap = tagUsage.categoryCounts();
 
     log.info("Collected tags: {} (count: {})", tagCountMap.keySet(), tagCountMap.size());
     log.info(
         "Collected categories: {} (count: {})", categoryCountMap.keySet(), categoryCountMap.size());
 
-    if (tagCountMap.isEmpty() && categoryCountMap.isEmpty()) {
+    if (tagUsage.isEmpty()) {
       return;
     }
 
@@ -1,6 +1,7 @@
 package com.vatti.chzscout.backend.tag.application.usecase;
 
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.tag.domain.TagUsageCounter;
 import com.vatti.chzscout.backend.tag.domain.dto.TagAutocompleteResponse;
 import com.vatti.chzscout.backend.tag.domain.entity.TagType;
 import java.util.List;
@@ -16,6 +17,15 @@ public interface TagUseCase {
    */
   void extractAndSaveTag(List<AllFieldLiveDto> streams);
 
+  /**
+   * 미리 집계된 태그 사용량을 저장합니다.
+   *
+   * <p>페이지 단위로 누적한 집계 결과를 받아 {@link #extractAndSaveTag(List)}와 같은 규칙으로 저장합니다.
+   *
+   * @param tagUsage 태그 및 카테고리 등장 횟수 집계
+   */
+  void saveTagUsage(TagUsageCounter tagUsage);
+
   /**
    * prefix로 시작하는 태그를 검색합니다.
    *
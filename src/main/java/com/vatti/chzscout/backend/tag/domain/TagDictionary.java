@@ -0,0 +1,181 @@
+package com.vatti.chzscout.backend.tag.domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 태그 이름 ↔ 정수 ID 사전.
+ *
+ * <p>이름은 {@link #normalize(String)}로 정규화한 뒤 등록하므로 대소문자나 앞뒤 공백만 다른 이름은 같은 ID(0부터 연속)를 갖습니다. 카테고리와
+ * 태그는 이름으로 매칭하므로 같은 이름이면 타입과 관계없이 같은 ID입니다.
+ *
+ * <p>사전은 방송 스냅샷이나 알림 이벤트처럼 한 번에 다루는 방송 묶음마다 새로 만들고 함께 버리므로, 크기는 그 묶음의 태그 종류 수를 넘지 않습니다.
+ * 알림 매칭, 추천 점수처럼 태그 문자열을 반복해서 비교하는 곳은 이름을 한 번만 ID로 바꾼 뒤 정수 배열과 {@link BitSet}으로 비교합니다. 부분 문자열
+ * 검색({@link #idsContaining(String)})은 등록할 때 만들어 두는 글자·바이그램 색인으로 후보를 좁혀 사전 전체를 훑지 않습니다.
+ *
+ * <p>한 스레드가 채운 뒤에는 여러 스레드가 읽기만 합니다.
+ */
+public class TagDictionary {
+
+  public static final int UNKNOWN = -1;
+
+  private static final int INITIAL_CAPACITY = 256;
+  private static final int[] EMPTY = new int[0];
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final Map<Character, BitSet> unigrams = new HashMap<>();
+  private final Map<Integer, BitSet> bigrams = new HashMap<>();
+  private String[] names = new String[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * 비교에 쓰는 정규화된 이름. 앞뒤 공백을 없애고 소문자로 바꿉니다.
+   *
+   * @param name 태그 이름
+   * @return 정규화된 이름, 이름이 null이면 null
+   */
+  public static String normalize(String name) {
+    return name == null ? null : name.strip().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 이름의 ID를 반환합니다. 처음 보는 이름이면 새로 등록합니다.
+   *
+   * @param name 태그 이름
+   * @return ID, 이름이 null이면 {@link #UNKNOWN}
+   */
+  public int idOf(String name) {
+    if (name == null) {
+      return UNKNOWN;
+    }
+    String normalized = normalize(name);
+    Integer id = ids.get(normalized);
+    return id != null ? id : register(normalized);
+  }
+
+  /**
+   * 등록된 이름의 ID를 반환합니다. 등록하지 않습니다.
+   *
+   * @param name 태그 이름
+   * @return ID, 없으면 {@link #UNKNOWN}
+   */
+  public int find(String name) {
+    Integer id = name != null ? ids.get(normalize(name)) : null;
+    return id != null ? id : UNKNOWN;
+  }
+
+  /** ID의 정규화된 태그 이름. */
+  public String name(int id) {
+    if (id < 0 || id >= size) {
+      throw new IndexOutOfBoundsException("Tag id " + id + " out of " + size);
+    }
+    return names[id];
+  }
+
+  /** 등록된 이름 수 (ID는 0부터 size - 1). */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 이름 목록을 중복 없는 ID 오름차순 배열로 바꿉니다. 처음 보는 이름은 등록합니다.
+   *
+   * @param tagNames 태그 이름 목록 (null 원소는 건너뜀)
+   * @return 정렬된 ID 배열
+   */
+  public int[] encode(Collection<String> tagNames) {
+    if (tagNames == null || tagNames.isEmpty()) {
+      return EMPTY;
+    }
+    int[] encoded = new int[tagNames.size()];
+    int count = 0;
+    for (String name : tagNames) {
+      if (name != null) {
+        encoded[count++] = idOf(name);
+      }
+    }
+    Arrays.sort(encoded, 0, count);
+    int distinct = 0;
+    for (int i = 0; i < count; i++) {
+      if (distinct == 0 || encoded[distinct - 1] != encoded[i]) {
+        encoded[distinct++] = encoded[i];
+      }
+    }
+    return distinct == encoded.length ? encoded : Arrays.copyOf(encoded, distinct);
+  }
+
+  /**
+   * 정규화한 이름에 정규화한 검색어가 포함된 ID 집합을 만듭니다.
+   *
+   * <p>검색어의 바이그램을 모두 가진 이름만 후보로 남기고, 세 글자 이상이면 후보만 실제 포함 여부를 확인합니다.
+   *
+   * @param fragment 검색어
+   * @return 포함하는 ID가 켜진 비트셋, 검색어가 null이면 빈 비트셋
+   */
+  public BitSet idsContaining(String fragment) {
+    BitSet matches = new BitSet();
+    if (fragment == null) {
+      return matches;
+    }
+    String normalized = normalize(fragment);
+    if (normalized.isEmpty()) {
+      matches.set(0, size);
+      return matches;
+    }
+    if (normalized.length() == 1) {
+      BitSet postings = unigrams.get(normalized.charAt(0));
+      if (postings != null) {
+        matches.or(postings);
+      }
+      return matches;
+    }
+
+    for (int i = 0; i + 1 < normalized.length(); i++) {
+      BitSet postings = bigrams.get(bigram(normalized.charAt(i), normalized.charAt(i + 1)));
+      if (postings == null) {
+        return new BitSet();
+      }
+      if (i == 0) {
+        matches.or(postings);
+      } else {
+        matches.and(postings);
+      }
+    }
+    if (normalized.length() > 2) {
+      for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+        if (!names[id].contains(normalized)) {
+          matches.clear(id);
+        }
+      }
+    }
+    return matches;
+  }
+
+  private int register(String normalized) {
+    int id = size;
+    if (id == names.length) {
+      names = Arrays.copyOf(names, id * 2);
+    }
+    names[id] = normalized;
+    size = id + 1;
+    ids.put(normalized, id);
+    for (int i = 0; i < normalized.length(); i++) {
+      unigrams.computeIfAbsent(normalized.charAt(i), c -> new BitSet()).set(id);
+      if (i + 1 < normalized.length()) {
+        bigrams
+            .computeIfAbsent(
+                bigram(normalized.charAt(i), normalized.charAt(i + 1)), b -> new BitSet())
+            .set(id);
+      }
+    }
+    return id;
+  }
+
+  private static int bigram(char first, char second) {
+    return first << 16 | second;
+  }
+}
@@ -0,0 +1,61 @@
+package com.vatti.chzscout.backend.tag.domain;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방송 목록의 태그 및 카테고리 등장 횟수 집계기.
+ *
+ * <p>페이지가 도착할 때마다 {@link #addAll(List)}로 누적하여, 전체 목록을 들고 있지 않고도 갱신 사이클의 태그 사용량을 계산합니다.
+ */
+public class TagUsageCounter {
+
+  private final Map<String, Long> tagCounts = new HashMap<>();
+  private final Map<String, Long> categoryCounts = new HashMap<>();
+
+  /** 방송 목록 전체를 한 번에 집계합니다. */
+  public static TagUsageCounter of(List<AllFieldLiveDto> streams) {
+    TagUsageCounter counter = new TagUsageCounter();
+    counter.addAll(streams);
+    return counter;
+  }
+
+  /**
+   * 방송 목록의 태그와 카테고리 등장 횟수를 누적합니다.
+   *
+   * @param streams 집계할 방송 목록 (한 페이지)
+   */
+  public void addAll(List<AllFieldLiveDto> streams) {
+    for (AllFieldLiveDto stream : streams) {
+      if (stream.tags() != null) {
+        for (String tag : stream.tags()) {
+          if (tag != null && !tag.isBlank()) {
+            tagCounts.merge(tag, 1L, Long::sum);
+          }
+        }
+      }
+
+      String category = stream.liveCategoryValue();
+      if (category != null && !category.isBlank()) {
+        categoryCounts.merge(category, 1L, Long::sum);
+      }
+    }
+  }
+
+  /** 태그명 → 등장 횟수. */
+  public Map<String, Long> tagCounts() {
+    return tagCounts;
+  }
+
+  /** 카테고리명 → 등장 횟수. */
+  public Map<String, Long> categoryCounts() {
+    return categoryCounts;
+  }
+
+  /** 집계된 태그와 카테고리가 모두 없는지 확인합니다. */
+  public boolean isEmpty() {
+    return tagCounts.isEmpty() && categoryCounts.isEmpty();
+  }
+}
@@ -3,8 +3,10 @@ package com.vatti.chzscout.backend.tag.infrastructure.listener;
 import com.vatti.chzscout.backend.discord.application.DiscordDmService;
 import com.vatti.chzscout.backend.member.domain.entity.Member;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
 import com.vatti.chzscout.backend.stream.domain.event.StreamNotificationTriggerEvent;
 import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.tag.domain.TagDictionary;
 import com.vatti.chzscout.backend.tag.domain.entity.MemberTag;
 import com.vatti.chzscout.backend.tag.infrastructure.MemberTagRepository;
 import java.util.ArrayList;
@@ -13,7 +15,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -25,7 +26,10 @@ import org.springframework.stereotype.Component;
  * MemberTag 기반 방송 알림 리스너.
  *
  * <p>StreamNotificationTriggerEvent를 수신하여 유저가 설정한 태그와 현재 방송 태그를 대조하고, 매칭되는 유저에게 Discord DM으로 알림을
- * 발송합니다.
+ * 발송합니다. 태그 매칭 결과가 바뀔 수 있는 변경(신규, 태그, 카테고리)만 평가하고, 제목이나 시청자 수만 바뀐 방송으로는 다시 알리지 않습니다.
+ *
+ * <p>방송 태그와 유저 태그는 이벤트마다 변경된 방송의 태그만 담은 {@link TagDictionary}의 정수 ID로 바꿔 대조하므로, 방송마다 태그
+ * 문자열을 다시 해싱하고 비교하지 않습니다.
  */
 @Component
 @Profile("!test")
@@ -33,6 +37,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MemberTagNotificationListener {
 
+  /** 알림을 평가할 변경 종류 (태그 매칭은 카테고리 + 태그 기준). */
+  private static final int SUBSCRIBED_CHANGES =
+      StreamChangeKind.mask(StreamChangeKind.NEW, StreamChangeKind.TAGS, StreamChangeKind.CATEGORY);
+
   private final MemberTagRepository memberTagRepository;
   private final StreamRedisStore streamRedisStore;
   private final DiscordDmService discordDmService;
@@ -45,7 +53,7 @@ public class MemberTagNotificationListener {
   @Async
   @EventListener
   public void onNotificationTrigger(StreamNotificationTriggerEvent event) {
-    Set<String> changedChannelIds = event.changedChannelIds();
+    Set<String> changedChannelIds = event.changedChannelIds(SUBSCRIBED_CHANGES);
     log.info(
         "Received StreamNotificationTriggerEvent, {} changed streams", changedChannelIds.size());
 
@@ -54,22 +62,24 @@ public class MemberTagNotificationListener {
       return;
     }
 
-    // 1. 변경된 방송만 필터링
+    // 1. 변경된 방송만 조회
     List<EnrichedStreamDto> changedStreams =
-        streamRedisStore.findEnrichedStreams().stream()
-            .filter(stream -> changedChannelIds.contains(stream.channelId()))
-            .toList();
+        streamRedisStore.findEnrichedStreams(changedChannelIds);
 
     if (changedStreams.isEmpty()) {
       log.info("No matching streams found in cache, skipping notification");
       return;
     }
 
-    // 2. 변경된 방송의 모든 태그 수집
-    Set<String> allEnrichedTags =
-        changedStreams.stream()
-            .flatMap(stream -> stream.enrichedTags().stream())
-            .collect(Collectors.toSet());
+    // 2. 변경된 방송의 태그를 이벤트 전용 사전의 ID로 바꾸고 전체 태그 수집
+    TagDictionary tagDictionary = new TagDictionary();
+    int[][] streamTagIds = new int[changedStreams.size()][];
+    Set<String> allEnrichedTags = new HashSet<>();
+    for (int i = 0; i < streamTagIds.length; i++) {
+      List<String> enrichedTags = changedStreams.get(i).enrichedTags();
+      streamTagIds[i] = tagDictionary.encode(enrichedTags);
+      allEnrichedTags.addAll(enrichedTags);
+    }
 
     // 3. 해당 태그를 설정한 MemberTag만 DB에서 조회(알림 허용 유저만) (1차 필터링)
     List<MemberTag> matchedMemberTags = memberTagRepository.findByTagNames(allEnrichedTags);
@@ -84,12 +94,13 @@ public class MemberTagNotificationListener {
         matchedMemberTags.size(),
         allEnrichedTags.size());
 
-    // 4. 태그명 → Member 리스트 역인덱스 생성
-    Map<String, List<Member>> tagToMembers = buildTagToMembersMap(matchedMemberTags);
+    // 4. 태그 ID → Member 리스트 역인덱스 생성
+    Map<Integer, List<Member>> tagToMembers =
+        buildTagToMembersIndex(tagDictionary, matchedMemberTags);
 
     // 5. 2차 매칭: Member → 매칭된 방송들 (Set으로 중복 제거)
     Map<Member, Set<EnrichedStreamDto>> memberToStreams =
-        findMemberToStreamsMatches(changedStreams, tagToMembers);
+        findMemberToStreamsMatches(changedStreams, streamTagIds, tagToMembers);
 
     log.info("Matched {} members to streams", memberToStreams.size());
     for (Map.Entry<Member, Set<EnrichedStreamDto>> entry : memberToStreams.entrySet()) {
@@ -100,18 +111,21 @@ public class MemberTagNotificationListener {
   }
 
   /**
-   * 태그명 → Member 리스트 역인덱스를 생성합니다.
+   * 태그 ID → Member 리스트 역인덱스를 생성합니다.
    *
+   * @param tagDictionary 변경된 방송의 태그를 등록한 사전
    * @param memberTags MemberTag 목록
-   * @return 태그명을 키로, 해당 태그를 설정한 Member 리스트를 값으로 하는 Map
+   * @return 태그 ID를 키로, 해당 태그를 설정한 Member 리스트를 값으로 하는 Map (사전에 없는 태그는 제외)
    */
-  private Map<String, List<Member>> buildTagToMembersMap(List<MemberTag> memberTags) {
-    Map<String, List<Member>> tagToMembers = new HashMap<>();
+  private Map<Integer, List<Member>> buildTagToMembersIndex(
+      TagDictionary tagDictionary, List<MemberTag> memberTags) {
+    Map<Integer, List<Member>> tagToMembers = new HashMap<>();
 
     for (MemberTag mt : memberTags) {
-      tagToMembers
-          .computeIfAbsent(mt.getTag().getName(), k -> new ArrayList<>())
-          .add(mt.getMember());
+      int tagId = tagDictionary.find(mt.getTag().getName());
+      if (tagId != TagDictionary.UNKNOWN) {
+        tagToMembers.computeIfAbsent(tagId, k -> new ArrayList<>()).add(mt.getMember());
+      }
     }
 
     return tagToMembers;
@@ -121,20 +135,23 @@ public class MemberTagNotificationListener {
    * Member별로 매칭되는 방송을 찾습니다.
    *
    * @param streams 변경된 방송 목록
-   * @param tagToMembers 태그명 → Member 리스트 Map
+   * @param streamTagIds 방송별 태그 ID (streams와 같은 순서)
+   * @param tagToMembers 태그 ID → Member 리스트 역인덱스
    * @return Member → 매칭된 방송 Set (중복 제거됨)
    */
   private Map<Member, Set<EnrichedStreamDto>> findMemberToStreamsMatches(
-      List<EnrichedStreamDto> streams, Map<String, List<Member>> tagToMembers) {
+      List<EnrichedStreamDto> streams,
+      int[][] streamTagIds,
+      Map<Integer, List<Member>> tagToMembers) {
 
     Map<Member, Set<EnrichedStreamDto>> memberToStreams = new HashMap<>();
 
-    for (EnrichedStreamDto stream : streams) {
-      for (String tag : stream.enrichedTags()) {
-        List<Member> members = tagToMembers.get(tag);
+    for (int i = 0; i < streamTagIds.length; i++) {
+      for (int tagId : streamTagIds[i]) {
+        List<Member> members = tagToMembers.get(tagId);
         if (members != null) {
           for (Member member : members) {
-            memberToStreams.computeIfAbsent(member, k -> new HashSet<>()).add(stream);
+            memberToStreams.computeIfAbsent(member, k -> new HashSet<>()).add(streams.get(i));
           }
         }
       }
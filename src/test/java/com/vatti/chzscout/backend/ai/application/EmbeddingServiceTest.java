@@ -8,9 +8,11 @@ import static org.mockito.Mockito.verify;
 
 import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
 import com.vatti.chzscout.backend.ai.infrastructure.EmbeddingClient;
+import com.vatti.chzscout.backend.ai.infrastructure.redis.EmbeddingCacheRedisStore;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +29,7 @@ class EmbeddingServiceTest {
 
   @Mock private EmbeddingClient embeddingClient;
   @Spy private ExecutorService aiExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  @Mock private EmbeddingCacheRedisStore embeddingCache;
 
   @InjectMocks private EmbeddingService embeddingService;
 
@@ -119,6 +122,36 @@ class EmbeddingServiceTest {
       assertThat(result.get(2).getChannelId()).isEqualTo("channel_3");
     }
 
+    @Test
+    @DisplayName("캐시에 있는 텍스트는 API를 호출하지 않고 없는 텍스트만 생성하여 캐시에 저장한다")
+    void embedsOnlyCacheMisses() {
+      // given
+      AllFieldLiveDto cachedStream = AllFieldLiveDtoFixture.create(1);
+      AllFieldLiveDto newStream = AllFieldLiveDtoFixture.create(2);
+      float[] cachedEmbedding = createTestEmbedding();
+      float[] newEmbedding = createTestEmbedding();
+      // 첫 번째 방송의 텍스트만 캐시에 있음
+      given(embeddingCache.findAll(anyList()))
+          .willAnswer(
+              invocation -> {
+                List<String> texts = invocation.getArgument(0);
+                return Map.of(texts.get(0), cachedEmbedding);
+              });
+      given(embeddingClient.embedBatch(anyList())).willReturn(List.of(newEmbedding));
+
+      // when
+      List<StreamEmbedding> result =
+          embeddingService.createEmbeddingsBatch(List.of(cachedStream, newStream));
+
+      // then
+      assertThat(result).hasSize(2);
+      assertThat(result.get(0).getEmbedding()).isSameAs(cachedEmbedding);
+      assertThat(result.get(1).getEmbedding()).isSameAs(newEmbedding);
+      String newText = result.get(1).getEmbeddingText();
+      verify(embeddingClient).embedBatch(List.of(newText));
+      verify(embeddingCache).saveAll(List.of(newText), List.of(newEmbedding));
+    }
+
     @Test
     @DisplayName("청크 처리 중 예외 발생 시 빈 리스트를 반환한다")
     void returnsEmptyListWhenChunkProcessingFails() {
@@ -1,12 +1,17 @@
 package com.vatti.chzscout.backend.ai.application;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
-import com.vatti.chzscout.backend.ai.infrastructure.StreamEmbeddingRepository;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
 import java.util.List;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,7 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class StreamEmbeddingSyncServiceTest {
 
   @Mock private EmbeddingService embeddingService;
-  @Mock private StreamEmbeddingRepository streamEmbeddingRepository;
+  @Mock private StreamEmbeddingWriter streamEmbeddingWriter;
 
   @InjectMocks private StreamEmbeddingSyncService streamEmbeddingSyncService;
 
@@ -43,14 +49,13 @@ class StreamEmbeddingSyncServiceTest {
       streamEmbeddingSyncService.syncEmbeddings(streams, changedIds, endedIds);
 
       // then
-      verify(streamEmbeddingRepository, never()).deleteByChannelIdIn(anyList());
       verify(embeddingService, never()).createEmbeddingsBatch(anyList());
-      verify(streamEmbeddingRepository, never()).saveAll(anyList());
+      verify(streamEmbeddingWriter, never()).apply(anyList(), any());
     }
 
     @Test
-    @DisplayName("변경된 채널의 임베딩을 삭제 후 재생성한다")
-    void deletesAndRecreatesEmbeddingsForChangedChannels() {
+    @DisplayName("임베딩을 모두 만든 뒤 한 번에 반영한다")
+    void createsEmbeddingsBeforeWriting() {
       // given
       List<AllFieldLiveDto> changedStreams =
           List.of(AllFieldLiveDtoFixture.create(1), AllFieldLiveDtoFixture.create(2));
@@ -67,9 +72,10 @@ class StreamEmbeddingSyncServiceTest {
       streamEmbeddingSyncService.syncEmbeddings(changedStreams, changedIds, endedIds);
 
       // then
-      verify(streamEmbeddingRepository).deleteByChannelIdIn(anyList());
-      verify(embeddingService).createEmbeddingsBatch(changedStreams);
-      verify(streamEmbeddingRepository).saveAll(newEmbeddings);
+      InOrder inOrder = inOrder(embeddingService, streamEmbeddingWriter);
+      inOrder.verify(embeddingService).createEmbeddingsBatch(changedStreams);
+      inOrder.verify(streamEmbeddingWriter).apply(newEmbeddings, endedIds);
+      assertThat(streamEmbeddingSyncService.pendingRetryCount()).isZero();
     }
 
     @Test
@@ -80,19 +86,18 @@ class StreamEmbeddingSyncServiceTest {
       Set<String> changedIds = Set.of();
       Set<String> endedIds = Set.of("channel_ended_1", "channel_ended_2");
 
-      given(embeddingService.createEmbeddingsBatch(changedStreams)).willReturn(List.of());
+      given(embeddingService.createEmbeddingsBatch(List.of())).willReturn(List.of());
 
       // when
       streamEmbeddingSyncService.syncEmbeddings(changedStreams, changedIds, endedIds);
 
       // then
-      verify(streamEmbeddingRepository).deleteByChannelIdIn(anyList());
-      verify(streamEmbeddingRepository).saveAll(List.of());
+      verify(streamEmbeddingWriter).apply(List.of(), endedIds);
     }
 
     @Test
-    @DisplayName("변경 + 종료 채널을 한 번에 삭제한다")
-    void deletesBothChangedAndEndedChannels() {
+    @DisplayName("변경된 임베딩 저장과 종료 채널 삭제를 한 번에 반영한다")
+    void appliesChangedAndEndedTogether() {
       // given
       List<AllFieldLiveDto> changedStreams = List.of(AllFieldLiveDtoFixture.create(1));
       Set<String> changedIds = Set.of("channel_1");
@@ -106,28 +111,83 @@ class StreamEmbeddingSyncServiceTest {
       streamEmbeddingSyncService.syncEmbeddings(changedStreams, changedIds, endedIds);
 
       // then
-      // 변경(channel_1) + 종료(channel_ended) 모두 삭제 대상
-      verify(streamEmbeddingRepository).deleteByChannelIdIn(anyList());
-      verify(streamEmbeddingRepository).saveAll(newEmbeddings);
+      verify(streamEmbeddingWriter).apply(newEmbeddings, endedIds);
     }
 
     @Test
-    @DisplayName("새로 생성된 임베딩을 저장한다")
-    void savesNewlyCreatedEmbeddings() {
+    @DisplayName("생성에 실패한 방송은 다음 동기화에서 다시 만든다")
+    void retriesFailedStreamsOnNextSync() {
       // given
-      List<AllFieldLiveDto> changedStreams = List.of(AllFieldLiveDtoFixture.create(1));
-      Set<String> changedIds = Set.of("channel_1");
-      Set<String> endedIds = Set.of();
+      AllFieldLiveDto first = AllFieldLiveDtoFixture.create(1);
+      AllFieldLiveDto second = AllFieldLiveDtoFixture.create(2);
+      StreamEmbedding firstEmbedding = StreamEmbedding.create("channel_1", "text1", new float[1]);
+      StreamEmbedding secondEmbedding = StreamEmbedding.create("channel_2", "text2", new float[1]);
+      given(embeddingService.createEmbeddingsBatch(List.of(first, second)))
+          .willReturn(List.of(firstEmbedding));
+      given(embeddingService.createEmbeddingsBatch(List.of(second)))
+          .willReturn(List.of(secondEmbedding));
 
+      // when
+      streamEmbeddingSyncService.syncEmbeddings(
+          List.of(first, second), Set.of("channel_1", "channel_2"), Set.of());
+      int pendingAfterFailure = streamEmbeddingSyncService.pendingRetryCount();
+      streamEmbeddingSyncService.syncEmbeddings(List.of(), Set.of(), Set.of());
+
+      // then
+      assertThat(pendingAfterFailure).isEqualTo(1);
+      verify(streamEmbeddingWriter).apply(List.of(firstEmbedding), Set.of());
+      verify(streamEmbeddingWriter).apply(List.of(secondEmbedding), Set.of());
+      assertThat(streamEmbeddingSyncService.pendingRetryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 중 예외가 나면 대상 방송을 모두 다음 동기화에서 다시 만든다")
+    void retriesAllTargetsWhenWriterFails() {
+      // given
+      AllFieldLiveDto first = AllFieldLiveDtoFixture.create(1);
+      AllFieldLiveDto second = AllFieldLiveDtoFixture.create(2);
       List<StreamEmbedding> newEmbeddings =
-          List.of(StreamEmbedding.create("channel_1", "새 텍스트", new float[1536]));
-      given(embeddingService.createEmbeddingsBatch(changedStreams)).willReturn(newEmbeddings);
+          List.of(
+              StreamEmbedding.create("channel_1", "text1", new float[1]),
+              StreamEmbedding.create("channel_2", "text2", new float[1]));
+      // 재시도 목록의 순서는 대기 맵 순회 순서를 따르므로 인자를 고정하지 않음
+      given(embeddingService.createEmbeddingsBatch(anyList())).willReturn(newEmbeddings);
+      willThrow(new IllegalStateException("DB 오류"))
+          .willDoNothing()
+          .given(streamEmbeddingWriter)
+          .apply(newEmbeddings, Set.of());
 
       // when
-      streamEmbeddingSyncService.syncEmbeddings(changedStreams, changedIds, endedIds);
+      assertThatThrownBy(
+              () ->
+                  streamEmbeddingSyncService.syncEmbeddings(
+                      List.of(first, second), Set.of("channel_1", "channel_2"), Set.of()))
+          .isInstanceOf(IllegalStateException.class);
+      int pendingAfterFailure = streamEmbeddingSyncService.pendingRetryCount();
+      streamEmbeddingSyncService.syncEmbeddings(List.of(), Set.of(), Set.of());
+
+      // then
+      assertThat(pendingAfterFailure).isEqualTo(2);
+      verify(embeddingService, times(2)).createEmbeddingsBatch(anyList());
+      verify(streamEmbeddingWriter, times(2)).apply(newEmbeddings, Set.of());
+      assertThat(streamEmbeddingSyncService.pendingRetryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중 종료된 방송은 다시 만들지 않는다")
+    void dropsPendingRetryWhenStreamEnds() {
+      // given
+      AllFieldLiveDto stream = AllFieldLiveDtoFixture.create(1);
+      given(embeddingService.createEmbeddingsBatch(List.of(stream))).willReturn(List.of());
+      given(embeddingService.createEmbeddingsBatch(List.of())).willReturn(List.of());
+      streamEmbeddingSyncService.syncEmbeddings(List.of(stream), Set.of("channel_1"), Set.of());
+
+      // when
+      streamEmbeddingSyncService.syncEmbeddings(List.of(), Set.of(), Set.of("channel_1"));
 
       // then
-      verify(streamEmbeddingRepository).saveAll(newEmbeddings);
+      verify(streamEmbeddingWriter).apply(List.of(), Set.of("channel_1"));
+      assertThat(streamEmbeddingSyncService.pendingRetryCount()).isZero();
     }
   }
 }
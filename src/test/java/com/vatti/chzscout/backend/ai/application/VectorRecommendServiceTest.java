@@ -13,7 +13,7 @@ import com.vatti.chzscout.backend.ai.infrastructure.StreamEmbeddingRepository;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
 import com.vatti.chzscout.backend.stream.domain.Stream;
 import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
-import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshotCache;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -29,7 +29,7 @@ class VectorRecommendServiceTest {
 
   @Mock private StreamEmbeddingRepository streamEmbeddingRepository;
   @Mock private EmbeddingClient embeddingClient;
-  @Mock private StreamRedisStore streamRedisStore;
+  @Mock private StreamSnapshotCache streamSnapshotCache;
 
   @InjectMocks private VectorRecommendService vectorRecommendService;
 
@@ -119,9 +119,9 @@ class VectorRecommendServiceTest {
       List<EnrichedStreamDto> enrichedStreams =
           List.of(
               EnrichedStreamDtoFixture.createWithChannelId("channel_1"),
-              EnrichedStreamDtoFixture.createWithChannelId("channel_2"),
-              EnrichedStreamDtoFixture.createWithChannelId("channel_3"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(enrichedStreams);
+              EnrichedStreamDtoFixture.createWithChannelId("channel_2"));
+      given(streamSnapshotCache.findEnrichedStreams(List.of("channel_1", "channel_2")))
+          .willReturn(enrichedStreams);
 
       // when
       List<Stream> result = vectorRecommendService.recommend("롤 방송", 5);
@@ -151,7 +151,8 @@ class VectorRecommendServiceTest {
       // Redis에는 channel_1만 있음
       List<EnrichedStreamDto> enrichedStreams =
           List.of(EnrichedStreamDtoFixture.createWithChannelId("channel_1"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(enrichedStreams);
+      given(streamSnapshotCache.findEnrichedStreams(List.of("channel_1", "channel_missing")))
+          .willReturn(enrichedStreams);
 
       // when
       List<Stream> result = vectorRecommendService.recommend("롤 방송", 5);
@@ -183,7 +184,8 @@ class VectorRecommendServiceTest {
               EnrichedStreamDtoFixture.createWithChannelId("channel_1"),
               EnrichedStreamDtoFixture.createWithChannelId("channel_2"),
               EnrichedStreamDtoFixture.createWithChannelId("channel_3"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(enrichedStreams);
+      given(streamSnapshotCache.findEnrichedStreams(List.of("channel_2", "channel_1", "channel_3")))
+          .willReturn(enrichedStreams);
 
       // when
       List<Stream> result = vectorRecommendService.recommend("롤 방송", 5);
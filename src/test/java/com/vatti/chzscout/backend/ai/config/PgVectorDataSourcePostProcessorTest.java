@@ -0,0 +1,47 @@
+package com.vatti.chzscout.backend.ai.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.ai.infrastructure.type.VectorBinaryTransferDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PgVectorDataSourcePostProcessorTest {
+
+  private final PgVectorDataSourcePostProcessor postProcessor =
+      new PgVectorDataSourcePostProcessor();
+
+  @Test
+  @DisplayName("PostgreSQL 풀은 바이너리 전송 DataSource로 연결을 만든다")
+  void wrapsPostgresPool() {
+    // given
+    HikariDataSource hikari = new HikariDataSource();
+    hikari.setJdbcUrl("jdbc:postgresql://localhost:5432/chz_scout?sslmode=disable");
+    hikari.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+    // when
+    postProcessor.postProcessAfterInitialization(hikari, "dataSource");
+
+    // then
+    assertThat(hikari.getDataSource()).isInstanceOf(VectorBinaryTransferDataSource.class);
+    VectorBinaryTransferDataSource dataSource =
+        (VectorBinaryTransferDataSource) hikari.getDataSource();
+    assertThat(dataSource.getURL()).startsWith("jdbc:postgresql://localhost:5432/chz_scout");
+    assertThat(dataSource.getReWriteBatchedInserts()).isTrue();
+  }
+
+  @Test
+  @DisplayName("PostgreSQL이 아닌 풀은 그대로 둔다")
+  void ignoresOtherPools() {
+    // given
+    HikariDataSource hikari = new HikariDataSource();
+    hikari.setJdbcUrl("jdbc:h2:mem:testdb");
+
+    // when
+    postProcessor.postProcessAfterInitialization(hikari, "dataSource");
+
+    // then
+    assertThat(hikari.getDataSource()).isNull();
+  }
+}
@@ -0,0 +1,224 @@
+package com.vatti.chzscout.backend.ai.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.vatti.chzscout.backend.ai.config.EmbeddingCoalescerProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingEmbeddingClientTest {
+
+  @Mock private EmbeddingClient delegate;
+
+  private final EmbeddingCoalescerProperties properties = new EmbeddingCoalescerProperties();
+  private ExecutorService callers;
+  private ExecutorService senders;
+  private CoalescingEmbeddingClient client;
+
+  @BeforeEach
+  void setUp() {
+    callers = Executors.newVirtualThreadPerTaskExecutor();
+    senders = Executors.newVirtualThreadPerTaskExecutor();
+    client = new CoalescingEmbeddingClient(delegate, properties, senders);
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+    senders.shutdownNow();
+  }
+
+  /** 텍스트 길이를 값으로 하는 벡터를 텍스트 순서대로 돌려주도록 스텁합니다. */
+  private void givenBatchEchoesLength() {
+    given(delegate.embedBatch(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<String> texts = invocation.getArgument(0);
+              return texts.stream().map(text -> new float[] {text.length()}).toList();
+            });
+  }
+
+  private List<CompletableFuture<float[]>> embedConcurrently(List<String> texts) {
+    List<CompletableFuture<float[]>> results = new ArrayList<>();
+    for (String text : texts) {
+      results.add(CompletableFuture.supplyAsync(() -> client.embed(text), callers));
+    }
+    return results;
+  }
+
+  @Nested
+  @DisplayName("embed 메서드 테스트")
+  class Embed {
+
+    @Test
+    @DisplayName("linger 동안 들어온 요청을 한 번의 배치 호출로 보내고 각자의 결과를 돌려준다")
+    void coalescesConcurrentRequests() {
+      // given
+      properties.setLinger(Duration.ofMillis(300));
+      givenBatchEchoesLength();
+
+      // when
+      List<CompletableFuture<float[]>> results = embedConcurrently(List.of("a", "bb", "ccc"));
+
+      // then
+      assertThat(results.get(0).join()).containsExactly(1f);
+      assertThat(results.get(1).join()).containsExactly(2f);
+      assertThat(results.get(2).join()).containsExactly(3f);
+      verify(delegate).embedBatch(anyList());
+      verify(delegate, never()).embed(anyString());
+    }
+
+    @Test
+    @DisplayName("묶음이 max-batch-size만큼 차면 linger를 기다리지 않고 보낸다")
+    void sendsWhenBatchIsFull() {
+      // given
+      properties.setLinger(Duration.ofMinutes(1));
+      properties.setMaxBatchSize(2);
+      givenBatchEchoesLength();
+
+      // when
+      List<CompletableFuture<float[]>> results = embedConcurrently(List.of("a", "bb"));
+
+      // then
+      assertThat(CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)))
+          .succeedsWithin(Duration.ofSeconds(5));
+      verify(delegate).embedBatch(argThat(texts -> texts.size() == 2));
+    }
+
+    @Test
+    @DisplayName("같은 묶음의 같은 텍스트는 한 번만 보낸다")
+    void deduplicatesSameText() {
+      // given
+      properties.setLinger(Duration.ofMillis(300));
+      givenBatchEchoesLength();
+
+      // when
+      List<CompletableFuture<float[]>> results = embedConcurrently(List.of("롤", "롤", "게임"));
+
+      // then
+      assertThat(results.get(0).join()).isSameAs(results.get(1).join());
+      assertThat(results.get(2).join()).containsExactly(2f);
+      verify(delegate)
+          .embedBatch(
+              argThat(texts -> texts.size() == 2 && texts.containsAll(List.of("롤", "게임"))));
+    }
+
+    @Test
+    @DisplayName("배치 호출이 실패하면 묶음의 모든 요청이 같은 예외를 받는다")
+    void propagatesFailureToAllCallers() {
+      // given
+      properties.setLinger(Duration.ofMinutes(1));
+      properties.setMaxBatchSize(2);
+      given(delegate.embedBatch(anyList())).willThrow(new RuntimeException("API 오류"));
+
+      // when
+      List<CompletableFuture<float[]>> results = embedConcurrently(List.of("a", "bb"));
+
+      // then
+      for (CompletableFuture<float[]> result : results) {
+        assertThatThrownBy(result::join)
+            .isInstanceOf(CompletionException.class)
+            .hasRootCauseMessage("API 오류");
+      }
+    }
+
+    @Test
+    @DisplayName("배치 호출에서 Error가 나도 묶음의 다른 요청은 timeout을 기다리지 않고 실패한다")
+    void failsAllCallersOnError() {
+      // given
+      properties.setLinger(Duration.ofMinutes(1));
+      properties.setMaxBatchSize(2);
+      properties.setTimeout(Duration.ofMinutes(1));
+      given(delegate.embedBatch(anyList())).willThrow(new OutOfMemoryError("힙 부족"));
+
+      // when
+      List<CompletableFuture<float[]>> results = embedConcurrently(List.of("a", "bb"));
+
+      // then
+      for (CompletableFuture<float[]> result : results) {
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseMessage("힙 부족");
+      }
+    }
+
+    @Test
+    @DisplayName("묶음을 맡은 요청도 API 응답을 timeout까지만 기다린다")
+    void boundsOwnerWaitByTimeout() {
+      // given
+      properties.setLinger(Duration.ofMillis(1));
+      properties.setTimeout(Duration.ofMillis(100));
+      CountDownLatch release = new CountDownLatch(1);
+      given(delegate.embed("롤"))
+          .willAnswer(
+              invocation -> {
+                release.await();
+                return new float[] {1f};
+              });
+
+      // when
+      CompletableFuture<float[]> result = embedConcurrently(List.of("롤")).get(0);
+
+      // then
+      assertThat(result)
+          .failsWithin(Duration.ofSeconds(5))
+          .withThrowableOfType(ExecutionException.class)
+          .withCauseInstanceOf(IllegalStateException.class);
+      release.countDown();
+    }
+
+    @Test
+    @DisplayName("혼자 들어온 요청은 linger 후 단건 호출로 보낸다")
+    void sendsSingleRequestAlone() {
+      // given
+      properties.setLinger(Duration.ofMillis(1));
+      given(delegate.embed("롤")).willReturn(new float[] {1f});
+
+      // when
+      float[] result = client.embed("롤");
+
+      // then
+      assertThat(result).containsExactly(1f);
+      verify(delegate, never()).embedBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("묶음 사용을 끄면 요청마다 바로 호출한다")
+    void passesThroughWhenDisabled() {
+      // given
+      properties.setEnabled(false);
+      properties.setLinger(Duration.ofMinutes(1));
+      given(delegate.embed("롤")).willReturn(new float[] {1f});
+
+      // when
+      float[] result = client.embed("롤");
+
+      // then
+      assertThat(result).containsExactly(1f);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.vatti.chzscout.backend.ai.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.ai.domain.entity.StreamEmbedding;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * pgvector 기반 StreamEmbeddingBulkRepository 통합 테스트.
+ *
+ * <p>Testcontainers로 pgvector 확장이 포함된 PostgreSQL을 실행합니다. Docker가 실행 중이어야 테스트가 가능합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StreamEmbeddingBulkRepositoryIntegrationTest {
+
+  @Container
+  static PostgreSQLContainer postgres =
+      new PostgreSQLContainer("pgvector/pgvector:pg16")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test")
+          .withInitScript("db/init-pgvector.sql");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+  }
+
+  @Autowired private StreamEmbeddingBulkRepository streamEmbeddingBulkRepository;
+  @Autowired private StreamEmbeddingRepository streamEmbeddingRepository;
+
+  @BeforeEach
+  void setUp() {
+    streamEmbeddingRepository.deleteAll();
+  }
+
+  /** 테스트용 1536차원 벡터 생성 */
+  private float[] createTestVector(float baseValue) {
+    float[] vector = new float[1536];
+    for (int i = 0; i < 1536; i++) {
+      vector[i] = baseValue + (i * 0.0001f);
+    }
+    return vector;
+  }
+
+  private List<StreamEmbedding> createEmbeddings(int count, String textPrefix) {
+    List<StreamEmbedding> embeddings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      embeddings.add(
+          StreamEmbedding.create("channel_" + i, textPrefix + i, createTestVector(i * 0.001f)));
+    }
+    return embeddings;
+  }
+
+  @Nested
+  @DisplayName("upsertAll 메서드 테스트")
+  class UpsertAll {
+
+    @Test
+    @DisplayName("배치 INSERT 경로로 새 행을 넣고 기존 행은 덮어쓴다")
+    void upsertsWithBatchedInsert() {
+      // given
+      streamEmbeddingBulkRepository.upsertAll(createEmbeddings(3, "이전 텍스트 "));
+      int count = StreamEmbeddingBulkRepositoryImpl.ROWS_PER_STATEMENT + 50;
+      List<StreamEmbedding> embeddings = createEmbeddings(count, "새 텍스트 ");
+
+      // when
+      int saved = streamEmbeddingBulkRepository.upsertAll(embeddings);
+
+      // then
+      assertThat(saved).isEqualTo(count);
+      assertThat(streamEmbeddingRepository.count()).isEqualTo(count);
+      StreamEmbedding updated = streamEmbeddingRepository.findById("channel_1").orElseThrow();
+      assertThat(updated.getEmbeddingText()).isEqualTo("새 텍스트 1");
+      assertThat(updated.getEmbedding()).containsExactly(createTestVector(0.001f));
+    }
+
+    @Test
+    @DisplayName("COPY 경로로 대량의 행을 넣고 기존 행은 덮어쓴다")
+    void upsertsWithBinaryCopy() {
+      // given
+      streamEmbeddingBulkRepository.upsertAll(createEmbeddings(3, "이전 텍스트 "));
+      int count = StreamEmbeddingBulkRepositoryImpl.COPY_THRESHOLD + 10;
+      List<StreamEmbedding> embeddings = createEmbeddings(count, "새 텍스트 ");
+
+      // when
+      int saved = streamEmbeddingBulkRepository.upsertAll(embeddings);
+
+      // then
+      assertThat(saved).isEqualTo(count);
+      assertThat(streamEmbeddingRepository.count()).isEqualTo(count);
+      StreamEmbedding updated = streamEmbeddingRepository.findById("channel_2").orElseThrow();
+      assertThat(updated.getEmbeddingText()).isEqualTo("새 텍스트 2");
+      assertThat(updated.getEmbedding()).containsExactly(createTestVector(0.002f));
+    }
+
+    @Test
+    @DisplayName("같은 채널이 여러 번 있으면 마지막 임베딩을 저장한다")
+    void keepsLastEmbeddingForDuplicateChannel() {
+      // given
+      List<StreamEmbedding> embeddings =
+          List.of(
+              StreamEmbedding.create("channel_1", "첫 번째", createTestVector(0.1f)),
+              StreamEmbedding.create("channel_1", "두 번째", createTestVector(0.2f)));
+
+      // when
+      int saved = streamEmbeddingBulkRepository.upsertAll(embeddings);
+
+      // then
+      assertThat(saved).isEqualTo(1);
+      assertThat(streamEmbeddingRepository.findById("channel_1").orElseThrow().getEmbeddingText())
+          .isEqualTo("두 번째");
+    }
+  }
+}
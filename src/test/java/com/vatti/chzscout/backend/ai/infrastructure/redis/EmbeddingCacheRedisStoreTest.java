@@ -0,0 +1,138 @@
+package com.vatti.chzscout.backend.ai.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.ai.config.EmbeddingCacheProperties;
+import com.vatti.chzscout.backend.common.config.EmbeddedRedisConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Redis 임베딩 캐시 테스트.
+ *
+ * <p>Testcontainers로 pgvector PostgreSQL을 실행하여 AI 레이어 의존성을 해결합니다. Docker가 실행 중이어야 테스트가 가능합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmbeddedRedisConfig.class)
+class EmbeddingCacheRedisStoreTest {
+
+  @Container
+  static PostgreSQLContainer postgres =
+      new PostgreSQLContainer("pgvector/pgvector:pg16")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test")
+          .withInitScript("db/init-pgvector.sql");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+  }
+
+  private static final int DIMENSIONS = 4;
+
+  @Autowired private StringRedisTemplate stringRedisTemplate;
+
+  private EmbeddingCacheProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    properties = new EmbeddingCacheProperties();
+  }
+
+  private EmbeddingCacheRedisStore store(String model) {
+    return new EmbeddingCacheRedisStore(stringRedisTemplate, properties, model, DIMENSIONS);
+  }
+
+  @Nested
+  @DisplayName("findAll 메서드 테스트")
+  class FindAll {
+
+    @Test
+    @DisplayName("저장한 텍스트의 벡터만 돌려주고 적중/미스 수를 센다")
+    void returnsSavedVectors() {
+      // given
+      EmbeddingCacheRedisStore cache = store("text-embedding-3-small");
+      float[] vector = {0.1f, -0.2f, 0.3f, 0.4f};
+      cache.saveAll(List.of("제목: 롤 솔랭"), List.of(vector));
+
+      // when
+      Map<String, float[]> found = cache.findAll(List.of("제목: 롤 솔랭", "제목: 메이플", "제목: 롤 솔랭"));
+
+      // then
+      assertThat(found).containsOnlyKeys("제목: 롤 솔랭");
+      assertThat(found.get("제목: 롤 솔랭")).containsExactly(vector);
+      assertThat(cache.hits()).isEqualTo(1);
+      assertThat(cache.misses()).isEqualTo(1);
+      assertThat(cache.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("모델이 다르면 같은 텍스트라도 이전 벡터를 읽지 않는다")
+    void separatesModels() {
+      // given
+      store("text-embedding-3-small").saveAll(List.of("제목: 롤"), List.of(new float[DIMENSIONS]));
+
+      // when
+      Map<String, float[]> found = store("text-embedding-3-large").findAll(List.of("제목: 롤"));
+
+      // then
+      assertThat(found).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회한 항목은 TTL을 다시 연장한다")
+    void extendsTtlOnHit() {
+      // given
+      EmbeddingCacheRedisStore cache = store("text-embedding-3-small");
+      cache.saveAll(List.of("제목: 롤"), List.of(new float[DIMENSIONS]));
+      String key = stringRedisTemplate.keys("embedding:cache:*").iterator().next();
+      stringRedisTemplate.expire(key, Duration.ofSeconds(10));
+
+      // when
+      cache.findAll(List.of("제목: 롤"));
+
+      // then
+      assertThat(stringRedisTemplate.getExpire(key)).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 저장도 조회도 하지 않는다")
+    void skipsWhenDisabled() {
+      // given
+      properties.setEnabled(false);
+      EmbeddingCacheRedisStore cache = store("text-embedding-3-small");
+
+      // when
+      cache.saveAll(List.of("제목: 롤"), List.of(new float[DIMENSIONS]));
+
+      // then
+      assertThat(cache.findAll(List.of("제목: 롤"))).isEmpty();
+      assertThat(stringRedisTemplate.keys("embedding:cache:*")).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.vatti.chzscout.backend.ai.infrastructure.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class VectorCodecTest {
+
+  /** 테스트용 1536차원 벡터 생성 */
+  private static float[] createTestVector() {
+    float[] vector = new float[1536];
+    for (int i = 0; i < vector.length; i++) {
+      vector[i] = (i % 2 == 0 ? 1 : -1) * i * 0.0001f;
+    }
+    return vector;
+  }
+
+  @Nested
+  @DisplayName("바이너리 형식 테스트")
+  class Binary {
+
+    @Test
+    @DisplayName("차원과 float 값을 빅 엔디언으로 쓰고 그대로 읽는다")
+    void roundTripsBinary() {
+      // given
+      float[] vector = createTestVector();
+
+      // when
+      byte[] bytes = VectorCodec.toBinary(vector);
+
+      // then
+      assertThat(bytes).hasSize(4 + 1536 * 4);
+      assertThat(Arrays.copyOf(bytes, 4)).containsExactly(0x06, 0x00, 0x00, 0x00);
+      assertThat(VectorCodec.readBinary(bytes, 0)).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("배열 중간 위치에 쓰고 읽는다")
+    void writesAtOffset() {
+      // given
+      float[] vector = {1.5f, -2.25f};
+      byte[] target = new byte[3 + VectorCodec.binaryLength(2)];
+
+      // when
+      VectorCodec.writeBinary(vector, target, 3);
+
+      // then
+      assertThat(VectorCodec.readBinary(target, 3)).containsExactly(1.5f, -2.25f);
+    }
+
+    @Test
+    @DisplayName("헤더의 차원보다 값이 모자라면 예외가 발생한다")
+    void rejectsTruncatedValue() {
+      // given
+      byte[] bytes = Arrays.copyOf(VectorCodec.toBinary(new float[] {1f, 2f}), 8);
+
+      // when & then
+      assertThatThrownBy(() -> VectorCodec.readBinary(bytes, 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("바이너리 값과 텍스트 값을 구분한다")
+    void detectsBinary() {
+      assertThat(VectorCodec.isBinary(VectorCodec.toBinary(createTestVector()))).isTrue();
+      assertThat(VectorCodec.isBinary("[1.0,2.0]".getBytes(StandardCharsets.UTF_8))).isFalse();
+      assertThat(VectorCodec.isBinary(new byte[] {0, 2, 0, 0})).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("텍스트 형식 테스트")
+  class Text {
+
+    @Test
+    @DisplayName("pgvector 문자열로 쓰고 같은 값으로 읽는다")
+    void roundTripsText() {
+      // given
+      float[] vector = createTestVector();
+
+      // when
+      String text = VectorCodec.formatText(vector);
+
+      // then
+      assertThat(VectorCodec.formatText(new float[] {1f, 2f})).isEqualTo("[1.0,2.0]");
+      assertThat(VectorCodec.parseText(text)).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("공백이 있거나 한 차원뿐인 문자열도 파싱한다")
+    void parsesEdgeCases() {
+      assertThat(VectorCodec.parseText("[1.0, 2.0 , 3.0]")).containsExactly(1f, 2f, 3f);
+      assertThat(VectorCodec.parseText("[7]")).containsExactly(7f);
+      assertThat(VectorCodec.parseText("[]")).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("PgVector 테스트")
+  class PgVectorObject {
+
+    @Test
+    @DisplayName("바이너리로 보낼 때와 텍스트로 보낼 때 같은 벡터를 나타낸다")
+    void exposesBinaryAndText() throws SQLException {
+      // given
+      PgVector pgVector = new PgVector(new float[] {1f, 2f});
+      byte[] bytes = new byte[pgVector.lengthInBytes()];
+
+      // when
+      pgVector.toBytes(bytes, 0);
+      PgVector received = new PgVector();
+      received.setByteValue(bytes, 0);
+
+      // then
+      assertThat(pgVector.getType()).isEqualTo("vector");
+      assertThat(pgVector.getValue()).isEqualTo("[1.0,2.0]");
+      assertThat(received.toArray()).containsExactly(1f, 2f);
+      assertThat(new PgVector().isNull()).isTrue();
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.jdbc.PgResultSet;
 
 @ExtendWith(MockitoExtension.class)
 class VectorTypeTest {
@@ -125,6 +127,34 @@ class VectorTypeTest {
       assertThat(result[0]).isEqualTo(0.0f);
       assertThat(result[9]).isCloseTo(0.9f, org.assertj.core.data.Offset.offset(0.001f));
     }
+
+    @Test
+    @DisplayName("PostgreSQL 결과에서 바이너리로 받은 값은 float 바이트를 그대로 읽는다")
+    void readsBinaryValueFromPostgres() throws SQLException {
+      // given
+      given(resultSet.isWrapperFor(PgResultSet.class)).willReturn(true);
+      given(resultSet.getBytes(1)).willReturn(VectorCodec.toBinary(new float[] {1.5f, -2.0f}));
+
+      // when
+      float[] result = vectorType.nullSafeGet(resultSet, 1, session, null);
+
+      // then
+      assertThat(result).containsExactly(1.5f, -2.0f);
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 결과에서 텍스트로 받은 값은 문자열로 파싱한다")
+    void readsTextValueFromPostgres() throws SQLException {
+      // given
+      given(resultSet.isWrapperFor(PgResultSet.class)).willReturn(true);
+      given(resultSet.getBytes(1)).willReturn("[1.0,2.0]".getBytes(StandardCharsets.UTF_8));
+
+      // when
+      float[] result = vectorType.nullSafeGet(resultSet, 1, session, null);
+
+      // then
+      assertThat(result).containsExactly(1.0f, 2.0f);
+    }
   }
 
   @Nested
@@ -14,6 +14,8 @@ import com.vatti.chzscout.backend.ai.application.AiChatService;
 import com.vatti.chzscout.backend.ai.application.VectorRecommendService;
 import com.vatti.chzscout.backend.ai.domain.dto.UserMessageAnalysisResult;
 import com.vatti.chzscout.backend.ai.domain.event.AiMessageResponseReceivedEvent;
+import com.vatti.chzscout.backend.stream.application.usecase.RisingStreamUseCase;
+import com.vatti.chzscout.backend.stream.domain.RisingStream;
 import com.vatti.chzscout.backend.stream.domain.Stream;
 import java.util.List;
 import net.dv8tion.jda.api.entities.Message;
@@ -41,6 +43,7 @@ class MessageListenerTest {
   @Mock ApplicationEventPublisher eventPublisher;
   @Mock AiChatService aiChatService;
   @Mock VectorRecommendService vectorRecommendService;
+  @Mock RisingStreamUseCase risingStreamUseCase;
 
   @InjectMocks MessageListener messageListener;
 
@@ -112,6 +115,30 @@ class MessageListenerTest {
       verify(aiChatService, never()).analyzeUserMessage(anyString());
     }
 
+    @Test
+    @DisplayName("급상승 명령은 GPT를 거치지 않고 급상승 방송을 이벤트로 발행한다")
+    void publishesRisingStreamsWithoutAnalysis() {
+      // given
+      given(author.isBot()).willReturn(false);
+      given(message.getContentRaw()).willReturn("!급상승");
+      Stream stream =
+          new Stream(1, "롤 방송1", "thumb1.jpg", 1000, "ch1", "스트리머1", "리그 오브 레전드", List.of("롤"));
+      given(risingStreamUseCase.findRising(5))
+          .willReturn(List.of(new RisingStream(stream, 300, 50.0, 2.5)));
+
+      // when
+      messageListener.onMessageReceived(event);
+
+      // then
+      ArgumentCaptor<AiMessageResponseReceivedEvent> captor =
+          ArgumentCaptor.forClass(AiMessageResponseReceivedEvent.class);
+      verify(eventPublisher).publishEvent(captor.capture());
+      assertThat(captor.getValue().response())
+          .contains("+300명")
+          .contains("https://chzzk.naver.com/live/ch1");
+      verify(aiChatService, never()).analyzeUserMessage(anyString());
+    }
+
     @Test
     @DisplayName("추천 요청 시 벡터 기반 방송 추천 결과를 이벤트로 발행한다")
     void publishesVectorRecommendationResults() {
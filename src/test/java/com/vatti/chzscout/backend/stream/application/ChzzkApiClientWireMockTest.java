@@ -2,6 +2,7 @@ package com.vatti.chzscout.backend.stream.application;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
 
 @WireMockTest
 class ChzzkApiClientWireMockTest {
@@ -25,7 +28,10 @@ class ChzzkApiClientWireMockTest {
   @BeforeEach
   void setUp(WireMockRuntimeInfo wireMockRuntimeInfo) {
     RestClient restClient = RestClient.builder().build();
-    chzzkApiClient = new ChzzkApiClient(restClient);
+    chzzkApiClient =
+        new ChzzkApiClient(
+            restClient,
+            new ChzzkLiveResponseDecoder(JsonMapper.builder().build(), new StringInternPool(64)));
 
     ReflectionTestUtils.setField(
         chzzkApiClient, "apiBaseUrl", wireMockRuntimeInfo.getHttpBaseUrl());
@@ -137,5 +143,22 @@ class ChzzkApiClientWireMockTest {
       assertThat(result.data()).isEmpty();
       assertThat(result.page().next()).isNull();
     }
+
+    @Test
+    @DisplayName("오류 상태 코드를 받으면 HttpClientErrorException을 던진다")
+    void throwsOnErrorStatus() {
+      // given
+      stubFor(
+          get(urlPathEqualTo("/open/v1/lives"))
+              .willReturn(
+                  aResponse()
+                      .withStatus(401)
+                      .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                      .withBody("{\"code\": 401, \"message\": \"INVALID_CLIENT\"}")));
+
+      // when & then
+      assertThatThrownBy(() -> chzzkApiClient.getChzzkLive())
+          .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+    }
   }
 }
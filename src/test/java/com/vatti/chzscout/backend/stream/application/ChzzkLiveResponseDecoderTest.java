@@ -0,0 +1,150 @@
+package com.vatti.chzscout.backend.stream.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.ChzzkLiveResponse;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+class ChzzkLiveResponseDecoderTest {
+
+  private static final String RESPONSE =
+      """
+      {
+        "code": 200,
+        "message": null,
+        "content": {
+          "data": [
+            {
+              "liveId": 1,
+              "liveTitle": "첫 번째 방송",
+              "liveThumbnailImageUrl": "https://example.com/thumb1.jpg",
+              "concurrentUserCount": 1500,
+              "openDate": "2025-01-01 12:00:00",
+              "adult": false,
+              "tags": ["게임", "롤"],
+              "categoryType": "GAME",
+              "liveCategory": "League_of_Legends",
+              "liveCategoryValue": "리그 오브 레전드",
+              "channelId": "ch1",
+              "channelName": "채널1",
+              "channelImageUrl": "https://example.com/profile1.jpg",
+              "unknownField": {"nested": [1, 2, 3]}
+            },
+            {
+              "liveId": 2,
+              "liveTitle": "두 번째 방송",
+              "liveThumbnailImageUrl": null,
+              "concurrentUserCount": 300,
+              "adult": true,
+              "tags": ["롤"],
+              "liveCategoryValue": "리그 오브 레전드",
+              "channelId": "ch2",
+              "channelName": "채널2"
+            }
+          ],
+          "page": {"next": "cursor_1"}
+        }
+      }
+      """;
+
+  ChzzkLiveResponseDecoder decoder;
+
+  @BeforeEach
+  void setUp() {
+    decoder = new ChzzkLiveResponseDecoder(JsonMapper.builder().build(), new StringInternPool(64));
+  }
+
+  private static InputStream body(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Nested
+  @DisplayName("decode 메서드 테스트")
+  class Decode {
+
+    @Test
+    @DisplayName("사용하는 필드만 채워 방송 목록과 다음 커서를 반환한다")
+    void decodesUsedFields() {
+      // when
+      ChzzkLiveResponse response = decoder.decode(body(RESPONSE));
+
+      // then
+      assertThat(response.code()).isEqualTo(200);
+      assertThat(response.message()).isNull();
+      assertThat(response.page().next()).isEqualTo("cursor_1");
+      assertThat(response.data()).hasSize(2);
+
+      AllFieldLiveDto first = response.data().get(0);
+      assertThat(first.liveId()).isEqualTo(1);
+      assertThat(first.liveTitle()).isEqualTo("첫 번째 방송");
+      assertThat(first.liveThumbnailImageUrl()).isEqualTo("https://example.com/thumb1.jpg");
+      assertThat(first.concurrentUserCount()).isEqualTo(1500);
+      assertThat(first.adult()).isFalse();
+      assertThat(first.tags()).containsExactly("게임", "롤");
+      assertThat(first.liveCategoryValue()).isEqualTo("리그 오브 레전드");
+      assertThat(first.channelId()).isEqualTo("ch1");
+      assertThat(first.channelName()).isEqualTo("채널1");
+
+      // 사용하지 않는 필드는 건너뜀
+      assertThat(first.openDate()).isNull();
+      assertThat(first.categoryType()).isNull();
+      assertThat(first.liveCategory()).isNull();
+      assertThat(first.channelImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("반복되는 카테고리와 태그는 같은 인스턴스를 재사용한다")
+    void internsRepeatedValues() {
+      // when
+      ChzzkLiveResponse firstCycle = decoder.decode(body(RESPONSE));
+      ChzzkLiveResponse secondCycle = decoder.decode(body(RESPONSE));
+
+      // then
+      AllFieldLiveDto first = firstCycle.data().get(0);
+      AllFieldLiveDto second = firstCycle.data().get(1);
+      assertThat(second.liveCategoryValue()).isSameAs(first.liveCategoryValue());
+      assertThat(second.tags().get(0)).isSameAs(first.tags().get(1));
+
+      // 갱신 사이클이 바뀌어도 재사용
+      assertThat(secondCycle.data().get(0).tags().get(0)).isSameAs(first.tags().get(0));
+    }
+
+    @Test
+    @DisplayName("content가 없으면 data와 page가 null이다")
+    void returnsNullContentWhenMissing() {
+      // when
+      ChzzkLiveResponse response =
+          decoder.decode(body("{\"code\": 401, \"message\": \"INVALID_CLIENT\"}"));
+
+      // then
+      assertThat(response.code()).isEqualTo(401);
+      assertThat(response.message()).isEqualTo("INVALID_CLIENT");
+      assertThat(response.content()).isNull();
+      assertThat(response.data()).isNull();
+    }
+
+    @Test
+    @DisplayName("본문이 비어 있으면 null을 반환한다")
+    void returnsNullForEmptyBody() {
+      // when & then
+      assertThat(decoder.decode(body(""))).isNull();
+    }
+
+    @Test
+    @DisplayName("최상위가 객체가 아니면 예외를 던진다")
+    void throwsWhenRootIsNotObject() {
+      // when & then
+      assertThatThrownBy(() -> decoder.decode(body("[]"))).isInstanceOf(JacksonException.class);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.vatti.chzscout.backend.stream.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.stream.application.RisingStreamRanker.RisingScore;
+import com.vatti.chzscout.backend.stream.domain.ViewerSeries;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RisingStreamRankerTest {
+
+  /** 1분 간격 표본으로 이력을 만듭니다. */
+  private static ViewerSeries series(String channelId, int... viewers) {
+    long[] sampledAt = new long[viewers.length];
+    for (int i = 0; i < viewers.length; i++) {
+      sampledAt[i] = 60L * (i + 1);
+    }
+    return new ViewerSeries(channelId, sampledAt, viewers);
+  }
+
+  @Nested
+  @DisplayName("score 메서드 테스트")
+  class Score {
+
+    @Test
+    @DisplayName("최근 window 구간의 분당 증가 수와 앞 구간 대비 가속도를 계산한다")
+    void computesVelocityAndAcceleration() {
+      // given
+      RisingStreamRanker ranker = new RisingStreamRanker(2, 0);
+
+      // when
+      RisingScore score = ranker.score(series("channel_1", 100, 110, 120, 160, 200));
+
+      // then
+      assertThat(score.viewers()).isEqualTo(200);
+      assertThat(score.viewerDelta()).isEqualTo(80);
+      assertThat(score.velocity()).isEqualTo(40.0);
+      // 앞 구간 분당 10명 → 최근 구간 분당 40명, 구간 중심 간격 2분
+      assertThat(score.acceleration()).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("시청자가 줄었거나 최소 시청자 수보다 적으면 순위에 넣지 않는다")
+    void ignoresFallingOrSmallStreams() {
+      // given
+      RisingStreamRanker ranker = new RisingStreamRanker(2, 50);
+
+      // when & then
+      assertThat(ranker.score(series("channel_1", 300, 250, 200))).isNull();
+      assertThat(ranker.score(series("channel_2", 10, 20, 40))).isNull();
+      assertThat(ranker.score(series("channel_3", 100))).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("update 메서드 테스트")
+  class Update {
+
+    @Test
+    @DisplayName("평소 시청자 수 대비 빠르게 늘어난 방송을 앞에 둔다")
+    void ranksByRelativeVelocity() {
+      // given
+      RisingStreamRanker ranker = new RisingStreamRanker(2, 0);
+
+      // when
+      ranker.update(
+          List.of(
+              series("big", 10000, 10100, 10200),
+              series("small", 100, 200, 300),
+              series("flat", 500, 500, 500)));
+
+      // then
+      assertThat(ranker.top(10))
+          .extracting(RisingScore::channelId)
+          .containsExactly("small", "big");
+    }
+
+    @Test
+    @DisplayName("표본이 들어온 채널만 다시 계산하고 더 이상 오르지 않으면 순위에서 뺀다")
+    void updatesOnlyGivenChannels() {
+      // given
+      RisingStreamRanker ranker = new RisingStreamRanker(2, 0);
+      ranker.update(List.of(series("a", 100, 200, 300), series("b", 100, 150, 200)));
+
+      // when
+      ranker.update(List.of(series("a", 200, 300, 300, 250)));
+
+      // then
+      assertThat(ranker.top(10)).extracting(RisingScore::channelId).containsExactly("b");
+      assertThat(ranker.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("top은 limit개까지만 반환한다")
+    void limitsTop() {
+      // given
+      RisingStreamRanker ranker = new RisingStreamRanker(2, 0);
+      ranker.update(
+          List.of(
+              series("a", 100, 200, 300), series("b", 100, 150, 200), series("c", 100, 110, 120)));
+
+      // when & then
+      assertThat(ranker.top(2)).extracting(RisingScore::channelId).containsExactly("a", "b");
+    }
+  }
+
+  @Nested
+  @DisplayName("evictOlderThan 메서드 테스트")
+  class EvictOlderThan {
+
+    @Test
+    @DisplayName("마지막 표본이 기준 시각보다 오래된 채널을 순위에서 뺀다")
+    void evictsEndedChannels() {
+      // given
+      RisingStreamRanker ranker = new RisingStreamRanker(2, 0);
+      ranker.update(
+          List.of(series("ended", 100, 200, 300), series("live", 100, 150, 200, 250)));
+
+      // when
+      int evicted = ranker.evictOlderThan(240);
+
+      // then
+      assertThat(evicted).isEqualTo(1);
+      assertThat(ranker.top(10)).extracting(RisingScore::channelId).containsExactly("live");
+    }
+  }
+}
@@ -1,27 +1,52 @@
 package com.vatti.chzscout.backend.stream.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.vatti.chzscout.backend.stream.config.ChzzkFetchProperties;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.domain.ChzzkLiveResponse;
 import com.vatti.chzscout.backend.stream.fixture.ChzzkLiveResponseFixture;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class StreamCacheServiceTest {
 
-  @InjectMocks StreamCacheService streamCacheService;
+  StreamCacheService streamCacheService;
 
   @Mock ChzzkApiClient chzzkApiClient;
 
+  ChzzkFetchProperties fetchProperties;
+  ExecutorService fetchExecutor;
+
+  @BeforeEach
+  void setUp() {
+    fetchProperties = new ChzzkFetchProperties();
+    fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    streamCacheService = new StreamCacheService(chzzkApiClient, fetchProperties, fetchExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    fetchExecutor.shutdownNow();
+  }
+
   @Nested
   @DisplayName("fetchLiveStreams 메서드 테스트")
   class FetchLiveStreamsTest {
@@ -76,4 +101,177 @@ class StreamCacheServiceTest {
       assertThat(result).hasSize(60);
     }
   }
+
+  @Nested
+  @DisplayName("fetchLiveStreams(Consumer) 메서드 테스트")
+  class FetchLiveStreamsWithConsumerTest {
+
+    @Test
+    @DisplayName("페이지 순서대로 소비자에게 넘기고 넘긴 방송 수를 반환한다")
+    void deliversPagesInOrder() {
+      // given
+      given(chzzkApiClient.getChzzkLive(null))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_1"));
+      given(chzzkApiClient.getChzzkLive("cursor_1"))
+          .willReturn(ChzzkLiveResponseFixture.lastPage(10));
+      List<Integer> pageSizes = new ArrayList<>();
+
+      // when
+      StreamCacheService.FetchResult result =
+          streamCacheService.fetchLiveStreams(page -> pageSizes.add(page.size()));
+
+      // then
+      assertThat(result.fetched()).isEqualTo(30);
+      assertThat(result.complete()).isTrue();
+      assertThat(pageSizes).containsExactly(20, 10);
+    }
+
+    @Test
+    @DisplayName("페이지 수를 지정하면 앞쪽 페이지만 요청하고 다음 페이지가 남았다고 알린다")
+    void fetchesOnlyTopPages() {
+      // given
+      given(chzzkApiClient.getChzzkLive(null))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_1"));
+      given(chzzkApiClient.getChzzkLive("cursor_1"))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_2"));
+
+      // when
+      StreamCacheService.FetchResult result = streamCacheService.fetchLiveStreams(2, page -> {});
+
+      // then
+      assertThat(result.fetched()).isEqualTo(40);
+      assertThat(result.complete()).isFalse();
+      verify(chzzkApiClient, never()).getChzzkLive("cursor_2");
+    }
+
+    @Test
+    @DisplayName("소비자에서 예외가 발생하면 호출 스레드로 전파한다")
+    void propagatesConsumerFailure() {
+      // given
+      given(chzzkApiClient.getChzzkLive(null)).willReturn(ChzzkLiveResponseFixture.lastPage(20));
+
+      // when & then
+      assertThatThrownBy(
+              () ->
+                  streamCacheService.fetchLiveStreams(
+                      page -> {
+                        throw new IllegalStateException("처리 실패");
+                      }))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("처리 실패");
+    }
+  }
+
+  @Nested
+  @DisplayName("수집 예산 테스트")
+  class FetchBudgetTest {
+
+    @Test
+    @DisplayName("설정된 최대 페이지 수까지만 요청한다")
+    void stopsAtConfiguredMaxPages() {
+      // given
+      fetchProperties.setMaxPages(2);
+      given(chzzkApiClient.getChzzkLive(null))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_1"));
+      given(chzzkApiClient.getChzzkLive("cursor_1"))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_2"));
+
+      // when
+      List<AllFieldLiveDto> result = streamCacheService.fetchLiveStreams();
+
+      // then
+      assertThat(result).hasSize(40);
+      verify(chzzkApiClient, never()).getChzzkLive("cursor_2");
+    }
+
+    @Test
+    @DisplayName("최대 방송 수에 도달하면 다음 페이지를 요청하지 않고 초과분을 잘라낸다")
+    void stopsAndTrimsAtMaxItems() {
+      // given
+      fetchProperties.setMaxItems(30);
+      given(chzzkApiClient.getChzzkLive(null))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_1"));
+      given(chzzkApiClient.getChzzkLive("cursor_1"))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_2"));
+
+      // when
+      List<AllFieldLiveDto> result = streamCacheService.fetchLiveStreams();
+
+      // then
+      assertThat(result).hasSize(30);
+      verify(chzzkApiClient, never()).getChzzkLive("cursor_2");
+    }
+
+    @Test
+    @DisplayName("최대 방송 수에서 멈췄는데 다음 페이지가 남아 있으면 끝까지 받지 못했다고 알린다")
+    void reportsTruncatedFetchAtMaxItems() {
+      // given
+      fetchProperties.setMaxItems(20);
+      given(chzzkApiClient.getChzzkLive(null))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_1"));
+
+      // when
+      StreamCacheService.FetchResult result = streamCacheService.fetchLiveStreams(page -> {});
+
+      // then
+      assertThat(result.fetched()).isEqualTo(20);
+      assertThat(result.complete()).isFalse();
+      verify(chzzkApiClient, never()).getChzzkLive("cursor_1");
+    }
+
+    @Test
+    @DisplayName("시간 예산이 이미 소진되었으면 요청하지 않고 빈 리스트를 반환한다")
+    void returnsEmptyWhenTimeBudgetExhausted() {
+      // given
+      fetchProperties.setTimeBudget(Duration.ZERO);
+
+      // when
+      List<AllFieldLiveDto> result = streamCacheService.fetchLiveStreams();
+
+      // then
+      assertThat(result).isEmpty();
+      verify(chzzkApiClient, never()).getChzzkLive(any());
+    }
+
+    @Test
+    @DisplayName("시간 예산으로 멈춘 수집은 끝까지 받지 못했다고 알린다")
+    void reportsTruncatedFetchWhenTimeBudgetExhausted() {
+      // given
+      fetchProperties.setTimeBudget(Duration.ZERO);
+
+      // when
+      StreamCacheService.FetchResult result = streamCacheService.fetchLiveStreams(page -> {});
+
+      // then
+      assertThat(result.fetched()).isZero();
+      assertThat(result.complete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 요청 중 예외가 발생하면 호출 스레드로 전파한다")
+    void propagatesFetchFailure() {
+      // given
+      given(chzzkApiClient.getChzzkLive(null))
+          .willReturn(ChzzkLiveResponseFixture.withNextPage(20, "cursor_1"));
+      given(chzzkApiClient.getChzzkLive("cursor_1")).willThrow(new RuntimeException("API 호출 실패"));
+
+      // when & then
+      assertThatThrownBy(() -> streamCacheService.fetchLiveStreams())
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("API 호출 실패");
+    }
+
+    @Test
+    @DisplayName("페이지 요청 중 Error가 발생해도 시간 예산까지 기다리지 않고 호출 스레드로 전파한다")
+    void propagatesFetchError() {
+      // given
+      fetchProperties.setTimeBudget(Duration.ofMinutes(1));
+      given(chzzkApiClient.getChzzkLive(null)).willThrow(new AssertionError("API 호출 오류"));
+
+      // when & then
+      assertThatThrownBy(() -> streamCacheService.fetchLiveStreams())
+          .isInstanceOf(AssertionError.class)
+          .hasMessage("API 호출 오류");
+    }
+  }
 }
@@ -0,0 +1,62 @@
+package com.vatti.chzscout.backend.stream.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StringInternPoolTest {
+
+  private static String intern(StringInternPool pool, String value) {
+    char[] buffer = ("__" + value + "__").toCharArray();
+    return pool.intern(buffer, 2, value.length());
+  }
+
+  @Test
+  @DisplayName("같은 내용의 문자열은 처음 등록된 인스턴스를 반환한다")
+  void returnsSameInstanceForSameContent() {
+    // given
+    StringInternPool pool = new StringInternPool(16);
+
+    // when
+    String first = intern(pool, "마인크래프트");
+    String second = intern(pool, "마인크래프트");
+
+    // then
+    assertThat(second).isEqualTo("마인크래프트").isSameAs(first);
+    assertThat(pool.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("용량이 차면 더 이상 등록하지 않고 새 문자열을 반환한다")
+  void stopsRegisteringWhenFull() {
+    // given
+    StringInternPool pool = new StringInternPool(2);
+    intern(pool, "a");
+    intern(pool, "b");
+
+    // when
+    String first = intern(pool, "c");
+    String second = intern(pool, "c");
+
+    // then
+    assertThat(second).isEqualTo("c").isNotSameAs(first);
+    assertThat(pool.size()).isEqualTo(2);
+    assertThat(intern(pool, "a")).isSameAs(intern(pool, "a"));
+  }
+
+  @Test
+  @DisplayName("최대 길이를 넘는 문자열은 등록하지 않는다")
+  void skipsLongValues() {
+    // given
+    StringInternPool pool = new StringInternPool(16);
+    String longValue = "x".repeat(StringInternPool.MAX_INTERN_LENGTH + 1);
+
+    // when
+    String value = intern(pool, longValue);
+
+    // then
+    assertThat(value).isEqualTo(longValue);
+    assertThat(pool.size()).isZero();
+  }
+}
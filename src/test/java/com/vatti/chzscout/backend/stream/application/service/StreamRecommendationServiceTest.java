@@ -1,12 +1,18 @@
 package com.vatti.chzscout.backend.stream.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
 import com.vatti.chzscout.backend.stream.domain.Stream;
 import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
-import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshot;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamSnapshotCache;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,7 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class StreamRecommendationServiceTest {
   @InjectMocks StreamRecommendationService streamRecommendationService;
-  @Mock StreamRedisStore streamRedisStore;
+  @Mock StreamSnapshotCache streamSnapshotCache;
 
   // 테스트용 검색 태그
   static final List<String> SINGLE_TAG = List.of("롤");
@@ -27,6 +33,13 @@ class StreamRecommendationServiceTest {
   static final List<String> EMPTY_TAGS = List.of();
   static final List<String> MIXED_CASE_TAGS = List.of("LOL", "Game");
 
+  /** 캐시에 방송이 있는 것처럼 스냅샷을 스텁합니다. */
+  private StreamSnapshot givenLiveStreams(List<EnrichedStreamDto> liveStreams) {
+    StreamSnapshot snapshot = spy(StreamSnapshot.of(1, liveStreams));
+    given(streamSnapshotCache.pin()).willReturn(snapshot);
+    return snapshot;
+  }
+
   @Nested
   @DisplayName("recommend 메서드 테스트")
   class recommendTests {
@@ -45,7 +58,7 @@ class StreamRecommendationServiceTest {
               EnrichedStreamDtoFixture.musicStream(4), // 매칭 없음 → 0점
               EnrichedStreamDtoFixture.fpsStream(5) // 매칭 없음 → 0점
               );
-      given(streamRedisStore.findEnrichedStreams()).willReturn(liveStreams);
+      givenLiveStreams(liveStreams);
 
       // when
       List<Stream> recommend1 = streamRecommendationService.recommend(SINGLE_TAG);
@@ -69,13 +82,14 @@ class StreamRecommendationServiceTest {
           List.of(
               EnrichedStreamDtoFixture.musicStream(1), // "음악", "노래" 태그
               EnrichedStreamDtoFixture.musicStream(2));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(liveStreams);
+      StreamSnapshot snapshot = givenLiveStreams(liveStreams);
 
       // when
       List<Stream> result = streamRecommendationService.recommend(List.of("롤", "게임"));
 
       // then
       assertThat(result).isEmpty();
+      verify(snapshot, never()).findEnrichedStreams(anyList());
     }
 
     @Test
@@ -84,7 +98,7 @@ class StreamRecommendationServiceTest {
       // given
       List<EnrichedStreamDto> liveStreams =
           List.of(EnrichedStreamDtoFixture.lolStream(1), EnrichedStreamDtoFixture.fpsStream(2));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(liveStreams);
+      givenLiveStreams(liveStreams);
 
       // when
       List<Stream> result = streamRecommendationService.recommend(EMPTY_TAGS);
@@ -97,7 +111,7 @@ class StreamRecommendationServiceTest {
     @DisplayName("캐시된 방송이 없으면 빈 리스트를 반환한다")
     void returnsEmptyListWhenNoLiveStreams() {
       // given
-      given(streamRedisStore.findEnrichedStreams()).willReturn(List.of());
+      givenLiveStreams(List.of());
 
       // when
       List<Stream> result = streamRecommendationService.recommend(SINGLE_TAG);
@@ -120,7 +134,7 @@ class StreamRecommendationServiceTest {
               EnrichedStreamDtoFixture.lolStream(6), // 5점 - 제외됨
               EnrichedStreamDtoFixture.lolStream(7) // 5점 - 제외됨
               );
-      given(streamRedisStore.findEnrichedStreams()).willReturn(liveStreams);
+      StreamSnapshot snapshot = givenLiveStreams(liveStreams);
 
       // when
       List<Stream> result = streamRecommendationService.recommend(SINGLE_TAG);
@@ -128,6 +142,10 @@ class StreamRecommendationServiceTest {
       // then
       assertThat(result).hasSize(5);
       assertThat(result.stream().map(Stream::liveId).toList()).containsExactly(1, 2, 3, 4, 5);
+      // 전체 정보는 추천할 상위 방송만 조회
+      verify(snapshot)
+          .findEnrichedStreams(
+              List.of("channel_1", "channel_2", "channel_3", "channel_4", "channel_5"));
     }
 
     @Test
@@ -141,7 +159,7 @@ class StreamRecommendationServiceTest {
                   2,
                   List.of("lol", "game"), // 소문자 태그
                   List.of("lol", "game", "moba")));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(liveStreams);
+      givenLiveStreams(liveStreams);
 
       // when - 대문자로 검색
       List<Stream> result = streamRecommendationService.recommend(MIXED_CASE_TAGS);
@@ -151,5 +169,22 @@ class StreamRecommendationServiceTest {
       assertThat(result.stream().map(Stream::liveId).toList())
           .containsExactly(1, 2); // "LOL"→"lol", "Game"→"game" 매칭
     }
+
+    @Test
+    @DisplayName("같은 스냅샷에서 같은 태그로 다시 요청하면 점수를 다시 계산하지 않는다")
+    void reusesResultWithinSnapshot() {
+      // given
+      List<EnrichedStreamDto> liveStreams =
+          List.of(EnrichedStreamDtoFixture.lolStream(1), EnrichedStreamDtoFixture.fpsStream(2));
+      StreamSnapshot snapshot = givenLiveStreams(liveStreams);
+
+      // when
+      List<Stream> first = streamRecommendationService.recommend(SINGLE_TAG);
+      List<Stream> second = streamRecommendationService.recommend(List.of("롤"));
+
+      // then
+      assertThat(second).isSameAs(first);
+      verify(snapshot, times(1)).searchable();
+    }
   }
 }
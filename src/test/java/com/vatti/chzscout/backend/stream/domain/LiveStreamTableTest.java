@@ -0,0 +1,113 @@
+package com.vatti.chzscout.backend.stream.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class LiveStreamTableTest {
+
+  private static AllFieldLiveDto withoutViewersAndTags(int index) {
+    AllFieldLiveDto stream = AllFieldLiveDtoFixture.create(index);
+    return new AllFieldLiveDto(
+        stream.liveId(),
+        stream.liveTitle(),
+        stream.liveThumbnailImageUrl(),
+        null,
+        stream.openDate(),
+        stream.adult(),
+        null,
+        stream.categoryType(),
+        null,
+        stream.liveCategoryValue(),
+        stream.channelId(),
+        stream.channelName(),
+        stream.channelImageUrl());
+  }
+
+  @Nested
+  @DisplayName("add 메서드 테스트")
+  class Add {
+
+    @Test
+    @DisplayName("행을 fromWithoutAi로 변환한 결과와 같게 읽는다")
+    void readsRowsLikeFromWithoutAi() {
+      // given
+      LiveStreamTable table = new LiveStreamTable(1);
+      List<AllFieldLiveDto> streams =
+          List.of(
+              AllFieldLiveDtoFixture.create(1),
+              AllFieldLiveDtoFixture.create(2, List.of("롤", "솔랭")),
+              AllFieldLiveDtoFixture.withCategory(3, "ETC", " "));
+
+      // when
+      streams.forEach(table::add);
+
+      // then
+      assertThat(table.size()).isEqualTo(3);
+      for (int row = 0; row < streams.size(); row++) {
+        assertThat(table.enrichedStream(row))
+            .isEqualTo(EnrichedStreamDto.fromWithoutAi(streams.get(row)));
+        assertThat(table.channelId(row)).isEqualTo(streams.get(row).channelId());
+      }
+    }
+
+    @Test
+    @DisplayName("카테고리와 태그는 표 안에서 한 번만 사전에 등록한다")
+    void sharesRepeatedValues() {
+      // given
+      LiveStreamTable table = new LiveStreamTable();
+
+      // when
+      for (int i = 1; i <= 100; i++) {
+        table.add(AllFieldLiveDtoFixture.create(i));
+      }
+
+      // then
+      assertThat(table.dictionarySize()).isEqualTo(3);
+      assertThat(table.enrichedStream(99).originalTags())
+          .containsExactly("리그 오브 레전드", "게임", "롤");
+    }
+
+    @Test
+    @DisplayName("시청자 수와 태그가 없는 방송은 null과 빈 태그로 읽는다")
+    void readsMissingValues() {
+      // given
+      LiveStreamTable table = new LiveStreamTable();
+
+      // when
+      table.add(withoutViewersAndTags(1));
+
+      // then
+      EnrichedStreamDto stream = table.enrichedStream(0);
+      assertThat(table.concurrentUserCount(0)).isNull();
+      assertThat(stream.concurrentUserCount()).isNull();
+      assertThat(stream.originalTags()).containsExactly("리그 오브 레전드");
+    }
+  }
+
+  @Nested
+  @DisplayName("asEnrichedStreams 메서드 테스트")
+  class AsEnrichedStreams {
+
+    @Test
+    @DisplayName("표에 행이 추가되면 뷰도 함께 늘어난다")
+    void growsWithTable() {
+      // given
+      LiveStreamTable table = new LiveStreamTable();
+      List<EnrichedStreamDto> view = table.asEnrichedStreams();
+
+      // when
+      table.add(AllFieldLiveDtoFixture.create(1));
+      table.add(AllFieldLiveDtoFixture.create(2));
+
+      // then
+      assertThat(view)
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly("channel_1", "channel_2");
+    }
+  }
+}
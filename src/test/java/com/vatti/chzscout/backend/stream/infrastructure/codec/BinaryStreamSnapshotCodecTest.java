@@ -0,0 +1,164 @@
+package com.vatti.chzscout.backend.stream.infrastructure.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class BinaryStreamSnapshotCodecTest {
+
+  private static List<EnrichedStreamDto> streams(int count) {
+    List<EnrichedStreamDto> streams = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      streams.add(EnrichedStreamDtoFixture.create(i));
+    }
+    return streams;
+  }
+
+  @Nested
+  @DisplayName("encode/decode 메서드 테스트")
+  class RoundTrip {
+
+    @Test
+    @DisplayName("저장한 방송 목록을 순서 그대로 복원한다")
+    void roundTrips() {
+      // given
+      BinaryStreamSnapshotCodec plain = new BinaryStreamSnapshotCodec(false);
+      BinaryStreamSnapshotCodec deflated = new BinaryStreamSnapshotCodec(true);
+      List<EnrichedStreamDto> streams = streams(3);
+
+      // when & then
+      assertThat(plain.decode(plain.encode(streams))).isEqualTo(streams);
+      assertThat(deflated.decode(deflated.encode(streams))).isEqualTo(streams);
+    }
+
+    @Test
+    @DisplayName("null 필드와 null 태그, 빈 목록을 구분하여 복원한다")
+    void keepsNullsAndEmptyLists() {
+      // given
+      BinaryStreamSnapshotCodec codec = new BinaryStreamSnapshotCodec(false);
+      List<EnrichedStreamDto> streams =
+          List.of(
+              new EnrichedStreamDto(-7, "channel_1", null, null, null, null, null, null, null),
+              new EnrichedStreamDto(
+                  Integer.MAX_VALUE,
+                  "channel_2",
+                  "",
+                  "",
+                  Integer.MIN_VALUE,
+                  "",
+                  "",
+                  List.of(),
+                  Arrays.asList("태그", null)));
+
+      // when
+      List<EnrichedStreamDto> decoded = codec.decode(codec.encode(streams));
+
+      // then
+      assertThat(decoded).isEqualTo(streams);
+    }
+
+    @Test
+    @DisplayName("원본과 같은 enrichedTags는 다시 쓰지 않고 같은 목록 인스턴스로 복원한다")
+    void sharesIdenticalTagLists() {
+      // given
+      BinaryStreamSnapshotCodec codec = new BinaryStreamSnapshotCodec(false);
+      List<String> tags = List.of("마인크래프트", "게임", "건축");
+      EnrichedStreamDto same = EnrichedStreamDtoFixture.withTags(1, tags, tags);
+      EnrichedStreamDto other =
+          EnrichedStreamDtoFixture.withTags(1, tags, List.of("마인크래프트", "건축"));
+
+      // when
+      byte[] sameBytes = codec.encode(List.of(same));
+      byte[] otherBytes = codec.encode(List.of(other));
+      EnrichedStreamDto decoded = codec.decode(sameBytes).get(0);
+
+      // then
+      assertThat(sameBytes.length).isLessThan(otherBytes.length);
+      assertThat(decoded.enrichedTags()).isSameAs(decoded.originalTags());
+      assertThat(codec.decode(otherBytes)).containsExactly(other);
+    }
+
+    @Test
+    @DisplayName("압축하면 JSON보다 작고 압축하지 않은 바이너리보다도 작다")
+    void isSmallerThanJson() {
+      // given
+      List<EnrichedStreamDto> streams = streams(200);
+
+      // when
+      int json = new JsonStreamSnapshotCodec(JsonMapper.builder().build()).encode(streams).length;
+      int plain = new BinaryStreamSnapshotCodec(false).encode(streams).length;
+      int deflated = new BinaryStreamSnapshotCodec(true).encode(streams).length;
+
+      // then
+      assertThat(plain).isLessThan(json);
+      assertThat(deflated).isLessThan(plain);
+    }
+  }
+
+  @Nested
+  @DisplayName("형식 판별 테스트")
+  class Format {
+
+    @Test
+    @DisplayName("압축 여부와 무관하게 어느 인스턴스로든 읽는다")
+    void readsRegardlessOfCompressionSetting() {
+      // given
+      List<EnrichedStreamDto> streams = streams(2);
+      byte[] deflated = new BinaryStreamSnapshotCodec(true).encode(streams);
+
+      // when & then
+      assertThat(new BinaryStreamSnapshotCodec(false).decode(deflated)).isEqualTo(streams);
+    }
+
+    @Test
+    @DisplayName("JSON payload는 판별하지 않는다")
+    void rejectsJsonPayload() {
+      // given
+      JsonStreamSnapshotCodec json = new JsonStreamSnapshotCodec(JsonMapper.builder().build());
+      BinaryStreamSnapshotCodec binary = new BinaryStreamSnapshotCodec(true);
+      byte[] payload = json.encode(streams(1));
+
+      // when & then
+      assertThat(binary.canDecode(payload)).isFalse();
+      assertThat(json.canDecode(payload)).isTrue();
+      assertThat(json.canDecode(binary.encode(streams(1)))).isFalse();
+      assertThatThrownBy(() -> binary.decode(payload))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잘린 payload는 IllegalArgumentException을 던진다")
+    void rejectsTruncatedPayload() {
+      // given
+      BinaryStreamSnapshotCodec codec = new BinaryStreamSnapshotCodec(false);
+      byte[] payload = codec.encode(streams(2));
+
+      // when & then
+      assertThatThrownBy(() -> codec.decode(Arrays.copyOf(payload, payload.length - 5)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전은 읽지 않는다")
+    void rejectsUnknownVersion() {
+      // given
+      BinaryStreamSnapshotCodec codec = new BinaryStreamSnapshotCodec(false);
+      byte[] payload = codec.encode(streams(1));
+      payload[2] = (byte) (BinaryStreamSnapshotCodec.VERSION + 1);
+
+      // when & then
+      assertThatThrownBy(() -> codec.decode(payload))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("version");
+    }
+  }
+}
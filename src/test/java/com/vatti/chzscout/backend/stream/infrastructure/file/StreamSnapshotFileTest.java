@@ -0,0 +1,161 @@
+package com.vatti.chzscout.backend.stream.infrastructure.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.stream.config.StreamSnapshotProperties;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import com.vatti.chzscout.backend.stream.infrastructure.file.StreamSnapshotFile.LocalStreamSnapshot;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.FingerprintTable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+class StreamSnapshotFileTest {
+
+  @TempDir Path tempDir;
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private StreamSnapshotProperties properties;
+  private StreamSnapshotFile snapshotFile;
+  private Path path;
+
+  private static FingerprintTable fingerprints(Object... channelIdAndFingerprint) {
+    FingerprintTable table = new FingerprintTable();
+    for (int i = 0; i < channelIdAndFingerprint.length; i += 2) {
+      table.put((String) channelIdAndFingerprint[i], (Long) channelIdAndFingerprint[i + 1]);
+    }
+    return table;
+  }
+
+  @BeforeEach
+  void setUp() {
+    path = tempDir.resolve("snapshot/stream-snapshot.bin");
+    properties = new StreamSnapshotProperties();
+    properties.setPath(path.toString());
+    snapshotFile = new StreamSnapshotFile(properties, jsonMapper);
+  }
+
+  @Nested
+  @DisplayName("save/load 메서드 테스트")
+  class SaveAndLoad {
+
+    @Test
+    @DisplayName("저장한 방송 목록과 지문을 그대로 읽는다")
+    void roundTrips() {
+      // given
+      List<EnrichedStreamDto> streams =
+          List.of(EnrichedStreamDtoFixture.create(1), EnrichedStreamDtoFixture.create(2));
+      FingerprintTable fingerprints = fingerprints("channel_1", -1L, "채널_2", Long.MAX_VALUE);
+
+      // when
+      snapshotFile.save(streams, fingerprints);
+      Optional<LocalStreamSnapshot> loaded = snapshotFile.load();
+
+      // then
+      assertThat(loaded).isPresent();
+      LocalStreamSnapshot snapshot = loaded.get();
+      assertThat(snapshot.streams()).isEqualTo(streams);
+      assertThat(snapshot.fingerprints()).isEqualTo(fingerprints);
+    }
+
+    @Test
+    @DisplayName("코덱 설정을 바꿔도 이전 형식으로 저장한 스냅샷을 읽는다")
+    void readsPayloadOfOtherCodec() {
+      // given
+      List<EnrichedStreamDto> streams = List.of(EnrichedStreamDtoFixture.create(1));
+      properties.setCodec(StreamSnapshotProperties.Codec.JSON);
+      snapshotFile.save(streams, fingerprints("channel_1", 1L));
+
+      // when
+      properties.setCodec(StreamSnapshotProperties.Codec.BINARY);
+      Optional<LocalStreamSnapshot> loaded = snapshotFile.load();
+
+      // then
+      assertThat(loaded).map(LocalStreamSnapshot::streams).contains(streams);
+    }
+
+    @Test
+    @DisplayName("JSON 코덱으로 저장하면 파일에서 방송 목록을 그대로 읽을 수 있다")
+    void writesReadableJson() throws IOException {
+      // given
+      properties.setCodec(StreamSnapshotProperties.Codec.JSON);
+
+      // when
+      snapshotFile.save(List.of(EnrichedStreamDtoFixture.create(1)), fingerprints());
+
+      // then
+      assertThat(new String(Files.readAllBytes(path), StandardCharsets.UTF_8))
+          .contains("\"channelId\":\"channel_1\"");
+    }
+
+    @Test
+    @DisplayName("다시 저장하면 이전 파일을 교체하고 임시 파일을 남기지 않는다")
+    void replacesPreviousSnapshot() {
+      // given
+      snapshotFile.save(List.of(EnrichedStreamDtoFixture.create(1)), fingerprints("channel_1", 1L));
+
+      // when
+      snapshotFile.save(List.of(), fingerprints());
+
+      // then
+      LocalStreamSnapshot snapshot = snapshotFile.load().orElseThrow();
+      assertThat(snapshot.streams()).isEmpty();
+      assertThat(snapshot.fingerprints().isEmpty()).isTrue();
+      assertThat(path.resolveSibling("stream-snapshot.bin.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 empty를 반환한다")
+    void returnsEmptyWithoutFile() {
+      assertThat(snapshotFile.load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내용이 손상되었으면 empty를 반환한다")
+    void ignoresCorruptedFile() throws IOException {
+      // given
+      snapshotFile.save(List.of(EnrichedStreamDtoFixture.create(1)), fingerprints("channel_1", 1L));
+      byte[] bytes = Files.readAllBytes(path);
+      bytes[bytes.length / 2] ^= 0x7f;
+      Files.write(path, bytes);
+
+      // when & then
+      assertThat(snapshotFile.load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 보관 시간이 지난 스냅샷은 복원하지 않는다")
+    void ignoresExpiredSnapshot() {
+      // given
+      snapshotFile.save(List.of(EnrichedStreamDtoFixture.create(1)), fingerprints("channel_1", 1L));
+      properties.setMaxAge(Duration.ZERO);
+
+      // when & then
+      assertThat(snapshotFile.load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 저장하지 않는다")
+    void skipsWhenDisabled() {
+      // given
+      properties.setEnabled(false);
+
+      // when
+      snapshotFile.save(List.of(EnrichedStreamDtoFixture.create(1)), fingerprints());
+
+      // then
+      assertThat(path).doesNotExist();
+    }
+  }
+}
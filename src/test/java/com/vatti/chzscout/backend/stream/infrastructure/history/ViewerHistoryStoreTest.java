@@ -0,0 +1,171 @@
+package com.vatti.chzscout.backend.stream.infrastructure.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vatti.chzscout.backend.common.config.EmbeddedRedisConfig;
+import com.vatti.chzscout.backend.stream.config.StreamLeaderProperties;
+import com.vatti.chzscout.backend.stream.config.ViewerHistoryProperties;
+import com.vatti.chzscout.backend.stream.config.ViewerHistoryProperties.Backend;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.ViewerSeries;
+import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Redis에 남기는 시청자 수 이력 테스트.
+ *
+ * <p>Testcontainers로 pgvector PostgreSQL을 실행하여 AI 레이어 의존성을 해결합니다. Docker가 실행 중이어야 테스트가 가능합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmbeddedRedisConfig.class)
+class ViewerHistoryStoreTest {
+
+  @Container
+  static PostgreSQLContainer postgres =
+      new PostgreSQLContainer("pgvector/pgvector:pg16")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test")
+          .withInitScript("db/init-pgvector.sql");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+  }
+
+  @Autowired private StringRedisTemplate stringRedisTemplate;
+
+  private ViewerHistoryStore viewerHistoryStore;
+
+  @BeforeEach
+  void setUp() {
+    stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    ViewerHistoryProperties properties = new ViewerHistoryProperties();
+    properties.setBackend(Backend.REDIS);
+    properties.setSamples(3);
+    viewerHistoryStore =
+        new ViewerHistoryStore(stringRedisTemplate, properties, new StreamLeaderProperties());
+  }
+
+  private static EnrichedStreamDto stream(int index, int viewers) {
+    EnrichedStreamDto stream = EnrichedStreamDtoFixture.create(index);
+    return new EnrichedStreamDto(
+        stream.liveId(),
+        stream.channelId(),
+        stream.liveTitle(),
+        stream.liveThumbnailImageUrl(),
+        viewers,
+        stream.channelName(),
+        stream.liveCategoryValue(),
+        stream.originalTags(),
+        stream.enrichedTags());
+  }
+
+  private static int[] viewers(ViewerSeries series) {
+    int[] viewers = new int[series.size()];
+    for (int i = 0; i < viewers.length; i++) {
+      viewers[i] = series.viewersAt(i);
+    }
+    return viewers;
+  }
+
+  @Test
+  @DisplayName("리더 선출을 켠 채 메모리 저장소를 설정하면 시작하지 않는다")
+  void rejectsMemoryBackendWithLeaderElection() {
+    // given
+    ViewerHistoryProperties properties = new ViewerHistoryProperties();
+    properties.setBackend(Backend.MEMORY);
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                new ViewerHistoryStore(
+                    stringRedisTemplate, properties, new StreamLeaderProperties()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Nested
+  @DisplayName("record 메서드 테스트")
+  class Record {
+
+    @Test
+    @DisplayName("채널마다 최근 samples개 표본만 오래된 순으로 남긴다")
+    void keepsRecentSamples() {
+      // when
+      for (int i = 1; i <= 4; i++) {
+        viewerHistoryStore.record(
+            Instant.ofEpochSecond(i * 60L), List.of(stream(1, i * 100), stream(2, i)));
+      }
+
+      // then
+      List<ViewerSeries> found = viewerHistoryStore.find(List.of("channel_2", "channel_1"));
+      assertThat(found)
+          .extracting(ViewerSeries::channelId)
+          .containsExactly("channel_2", "channel_1");
+      assertThat(viewers(found.get(1))).containsExactly(200, 300, 400);
+      assertThat(found.get(1).sampledAt(0)).isEqualTo(120);
+      assertThat(found.get(1).latestAt()).isEqualTo(240);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 다시 받은 방송은 표본을 교체한다")
+    void replacesSampleAtSameTime() {
+      // given
+      viewerHistoryStore.record(Instant.ofEpochSecond(60), List.of(stream(1, 100)));
+
+      // when
+      viewerHistoryStore.record(Instant.ofEpochSecond(120), List.of(stream(1, 200)));
+      viewerHistoryStore.record(Instant.ofEpochSecond(120), List.of(stream(1, 250)));
+
+      // then
+      assertThat(viewers(viewerHistoryStore.find(List.of("channel_1")).get(0)))
+          .containsExactly(100, 250);
+    }
+  }
+
+  @Nested
+  @DisplayName("evictUnseenSince 메서드 테스트")
+  class EvictUnseenSince {
+
+    @Test
+    @DisplayName("기준 시각 이후 표본이 없는 채널의 이력을 지운다")
+    void evictsUnseenChannels() {
+      // given
+      viewerHistoryStore.record(Instant.ofEpochSecond(60), List.of(stream(1, 100), stream(2, 10)));
+      viewerHistoryStore.record(Instant.ofEpochSecond(120), List.of(stream(1, 150)));
+
+      // when
+      int evicted = viewerHistoryStore.evictUnseenSince(Instant.ofEpochSecond(120));
+
+      // then
+      assertThat(evicted).isEqualTo(1);
+      assertThat(viewerHistoryStore.findAll())
+          .extracting(ViewerSeries::channelId)
+          .containsExactly("channel_1");
+    }
+  }
+}
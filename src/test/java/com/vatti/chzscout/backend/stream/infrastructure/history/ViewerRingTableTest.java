@@ -0,0 +1,132 @@
+package com.vatti.chzscout.backend.stream.infrastructure.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.stream.domain.ViewerSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ViewerRingTableTest {
+
+  private static int[] viewers(ViewerSeries series) {
+    int[] viewers = new int[series.size()];
+    for (int i = 0; i < viewers.length; i++) {
+      viewers[i] = series.viewersAt(i);
+    }
+    return viewers;
+  }
+
+  @Nested
+  @DisplayName("append 메서드 테스트")
+  class Append {
+
+    @Test
+    @DisplayName("표본 수를 넘으면 가장 오래된 표본부터 덮어쓰고 오래된 순으로 반환한다")
+    void overwritesOldestSample() {
+      // given
+      ViewerRingTable table = new ViewerRingTable(4, 3);
+
+      // when
+      for (int i = 1; i <= 5; i++) {
+        table.append("channel_1", i * 60L, i * 100);
+      }
+
+      // then
+      ViewerSeries series = table.get("channel_1");
+      assertThat(viewers(series)).containsExactly(300, 400, 500);
+      assertThat(series.sampledAt(0)).isEqualTo(180);
+      assertThat(series.latestAt()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("같은 시각의 표본은 추가하지 않고 교체한다")
+    void replacesSampleAtSameTime() {
+      // given
+      ViewerRingTable table = new ViewerRingTable(4, 3);
+      table.append("channel_1", 60, 100);
+
+      // when
+      table.append("channel_1", 120, 200);
+      table.append("channel_1", 120, 250);
+
+      // then
+      assertThat(viewers(table.get("channel_1"))).containsExactly(100, 250);
+    }
+
+    @Test
+    @DisplayName("채널 수가 가득 차면 새 채널은 남기지 않고 기존 채널은 계속 남긴다")
+    void dropsNewChannelsWhenFull() {
+      // given
+      ViewerRingTable table = new ViewerRingTable(2, 3);
+      table.append("channel_1", 60, 100);
+      table.append("channel_2", 60, 100);
+
+      // when
+      boolean added = table.append("channel_3", 60, 100);
+      boolean existing = table.append("channel_1", 120, 150);
+
+      // then
+      assertThat(added).isFalse();
+      assertThat(existing).isTrue();
+      assertThat(table.get("channel_3")).isNull();
+      assertThat(table.size()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("evictOlderThan 메서드 테스트")
+  class EvictOlderThan {
+
+    @Test
+    @DisplayName("기준 시각 이후 표본이 없는 채널을 비우고 그 슬롯을 재사용한다")
+    void evictsUnseenChannelsAndReusesSlots() {
+      // given
+      ViewerRingTable table = new ViewerRingTable(2, 3);
+      table.append("channel_1", 60, 100);
+      table.append("channel_2", 60, 100);
+      table.append("channel_1", 120, 150);
+
+      // when
+      int evicted = table.evictOlderThan(120);
+      boolean added = table.append("channel_3", 180, 10);
+
+      // then
+      assertThat(evicted).isEqualTo(1);
+      assertThat(added).isTrue();
+      assertThat(table.get("channel_2")).isNull();
+      assertThat(viewers(table.get("channel_3"))).containsExactly(10);
+      assertThat(table.all())
+          .extracting(ViewerSeries::channelId)
+          .containsExactlyInAnyOrder("channel_1", "channel_3");
+    }
+  }
+
+  @Nested
+  @DisplayName("ViewerSeries 추세 계산 테스트")
+  class Trend {
+
+    @Test
+    @DisplayName("window개 전 표본과의 차이와 경과 시간, 최근 window개 평균을 계산한다")
+    void computesDeltaAndMovingAverage() {
+      // given
+      ViewerRingTable table = new ViewerRingTable(1, 5);
+      int[] samples = {100, 120, 180, 240};
+      for (int i = 0; i < samples.length; i++) {
+        table.append("channel_1", i * 60L, samples[i]);
+      }
+
+      // when
+      ViewerSeries series = table.get("channel_1");
+
+      // then
+      assertThat(series.latest()).isEqualTo(240);
+      assertThat(series.delta(2)).isEqualTo(120);
+      assertThat(series.elapsedSeconds(2)).isEqualTo(120);
+      assertThat(series.movingAverage(2)).isEqualTo(210.0);
+      // 표본이 부족하면 있는 표본으로 계산
+      assertThat(series.delta(10)).isEqualTo(140);
+      assertThat(series.movingAverage(10)).isEqualTo(160.0);
+    }
+  }
+}
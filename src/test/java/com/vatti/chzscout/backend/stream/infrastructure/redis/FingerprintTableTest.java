@@ -0,0 +1,87 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class FingerprintTableTest {
+
+  @Nested
+  @DisplayName("put 메서드 테스트")
+  class Put {
+
+    @Test
+    @DisplayName("같은 channelId를 다시 저장하면 지문을 교체하고 크기는 그대로다")
+    void replacesExistingEntry() {
+      // given
+      FingerprintTable table = new FingerprintTable();
+      table.put("channel_1", 1L);
+
+      // when
+      table.put("channel_1", 2L);
+
+      // then
+      assertThat(table.size()).isEqualTo(1);
+      assertThat(table.getOrDefault("channel_1", 0L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘겨 저장해도 모든 항목을 유지한다")
+    void growsBeyondInitialCapacity() {
+      // given
+      FingerprintTable table = new FingerprintTable(4);
+      Map<String, Long> expected = new HashMap<>();
+
+      // when
+      for (int i = 0; i < 5_000; i++) {
+        table.put("channel_" + i, i * 31L);
+        expected.put("channel_" + i, i * 31L);
+      }
+
+      // then
+      Map<String, Long> actual = new HashMap<>();
+      table.forEach(actual::put);
+      assertThat(table.size()).isEqualTo(5_000);
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Nested
+  @DisplayName("조회 메서드 테스트")
+  class Lookup {
+
+    @Test
+    @DisplayName("없는 channelId는 기본값을 반환한다")
+    void returnsDefaultForMissing() {
+      // given
+      FingerprintTable table = new FingerprintTable();
+      table.put("channel_1", 0L);
+
+      // when & then
+      assertThat(table.containsKey("channel_1")).isTrue();
+      assertThat(table.containsKey("channel_2")).isFalse();
+      assertThat(table.getOrDefault("channel_2", -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("항목이 같으면 저장 순서와 무관하게 같은 테이블이다")
+    void equalsIgnoresInsertionOrder() {
+      // given
+      FingerprintTable first = new FingerprintTable();
+      first.put("channel_1", 1L);
+      first.put("channel_2", 2L);
+      FingerprintTable second = new FingerprintTable(100);
+      second.put("channel_2", 2L);
+      second.put("channel_1", 1L);
+
+      // when & then
+      assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+      second.put("channel_1", 3L);
+      assertThat(first).isNotEqualTo(second);
+    }
+  }
+}
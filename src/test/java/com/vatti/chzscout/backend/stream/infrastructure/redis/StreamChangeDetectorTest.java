@@ -0,0 +1,197 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.StreamChangeResult;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StreamChangeDetectorTest {
+
+  private static long fingerprintOf(AllFieldLiveDto stream) {
+    return StreamFingerprint.of(stream);
+  }
+
+  private static FingerprintTable tableOf(Map<String, Long> fingerprints) {
+    FingerprintTable table = new FingerprintTable();
+    fingerprints.forEach(table::put);
+    return table;
+  }
+
+  private static Set<String> channelIdsOf(FingerprintTable table) {
+    Set<String> channelIds = new HashSet<>();
+    table.forEach((channelId, fingerprint) -> channelIds.add(channelId));
+    return channelIds;
+  }
+
+  @Nested
+  @DisplayName("accept 메서드 테스트")
+  class Accept {
+
+    @Test
+    @DisplayName("페이지마다 신규 및 변경된 channelId만 반환한다")
+    void returnsNewAndChangedIdsPerPage() {
+      // given
+      AllFieldLiveDto unchanged = AllFieldLiveDtoFixture.create(1);
+      AllFieldLiveDto changed = AllFieldLiveDtoFixture.create(2, List.of("새태그"));
+      AllFieldLiveDto added = AllFieldLiveDtoFixture.create(3);
+      StreamChangeDetector detector =
+          new StreamChangeDetector(
+              tableOf(
+                  Map.of(
+                      "channel_1", fingerprintOf(unchanged),
+                      "channel_2", fingerprintOf(AllFieldLiveDtoFixture.create(2)))));
+
+      // when
+      Set<String> firstPage = detector.accept(List.of(unchanged, changed));
+      Set<String> secondPage = detector.accept(List.of(added));
+
+      // then
+      assertThat(firstPage).containsExactly("channel_2");
+      assertThat(secondPage).containsExactly("channel_3");
+    }
+
+    @Test
+    @DisplayName("바뀐 필드를 변경 종류 비트마스크로 기록하고 의미 없는 변경은 제외한다")
+    void recordsChangeMasks() {
+      // given
+      StreamChangeDetector detector =
+          new StreamChangeDetector(
+              tableOf(
+                  Map.of(
+                      "channel_1", fingerprintOf(AllFieldLiveDtoFixture.create(1)),
+                      "popular_channel_2", fingerprintOf(AllFieldLiveDtoFixture.popular(2, 150)),
+                      "popular_channel_3", fingerprintOf(AllFieldLiveDtoFixture.popular(3, 150)))));
+
+      // when
+      Set<String> changedIds =
+          detector.accept(
+              List.of(
+                  AllFieldLiveDtoFixture.withCategory(1, "GAME", "발로란트"),
+                  AllFieldLiveDtoFixture.popular(2, 5_000),
+                  AllFieldLiveDtoFixture.popular(3, 160)));
+      StreamChangeResult result = detector.partialResult();
+
+      // then
+      assertThat(changedIds).containsExactlyInAnyOrder("channel_1", "popular_channel_2");
+      assertThat(StreamChangeKind.CATEGORY.in(result.changeMasks().get("channel_1"))).isTrue();
+      assertThat(result.changeMasks())
+          .containsEntry("popular_channel_2", StreamChangeKind.VIEWER_BUCKET.bit())
+          .doesNotContainKey("popular_channel_3");
+      assertThat(result.changedIds(StreamChangeKind.NEW.bit() | StreamChangeKind.CONTENT))
+          .containsExactly("channel_1");
+    }
+
+    @Test
+    @DisplayName("뒤 페이지에 같은 channelId가 다시 오면 마지막 값으로 분류한다")
+    void lastDuplicateWins() {
+      // given
+      AllFieldLiveDto original = AllFieldLiveDtoFixture.create(1);
+      StreamChangeDetector detector =
+          new StreamChangeDetector(tableOf(Map.of("channel_1", fingerprintOf(original))));
+
+      // when
+      detector.accept(List.of(AllFieldLiveDtoFixture.create(1, List.of("새태그"))));
+      detector.accept(List.of(original));
+
+      // then
+      StreamChangeResult result = detector.result();
+      assertThat(result.changedStreams()).isEmpty();
+      assertThat(detector.currentFingerprints().getOrDefault("channel_1", 0L))
+          .isEqualTo(fingerprintOf(original));
+    }
+  }
+
+  @Nested
+  @DisplayName("result 메서드 테스트")
+  class Result {
+
+    @Test
+    @DisplayName("받은 페이지에 없는 이전 방송을 종료로 분류한다")
+    void classifiesMissingAsEnded() {
+      // given
+      AllFieldLiveDto live = AllFieldLiveDtoFixture.create(1);
+      StreamChangeDetector detector =
+          new StreamChangeDetector(
+              tableOf(Map.of("channel_1", fingerprintOf(live), "channel_9", 42L)));
+
+      // when
+      detector.accept(List.of(live, AllFieldLiveDtoFixture.create(2)));
+      StreamChangeResult result = detector.result();
+
+      // then
+      assertThat(result.newStreams()).containsExactly("channel_2");
+      assertThat(result.changedStreams()).isEmpty();
+      assertThat(result.endedStreams()).containsExactly("channel_9");
+      assertThat(channelIdsOf(detector.currentFingerprints()))
+          .containsExactlyInAnyOrder("channel_1", "channel_2");
+    }
+  }
+
+  @Nested
+  @DisplayName("외부 분류기 테스트")
+  class ExternalClassifier {
+
+    @Test
+    @DisplayName("분류기가 돌려준 분류로 신규와 변경을 나누고 종료 방송은 넘겨받은 값을 사용한다")
+    void usesClassifierResult() {
+      // given - channel_1 신규, channel_2 변경, channel_3 변경 없음
+      StreamChangeDetector detector =
+          new StreamChangeDetector(
+              (channelIds, fingerprints, previous) -> {
+                previous[1] = ~fingerprints[1];
+                return new int[] {
+                  StreamChangeDetector.NEW,
+                  StreamChangeDetector.CHANGED,
+                  StreamChangeDetector.UNCHANGED
+                };
+              },
+              StreamFingerprint.DEFAULT_TITLE_SIMILARITY);
+
+      // when
+      Set<String> pageChangedIds =
+          detector.accept(
+              List.of(
+                  AllFieldLiveDtoFixture.create(1),
+                  AllFieldLiveDtoFixture.create(2),
+                  AllFieldLiveDtoFixture.create(3)));
+      StreamChangeResult result = detector.result(Set.of("channel_9"));
+
+      // then
+      assertThat(pageChangedIds).containsExactlyInAnyOrder("channel_1", "channel_2");
+      assertThat(result.newStreams()).containsExactly("channel_1");
+      assertThat(result.changedStreams()).containsExactly("channel_2");
+      assertThat(result.endedStreams()).containsExactly("channel_9");
+      assertThat(channelIdsOf(detector.currentFingerprints()))
+          .containsExactlyInAnyOrder("channel_1", "channel_2", "channel_3");
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 분류기를 호출하지 않는다")
+    void skipsEmptyPage() {
+      // given
+      StreamChangeDetector detector =
+          new StreamChangeDetector(
+              (channelIds, fingerprints, previous) -> {
+                throw new AssertionError("빈 페이지로 분류기를 호출함");
+              },
+              StreamFingerprint.DEFAULT_TITLE_SIMILARITY);
+
+      // when
+      Set<String> pageChangedIds = detector.accept(List.of());
+
+      // then
+      assertThat(pageChangedIds).isEmpty();
+      assertThatThrownBy(detector::result).isInstanceOf(IllegalStateException.class);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
+import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StreamFingerprintTest {
+
+  private static AllFieldLiveDto stream(String title, List<String> tags, String category) {
+    return new AllFieldLiveDto(
+        1,
+        title,
+        "https://thumbnail.example.com/live1.jpg",
+        1000,
+        "2025-01-01T12:00:00",
+        false,
+        tags,
+        "GAME",
+        "League of Legends",
+        category,
+        "channel_1",
+        "스트리머1",
+        "https://profile.example.com/channel1.jpg");
+  }
+
+  private static AllFieldLiveDto withViewers(AllFieldLiveDto stream, int viewers) {
+    return new AllFieldLiveDto(
+        stream.liveId(),
+        stream.liveTitle(),
+        "https://thumbnail.example.com/other.jpg",
+        viewers,
+        stream.openDate(),
+        stream.adult(),
+        stream.tags(),
+        stream.categoryType(),
+        stream.liveCategory(),
+        stream.liveCategoryValue(),
+        stream.channelId(),
+        stream.channelName(),
+        stream.channelImageUrl());
+  }
+
+  private static int diff(AllFieldLiveDto previous, AllFieldLiveDto current) {
+    return StreamFingerprint.diff(
+        StreamFingerprint.of(previous),
+        StreamFingerprint.of(current),
+        StreamFingerprint.DEFAULT_TITLE_SIMILARITY);
+  }
+
+  @Nested
+  @DisplayName("of 메서드 테스트")
+  class Of {
+
+    @Test
+    @DisplayName("시청자 수가 같은 구간 안에서 바뀌거나 썸네일만 바뀌면 같은 지문을 반환한다")
+    void ignoresViewerCountWithinBucket() {
+      // given
+      AllFieldLiveDto stream = AllFieldLiveDtoFixture.create(1); // 시청자 1100명
+
+      // when & then
+      assertThat(StreamFingerprint.of(withViewers(stream, 1500)))
+          .isEqualTo(StreamFingerprint.of(stream));
+    }
+
+    @Test
+    @DisplayName("제목의 숫자, 이모지, 문장부호만 바뀌면 같은 지문을 반환한다")
+    void ignoresCosmeticTitleEdits() {
+      // when & then
+      assertThat(StreamFingerprint.of(stream("[37일차] 오늘도 랭크 올리기 🔥", List.of("게임"), "롤")))
+          .isEqualTo(StreamFingerprint.of(stream("[38일차] 오늘도 랭크 올리기!! 🎮", List.of("게임"), "롤")));
+    }
+
+    @Test
+    @DisplayName("태그와 카테고리의 경계와 null을 구분한다")
+    void separatesFieldBoundaries() {
+      // when & then
+      assertThat(StreamFingerprint.of(stream("제목", List.of("ab", "c"), "롤")))
+          .isNotEqualTo(StreamFingerprint.of(stream("제목", List.of("a", "bc"), "롤")));
+      assertThat(StreamFingerprint.of(stream("제목", null, "롤")))
+          .isNotEqualTo(StreamFingerprint.of(stream("제목", List.of(), "롤")));
+      assertThat(StreamFingerprint.of(stream("제목", List.of(), null)))
+          .isNotEqualTo(StreamFingerprint.of(stream("제목", List.of(), "")));
+    }
+  }
+
+  @Nested
+  @DisplayName("diff 메서드 테스트")
+  class Diff {
+
+    @Test
+    @DisplayName("바뀐 필드마다 해당 변경 종류 비트를 반환한다")
+    void reportsChangedFields() {
+      // given
+      AllFieldLiveDto original = stream("롤 듀오 랭크", List.of("게임"), "롤");
+
+      // when & then
+      assertThat(diff(original, stream("발로란트 내전", List.of("게임"), "롤")))
+          .isEqualTo(StreamChangeKind.TITLE.bit());
+      assertThat(diff(original, stream("롤 듀오 랭크", List.of("토크"), "롤")))
+          .isEqualTo(StreamChangeKind.TAGS.bit());
+      assertThat(diff(original, stream("롤 듀오 랭크", List.of("게임"), "발로란트")))
+          .isEqualTo(StreamChangeKind.CATEGORY.bit());
+    }
+
+    @Test
+    @DisplayName("시청자 수 구간만 바뀌면 VIEWER_BUCKET만 반환한다")
+    void reportsViewerBucketOnly() {
+      // given
+      AllFieldLiveDto stream = AllFieldLiveDtoFixture.create(1);
+
+      // when & then
+      assertThat(diff(stream, withViewers(stream, 50_000)))
+          .isEqualTo(StreamChangeKind.VIEWER_BUCKET.bit());
+    }
+
+    @Test
+    @DisplayName("유사도 기준 이상 비슷한 제목 수정은 변경으로 보지 않는다")
+    void ignoresSimilarTitles() {
+      // given
+      AllFieldLiveDto original = stream("오늘도 랭크 올리기 다이아 가자", List.of("게임"), "롤");
+      AllFieldLiveDto edited = stream("오늘도 랭크 올리기 다이아 가즈아", List.of("게임"), "롤");
+
+      // when & then
+      assertThat(diff(original, edited)).isZero();
+      assertThat(
+              StreamFingerprint.diff(
+                  StreamFingerprint.of(original), StreamFingerprint.of(edited), 1.0))
+          .isEqualTo(StreamChangeKind.TITLE.bit());
+    }
+  }
+
+  @Nested
+  @DisplayName("retained 메서드 테스트")
+  class Retained {
+
+    @Test
+    @DisplayName("제목 변경을 무시했으면 이전 제목 비트와 현재 나머지 필드를 합친다")
+    void keepsPreviousTitleBits() {
+      // given
+      long previous = StreamFingerprint.of(stream("오늘도 랭크 올리기 다이아 가자", List.of("게임"), "롤"));
+      long current = StreamFingerprint.of(stream("오늘도 랭크 올리기 다이아 가즈아", List.of("토크"), "롤"));
+      int mask =
+          StreamFingerprint.diff(previous, current, StreamFingerprint.DEFAULT_TITLE_SIMILARITY);
+
+      // when
+      long retained = StreamFingerprint.retained(previous, current, mask);
+
+      // then
+      assertThat(mask).isEqualTo(StreamChangeKind.TAGS.bit());
+      assertThat(StreamFingerprint.titleSimilarity(previous, retained)).isEqualTo(1.0);
+      assertThat(StreamFingerprint.diff(current, retained, 1.0))
+          .isEqualTo(StreamChangeKind.TITLE.bit());
+    }
+
+    @Test
+    @DisplayName("제목 변경으로 봤으면 현재 지문을 그대로 반환한다")
+    void keepsCurrentWhenTitleChanged() {
+      // given
+      long previous = StreamFingerprint.of(stream("롤 듀오 랭크", List.of("게임"), "롤"));
+      long current = StreamFingerprint.of(stream("발로란트 내전", List.of("게임"), "롤"));
+
+      int mask = StreamChangeKind.TITLE.bit();
+
+      // when & then
+      assertThat(StreamFingerprint.retained(previous, current, mask)).isEqualTo(current);
+    }
+  }
+
+  @Nested
+  @DisplayName("viewerBucket 메서드 테스트")
+  class ViewerBucket {
+
+    @Test
+    @DisplayName("1, 3, 10, 30, 100 ... 경계마다 구간이 올라간다")
+    void bucketsByHalfDecades() {
+      // when & then
+      assertThat(StreamFingerprint.viewerBucket(null)).isZero();
+      assertThat(StreamFingerprint.viewerBucket(0)).isZero();
+      assertThat(StreamFingerprint.viewerBucket(2)).isEqualTo(1);
+      assertThat(StreamFingerprint.viewerBucket(3)).isEqualTo(2);
+      assertThat(StreamFingerprint.viewerBucket(29)).isEqualTo(3);
+      assertThat(StreamFingerprint.viewerBucket(1000))
+          .isEqualTo(StreamFingerprint.viewerBucket(2999))
+          .isEqualTo(7);
+    }
+  }
+
+  @Nested
+  @DisplayName("toBytes/fromBytes 메서드 테스트")
+  class Bytes {
+
+    @Test
+    @DisplayName("big-endian 8바이트로 변환하고 되돌린다")
+    void roundTripsBigEndian() {
+      // when
+      byte[] bytes = StreamFingerprint.toBytes(0x0102030405060708L);
+
+      // then
+      assertThat(bytes).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+      assertThat(StreamFingerprint.fromBytes(bytes)).isEqualTo(0x0102030405060708L);
+      assertThat(StreamFingerprint.fromBytes(StreamFingerprint.toBytes(-2L))).isEqualTo(-2L);
+    }
+  }
+}
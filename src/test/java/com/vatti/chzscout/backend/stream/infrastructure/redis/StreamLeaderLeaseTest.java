@@ -0,0 +1,248 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.vatti.chzscout.backend.stream.application.StringInternPool;
+import com.vatti.chzscout.backend.stream.config.StreamChangeProperties;
+import com.vatti.chzscout.backend.stream.config.StreamLeaderProperties;
+import com.vatti.chzscout.backend.stream.domain.event.StreamLeadershipAcquiredEvent;
+import com.vatti.chzscout.backend.stream.domain.event.StreamLeadershipLostEvent;
+import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
+import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Redis 리스 리더 선출 테스트.
+ *
+ * <p>두 노드를 같은 Redis에 붙여 리스 배타성, 만료 후 인계, 펜싱 토큰에 의한 쓰기 거부를 확인합니다. 스프링 컨텍스트 없이 별도 포트의 Embedded
+ * Redis를 사용합니다.
+ */
+class StreamLeaderLeaseTest {
+
+  private static final int REDIS_PORT = 6391;
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+
+  private ApplicationEventPublisher eventPublisher;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = new RedisServer(REDIS_PORT);
+    redisServer.start();
+    connectionFactory =
+        new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    eventPublisher = mock(ApplicationEventPublisher.class);
+  }
+
+  private StreamLeaderLease newLease(Duration leaseTtl) {
+    StreamLeaderProperties properties = new StreamLeaderProperties();
+    properties.setLeaseTtl(leaseTtl);
+    return new StreamLeaderLease(redisTemplate, properties, eventPublisher, null);
+  }
+
+  private static StreamRedisStore newStore(StreamLeaderLease lease) {
+    return new StreamRedisStore(
+        redisTemplate,
+        JsonMapper.builder().build(),
+        lease,
+        new StreamChangeProperties(),
+        new StringInternPool(64));
+  }
+
+  @Nested
+  @DisplayName("tryAcquire 메서드 테스트")
+  class TryAcquire {
+
+    @Test
+    @DisplayName("리스를 획득하면 토큰을 발급하고 획득 이벤트를 한 번만 발행한다")
+    void acquiresAndRenews() {
+      // given
+      StreamLeaderLease lease = newLease(Duration.ofSeconds(30));
+
+      // when
+      boolean first = lease.tryAcquire();
+      boolean renewed = lease.tryAcquire();
+
+      // then
+      assertThat(first).isTrue();
+      assertThat(renewed).isTrue();
+      assertThat(lease.isLeader()).isTrue();
+      assertThat(lease.fencingToken()).isEqualTo(1);
+      verify(eventPublisher, times(1)).publishEvent(any(StreamLeadershipAcquiredEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 가진 동안에는 획득하지 못한다")
+    void excludesOtherNodes() {
+      // given
+      StreamLeaderLease leader = newLease(Duration.ofSeconds(30));
+      StreamLeaderLease follower = newLease(Duration.ofSeconds(30));
+      leader.tryAcquire();
+
+      // when
+      boolean acquired = follower.tryAcquire();
+
+      // then
+      assertThat(acquired).isFalse();
+      assertThat(follower.isLeader()).isFalse();
+      assertThat(leader.isLeader()).isTrue();
+    }
+
+    @Test
+    @DisplayName("리스가 만료되면 다른 노드가 더 큰 토큰으로 넘겨받는다")
+    void failsOverAfterExpiry() throws InterruptedException {
+      // given
+      StreamLeaderLease leader = newLease(Duration.ofMillis(200));
+      StreamLeaderLease follower = newLease(Duration.ofMillis(200));
+      leader.tryAcquire();
+
+      // when
+      Thread.sleep(300);
+      boolean acquired = follower.tryAcquire();
+
+      // then
+      assertThat(acquired).isTrue();
+      assertThat(leader.isLeader()).isFalse();
+      assertThat(follower.fencingToken()).isGreaterThan(leader.fencingToken());
+    }
+
+    @Test
+    @DisplayName("다른 노드에 리스를 넘긴 리더는 상실 이벤트를 한 번만 발행한다")
+    void publishesLostEventOnce() throws InterruptedException {
+      // given
+      StreamLeaderLease leader = newLease(Duration.ofMillis(200));
+      StreamLeaderLease follower = newLease(Duration.ofSeconds(30));
+      leader.tryAcquire();
+      Thread.sleep(300);
+      follower.tryAcquire();
+
+      // when
+      boolean first = leader.tryAcquire();
+      boolean second = leader.tryAcquire();
+
+      // then
+      assertThat(first).isFalse();
+      assertThat(second).isFalse();
+      verify(eventPublisher, times(1)).publishEvent(any(StreamLeadershipLostEvent.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("release 메서드 테스트")
+  class Release {
+
+    @Test
+    @DisplayName("리스를 반납하면 다른 노드가 만료를 기다리지 않고 넘겨받는다")
+    void handsOverImmediately() {
+      // given
+      StreamLeaderLease leader = newLease(Duration.ofSeconds(30));
+      StreamLeaderLease follower = newLease(Duration.ofSeconds(30));
+      leader.tryAcquire();
+
+      // when
+      leader.release();
+
+      // then
+      assertThat(leader.isLeader()).isFalse();
+      assertThat(follower.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("리스를 가진 적 없는 노드의 반납은 현재 리더에 영향을 주지 않는다")
+    void ignoresNonOwner() {
+      // given
+      StreamLeaderLease leader = newLease(Duration.ofSeconds(30));
+      StreamLeaderLease follower = newLease(Duration.ofSeconds(30));
+      leader.tryAcquire();
+      follower.tryAcquire();
+
+      // when
+      follower.release();
+
+      // then
+      assertThat(leader.tryAcquire()).isTrue();
+      verify(eventPublisher, times(1)).publishEvent(any(StreamLeadershipAcquiredEvent.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("펜싱 토큰 쓰기 테스트")
+  class FencedWrite {
+
+    @Test
+    @DisplayName("이전 리더의 늦은 쓰기는 거부되고 새 리더의 쓰기는 반영된다")
+    void rejectsStaleLeaderWrites() throws InterruptedException {
+      // given
+      StreamLeaderLease oldLeader = newLease(Duration.ofMillis(200));
+      StreamLeaderLease newLeader = newLease(Duration.ofSeconds(30));
+      StreamRedisStore oldStore = newStore(oldLeader);
+      StreamRedisStore newStore = newStore(newLeader);
+      oldLeader.tryAcquire();
+      Thread.sleep(300);
+      newLeader.tryAcquire();
+
+      // when
+      newStore.saveEnrichedStreams(List.of(EnrichedStreamDtoFixture.create(1)));
+
+      // then
+      assertThatThrownBy(
+              () -> oldStore.saveEnrichedStreams(List.of(EnrichedStreamDtoFixture.create(2))))
+          .isInstanceOf(IllegalStateException.class);
+      assertThat(newStore.findEnrichedStreams()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이전 리더가 시작한 변경 감지는 새 리더가 리스를 넘겨받은 뒤 반영되지 않는다")
+    void rejectsStaleChangeDetection() throws InterruptedException {
+      // given
+      StreamLeaderLease oldLeader = newLease(Duration.ofMillis(200));
+      StreamLeaderLease newLeader = newLease(Duration.ofSeconds(30));
+      StreamRedisStore oldStore = newStore(oldLeader);
+      oldLeader.tryAcquire();
+      StreamChangeDetector detector = oldStore.openChangeDetection();
+      detector.accept(List.of(AllFieldLiveDtoFixture.create(1)));
+      Thread.sleep(300);
+      newLeader.tryAcquire();
+
+      // when & then
+      assertThatThrownBy(() -> oldStore.completeChangeDetection(detector))
+          .isInstanceOf(IllegalStateException.class);
+      assertThat(redisTemplate.hasKey("stream:hashes")).isFalse();
+    }
+  }
+}
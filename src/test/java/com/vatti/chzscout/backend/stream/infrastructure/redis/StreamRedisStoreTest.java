@@ -1,12 +1,16 @@
 package com.vatti.chzscout.backend.stream.infrastructure.redis;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
+import com.vatti.chzscout.backend.ai.application.StreamEmbeddingSyncService;
 import com.vatti.chzscout.backend.common.config.EmbeddedRedisConfig;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
 import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
 import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -67,6 +71,16 @@ class StreamRedisStoreTest {
     testStreams = List.of(EnrichedStreamDtoFixture.create(1), EnrichedStreamDtoFixture.create(2));
   }
 
+  private byte[] storedFingerprint(String channelId) {
+    return stringRedisTemplate
+        .getConnectionFactory()
+        .getConnection()
+        .hashCommands()
+        .hGet(
+            "stream:hashes".getBytes(StandardCharsets.UTF_8),
+            channelId.getBytes(StandardCharsets.UTF_8));
+  }
+
   @Nested
   @DisplayName("saveEnrichedStreams 메서드")
   class SaveEnrichedStreams {
@@ -81,10 +95,17 @@ class StreamRedisStoreTest {
       List<EnrichedStreamDto> result = streamRedisStore.findEnrichedStreams();
       assertThat(result).hasSize(testStreams.size());
 
-      Long expireSeconds = stringRedisTemplate.getExpire("stream:enriched");
-      assertThat(expireSeconds)
-          .isGreaterThan(0)
-          .isLessThanOrEqualTo(Duration.ofMinutes(15).toSeconds());
+      List<String> keys =
+          List.of(
+              "stream:v1:members",
+              "stream:v1:index:viewers",
+              "stream:v1:index:category:리그 오브 레전드",
+              "stream:v1:channel:channel_1");
+      for (String key : keys) {
+        assertThat(stringRedisTemplate.getExpire(key))
+            .isGreaterThan(0)
+            .isLessThanOrEqualTo(Duration.ofMinutes(15).toSeconds());
+      }
     }
 
     @Test
@@ -116,6 +137,83 @@ class StreamRedisStoreTest {
       List<EnrichedStreamDto> result = streamRedisStore.findEnrichedStreams();
       assertThat(result).hasSize(3);
       assertThat(result.get(0).liveId()).isEqualTo(newStreams.get(0).liveId());
+      // 목록에서 빠진 채널은 새 버전의 해시와 인덱스에 없음
+      assertThat(stringRedisTemplate.hasKey("stream:v2:channel:channel_1")).isFalse();
+      assertThat(streamRedisStore.findTopStreams(10)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("새 버전을 게시해도 이전 버전은 유지 시간 동안 그대로 읽을 수 있게 남는다")
+    void retiresPreviousVersionAfterGracePeriod() {
+      // given
+      streamRedisStore.saveEnrichedStreams(testStreams);
+
+      // when
+      streamRedisStore.saveEnrichedStreams(List.of(EnrichedStreamDtoFixture.create(3)));
+
+      // then
+      StreamRedisStore.PublishedSnapshot published = streamRedisStore.findPublishedSnapshot();
+      assertThat(published.version()).isEqualTo(2);
+      assertThat(published.streams()).containsExactly(EnrichedStreamDtoFixture.create(3));
+      assertThat(stringRedisTemplate.opsForZSet().range("stream:v1:members", 0, -1))
+          .containsExactly("channel_1", "channel_2");
+      List<String> retiredKeys =
+          List.of(
+              "stream:v1:members",
+              "stream:v1:index:viewers",
+              "stream:v1:index:category:리그 오브 레전드",
+              "stream:v1:categories",
+              "stream:v1:channel:channel_1");
+      for (String key : retiredKeys) {
+        assertThat(stringRedisTemplate.getExpire(key))
+            .isGreaterThan(0)
+            .isLessThanOrEqualTo(StreamRedisStore.RETIRED_VERSION_TTL.toSeconds());
+      }
+    }
+
+    @Test
+    @DisplayName("저장과 병합마다 스냅샷 버전이 1씩 올라간다")
+    void bumpsSnapshotVersion() {
+      // given
+      long before = streamRedisStore.currentVersion();
+
+      // when
+      streamRedisStore.saveEnrichedStreams(testStreams);
+      streamRedisStore.mergeEnrichedStreams(List.of(EnrichedStreamDtoFixture.create(3)));
+
+      // then
+      assertThat(before).isZero();
+      assertThat(streamRedisStore.currentVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카테고리가 바뀐 방송은 이전 카테고리 인덱스에서 빠진다")
+    void movesCategoryIndex() {
+      // given
+      EnrichedStreamDto before = EnrichedStreamDtoFixture.create(1);
+      EnrichedStreamDto after = EnrichedStreamDtoFixture.withTitle(1, "잡담 방송");
+      streamRedisStore.saveEnrichedStreams(List.of(before));
+
+      // when
+      streamRedisStore.saveEnrichedStreams(List.of(after));
+
+      // then
+      assertThat(streamRedisStore.findTopStreamsInCategory("리그 오브 레전드", 10)).isEmpty();
+      assertThat(streamRedisStore.findTopStreamsInCategory("기타", 10)).containsExactly(after);
+    }
+
+    @Test
+    @DisplayName("null 필드는 null로, 빈 문자열은 빈 문자열로 되돌린다")
+    void keepsNullAndEmptyFields() {
+      // given
+      EnrichedStreamDto stream =
+          new EnrichedStreamDto(7, "channel_7", "", null, null, "스트리머7", null, List.of(), null);
+
+      // when
+      streamRedisStore.saveEnrichedStreams(List.of(stream));
+
+      // then
+      assertThat(streamRedisStore.findEnrichedStreams()).containsExactly(stream);
     }
   }
 
@@ -148,6 +246,117 @@ class StreamRedisStoreTest {
       // then
       assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("channelId를 지정하면 해당 방송만 요청 순서대로 반환하고 없는 채널은 제외한다")
+    void findsByChannelIds() {
+      // given
+      streamRedisStore.saveEnrichedStreams(
+          List.of(
+              EnrichedStreamDtoFixture.create(1),
+              EnrichedStreamDtoFixture.create(2),
+              EnrichedStreamDtoFixture.create(3)));
+
+      // when
+      List<String> channelIds = List.of("channel_3", "channel_missing", "channel_1");
+      List<EnrichedStreamDto> result = streamRedisStore.findEnrichedStreams(channelIds);
+
+      // then
+      assertThat(result)
+          .containsExactly(EnrichedStreamDtoFixture.create(3), EnrichedStreamDtoFixture.create(1));
+    }
+
+    @Test
+    @DisplayName("여러 방송에 같은 태그가 있으면 같은 문자열 인스턴스로 읽는다")
+    void sharesRepeatedTags() {
+      // given
+      List<String> tags = List.of("마인크래프트", "건축");
+      streamRedisStore.saveEnrichedStreams(
+          List.of(
+              EnrichedStreamDtoFixture.withTags(1, tags, tags),
+              EnrichedStreamDtoFixture.withTags(2, tags, List.of("건축", "야생"))));
+
+      // when
+      List<EnrichedStreamDto> result =
+          streamRedisStore.findEnrichedStreams(List.of("channel_1", "channel_2"));
+
+      // then
+      assertThat(result.get(1).enrichedTags()).containsExactly("건축", "야생");
+      assertThat(result.get(1).originalTags().get(1)).isSameAs(result.get(0).originalTags().get(1));
+      assertThat(result.get(1).enrichedTags().get(0)).isSameAs(result.get(0).enrichedTags().get(1));
+    }
+
+    @Test
+    @DisplayName("빈 channelId 목록이면 빈 리스트를 반환한다")
+    void findsNothingForEmptyIds() {
+      // given
+      streamRedisStore.saveEnrichedStreams(testStreams);
+
+      // when & then
+      assertThat(streamRedisStore.findEnrichedStreams(List.of())).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("순위 조회 테스트")
+  class RankedReads {
+
+    @Test
+    @DisplayName("시청자 수가 많은 순으로 limit개를 반환한다")
+    void findsTopStreams() {
+      // given - 시청자 수: 1 → 1100, 2 → 1200, 3 → 1300, fps(4) → 700
+      streamRedisStore.saveEnrichedStreams(
+          List.of(
+              EnrichedStreamDtoFixture.create(1),
+              EnrichedStreamDtoFixture.create(3),
+              EnrichedStreamDtoFixture.fpsStream(4),
+              EnrichedStreamDtoFixture.create(2)));
+
+      // when
+      List<EnrichedStreamDto> result = streamRedisStore.findTopStreams(2);
+
+      // then
+      assertThat(result)
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly("channel_3", "channel_2");
+    }
+
+    @Test
+    @DisplayName("카테고리 안에서 시청자 수가 많은 순으로 반환한다")
+    void findsTopStreamsInCategory() {
+      // given
+      streamRedisStore.saveEnrichedStreams(
+          List.of(
+              EnrichedStreamDtoFixture.create(1),
+              EnrichedStreamDtoFixture.fpsStream(4),
+              EnrichedStreamDtoFixture.create(2)));
+
+      // when
+      List<EnrichedStreamDto> result = streamRedisStore.findTopStreamsInCategory("리그 오브 레전드", 10);
+
+      // then
+      assertThat(result)
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly("channel_2", "channel_1");
+      assertThat(streamRedisStore.findTopStreamsInCategory("없는 카테고리", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색용 필드만 저장 순서대로 반환한다")
+    void findsSearchableStreams() {
+      // given
+      EnrichedStreamDto stream = EnrichedStreamDtoFixture.lolStream(1);
+      streamRedisStore.saveEnrichedStreams(List.of(stream));
+
+      // when
+      List<StreamRedisStore.SearchableStream> result = streamRedisStore.findSearchableStreams();
+
+      // then
+      assertThat(result)
+          .containsExactly(
+              new StreamRedisStore.SearchableStream(
+                  "channel_1", "즐겜 방송", stream.originalTags(), stream.enrichedTags()));
+    }
   }
 
   @Nested
@@ -313,6 +522,56 @@ class StreamRedisStoreTest {
       assertThat(result.newStreams()).isEmpty();
     }
 
+    @Test
+    @DisplayName("시청자 수 구간만 바뀌면 VIEWER_BUCKET 변경으로만 감지되어 임베딩 대상이 아니다")
+    void detectsViewerBucketOnlyChange() {
+      // given
+      streamRedisStore.detectChanges(List.of(AllFieldLiveDtoFixture.popular(1, 150)));
+
+      // when
+      StreamRedisStore.StreamChangeResult result =
+          streamRedisStore.detectChanges(List.of(AllFieldLiveDtoFixture.popular(1, 5_000)));
+
+      // then
+      assertThat(result.changeMasks())
+          .containsExactly(entry("popular_channel_1", StreamChangeKind.VIEWER_BUCKET.bit()));
+      assertThat(result.changedIds(StreamEmbeddingSyncService.SUBSCRIBED_CHANGES)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목의 숫자나 이모지만 바뀌면 변경으로 감지하지 않는다")
+    void ignoresCosmeticTitleChange() {
+      // given
+      streamRedisStore.detectChanges(
+          List.of(AllFieldLiveDtoFixture.withTitle(1, "[37일차] 다이아 가는 길 🔥")));
+
+      // when
+      StreamRedisStore.StreamChangeResult result =
+          streamRedisStore.detectChanges(
+              List.of(AllFieldLiveDtoFixture.withTitle(1, "[38일차] 다이아 가는 길 🎮")));
+
+      // then
+      assertThat(result.hasChanges()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비슷한 제목 수정을 무시하면 저장된 지문의 제목은 이전 값을 유지한다")
+    void keepsPreviousTitleWhenSimilarEditIgnored() {
+      // given
+      streamRedisStore.detectChanges(
+          List.of(AllFieldLiveDtoFixture.withTitle(1, "오늘도 랭크 올리기 다이아 가자")));
+      byte[] original = storedFingerprint("channel_1");
+
+      // when
+      StreamRedisStore.StreamChangeResult result =
+          streamRedisStore.detectChanges(
+              List.of(AllFieldLiveDtoFixture.withTitle(1, "오늘도 랭크 올리기 다이아 가즈아")));
+
+      // then
+      assertThat(result.hasChanges()).isFalse();
+      assertThat(storedFingerprint("channel_1")).isEqualTo(original);
+    }
+
     @Test
     @DisplayName("카테고리가 변경되면 변경된 방송으로 감지된다")
     void detectsCategoryChange() {
@@ -331,6 +590,40 @@ class StreamRedisStoreTest {
       assertThat(result.newStreams()).isEmpty();
     }
 
+    @Test
+    @DisplayName("완료 후 해시에는 현재 방송만 남고 스테이징 해시는 삭제된다")
+    void keepsOnlyCurrentHashesAfterCompletion() {
+      // given
+      streamRedisStore.detectChanges(oldStreams);
+
+      // when
+      streamRedisStore.detectChanges(currentStreams);
+
+      // then
+      assertThat(stringRedisTemplate.<String, String>opsForHash().keys("stream:hashes"))
+          .containsExactlyInAnyOrderElementsOf(
+              currentStreams.stream().map(AllFieldLiveDto::channelId).toList());
+      assertThat(stringRedisTemplate.keys("stream:hashes:staging:*")).isEmpty();
+      assertThat(stringRedisTemplate.getExpire("stream:hashes")).isPositive();
+    }
+
+    @Test
+    @DisplayName("완료하지 못한 사이클의 스테이징은 다음 사이클에 섞이지 않는다")
+    void discardsAbandonedStaging() {
+      // given - 페이지를 받다가 완료하지 못한 사이클
+      streamRedisStore.detectChanges(List.of(AllFieldLiveDtoFixture.create(1)));
+      streamRedisStore.openChangeDetection().accept(List.of(AllFieldLiveDtoFixture.create(99)));
+
+      // when
+      StreamRedisStore.StreamChangeResult result =
+          streamRedisStore.detectChanges(List.of(AllFieldLiveDtoFixture.create(1)));
+
+      // then
+      assertThat(result.hasChanges()).isFalse();
+      assertThat(result.endedStreams()).isEmpty();
+      assertThat(stringRedisTemplate.opsForHash().hasKey("stream:hashes", "channel_99")).isFalse();
+    }
+
     @Test
     @DisplayName("종료된 방송만 있으면 hasChanges는 false를 반환한다")
     void hasChangesReturnsFalseWhenOnlyEnded() {
@@ -345,4 +638,160 @@ class StreamRedisStoreTest {
       assertThat(result.hasChanges()).isFalse();
     }
   }
+  @Nested
+  @DisplayName("부분 갱신 테스트")
+  class PartialRefresh {
+
+    @Test
+    @DisplayName("부분 변경 감지는 받지 않은 방송을 종료로 보지 않고 해시를 유지한다")
+    void partialDetectionKeepsUnseenStreams() {
+      // given - channel_0 ~ channel_4 저장
+      List<AllFieldLiveDto> previous = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        previous.add(AllFieldLiveDtoFixture.create(i));
+      }
+      streamRedisStore.detectChanges(previous);
+
+      // when - 앞쪽 channel_0(태그 변경), channel_9(신규)만 받음
+      StreamChangeDetector detector = streamRedisStore.openChangeDetection();
+      detector.accept(
+          List.of(
+              AllFieldLiveDtoFixture.create(0, List.of("새태그")), AllFieldLiveDtoFixture.create(9)));
+      StreamRedisStore.StreamChangeResult result =
+          streamRedisStore.completePartialChangeDetection(detector);
+
+      // then
+      assertThat(result.newStreams()).containsExactly("channel_9");
+      assertThat(result.changedStreams()).containsExactly("channel_0");
+      assertThat(result.endedStreams()).isEmpty();
+
+      // 다음 전체 수집에서 받지 않은 channel_1 ~ channel_4는 변경 없음으로 판단
+      StreamRedisStore.StreamChangeResult next = streamRedisStore.detectChanges(previous);
+      assertThat(next.newStreams()).isEmpty();
+      assertThat(next.changedStreams()).containsExactly("channel_0");
+      assertThat(next.endedStreams()).containsExactly("channel_9");
+    }
+
+    @Test
+    @DisplayName("받은 방송을 앞에 두고 기존 목록의 나머지를 유지하여 병합한다")
+    void mergesSeenStreamsIntoSnapshot() {
+      // given
+      streamRedisStore.saveEnrichedStreams(
+          List.of(
+              EnrichedStreamDtoFixture.create(1),
+              EnrichedStreamDtoFixture.create(2),
+              EnrichedStreamDtoFixture.create(3)));
+
+      // when
+      int total =
+          streamRedisStore.mergeEnrichedStreams(
+              List.of(EnrichedStreamDtoFixture.create(3), EnrichedStreamDtoFixture.create(4)));
+
+      // then
+      assertThat(total).isEqualTo(4);
+      assertThat(streamRedisStore.findEnrichedStreams())
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly(
+              EnrichedStreamDtoFixture.create(3).channelId(),
+              EnrichedStreamDtoFixture.create(4).channelId(),
+              EnrichedStreamDtoFixture.create(1).channelId(),
+              EnrichedStreamDtoFixture.create(2).channelId());
+      assertThat(streamRedisStore.findTopStreamsInCategory("리그 오브 레전드", 10))
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly("channel_4", "channel_3", "channel_2", "channel_1");
+      // 새 세대에는 받은 채널만 새로 쓰고, 받지 않은 채널은 이전 세대의 해시를 그대로 가리킴
+      assertThat(stringRedisTemplate.hasKey("stream:v2:members")).isTrue();
+      assertThat(stringRedisTemplate.hasKey("stream:v2:channel:channel_3")).isTrue();
+      assertThat(stringRedisTemplate.hasKey("stream:v2:channel:channel_1")).isFalse();
+      assertThat(stringRedisTemplate.hasKey("stream:v1:channel:channel_1")).isTrue();
+      assertThat(streamRedisStore.currentVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("병합 뒤 다시 읽으면 리비전이 그대로인 방송은 이전 스냅샷의 객체를 재사용한다")
+    void reusesUnchangedStreamsAfterMerge() {
+      // given
+      streamRedisStore.saveEnrichedStreams(
+          List.of(EnrichedStreamDtoFixture.create(1), EnrichedStreamDtoFixture.create(2)));
+      StreamRedisStore.PublishedSnapshot previous = streamRedisStore.findPublishedSnapshot();
+      EnrichedStreamDto updated = EnrichedStreamDtoFixture.withTitle(2, "잡담 방송");
+
+      // when
+      streamRedisStore.mergeEnrichedStreams(List.of(updated));
+      StreamRedisStore.PublishedSnapshot published =
+          streamRedisStore.findPublishedSnapshot(previous);
+
+      // then
+      assertThat(published.version()).isEqualTo(2);
+      assertThat(published.streams()).hasSize(2).contains(updated);
+      assertThat(published.streams())
+          .filteredOn(stream -> stream.channelId().equals("channel_1"))
+          .singleElement()
+          .isSameAs(previous.streams().get(0));
+    }
+
+    @Test
+    @DisplayName("병합한 방송의 카테고리가 바뀌면 이전 카테고리 인덱스에서 빠진다")
+    void movesCategoryIndexOnMerge() {
+      // given
+      EnrichedStreamDto after = EnrichedStreamDtoFixture.withTitle(1, "잡담 방송");
+      streamRedisStore.saveEnrichedStreams(
+          List.of(EnrichedStreamDtoFixture.create(1), EnrichedStreamDtoFixture.create(2)));
+
+      // when
+      streamRedisStore.mergeEnrichedStreams(List.of(after));
+
+      // then
+      assertThat(streamRedisStore.findTopStreamsInCategory("리그 오브 레전드", 10))
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly("channel_2");
+      assertThat(streamRedisStore.findTopStreamsInCategory("기타", 10)).containsExactly(after);
+    }
+  }
+
+  @Nested
+  @DisplayName("restoreIfAbsent 메서드 테스트")
+  class RestoreIfAbsent {
+
+    @Test
+    @DisplayName("캐시가 비어 있으면 방송 목록과 지문을 복원하여 다음 수집에서 신규로 보지 않는다")
+    void restoresEmptyCache() {
+      // given
+      List<AllFieldLiveDto> streams =
+          List.of(AllFieldLiveDtoFixture.create(1), AllFieldLiveDtoFixture.create(2));
+      FingerprintTable fingerprints = new FingerprintTable();
+      fingerprints.put("channel_1", StreamFingerprint.of(streams.get(0)));
+      fingerprints.put("channel_2", StreamFingerprint.of(streams.get(1)));
+
+      // when
+      boolean restored =
+          streamRedisStore.restoreIfAbsent(
+              List.of(EnrichedStreamDtoFixture.create(1)), fingerprints);
+
+      // then
+      assertThat(restored).isTrue();
+      assertThat(streamRedisStore.findEnrichedStreams())
+          .containsExactly(EnrichedStreamDtoFixture.create(1));
+      assertThat(stringRedisTemplate.getExpire("stream:hashes")).isPositive();
+      StreamRedisStore.StreamChangeResult next = streamRedisStore.detectChanges(streams);
+      assertThat(next.hasChanges()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 캐시가 있으면 덮어쓰지 않는다")
+    void keepsExistingCache() {
+      // given
+      streamRedisStore.saveEnrichedStreams(testStreams);
+      FingerprintTable fingerprints = new FingerprintTable();
+      fingerprints.put("channel_9", 42L);
+
+      // when
+      boolean restored = streamRedisStore.restoreIfAbsent(List.of(), fingerprints);
+
+      // then
+      assertThat(restored).isFalse();
+      assertThat(streamRedisStore.findEnrichedStreams()).hasSize(2);
+      assertThat(stringRedisTemplate.hasKey("stream:hashes")).isFalse();
+    }
+  }
 }
@@ -0,0 +1,283 @@
+package com.vatti.chzscout.backend.stream.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.vatti.chzscout.backend.stream.config.StreamNearCacheProperties;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.PublishedSnapshot;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamSnapshotCacheTest {
+
+  @Mock private StreamRedisStore streamRedisStore;
+
+  private StreamNearCacheProperties properties;
+  private StreamSnapshotCache cache;
+
+  private final List<EnrichedStreamDto> streams =
+      List.of(EnrichedStreamDtoFixture.create(1), EnrichedStreamDtoFixture.create(2));
+
+  @BeforeEach
+  void setUp() {
+    properties = new StreamNearCacheProperties();
+    properties.setMaxStaleness(Duration.ofMinutes(1));
+    cache = new StreamSnapshotCache(streamRedisStore, properties);
+  }
+
+  private static PublishedSnapshot published(long version, List<EnrichedStreamDto> streams) {
+    return new PublishedSnapshot(version, streams, Map.of());
+  }
+
+  @Nested
+  @DisplayName("findEnrichedStreams 메서드 테스트")
+  class FindEnrichedStreams {
+
+    @Test
+    @DisplayName("처음 조회할 때만 Redis에서 읽고 이후에는 로컬 스냅샷을 반환한다")
+    void servesFromSnapshot() {
+      // given
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(3, streams));
+
+      // when
+      cache.findEnrichedStreams();
+      List<EnrichedStreamDto> result = cache.findEnrichedStreams();
+
+      // then
+      assertThat(result).isEqualTo(streams);
+      verify(streamRedisStore, times(1)).findPublishedSnapshot(any());
+      assertThat(cache.stats()).isEqualTo(new StreamSnapshotCache.NearCacheStats(3, 1, 1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("channelId로 조회하면 스냅샷에 없는 채널만 Redis에서 읽는다")
+    void fallsBackForMissingChannels() {
+      // given
+      EnrichedStreamDto fresh = EnrichedStreamDtoFixture.create(9);
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(1, streams));
+      given(streamRedisStore.findEnrichedStreams(List.of("channel_9", "channel_missing")))
+          .willReturn(List.of(fresh));
+
+      // when
+      List<EnrichedStreamDto> result =
+          cache.findEnrichedStreams(List.of("channel_9", "channel_2", "channel_missing"));
+
+      // then
+      assertThat(result).containsExactly(fresh, streams.get(1));
+      assertThat(cache.stats().fallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모두 스냅샷에 있으면 Redis에서 채널을 읽지 않는다")
+    void skipsRedisWhenAllCached() {
+      // given
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(1, streams));
+
+      // when
+      List<EnrichedStreamDto> result = cache.findEnrichedStreams(List.of("channel_2"));
+
+      // then
+      assertThat(result).containsExactly(streams.get(1));
+      verify(streamRedisStore, never()).findEnrichedStreams(anyCollection());
+    }
+
+    @Test
+    @DisplayName("확인한 지 max-staleness가 지나면 버전을 다시 확인하고 같으면 다시 읽지 않는다")
+    void revalidatesStaleSnapshot() {
+      // given
+      properties.setMaxStaleness(Duration.ZERO);
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(1, streams));
+      given(streamRedisStore.currentVersion()).willReturn(1L);
+
+      // when
+      cache.findEnrichedStreams();
+      cache.findEnrichedStreams();
+      cache.findEnrichedStreams();
+
+      // then
+      verify(streamRedisStore, times(2)).currentVersion();
+      verify(streamRedisStore, times(1)).findPublishedSnapshot(any());
+    }
+
+    @Test
+    @DisplayName("오래된 스냅샷을 동시에 본 요청은 먼저 들어간 요청의 확인 결과를 함께 쓴다")
+    void revalidatesOnceForConcurrentStaleReaders() throws Exception {
+      // given
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(1, streams));
+      cache.findEnrichedStreams();
+      properties.setMaxStaleness(Duration.ZERO);
+      CountDownLatch checking = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      given(streamRedisStore.currentVersion())
+          .willAnswer(
+              invocation -> {
+                checking.countDown();
+                release.await();
+                return 1L;
+              });
+
+      // when
+      Thread first = new Thread(cache::findEnrichedStreams);
+      first.start();
+      checking.await();
+      Thread second = new Thread(cache::findEnrichedStreams);
+      second.start();
+      while (second.getState() != Thread.State.BLOCKED) {
+        Thread.onSpinWait();
+      }
+      release.countDown();
+      first.join();
+      second.join();
+
+      // then
+      verify(streamRedisStore, times(1)).currentVersion();
+      verify(streamRedisStore, times(1)).findPublishedSnapshot(any());
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 Redis에서 읽는다")
+    void delegatesWhenDisabled() {
+      // given
+      properties.setEnabled(false);
+      given(streamRedisStore.findEnrichedStreams()).willReturn(streams);
+
+      // when
+      cache.findEnrichedStreams();
+      cache.findEnrichedStreams();
+
+      // then
+      verify(streamRedisStore, times(2)).findEnrichedStreams();
+      verify(streamRedisStore, never()).currentVersion();
+    }
+  }
+
+  @Nested
+  @DisplayName("pin 메서드 테스트")
+  class Pin {
+
+    @Test
+    @DisplayName("고정한 스냅샷은 이후 새 버전으로 교체되어도 이전 버전을 그대로 읽는다")
+    void keepsPinnedVersion() {
+      // given
+      List<EnrichedStreamDto> next = List.of(EnrichedStreamDtoFixture.create(3));
+      given(streamRedisStore.currentVersion()).willReturn(2L);
+      given(streamRedisStore.findPublishedSnapshot(any()))
+          .willReturn(published(1, streams), published(2, next));
+      StreamSnapshot pinned = cache.pin();
+
+      // when
+      cache.onVersionPublished(2);
+
+      // then
+      assertThat(pinned.version()).isEqualTo(1);
+      assertThat(pinned.streams()).isEqualTo(streams);
+      assertThat(cache.pin().streams()).isEqualTo(next);
+    }
+
+    @Test
+    @DisplayName("파생 값은 같은 버전 안에서만 재사용된다")
+    void reusesDerivedValuesWithinVersion() {
+      // given
+      given(streamRedisStore.currentVersion()).willReturn(2L);
+      given(streamRedisStore.findPublishedSnapshot(any()))
+          .willReturn(published(1, streams), published(2, streams));
+      int[] computed = {0};
+
+      // when
+      cache.pin().derive("key", () -> ++computed[0]);
+      Integer reused = cache.pin().derive("key", () -> ++computed[0]);
+      cache.onVersionPublished(2);
+      Integer recomputed = cache.pin().derive("key", () -> ++computed[0]);
+
+      // then
+      assertThat(reused).isEqualTo(1);
+      assertThat(recomputed).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 Redis에서 게시된 버전을 읽는다")
+    void readsPublishedSnapshotWhenDisabled() {
+      // given
+      properties.setEnabled(false);
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(4, streams));
+
+      // when
+      cache.pin();
+      StreamSnapshot snapshot = cache.pin();
+
+      // then
+      assertThat(snapshot.version()).isEqualTo(4);
+      verify(streamRedisStore, times(2)).findPublishedSnapshot(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("스냅샷 교체 테스트")
+  class Swap {
+
+    @Test
+    @DisplayName("더 새로운 버전이 발행되면 스냅샷을 교체한다")
+    void reloadsOnNewerVersion() {
+      // given
+      List<EnrichedStreamDto> next = List.of(EnrichedStreamDtoFixture.create(3));
+      given(streamRedisStore.currentVersion()).willReturn(2L);
+      given(streamRedisStore.findPublishedSnapshot(any()))
+          .willReturn(published(1, streams), published(2, next));
+      cache.findEnrichedStreams();
+
+      // when
+      cache.onVersionPublished(2);
+
+      // then
+      assertThat(cache.findEnrichedStreams()).isEqualTo(next);
+      assertThat(cache.stats().version()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 가진 버전 이하의 알림은 무시한다")
+    void ignoresOlderVersion() {
+      // given
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(5, streams));
+      cache.findEnrichedStreams();
+
+      // when
+      cache.onVersionPublished(5);
+      cache.onVersionPublished(4);
+
+      // then
+      verify(streamRedisStore, never()).currentVersion();
+      verify(streamRedisStore, times(1)).findPublishedSnapshot(any());
+    }
+
+    @Test
+    @DisplayName("갱신 완료 이벤트를 받으면 바뀐 버전의 스냅샷을 읽는다")
+    void reloadsOnRefreshedEvent() {
+      // given
+      given(streamRedisStore.findPublishedSnapshot(any())).willReturn(published(7, streams));
+
+      // when
+      cache.onStreamCacheRefreshed();
+
+      // then
+      assertThat(cache.stats().version()).isEqualTo(7);
+      assertThat(cache.stats().reloads()).isEqualTo(1);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.vatti.chzscout.backend.stream.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vatti.chzscout.backend.stream.config.StreamRefreshProperties;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore.StreamChangeResult;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RefreshIntervalPolicyTest {
+
+  StreamRefreshProperties properties;
+  RefreshIntervalPolicy policy;
+
+  @BeforeEach
+  void setUp() {
+    properties = new StreamRefreshProperties();
+    properties.setMinInterval(Duration.ofMinutes(2));
+    properties.setMaxInterval(Duration.ofMinutes(12));
+    properties.setInitialInterval(Duration.ofMinutes(10));
+    properties.setHighChurnThreshold(100);
+    properties.setSmoothing(1.0);
+    properties.setJitterRatio(0);
+    policy = new RefreshIntervalPolicy(properties);
+  }
+
+  private static StreamChangeResult churn(int newCount, int changedCount, int endedCount) {
+    return new StreamChangeResult(
+        ids("new", newCount), ids("changed", changedCount), ids("ended", endedCount));
+  }
+
+  private static Set<String> ids(String prefix, int count) {
+    Set<String> ids = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      ids.add(prefix + "_" + i);
+    }
+    return ids;
+  }
+
+  @Nested
+  @DisplayName("nextInterval 메서드 테스트")
+  class NextInterval {
+
+    @Test
+    @DisplayName("변경이 없으면 최대 주기를 반환한다")
+    void returnsMaxIntervalWithoutChurn() {
+      assertThat(policy.nextInterval(churn(0, 0, 0))).isEqualTo(Duration.ofMinutes(12));
+    }
+
+    @Test
+    @DisplayName("변경량이 기준값 이상이면 최소 주기를 반환한다")
+    void returnsMinIntervalAtHighChurn() {
+      assertThat(policy.nextInterval(churn(80, 30, 40))).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("변경량 비율만큼 최대 주기에서 최소 주기 쪽으로 줄인다")
+    void interpolatesByChurnRatio() {
+      // 신규 20 + 변경 20 + 종료 10 = 50 → 기준값의 절반
+      assertThat(policy.nextInterval(churn(20, 20, 10))).isEqualTo(Duration.ofMinutes(7));
+    }
+
+    @Test
+    @DisplayName("평활 계수만큼 이전 변경량을 반영한다")
+    void smoothsChurnAcrossCycles() {
+      // given
+      properties.setSmoothing(0.5);
+      policy.nextInterval(churn(100, 0, 0));
+
+      // when - (0.5 * 0) + (0.5 * 100) = 50
+      Duration interval = policy.nextInterval(churn(0, 0, 0));
+
+      // then
+      assertThat(interval).isEqualTo(Duration.ofMinutes(7));
+    }
+
+    @Test
+    @DisplayName("갱신 결과가 없으면 직전 주기를, 처음이면 초기 주기를 반환한다")
+    void keepsLastIntervalWhenRefreshFails() {
+      assertThat(policy.nextInterval(null)).isEqualTo(Duration.ofMinutes(10));
+
+      policy.nextInterval(churn(0, 0, 0));
+      assertThat(policy.nextInterval(null)).isEqualTo(Duration.ofMinutes(12));
+    }
+
+    @Test
+    @DisplayName("지터 비율 범위 안에서 주기를 흔든다")
+    void appliesJitterWithinRatio() {
+      // given
+      properties.setJitterRatio(0.1);
+
+      // when & then
+      for (int i = 0; i < 50; i++) {
+        assertThat(policy.nextInterval(churn(0, 0, 0)))
+            .isBetween(Duration.ofSeconds(648), Duration.ofSeconds(792));
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.vatti.chzscout.backend.stream.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.vatti.chzscout.backend.stream.infrastructure.scheduler.RefreshStageGraph.Stage;
+import com.vatti.chzscout.backend.stream.infrastructure.scheduler.RefreshStageGraph.StageResult;
+import com.vatti.chzscout.backend.stream.infrastructure.scheduler.RefreshStageGraph.StageStatus;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RefreshStageGraphTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static <T> T sleepThen(long millis, T value) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return value;
+  }
+
+  @Nested
+  @DisplayName("await 메서드 테스트")
+  class Await {
+
+    @Test
+    @DisplayName("서로 의존하지 않는 단계는 동시에 실행되어 가장 긴 의존 경로만큼 걸린다")
+    void runsIndependentStagesConcurrently() {
+      // given
+      RefreshStageGraph graph = new RefreshStageGraph(executor);
+      Stage<Integer> first = graph.stage("first", () -> sleepThen(300, 1), Integer::intValue);
+      graph.stage("second", () -> sleepThen(300, 2), Integer::intValue);
+      graph.stage("third", () -> sleepThen(300, first.get() + 2), Integer::intValue, first);
+
+      // when
+      long startedAt = System.nanoTime();
+      List<StageResult> results = graph.await();
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+      // then - 합(900ms)이 아니라 first → third 경로(600ms)만큼 걸림
+      assertThat(elapsed).isLessThan(Duration.ofMillis(850));
+      assertThat(results)
+          .extracting(StageResult::name, StageResult::status, StageResult::itemCount)
+          .containsExactly(
+              tuple("first", StageStatus.SUCCEEDED, 1),
+              tuple("second", StageStatus.SUCCEEDED, 2),
+              tuple("third", StageStatus.SUCCEEDED, 3));
+      assertThat(results.get(2).duration()).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+    }
+
+    @Test
+    @DisplayName("실패한 단계에 의존하는 단계만 건너뛰고 나머지는 계속 실행한다")
+    void skipsOnlyDependentsOfFailedStage() {
+      // given
+      RefreshStageGraph graph = new RefreshStageGraph(executor);
+      Stage<Integer> failing =
+          graph.stage(
+              "failing",
+              () -> {
+                throw new IllegalStateException("DB 오류");
+              },
+              Integer::intValue);
+      Stage<Integer> independent = graph.stage("independent", () -> 5, Integer::intValue);
+      Stage<Integer> dependent =
+          graph.stage("dependent", () -> 1, Integer::intValue, failing, independent);
+      graph.stage("afterIndependent", () -> independent.get() * 2, Integer::intValue, independent);
+
+      // when
+      List<StageResult> results = graph.await();
+
+      // then
+      assertThat(results)
+          .extracting(StageResult::status)
+          .containsExactly(
+              StageStatus.FAILED,
+              StageStatus.SUCCEEDED,
+              StageStatus.SKIPPED,
+              StageStatus.SUCCEEDED);
+      assertThat(results.get(3).itemCount()).isEqualTo(10);
+      assertThat(failing.succeeded()).isFalse();
+      assertThat(dependent.succeeded()).isFalse();
+      assertThat(independent.succeeded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("단계에서 Error가 나도 실패로 기록하고 의존하는 단계만 건너뛴다")
+    void recordsErrorAsFailure() {
+      // given
+      RefreshStageGraph graph = new RefreshStageGraph(executor);
+      Stage<Integer> failing =
+          graph.stage(
+              "failing",
+              () -> {
+                throw new OutOfMemoryError("힙 부족");
+              },
+              Integer::intValue);
+      graph.stage("dependent", () -> 1, Integer::intValue, failing);
+      graph.stage("independent", () -> 2, Integer::intValue);
+
+      // when
+      List<StageResult> results = graph.await();
+
+      // then
+      assertThat(results)
+          .extracting(StageResult::status)
+          .containsExactly(StageStatus.FAILED, StageStatus.SKIPPED, StageStatus.SUCCEEDED);
+      assertThat(failing.succeeded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("건너뛴 단계에 의존하는 단계도 건너뛴다")
+    void propagatesSkipTransitively() {
+      // given
+      RefreshStageGraph graph = new RefreshStageGraph(executor);
+      Stage<Integer> failing =
+          graph.stage(
+              "failing",
+              () -> {
+                throw new IllegalStateException("Redis 오류");
+              },
+              Integer::intValue);
+      Stage<Integer> skipped = graph.stage("skipped", () -> 1, Integer::intValue, failing);
+      graph.stage("alsoSkipped", () -> 1, Integer::intValue, skipped);
+
+      // when
+      List<StageResult> results = graph.await();
+
+      // then
+      assertThat(results)
+          .extracting(StageResult::status)
+          .containsExactly(StageStatus.FAILED, StageStatus.SKIPPED, StageStatus.SKIPPED);
+      assertThat(results.get(2).duration()).isEqualTo(Duration.ZERO);
+    }
+  }
+}
@@ -3,34 +3,65 @@ package com.vatti.chzscout.backend.stream.infrastructure.scheduler;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.vatti.chzscout.backend.ai.application.StreamEmbeddingSyncService;
 import com.vatti.chzscout.backend.stream.application.StreamCacheService;
+import com.vatti.chzscout.backend.stream.application.service.RisingStreamService;
+import com.vatti.chzscout.backend.stream.config.StreamLeaderProperties;
+import com.vatti.chzscout.backend.stream.config.StreamRefreshProperties;
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
 import com.vatti.chzscout.backend.stream.domain.event.StreamCacheRefreshedEvent;
 import com.vatti.chzscout.backend.stream.domain.event.StreamNotificationTriggerEvent;
 import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
+import com.vatti.chzscout.backend.stream.infrastructure.file.StreamSnapshotFile;
+import com.vatti.chzscout.backend.stream.infrastructure.file.StreamSnapshotFile.LocalStreamSnapshot;
+import com.vatti.chzscout.backend.stream.infrastructure.history.ViewerHistoryStore;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.FingerprintTable;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamChangeDetector;
+import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamLeaderLease;
 import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
 import com.vatti.chzscout.backend.tag.application.usecase.TagUseCase;
+import com.vatti.chzscout.backend.tag.domain.TagUsageCounter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 
 @ExtendWith(MockitoExtension.class)
 class StreamCacheSchedulerTest {
@@ -39,9 +70,61 @@ class StreamCacheSchedulerTest {
   @Mock private ApplicationEventPublisher eventPublisher;
   @Mock private StreamRedisStore streamRedisStore;
   @Mock private StreamEmbeddingSyncService streamEmbeddingSyncService;
+  @Mock private TaskScheduler taskScheduler;
+  @Mock private StreamSnapshotFile streamSnapshotFile;
+  @Mock private ViewerHistoryStore viewerHistoryStore;
+  @Mock private RisingStreamService risingStreamService;
+
+  @Spy private StreamRefreshProperties refreshProperties = refreshPropertiesWithoutJitter();
+  @Spy
+  private RefreshIntervalPolicy refreshIntervalPolicy =
+      new RefreshIntervalPolicy(refreshProperties);
+
+  // 리더 선출을 끈 리스 (항상 리더), 팔로워 테스트에서만 스텁
+  @Spy
+  private StreamLeaderLease leaderLease =
+      new StreamLeaderLease(null, leaderElectionDisabled(), null, null);
+
+  // 단계를 호출 스레드에서 순서대로 실행
+  @Spy private Executor streamRefreshExecutor = new SyncTaskExecutor();
 
   @InjectMocks private StreamCacheScheduler streamCacheScheduler;
 
+  private static StreamLeaderProperties leaderElectionDisabled() {
+    StreamLeaderProperties properties = new StreamLeaderProperties();
+    properties.setEnabled(false);
+    return properties;
+  }
+
+  private static StreamRefreshProperties refreshPropertiesWithoutJitter() {
+    StreamRefreshProperties properties = new StreamRefreshProperties();
+    properties.setJitterRatio(0);
+    return properties;
+  }
+
+  /** 페이지 목록을 소비자에게 순서대로 넘기도록 스텁합니다. */
+  @SafeVarargs
+  private void givenFetchedPages(List<AllFieldLiveDto>... pages) {
+    given(streamCacheService.fetchLiveStreams(any()))
+        .willAnswer(
+            invocation -> {
+              Consumer<List<AllFieldLiveDto>> consumer = invocation.getArgument(0);
+              int total = 0;
+              for (List<AllFieldLiveDto> page : pages) {
+                consumer.accept(page);
+                total += page.size();
+              }
+              return new StreamCacheService.FetchResult(total, true);
+            });
+  }
+
+  /** 변경 감지 결과를 스텁합니다. 페이지 단위 비교는 빈 이전 지문 기준으로 진행됩니다. */
+  private void givenChangeResult(StreamRedisStore.StreamChangeResult result) {
+    given(streamRedisStore.openChangeDetection())
+        .willReturn(new StreamChangeDetector(new FingerprintTable()));
+    given(streamRedisStore.completeChangeDetection(any())).willReturn(result);
+  }
+
   @Nested
   @DisplayName("onApplicationReady 메서드 테스트")
   class OnApplicationReady {
@@ -51,24 +134,59 @@ class StreamCacheSchedulerTest {
     void initializesCacheWithoutNotification() {
       // given
       List<AllFieldLiveDto> streams = List.of(AllFieldLiveDtoFixture.create(1));
-      given(streamCacheService.fetchLiveStreams()).willReturn(streams);
-      given(streamRedisStore.detectChanges(streams))
-          .willReturn(
-              new StreamRedisStore.StreamChangeResult(
-                  Set.of("channel_1"), // 신규 방송
-                  Set.of(),
-                  Set.of()));
+      givenFetchedPages(streams);
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(
+              Set.of("channel_1"), // 신규 방송
+              Set.of(),
+              Set.of()));
 
       // when
       streamCacheScheduler.onApplicationReady();
 
       // then
-      verify(streamCacheService).fetchLiveStreams();
+      verify(streamCacheService).fetchLiveStreams(any());
       verify(streamRedisStore).saveEnrichedStreams(anyList());
       verify(eventPublisher).publishEvent(any(StreamCacheRefreshedEvent.class));
       // 알림 이벤트는 발행되지 않음 (sendNotification=false)
       verify(eventPublisher, never()).publishEvent(any(StreamNotificationTriggerEvent.class));
     }
+
+    @Test
+    @DisplayName("로컬 스냅샷이 있으면 수집 전에 빈 캐시를 복원한다")
+    void restoresLocalSnapshotBeforeRefresh() {
+      // given
+      FingerprintTable fingerprints = new FingerprintTable();
+      fingerprints.put("channel_1", 42L);
+      LocalStreamSnapshot snapshot =
+          new LocalStreamSnapshot(Instant.now(), List.of(), fingerprints);
+      given(streamSnapshotFile.load()).willReturn(Optional.of(snapshot));
+      givenFetchedPages();
+
+      // when
+      streamCacheScheduler.onApplicationReady();
+
+      // then
+      InOrder inOrder = inOrder(streamRedisStore, streamCacheService);
+      inOrder.verify(streamRedisStore).restoreIfAbsent(List.of(), fingerprints);
+      inOrder.verify(streamCacheService).fetchLiveStreams(any());
+    }
+
+    @Test
+    @DisplayName("로컬 스냅샷을 읽지 못해도 수집을 진행한다")
+    void refreshesEvenWhenSnapshotRestoreFails() {
+      // given
+      given(streamSnapshotFile.load())
+          .willThrow(new UncheckedIOException(new IOException("디스크 오류")));
+      givenFetchedPages();
+
+      // when
+      streamCacheScheduler.onApplicationReady();
+
+      // then
+      verify(streamRedisStore, never()).restoreIfAbsent(any(), any());
+      verify(streamCacheService).fetchLiveStreams(any());
+    }
   }
 
   @Nested
@@ -83,24 +201,23 @@ class StreamCacheSchedulerTest {
         streams.add(AllFieldLiveDtoFixture.create(i));
       }
       List<String> streamChannelIds = streams.stream().map(AllFieldLiveDto::channelId).toList();
-      given(streamCacheService.fetchLiveStreams()).willReturn(streams);
-      given(streamRedisStore.detectChanges(streams))
-          .willReturn(
-              new StreamRedisStore.StreamChangeResult(
-                  Set.copyOf(streamChannelIds.subList(0, 3)), // newStreams: 0,1,2
-                  Set.copyOf(streamChannelIds.subList(3, 5)), // changedStreams: 3,4
-                  Set.of("channel_10", "channel_11") // endedStreams: 10,11
-                  ));
+      givenFetchedPages(streams);
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(
+              Set.copyOf(streamChannelIds.subList(0, 3)), // newStreams: 0,1,2
+              Set.copyOf(streamChannelIds.subList(3, 5)), // changedStreams: 3,4
+              Set.of("channel_10", "channel_11") // endedStreams: 10,11
+              ));
 
       // when
       streamCacheScheduler.scheduledRefresh();
 
       // then
       // 1. API 호출 검증
-      verify(streamCacheService).fetchLiveStreams();
+      verify(streamCacheService).fetchLiveStreams(any());
 
       // 2. 태그 DB 저장 검증
-      verify(tagUseCase).extractAndSaveTag(streams);
+      verify(tagUseCase).saveTagUsage(any(TagUsageCounter.class));
 
       // 3. 임베딩 동기화 호출 검증
       verify(streamEmbeddingSyncService).syncEmbeddings(anyList(), anySet(), anySet());
@@ -131,58 +248,191 @@ class StreamCacheSchedulerTest {
 
       // 5. 이벤트 발행 검증
       verify(eventPublisher).publishEvent(any(StreamCacheRefreshedEvent.class));
+
+      // 6. 로컬 스냅샷 저장 검증
+      verify(streamSnapshotFile).save(eq(savedStreams), any(FingerprintTable.class));
+
+      // 7. 시청자 수 표본을 남기고 같은 시각 이전의 채널 정리
+      ArgumentCaptor<Instant> sampledAtCaptor = ArgumentCaptor.forClass(Instant.class);
+      verify(viewerHistoryStore).record(sampledAtCaptor.capture(), eq(savedStreams));
+      verify(viewerHistoryStore).evictUnseenSince(sampledAtCaptor.getValue());
+      verify(risingStreamService)
+          .onViewersRecorded(sampledAtCaptor.getValue(), savedChannelIds, true);
+    }
+
+    @Test
+    @DisplayName("여러 페이지를 순서대로 모아 저장하고 변경된 방송만 임베딩 동기화에 넘긴다")
+    void accumulatesPagesAndSyncsOnlyChangedStreams() {
+      // given
+      List<AllFieldLiveDto> firstPage =
+          List.of(AllFieldLiveDtoFixture.create(0), AllFieldLiveDtoFixture.create(1));
+      List<AllFieldLiveDto> secondPage =
+          List.of(AllFieldLiveDtoFixture.create(2), AllFieldLiveDtoFixture.create(3));
+      givenFetchedPages(firstPage, secondPage);
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(
+              Set.of("channel_1"), Set.of("channel_3"), Set.of("channel_9")));
+
+      // when
+      streamCacheScheduler.scheduledRefresh();
+
+      // then
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<AllFieldLiveDto>> changedCaptor = ArgumentCaptor.forClass(List.class);
+      verify(streamEmbeddingSyncService)
+          .syncEmbeddings(
+              changedCaptor.capture(),
+              eq(Set.of("channel_1", "channel_3")),
+              eq(Set.of("channel_9")));
+      assertThat(changedCaptor.getValue())
+          .extracting(AllFieldLiveDto::channelId)
+          .containsExactly("channel_1", "channel_3");
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<EnrichedStreamDto>> enrichedCaptor = ArgumentCaptor.forClass(List.class);
+      verify(streamRedisStore).saveEnrichedStreams(enrichedCaptor.capture());
+      assertThat(enrichedCaptor.getValue())
+          .extracting(EnrichedStreamDto::channelId)
+          .containsExactly("channel_0", "channel_1", "channel_2", "channel_3");
+
+      verify(eventPublisher).publishEvent(any(StreamNotificationTriggerEvent.class));
+    }
+
+    @Test
+    @DisplayName("시청자 수 구간만 바뀐 방송은 임베딩을 다시 만들지 않고 변경 종류와 함께 알림 이벤트로 넘긴다")
+    void skipsEmbeddingForViewerOnlyChanges() {
+      // given
+    @DisplayName("시청자 수 구간만 바뀐 방송은 임베딩을 다시 만들지 않고 알림 이벤트에 변경 종류를 담는다")
+      Map<String, Integer> changeMasks =
+          Map.of(
+              "channel_1", StreamChangeKind.TAGS.bit(),
+              "channel_2", StreamChangeKind.VIEWER_BUCKET.bit());
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(
+              Set.of(), Set.of("channel_1", "channel_2"), Set.of(), changeMasks));
+
+      // when
+      streamCacheScheduler.scheduledRefresh();
+
+      // then
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<AllFieldLiveDto>> changedCaptor = ArgumentCaptor.forClass(List.class);
+      verify(streamEmbeddingSyncService)
+          .syncEmbeddings(changedCaptor.capture(), eq(Set.of("channel_1")), eq(Set.of()));
+      assertThat(changedCaptor.getValue())
+          .extracting(AllFieldLiveDto::channelId)
+          .containsExactly("channel_1");
+      verify(eventPublisher).publishEvent(new StreamNotificationTriggerEvent(changeMasks));
+    }
+
+    @Test
+    @DisplayName("시간 예산으로 중간에 멈춘 수집은 종료 판정 없이 병합만 한다")
+    void mergesTruncatedFetchWithoutEndingUnseenStreams() {
+      // given
+      List<AllFieldLiveDto> streams = List.of(AllFieldLiveDtoFixture.create(1));
+      given(streamCacheService.fetchLiveStreams(any()))
+          .willAnswer(
+              invocation -> {
+                Consumer<List<AllFieldLiveDto>> consumer = invocation.getArgument(0);
+                consumer.accept(streams);
+                return new StreamCacheService.FetchResult(streams.size(), false);
+              });
+      given(streamRedisStore.openChangeDetection())
+          .willReturn(new StreamChangeDetector(new FingerprintTable()));
+      given(streamRedisStore.completePartialChangeDetection(any()))
+          .willReturn(
+              new StreamRedisStore.StreamChangeResult(Set.of("channel_1"), Set.of(), Set.of()));
+
+      // when
+      streamCacheScheduler.scheduledRefresh();
+
+      // then
+      verify(streamRedisStore).mergeEnrichedStreams(anyList());
+      verify(streamRedisStore, never()).saveEnrichedStreams(any());
+      verify(streamRedisStore, never()).completeChangeDetection(any());
+      verify(streamEmbeddingSyncService)
+          .syncEmbeddings(anyList(), eq(Set.of("channel_1")), eq(Set.of()));
+      verify(viewerHistoryStore, never()).evictUnseenSince(any());
+      verify(risingStreamService).onViewersRecorded(any(), anyList(), eq(false));
+      verify(streamSnapshotFile, never()).save(any(), any());
     }
 
     @Test
     @DisplayName("API 호출 중 예외 발생 시 예외를 삼키고 후속 로직을 실행하지 않는다")
     void swallowsExceptionWhenApiCallFails() {
       // given
-      given(streamCacheService.fetchLiveStreams()).willThrow(new RuntimeException("API 호출 실패"));
+      given(streamCacheService.fetchLiveStreams(any()))
+          .willThrow(new RuntimeException("API 호출 실패"));
 
       // when & then - 예외가 전파되지 않음
       assertThatCode(() -> streamCacheScheduler.scheduledRefresh()).doesNotThrowAnyException();
 
       // tagService는 호출되지 않음
-      verify(tagUseCase, never()).extractAndSaveTag(any());
+      verify(tagUseCase, never()).saveTagUsage(any());
 
       // 이벤트도 발행되지 않음
       verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("태그 추출 중 예외 발생 시 예외를 삼키고 이벤트를 발행하지 않는다")
-    void swallowsExceptionWhenTagExtractionFails() {
+    @DisplayName("태그 저장이 실패해도 스냅샷 저장과 임베딩 동기화는 진행하고 자동완성 갱신 이벤트만 발행하지 않는다")
+    void continuesOtherStagesWhenTagSaveFails() {
       // given
       List<AllFieldLiveDto> streams = List.of(AllFieldLiveDtoFixture.create(1));
-      given(streamCacheService.fetchLiveStreams()).willReturn(streams);
-      willThrow(new RuntimeException("태그 추출 실패")).given(tagUseCase).extractAndSaveTag(any());
+      givenFetchedPages(streams);
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(Set.of("channel_1"), Set.of(), Set.of()));
+      willThrow(new RuntimeException("태그 추출 실패")).given(tagUseCase).saveTagUsage(any());
 
       // when & then - 예외가 전파되지 않음
       assertThatCode(() -> streamCacheScheduler.scheduledRefresh()).doesNotThrowAnyException();
 
-      // 두 메서드 모두 호출됨
-      verify(streamCacheService).fetchLiveStreams();
-      verify(tagUseCase).extractAndSaveTag(streams);
+      // 태그 저장에 의존하지 않는 단계는 진행됨
+      verify(tagUseCase).saveTagUsage(any(TagUsageCounter.class));
+      verify(streamRedisStore).saveEnrichedStreams(anyList());
+      verify(streamEmbeddingSyncService).syncEmbeddings(anyList(), anySet(), anySet());
+      verify(eventPublisher).publishEvent(any(StreamNotificationTriggerEvent.class));
 
-      // 이벤트는 발행되지 않음
-      verify(eventPublisher, never()).publishEvent(any());
+      // 태그 저장에 의존하는 자동완성 갱신 이벤트는 발행되지 않음
+      verify(eventPublisher, never()).publishEvent(any(StreamCacheRefreshedEvent.class));
+    }
+
+    @Test
+    @DisplayName("변경 감지가 실패해도 스냅샷을 저장하고 다음 갱신은 기본 주기로 예약한다")
+    void savesSnapshotWhenChangeDetectionFails() {
+      // given
+      givenFetchedPages(List.of(AllFieldLiveDtoFixture.create(1)));
+      given(streamRedisStore.openChangeDetection())
+          .willReturn(new StreamChangeDetector(new FingerprintTable()));
+      given(streamRedisStore.completeChangeDetection(any()))
+          .willThrow(new RuntimeException("Redis 해시 저장 오류"));
+
+      // when
+      streamCacheScheduler.scheduledRefresh();
+
+      // then
+      verify(streamRedisStore).saveEnrichedStreams(anyList());
+      verify(eventPublisher).publishEvent(any(StreamCacheRefreshedEvent.class));
+      verify(streamEmbeddingSyncService, never()).syncEmbeddings(anyList(), anySet(), anySet());
+      verify(eventPublisher, never()).publishEvent(any(StreamNotificationTriggerEvent.class));
+      verify(refreshIntervalPolicy).nextInterval(null);
     }
 
     @Test
     @DisplayName("스트림이 비어있으면 조기 반환하고 후속 로직을 실행하지 않는다")
     void skipsProcessingWhenStreamsEmpty() {
       // given
-      given(streamCacheService.fetchLiveStreams()).willReturn(List.of());
+      givenFetchedPages();
 
       // when
       streamCacheScheduler.scheduledRefresh();
 
       // then
-      verify(streamCacheService).fetchLiveStreams();
+      verify(streamCacheService).fetchLiveStreams(any());
 
       // 후속 로직 모두 스킵
-      verify(tagUseCase, never()).extractAndSaveTag(any());
-      verify(streamRedisStore, never()).detectChanges(any());
+      verify(tagUseCase, never()).saveTagUsage(any());
+      verify(streamRedisStore, never()).completeChangeDetection(any());
       verify(streamEmbeddingSyncService, never()).syncEmbeddings(anyList(), anySet(), anySet());
       verify(streamRedisStore, never()).saveEnrichedStreams(any());
       verify(eventPublisher, never()).publishEvent(any());
@@ -196,16 +446,15 @@ class StreamCacheSchedulerTest {
       for (int i = 0; i < 5; i++) {
         streams.add(AllFieldLiveDtoFixture.create(i));
       }
-      given(streamCacheService.fetchLiveStreams()).willReturn(streams);
+      givenFetchedPages(streams);
 
       // 변경 없음 - 모든 방송이 이전과 동일
-      given(streamRedisStore.detectChanges(streams))
-          .willReturn(
-              new StreamRedisStore.StreamChangeResult(
-                  Set.of(), // newStreams: 없음
-                  Set.of(), // changedStreams: 없음
-                  Set.of() // endedStreams: 없음
-                  ));
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(
+              Set.of(), // newStreams: 없음
+              Set.of(), // changedStreams: 없음
+              Set.of() // endedStreams: 없음
+              ));
 
       // when
       streamCacheScheduler.scheduledRefresh();
@@ -227,17 +476,16 @@ class StreamCacheSchedulerTest {
     }
 
     @Test
-    @DisplayName("임베딩 동기화 예외 발생 시 예외를 삼키고 이벤트를 발행하지 않는다")
-    void swallowsExceptionWhenEmbeddingSyncFails() {
+    @DisplayName("임베딩 동기화가 실패해도 스냅샷 저장과 이벤트 발행은 진행한다")
+    void continuesOtherStagesWhenEmbeddingSyncFails() {
       // given
       List<AllFieldLiveDto> streams = List.of(AllFieldLiveDtoFixture.create(1));
-      given(streamCacheService.fetchLiveStreams()).willReturn(streams);
-      given(streamRedisStore.detectChanges(streams))
-          .willReturn(
-              new StreamRedisStore.StreamChangeResult(
-                  Set.of("channel_1"), // 신규 방송
-                  Set.of(),
-                  Set.of()));
+      givenFetchedPages(streams);
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(
+              Set.of("channel_1"), // 신규 방송
+              Set.of(),
+              Set.of()));
       willThrow(new RuntimeException("임베딩 동기화 오류"))
           .given(streamEmbeddingSyncService)
           .syncEmbeddings(anyList(), anySet(), anySet());
@@ -248,8 +496,10 @@ class StreamCacheSchedulerTest {
       // 임베딩 동기화 호출 시도됨
       verify(streamEmbeddingSyncService).syncEmbeddings(anyList(), anySet(), anySet());
 
-      // 이벤트 발행되지 않음
-      verify(eventPublisher, never()).publishEvent(any());
+      // 스냅샷 저장과 이벤트 발행은 임베딩을 기다리지 않음
+      verify(streamRedisStore).saveEnrichedStreams(anyList());
+      verify(eventPublisher).publishEvent(any(StreamCacheRefreshedEvent.class));
+      verify(eventPublisher).publishEvent(any(StreamNotificationTriggerEvent.class));
     }
 
     @Test
@@ -257,10 +507,9 @@ class StreamCacheSchedulerTest {
     void swallowsExceptionWhenRedisSaveFails() {
       // given
       List<AllFieldLiveDto> streams = List.of(AllFieldLiveDtoFixture.create(1));
-      given(streamCacheService.fetchLiveStreams()).willReturn(streams);
-      given(streamRedisStore.detectChanges(streams))
-          .willReturn(
-              new StreamRedisStore.StreamChangeResult(Set.of("channel_1"), Set.of(), Set.of()));
+      givenFetchedPages(streams);
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(Set.of("channel_1"), Set.of(), Set.of()));
       willThrow(new RuntimeException("Redis 저장 오류"))
           .given(streamRedisStore)
           .saveEnrichedStreams(any());
@@ -275,4 +524,189 @@ class StreamCacheSchedulerTest {
       verify(eventPublisher, never()).publishEvent(any());
     }
   }
+
+  @Nested
+  @DisplayName("다음 갱신 예약 테스트")
+  class ScheduleNext {
+
+    @Test
+    @DisplayName("갱신이 끝나면 변경량으로 계산한 주기 뒤에 다음 갱신을 예약한다")
+    void schedulesNextRefreshByChurn() {
+      // given
+      givenFetchedPages(List.of(AllFieldLiveDtoFixture.create(1)));
+      givenChangeResult(
+          new StreamRedisStore.StreamChangeResult(Set.of("channel_1"), Set.of(), Set.of()));
+
+      // when
+      Instant before = Instant.now();
+      streamCacheScheduler.scheduledRefresh();
+
+      // then
+      ArgumentCaptor<Instant> nextRun = ArgumentCaptor.forClass(Instant.class);
+      verify(taskScheduler).schedule(any(Runnable.class), nextRun.capture());
+      verify(refreshIntervalPolicy).nextInterval(any(StreamRedisStore.StreamChangeResult.class));
+      assertThat(nextRun.getValue()).isAfter(before.plus(Duration.ofMinutes(11)));
+    }
+
+    @Test
+    @DisplayName("갱신이 실패해도 다음 갱신을 예약한다")
+    void schedulesNextRefreshEvenWhenRefreshFails() {
+      // given
+      given(streamCacheService.fetchLiveStreams(any()))
+          .willThrow(new RuntimeException("API 호출 실패"));
+
+      // when
+      streamCacheScheduler.scheduledRefresh();
+
+      // then
+      verify(refreshIntervalPolicy).nextInterval(null);
+      verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+  }
+  @Nested
+  @DisplayName("lightRefresh 메서드 테스트")
+  class LightRefresh {
+
+    @Test
+    @DisplayName("앞쪽 페이지만 받아 부분 변경 감지 후 스냅샷에 병합하고 알림을 발행한다")
+    void mergesTopPagesAndNotifies() {
+      // given
+      List<AllFieldLiveDto> topPage =
+          List.of(AllFieldLiveDtoFixture.create(0), AllFieldLiveDtoFixture.create(1));
+      given(streamCacheService.fetchLiveStreams(eq(2), any()))
+          .willAnswer(
+              invocation -> {
+                Consumer<List<AllFieldLiveDto>> consumer = invocation.getArgument(1);
+                consumer.accept(topPage);
+                return new StreamCacheService.FetchResult(topPage.size(), true);
+              });
+      given(streamRedisStore.openChangeDetection())
+          .willReturn(new StreamChangeDetector(new FingerprintTable()));
+      given(streamRedisStore.completePartialChangeDetection(any()))
+          .willReturn(
+              new StreamRedisStore.StreamChangeResult(Set.of(), Set.of("channel_1"), Set.of()));
+      given(streamRedisStore.mergeEnrichedStreams(anyList())).willReturn(10);
+
+      // when
+      streamCacheScheduler.lightRefresh();
+
+      // then
+      verify(streamEmbeddingSyncService)
+          .syncEmbeddings(anyList(), eq(Set.of("channel_1")), eq(Set.of()));
+      verify(streamRedisStore).mergeEnrichedStreams(anyList());
+      verify(streamRedisStore, never()).completeChangeDetection(any());
+      verify(streamRedisStore, never()).saveEnrichedStreams(any());
+      verify(tagUseCase, never()).saveTagUsage(any());
+      verify(eventPublisher).publishEvent(any(StreamNotificationTriggerEvent.class));
+      verify(eventPublisher, never()).publishEvent(any(StreamCacheRefreshedEvent.class));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 알림을 발행하지 않는다")
+    void skipsNotificationWithoutChanges() {
+      // given
+      given(streamCacheService.fetchLiveStreams(eq(2), any()))
+          .willAnswer(
+              invocation -> {
+                Consumer<List<AllFieldLiveDto>> consumer = invocation.getArgument(1);
+                consumer.accept(List.of(AllFieldLiveDtoFixture.create(0)));
+                return new StreamCacheService.FetchResult(1, true);
+              });
+      given(streamRedisStore.openChangeDetection())
+          .willReturn(new StreamChangeDetector(new FingerprintTable()));
+      given(streamRedisStore.completePartialChangeDetection(any()))
+          .willReturn(new StreamRedisStore.StreamChangeResult(Set.of(), Set.of(), Set.of()));
+
+      // when
+      streamCacheScheduler.lightRefresh();
+
+      // then
+      verify(streamRedisStore).mergeEnrichedStreams(anyList());
+      verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 후 부분 갱신을 설정된 주기로 예약한다")
+    void schedulesLightRefreshOnStartup() {
+      // given
+      givenFetchedPages();
+
+      // when
+      streamCacheScheduler.onApplicationReady();
+
+      // then
+      verify(taskScheduler)
+          .scheduleWithFixedDelay(
+              any(Runnable.class), any(Instant.class), eq(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("부분 갱신 페이지 수가 0이면 부분 갱신을 예약하지 않는다")
+    void skipsLightRefreshWhenDisabled() {
+      // given
+      refreshProperties.setLightPages(0);
+      givenFetchedPages();
+
+      // when
+      streamCacheScheduler.onApplicationReady();
+
+      // then
+      verify(taskScheduler, never())
+          .scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+    }
+  }
+  @Nested
+  @DisplayName("리더 선출 테스트")
+  class LeaderElection {
+
+    @Test
+    @DisplayName("리더가 아니면 시작 시 수집하지 않고 다음 갱신만 예약한다")
+    void followerSkipsInitialRefresh() {
+      // given
+      willReturn(false).given(leaderLease).tryAcquire();
+
+      // when
+      streamCacheScheduler.onApplicationReady();
+
+      // then
+      verify(streamCacheService, never()).fetchLiveStreams(any());
+      verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("리더가 아니면 예약된 전체 수집과 부분 갱신을 건너뛴다")
+    void followerSkipsRefreshes() {
+      // given
+      willReturn(false).given(leaderLease).isLeader();
+
+      // when
+      streamCacheScheduler.scheduledRefresh();
+      streamCacheScheduler.lightRefresh();
+
+      // then
+      verify(streamCacheService, never()).fetchLiveStreams(any());
+      verify(streamCacheService, never()).fetchLiveStreams(anyInt(), any());
+      verify(refreshIntervalPolicy).nextInterval(null);
+      verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("리더를 넘겨받으면 대기 중인 갱신을 취소하고 바로 실행하도록 예약한다")
+    void reschedulesPendingRefreshOnLeadership() {
+      // given
+      ScheduledFuture<?> pending = mock(ScheduledFuture.class);
+      given(pending.getDelay(TimeUnit.NANOSECONDS)).willReturn(Duration.ofMinutes(5).toNanos());
+      given(pending.cancel(false)).willReturn(true);
+      willReturn(false).given(leaderLease).tryAcquire();
+      willReturn(pending).given(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+      streamCacheScheduler.onApplicationReady();
+
+      // when
+      streamCacheScheduler.onLeadershipAcquired();
+
+      // then
+      verify(pending).cancel(false);
+      verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+  }
 }
@@ -0,0 +1,48 @@
+package com.vatti.chzscout.backend.stream.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.vatti.chzscout.backend.common.response.ApiResponse;
+import com.vatti.chzscout.backend.stream.application.usecase.RisingStreamUseCase;
+import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.RisingStream;
+import com.vatti.chzscout.backend.stream.domain.Stream;
+import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamControllerTest {
+
+  @InjectMocks private StreamController streamController;
+
+  @Mock private RisingStreamUseCase risingStreamUseCase;
+
+  @Nested
+  @DisplayName("getRising 메서드")
+  class GetRising {
+
+    @Test
+    @DisplayName("급상승 방송 목록을 성공 응답으로 반환한다")
+    void returnsRisingStreams() {
+      // given
+      EnrichedStreamDto stream = EnrichedStreamDtoFixture.create(1);
+      List<RisingStream> rising = List.of(new RisingStream(Stream.from(stream), 300, 50.0, 2.5));
+      given(risingStreamUseCase.findRising(10)).willReturn(rising);
+
+      // when
+      ApiResponse<List<RisingStream>> response = streamController.getRising(10);
+
+      // then
+      assertThat(response.isSuccess()).isTrue();
+      assertThat(response.getData()).isEqualTo(rising);
+    }
+  }
+}
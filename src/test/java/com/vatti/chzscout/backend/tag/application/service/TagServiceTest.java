@@ -8,6 +8,7 @@ import static org.mockito.Mockito.*;
 
 import com.vatti.chzscout.backend.stream.domain.AllFieldLiveDto;
 import com.vatti.chzscout.backend.stream.fixture.AllFieldLiveDtoFixture;
+import com.vatti.chzscout.backend.tag.domain.TagUsageCounter;
 import com.vatti.chzscout.backend.tag.domain.dto.TagAutocompleteResponse;
 import com.vatti.chzscout.backend.tag.domain.entity.Tag;
 import com.vatti.chzscout.backend.tag.domain.entity.TagType;
@@ -212,6 +213,49 @@ class TagServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("saveTagUsage")
+  class SaveTagUsage {
+    @Test
+    @DisplayName("페이지 단위로 누적한 집계를 한 번에 저장한다")
+    void savesAccumulatedPages() {
+      // given
+      // 1페이지: {서든: 1, 롤: 1}, 2페이지: {게임: 1, 롤: 1} → 롤은 2번 등장
+      TagUsageCounter tagUsage = new TagUsageCounter();
+      tagUsage.addAll(List.of(AllFieldLiveDtoFixture.create(1, List.of("서든", "롤"))));
+      tagUsage.addAll(List.of(AllFieldLiveDtoFixture.create(2)));
+
+      Tag existingCustomTag = Tag.createCustom("롤", 0L);
+      given(tagRepository.findCustomByNameInIncludingDeleted(any()))
+          .willReturn(List.of(existingCustomTag));
+      given(tagRepository.findCategoryByNameInIncludingDeleted(any())).willReturn(List.of());
+
+      // when
+      tagService.saveTagUsage(tagUsage);
+
+      // then
+      verify(tagRepository).findCustomByNameInIncludingDeleted(Set.of("서든", "롤", "게임"));
+      verify(tagRepository).findCategoryByNameInIncludingDeleted(Set.of("리그 오브 레전드"));
+      assertThat(existingCustomTag.getUsageCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("태그가 null인 방송은 건너뛰고 카테고리만 집계한다")
+    void skipsNullTags() {
+      // given
+      TagUsageCounter tagUsage =
+          TagUsageCounter.of(List.of(AllFieldLiveDtoFixture.create(1, null)));
+      given(tagRepository.findCategoryByNameInIncludingDeleted(any())).willReturn(List.of());
+
+      // when
+      tagService.saveTagUsage(tagUsage);
+
+      // then
+      verify(tagRepository, never()).findCustomByNameInIncludingDeleted(any());
+      verify(tagRepository).findCategoryByNameInIncludingDeleted(Set.of("리그 오브 레전드"));
+    }
+  }
+
   @Nested
   @DisplayName("refreshAutoCompletedCache 메서드")
   class refreshAutocompleteCache {
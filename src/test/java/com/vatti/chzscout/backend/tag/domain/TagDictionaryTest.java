@@ -0,0 +1,135 @@
+package com.vatti.chzscout.backend.tag.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TagDictionaryTest {
+
+  @Nested
+  @DisplayName("idOf 메서드 테스트")
+  class IdOf {
+
+    @Test
+    @DisplayName("처음 보는 이름은 0부터 차례로 ID를 받고 같은 이름은 같은 ID를 받는다")
+    void assignsDenseIds() {
+      // given
+      TagDictionary dictionary = new TagDictionary();
+
+      // when
+      int lol = dictionary.idOf("롤");
+      int game = dictionary.idOf("게임");
+      int lolAgain = dictionary.idOf(new String("롤"));
+
+      // then
+      assertThat(lol).isEqualTo(0);
+      assertThat(game).isEqualTo(1);
+      assertThat(lolAgain).isEqualTo(lol);
+      assertThat(dictionary.name(game)).isEqualTo("게임");
+      assertThat(dictionary.find("메이플")).isEqualTo(TagDictionary.UNKNOWN);
+      assertThat(dictionary.idOf(null)).isEqualTo(TagDictionary.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("대소문자와 앞뒤 공백만 다른 이름은 정규화하여 같은 ID를 받는다")
+    void normalizesNames() {
+      // given
+      TagDictionary dictionary = new TagDictionary();
+
+      // when
+      int lol = dictionary.idOf("LoL");
+      int lolAgain = dictionary.idOf(" lol ");
+
+      // then
+      assertThat(lolAgain).isEqualTo(lol);
+      assertThat(dictionary.size()).isEqualTo(1);
+      assertThat(dictionary.name(lol)).isEqualTo("lol");
+      assertThat(dictionary.find("LOL")).isEqualTo(lol);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘어도 이전에 받은 ID의 이름을 그대로 읽는다")
+    void keepsNamesAfterGrowth() {
+      // given
+      TagDictionary dictionary = new TagDictionary();
+
+      // when
+      for (int i = 0; i < 1000; i++) {
+        dictionary.idOf("태그" + i);
+      }
+
+      // then
+      assertThat(dictionary.size()).isEqualTo(1000);
+      assertThat(dictionary.name(0)).isEqualTo("태그0");
+      assertThat(dictionary.name(999)).isEqualTo("태그999");
+    }
+  }
+
+  @Nested
+  @DisplayName("encode 메서드 테스트")
+  class Encode {
+
+    @Test
+    @DisplayName("이름 목록을 중복 없는 오름차순 ID 배열로 바꾸고 null은 건너뛴다")
+    void encodesSortedDistinctIds() {
+      // given
+      TagDictionary dictionary = new TagDictionary();
+      dictionary.idOf("게임");
+      dictionary.idOf("롤");
+
+      // when
+      int[] encoded = dictionary.encode(Arrays.asList("롤", null, "게임", "롤", "FPS"));
+
+      // then
+      assertThat(encoded).containsExactly(0, 1, 2);
+      assertThat(dictionary.encode(List.of())).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("idsContaining 메서드 테스트")
+  class IdsContaining {
+
+    @Test
+    @DisplayName("대소문자를 무시하고 검색어를 포함하는 이름의 ID만 켠다")
+    void matchesIgnoringCase() {
+      // given
+      TagDictionary dictionary = new TagDictionary();
+      int lol = dictionary.idOf("LoL");
+      dictionary.idOf("게임");
+      int lolChess = dictionary.idOf("lol체스");
+
+      // when
+      BitSet matches = dictionary.idsContaining("LOL");
+
+      // then
+      assertThat(matches.stream().toArray()).containsExactly(lol, lolChess);
+      assertThat(dictionary.idsContaining(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 글자와 세 글자 이상 검색어도 포함하는 이름만 찾는다")
+    void matchesShortAndLongFragments() {
+      // given
+      TagDictionary dictionary = new TagDictionary();
+      int maple = dictionary.idOf("메이플스토리");
+      int mapleLand = dictionary.idOf("메이플랜드");
+      int story = dictionary.idOf("스토리");
+      int repeated = dictionary.idOf("가나다가나");
+
+      // when & then
+      assertThat(dictionary.idsContaining("메이플").stream().toArray())
+          .containsExactly(maple, mapleLand);
+      assertThat(dictionary.idsContaining("토").stream().toArray()).containsExactly(maple, story);
+      // 바이그램은 모두 있지만 이어지지 않는 검색어는 제외
+      assertThat(dictionary.idsContaining("다가나").stream().toArray()).containsExactly(repeated);
+      assertThat(dictionary.idsContaining("다가나다").isEmpty()).isTrue();
+      assertThat(dictionary.idsContaining("배그").isEmpty()).isTrue();
+    }
+  }
+}
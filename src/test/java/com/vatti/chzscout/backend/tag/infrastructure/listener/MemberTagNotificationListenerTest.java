@@ -1,6 +1,7 @@
 package com.vatti.chzscout.backend.tag.infrastructure.listener;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -12,6 +13,7 @@ import com.vatti.chzscout.backend.discord.application.DiscordDmService;
 import com.vatti.chzscout.backend.member.domain.entity.Member;
 import com.vatti.chzscout.backend.member.fixture.MemberFixture;
 import com.vatti.chzscout.backend.stream.domain.EnrichedStreamDto;
+import com.vatti.chzscout.backend.stream.domain.StreamChangeKind;
 import com.vatti.chzscout.backend.stream.domain.event.StreamNotificationTriggerEvent;
 import com.vatti.chzscout.backend.stream.fixture.EnrichedStreamDtoFixture;
 import com.vatti.chzscout.backend.stream.infrastructure.redis.StreamRedisStore;
@@ -20,6 +22,7 @@ import com.vatti.chzscout.backend.tag.domain.entity.Tag;
 import com.vatti.chzscout.backend.tag.fixture.TagFixture;
 import com.vatti.chzscout.backend.tag.infrastructure.MemberTagRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
@@ -53,19 +56,37 @@ class MemberTagNotificationListenerTest {
       listener.onNotificationTrigger(event);
 
       // then
-      verify(streamRedisStore, never()).findEnrichedStreams();
+      verify(streamRedisStore, never()).findEnrichedStreams(anyCollection());
       verify(memberTagRepository, never()).findByTagNames(any());
       verify(discordDmService, never()).sendNotification(any(), any());
     }
 
+    @Test
+    @DisplayName("제목이나 시청자 수만 바뀐 방송은 태그 매칭을 하지 않는다")
+    void skipsChangesNotAffectingTags() {
+      // given
+      StreamNotificationTriggerEvent event =
+          new StreamNotificationTriggerEvent(
+              Map.of(
+                  "channel_1", StreamChangeKind.TITLE.bit(),
+                  "channel_2", StreamChangeKind.VIEWER_BUCKET.bit()));
+
+      // when
+      listener.onNotificationTrigger(event);
+
+      // then
+      verify(streamRedisStore, never()).findEnrichedStreams(anyCollection());
+      verify(discordDmService, never()).sendNotification(any(), any());
+    }
+
     @Test
     @DisplayName("캐시에 매칭되는 방송이 없으면 후속 처리를 하지 않는다")
     void skipsWhenNoMatchingStreamsInCache() {
       // given
       StreamNotificationTriggerEvent event =
           new StreamNotificationTriggerEvent(Set.of("nonexistent_channel"));
-      given(streamRedisStore.findEnrichedStreams())
-          .willReturn(List.of(EnrichedStreamDtoFixture.create(1)));
+      given(streamRedisStore.findEnrichedStreams(Set.of("nonexistent_channel")))
+          .willReturn(List.of());
 
       // when
       listener.onNotificationTrigger(event);
@@ -82,7 +103,7 @@ class MemberTagNotificationListenerTest {
       EnrichedStreamDto stream = EnrichedStreamDtoFixture.lolStream(1);
       StreamNotificationTriggerEvent event =
           new StreamNotificationTriggerEvent(Set.of("channel_1"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(List.of(stream));
+      given(streamRedisStore.findEnrichedStreams(Set.of("channel_1"))).willReturn(List.of(stream));
       given(memberTagRepository.findByTagNames(anySet())).willReturn(List.of());
 
       // when
@@ -104,7 +125,7 @@ class MemberTagNotificationListenerTest {
 
       StreamNotificationTriggerEvent event =
           new StreamNotificationTriggerEvent(Set.of("channel_1"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(List.of(stream));
+      given(streamRedisStore.findEnrichedStreams(Set.of("channel_1"))).willReturn(List.of(stream));
       given(memberTagRepository.findByTagNames(Set.of("롤", "게임"))).willReturn(List.of(memberTag));
       given(discordDmService.sendNotification(any(), any()))
           .willReturn(CompletableFuture.completedFuture(true));
@@ -129,7 +150,7 @@ class MemberTagNotificationListenerTest {
 
       StreamNotificationTriggerEvent event =
           new StreamNotificationTriggerEvent(Set.of("channel_1"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(List.of(stream));
+      given(streamRedisStore.findEnrichedStreams(Set.of("channel_1"))).willReturn(List.of(stream));
       given(memberTagRepository.findByTagNames(Set.of("롤")))
           .willReturn(List.of(memberTag1, memberTag2));
       given(discordDmService.sendNotification(any(), any()))
@@ -158,7 +179,7 @@ class MemberTagNotificationListenerTest {
 
       StreamNotificationTriggerEvent event =
           new StreamNotificationTriggerEvent(Set.of("channel_1"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(List.of(stream));
+      given(streamRedisStore.findEnrichedStreams(Set.of("channel_1"))).willReturn(List.of(stream));
       given(memberTagRepository.findByTagNames(Set.of("롤", "게임")))
           .willReturn(List.of(memberTagRol, memberTagGame));
       given(discordDmService.sendNotification(any(), any()))
@@ -183,7 +204,8 @@ class MemberTagNotificationListenerTest {
 
       StreamNotificationTriggerEvent event =
           new StreamNotificationTriggerEvent(Set.of("channel_1", "channel_2"));
-      given(streamRedisStore.findEnrichedStreams()).willReturn(List.of(stream1, stream2));
+      given(streamRedisStore.findEnrichedStreams(Set.of("channel_1", "channel_2")))
+          .willReturn(List.of(stream1, stream2));
       given(memberTagRepository.findByTagNames(Set.of("롤"))).willReturn(List.of(memberTag));
       given(discordDmService.sendNotification(any(), any()))
           .willReturn(CompletableFuture.completedFuture(true));